@@ -0,0 +1,209 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ballerinalang.benchmarks.grpc;
+
+import com.google.protobuf.DescriptorProtos;
+import com.google.protobuf.Descriptors;
+import org.ballerinalang.jvm.StringUtils;
+import org.ballerinalang.jvm.scheduling.Scheduler;
+import org.ballerinalang.jvm.scheduling.Strand;
+import org.ballerinalang.jvm.types.BArrayType;
+import org.ballerinalang.jvm.types.BField;
+import org.ballerinalang.jvm.types.BPackage;
+import org.ballerinalang.jvm.types.BRecordType;
+import org.ballerinalang.jvm.types.BTypes;
+import org.ballerinalang.jvm.util.Flags;
+import org.ballerinalang.jvm.values.ArrayValueImpl;
+import org.ballerinalang.jvm.values.MapValue;
+import org.ballerinalang.jvm.values.MapValueImpl;
+import org.ballerinalang.jvm.values.ObjectValue;
+import org.ballerinalang.jvm.values.ValueCreator;
+import org.ballerinalang.jvm.values.api.BString;
+import org.ballerinalang.net.grpc.Message;
+import org.ballerinalang.net.grpc.MessageParser;
+import org.ballerinalang.net.grpc.MessageRegistry;
+import org.ballerinalang.net.grpc.MethodDescriptor;
+import org.ballerinalang.net.grpc.ProtoUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the throughput of encoding and decoding the message of a unary gRPC call, through the marshaller which
+ * the services and the client stubs register for the message. The message has scalar, repeated and nested fields,
+ * and a repeated nested field of the given number of entries.
+ *
+ * @since 2.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MessageCodecBenchmark {
+
+    private static final BPackage PACKAGE = new BPackage("bench", "grpc");
+    private static final String ORDER = "Order";
+    private static final String ADDRESS = "Address";
+
+    @Param({"0", "8", "64"})
+    private int previousAddresses;
+
+    private MethodDescriptor.Marshaller marshaller;
+    private MapValue<BString, Object> order;
+    private byte[] encoded;
+
+    @Setup
+    public void setup() throws Exception {
+        Descriptors.FileDescriptor fileDescriptor = Descriptors.FileDescriptor.buildFrom(createProto(),
+                new Descriptors.FileDescriptor[0]);
+        MessageRegistry.getInstance().addMessageDescriptor(ADDRESS, fileDescriptor.findMessageTypeByName(ADDRESS));
+        MessageRegistry.getInstance().addMessageDescriptor(ORDER, fileDescriptor.findMessageTypeByName(ORDER));
+
+        Map<String, BField> addressFields = new LinkedHashMap<>();
+        addField(addressFields, new BField(BTypes.typeString, "street", Flags.REQUIRED));
+        addField(addressFields, new BField(BTypes.typeString, "city", Flags.REQUIRED));
+        addField(addressFields, new BField(BTypes.typeInt, "zip", Flags.REQUIRED));
+        BRecordType addressType = new BRecordType(ADDRESS, PACKAGE, 0, addressFields, null, true, 0);
+        BArrayType addressArrayType = new BArrayType(addressType);
+        BArrayType stringArrayType = new BArrayType(BTypes.typeString);
+
+        Map<String, BField> orderFields = new LinkedHashMap<>();
+        addField(orderFields, new BField(BTypes.typeInt, "id", Flags.REQUIRED));
+        addField(orderFields, new BField(BTypes.typeString, "customer", Flags.REQUIRED));
+        addField(orderFields, new BField(BTypes.typeFloat, "amount", Flags.REQUIRED));
+        addField(orderFields, new BField(BTypes.typeBoolean, "paid", Flags.REQUIRED));
+        addField(orderFields, new BField(stringArrayType, "tags", Flags.REQUIRED));
+        addField(orderFields, new BField(addressType, "address", Flags.REQUIRED));
+        addField(orderFields, new BField(addressArrayType, "previous", Flags.REQUIRED));
+        BRecordType orderType = new BRecordType(ORDER, PACKAGE, 0, orderFields, null, true, 0);
+
+        Map<String, BRecordType> recordTypes = new HashMap<>();
+        recordTypes.put(ADDRESS, addressType);
+        recordTypes.put(ORDER, orderType);
+        ValueCreator.addValueCreator(PACKAGE.getOrg(), PACKAGE.getName(), PACKAGE.getVersion(), new ValueCreator() {
+            @Override
+            public MapValue<BString, Object> createRecordValue(String recordTypeName) {
+                return new MapValueImpl<>(recordTypes.get(recordTypeName));
+            }
+
+            @Override
+            public ObjectValue createObjectValue(String objectTypeName, Scheduler scheduler, Strand parent,
+                                                 Map<String, Object> properties, Object[] args) {
+                throw new UnsupportedOperationException();
+            }
+        });
+
+        order = new MapValueImpl<>(orderType);
+        order.put(StringUtils.fromString("id"), 1024L);
+        order.put(StringUtils.fromString("customer"), StringUtils.fromString("John Doe"));
+        order.put(StringUtils.fromString("amount"), 249.99);
+        order.put(StringUtils.fromString("paid"), true);
+        ArrayValueImpl tags = new ArrayValueImpl(stringArrayType);
+        tags.add(0, StringUtils.fromString("express"));
+        tags.add(1, StringUtils.fromString("gift"));
+        order.put(StringUtils.fromString("tags"), tags);
+        order.put(StringUtils.fromString("address"), createAddress(addressType, 0));
+        ArrayValueImpl previous = new ArrayValueImpl(addressArrayType);
+        for (int i = 0; i < previousAddresses; i++) {
+            previous.add(i, createAddress(addressType, i + 1));
+        }
+        order.put(StringUtils.fromString("previous"), previous);
+
+        marshaller = ProtoUtils.marshaller(new MessageParser(ORDER, orderType));
+        encoded = new Message(ORDER, order).toByteArray();
+    }
+
+    @Benchmark
+    public byte[] encode() {
+        return new Message(ORDER, order).toByteArray();
+    }
+
+    @Benchmark
+    public Object decode() {
+        return marshaller.parse(new ByteArrayInputStream(encoded)).getbMessage();
+    }
+
+    @Benchmark
+    public Object roundTrip() {
+        return marshaller.parse(marshaller.stream(new Message(ORDER, order))).getbMessage();
+    }
+
+    private static DescriptorProtos.FileDescriptorProto createProto() {
+        DescriptorProtos.DescriptorProto address = DescriptorProtos.DescriptorProto.newBuilder()
+                .setName(ADDRESS)
+                .addField(field("street", 1, DescriptorProtos.FieldDescriptorProto.Type.TYPE_STRING, false))
+                .addField(field("city", 2, DescriptorProtos.FieldDescriptorProto.Type.TYPE_STRING, false))
+                .addField(field("zip", 3, DescriptorProtos.FieldDescriptorProto.Type.TYPE_INT64, false))
+                .build();
+        DescriptorProtos.DescriptorProto order = DescriptorProtos.DescriptorProto.newBuilder()
+                .setName(ORDER)
+                .addField(field("id", 1, DescriptorProtos.FieldDescriptorProto.Type.TYPE_INT64, false))
+                .addField(field("customer", 2, DescriptorProtos.FieldDescriptorProto.Type.TYPE_STRING, false))
+                .addField(field("amount", 3, DescriptorProtos.FieldDescriptorProto.Type.TYPE_DOUBLE, false))
+                .addField(field("paid", 4, DescriptorProtos.FieldDescriptorProto.Type.TYPE_BOOL, false))
+                .addField(field("tags", 5, DescriptorProtos.FieldDescriptorProto.Type.TYPE_STRING, true))
+                .addField(field("address", 6, DescriptorProtos.FieldDescriptorProto.Type.TYPE_MESSAGE, false)
+                        .setTypeName("." + ADDRESS))
+                .addField(field("previous", 7, DescriptorProtos.FieldDescriptorProto.Type.TYPE_MESSAGE, true)
+                        .setTypeName("." + ADDRESS))
+                .build();
+        return DescriptorProtos.FileDescriptorProto.newBuilder()
+                .setName("order.proto")
+                .setSyntax("proto3")
+                .addMessageType(address)
+                .addMessageType(order)
+                .build();
+    }
+
+    private static DescriptorProtos.FieldDescriptorProto.Builder field(String name, int number,
+                                                                       DescriptorProtos.FieldDescriptorProto.Type type,
+                                                                       boolean repeated) {
+        return DescriptorProtos.FieldDescriptorProto.newBuilder()
+                .setName(name)
+                .setNumber(number)
+                .setType(type)
+                .setLabel(repeated ? DescriptorProtos.FieldDescriptorProto.Label.LABEL_REPEATED :
+                        DescriptorProtos.FieldDescriptorProto.Label.LABEL_OPTIONAL);
+    }
+
+    private static void addField(Map<String, BField> fields, BField field) {
+        fields.put(field.getFieldName(), field);
+    }
+
+    private static MapValue<BString, Object> createAddress(BRecordType addressType, int index) {
+        MapValue<BString, Object> address = new MapValueImpl<>(addressType);
+        address.put(StringUtils.fromString("street"), StringUtils.fromString(index + " Main Street"));
+        address.put(StringUtils.fromString("city"), StringUtils.fromString("Colombo"));
+        address.put(StringUtils.fromString("zip"), 10000L + index);
+        return address;
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.benchmarks.http;
+
+import org.ballerinalang.net.http.HttpResourceArguments;
+import org.ballerinalang.net.uri.URITemplate;
+import org.ballerinalang.net.uri.parser.DataElement;
+import org.ballerinalang.net.uri.parser.DataReturnAgent;
+import org.ballerinalang.net.uri.parser.Literal;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures dispatching request paths to the resources of a service with {@link URITemplate}, with the templates
+ * compiled and with the syntax tree alone. Each path is matched and the path parameter of its resource is read.
+ *
+ * @since 2.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class URITemplateBenchmark {
+
+    private static final int PATHS = 64;
+
+    @Param({"500"})
+    private int resources;
+
+    @Param({"true", "false"})
+    private boolean compiled;
+
+    private URITemplate<String, Object> template;
+    private String[] paths;
+    private String[] pathParams;
+
+    @Setup
+    public void setup() throws Exception {
+        template = new URITemplate<>(new Literal<>(new ResourceElement(), "/"), compiled);
+        for (int i = 0; i < resources; i++) {
+            template.parse(createTemplate(i), "resource" + i, ResourceElement::new);
+        }
+
+        paths = new String[PATHS];
+        pathParams = new String[PATHS];
+        for (int i = 0; i < PATHS; i++) {
+            int resource = (int) ((long) i * resources / PATHS);
+            switch (resource % 4) {
+                case 0:
+                    paths[i] = "/catalog/items" + resource;
+                    break;
+                case 1:
+                    paths[i] = "/catalog/items" + resource + "/item-" + i;
+                    pathParams[i] = "id";
+                    break;
+                case 2:
+                    paths[i] = "/users/user-" + i + "/orders" + resource + "/order-" + i;
+                    pathParams[i] = "orderId";
+                    break;
+                default:
+                    paths[i] = "/static" + resource + "/css/site-" + i + ".css";
+                    break;
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PATHS)
+    public void match(Blackhole blackhole) {
+        for (int i = 0; i < PATHS; i++) {
+            HttpResourceArguments arguments = new HttpResourceArguments();
+            blackhole.consume(template.matches(paths[i], arguments, null));
+            if (pathParams[i] != null) {
+                blackhole.consume(arguments.getValue(pathParams[i]));
+            }
+        }
+    }
+
+    private static String createTemplate(int resource) {
+        switch (resource % 4) {
+            case 0:
+                return "/catalog/items" + resource;
+            case 1:
+                return "/catalog/items" + resource + "/{id}";
+            case 2:
+                return "/users/{userId}/orders" + resource + "/{orderId}";
+            default:
+                return "/static" + resource + "/*";
+        }
+    }
+
+    /**
+     * Data element that holds the name of a resource.
+     */
+    private static class ResourceElement implements DataElement<String, Object> {
+
+        private String resource;
+
+        @Override
+        public void setData(String resource) {
+            this.resource = resource;
+        }
+
+        @Override
+        public boolean hasData() {
+            return resource != null;
+        }
+
+        @Override
+        public boolean getData(Object inboundMessage, DataReturnAgent<String> dataReturnAgent) {
+            if (resource == null) {
+                return false;
+            }
+            dataReturnAgent.setData(resource);
+            return true;
+        }
+    }
+}
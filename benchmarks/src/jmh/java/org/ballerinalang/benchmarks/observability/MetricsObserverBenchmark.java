@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.benchmarks.observability;
+
+import org.ballerinalang.jvm.observability.ObserverContext;
+import org.ballerinalang.jvm.observability.metrics.BallerinaMetricsObserver;
+import org.ballerinalang.jvm.observability.metrics.DefaultMetricRegistry;
+import org.ballerinalang.jvm.observability.metrics.MetricRegistry;
+import org.ballerinalang.jvm.observability.metrics.noop.NoOpMetricProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the overhead of observing a resource invocation with the metrics observer over passing the invocation
+ * through without observing it. Both create the observer context and add the main tags of a resource invocation.
+ *
+ * @since 2.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MetricsObserverBenchmark {
+
+    private static final int RESOURCES = 16;
+
+    private static final String[] RESOURCE_NAMES = new String[RESOURCES];
+    private static final String[] POSITIONS = new String[RESOURCES];
+
+    static {
+        for (int i = 0; i < RESOURCES; i++) {
+            RESOURCE_NAMES[i] = "resource" + i;
+            POSITIONS[i] = "hello_service.bal:" + (10 + i * 5) + ":5";
+        }
+    }
+
+    @Param({"true", "false"})
+    private boolean observed;
+
+    private BallerinaMetricsObserver observer;
+    private MethodHandle setStarted;
+    private int invocation;
+
+    @Setup
+    public void setup() throws Exception {
+        if (DefaultMetricRegistry.getInstance() == null) {
+            DefaultMetricRegistry.setInstance(new MetricRegistry(new NoOpMetricProvider()));
+        }
+        observer = new BallerinaMetricsObserver();
+        Method method = ObserverContext.class.getDeclaredMethod("setStarted");
+        method.setAccessible(true);
+        setStarted = MethodHandles.lookup().unreflect(method);
+    }
+
+    @Benchmark
+    public ObserverContext invokeResource() throws Throwable {
+        int resource = invocation++ & (RESOURCES - 1);
+        ObserverContext context = new ObserverContext();
+        context.setServiceName("hello");
+        context.setResourceName(RESOURCE_NAMES[resource]);
+        context.addMainTag("module", "test/hello:0.1.0");
+        context.addMainTag("src.position", POSITIONS[resource]);
+        context.addMainTag("src.entry_point.resource", "true");
+        context.addMainTag("service", context.getServiceName());
+        context.addMainTag("resource", context.getResourceName());
+        context.addMainTag("connector_name", context.getObjectName());
+        setStarted.invokeExact(context);
+
+        if (observed) {
+            observer.startServerObservation(context);
+            context.addTag("http.status_code_group", "2xx");
+            observer.stopServerObservation(context);
+        }
+        return context;
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.benchmarks.parsing;
+
+import org.ballerinalang.jvm.JSONParser;
+import org.ballerinalang.jvm.types.BArrayType;
+import org.ballerinalang.jvm.types.BField;
+import org.ballerinalang.jvm.types.BPackage;
+import org.ballerinalang.jvm.types.BRecordType;
+import org.ballerinalang.jvm.types.BType;
+import org.ballerinalang.jvm.types.BTypes;
+import org.ballerinalang.jvm.util.Flags;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures parsing a JSON document of records with {@link JSONParser}, both into json values and directly into an
+ * array of records.
+ *
+ * @since 2.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JSONParserBenchmark {
+
+    @Param({"100"})
+    private int records;
+
+    private String document;
+    private BType recordArrayType;
+
+    @Setup
+    public void setup() {
+        document = createDocument(records);
+
+        BPackage pkg = new BPackage("bench", "json");
+        Map<String, BField> addressFields = new LinkedHashMap<>();
+        addressFields.put("city", new BField(BTypes.typeString, "city", Flags.REQUIRED));
+        addressFields.put("zip", new BField(BTypes.typeString, "zip", Flags.REQUIRED));
+        BRecordType addressType = new BRecordType("Address", pkg, 0, addressFields, null, true, 0);
+
+        Map<String, BField> fields = new LinkedHashMap<>();
+        fields.put("id", new BField(BTypes.typeInt, "id", Flags.REQUIRED));
+        fields.put("name", new BField(BTypes.typeString, "name", Flags.REQUIRED));
+        fields.put("price", new BField(BTypes.typeFloat, "price", Flags.REQUIRED));
+        fields.put("active", new BField(BTypes.typeBoolean, "active", Flags.REQUIRED));
+        fields.put("address", new BField(addressType, "address", Flags.REQUIRED));
+        fields.put("tags", new BField(new BArrayType(BTypes.typeString), "tags", Flags.REQUIRED));
+        recordArrayType = new BArrayType(new BRecordType("Item", pkg, 0, fields, null, true, 0));
+    }
+
+    @Benchmark
+    public Object parse() {
+        return JSONParser.parse(document);
+    }
+
+    @Benchmark
+    public Object parseToJson() {
+        return JSONParser.parse(document, BTypes.typeJSON);
+    }
+
+    @Benchmark
+    public Object parseToRecords() {
+        return JSONParser.parse(document, recordArrayType);
+    }
+
+    /**
+     * Creates a JSON array of records with string, int, float, boolean, nested object and array fields.
+     *
+     * @param records number of records in the array
+     * @return the JSON document
+     */
+    public static String createDocument(int records) {
+        StringBuilder builder = new StringBuilder("[");
+        for (int i = 0; i < records; i++) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            builder.append("{\"id\":").append(i)
+                    .append(",\"name\":\"name-").append(i).append('"')
+                    .append(",\"price\":").append(i * 1.25)
+                    .append(",\"active\":").append(i % 2 == 0)
+                    .append(",\"address\":{\"city\":\"Colombo\",\"zip\":\"000").append(i % 10).append("\"}")
+                    .append(",\"tags\":[\"a\",\"b\",\"c\"]}");
+        }
+        return builder.append(']').toString();
+    }
+}
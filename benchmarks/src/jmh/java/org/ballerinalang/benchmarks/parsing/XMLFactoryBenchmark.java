@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.benchmarks.parsing;
+
+import org.ballerinalang.jvm.XMLFactory;
+import org.ballerinalang.jvm.values.XMLValue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures parsing an XML document with {@link XMLFactory} and serializing it back to a string.
+ *
+ * @since 2.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class XMLFactoryBenchmark {
+
+    @Param({"100"})
+    private int records;
+
+    private String document;
+    private XMLValue xml;
+
+    @Setup
+    public void setup() {
+        StringBuilder builder = new StringBuilder("<items xmlns:ns=\"http://ballerina.io/bench\">");
+        for (int i = 0; i < records; i++) {
+            builder.append("<item id=\"").append(i).append("\">")
+                    .append("<name>name-").append(i).append("</name>")
+                    .append("<ns:price>").append(i * 1.25).append("</ns:price>")
+                    .append("<!-- item ").append(i).append(" -->")
+                    .append("</item>");
+        }
+        document = builder.append("</items>").toString();
+        xml = XMLFactory.parse(document);
+    }
+
+    @Benchmark
+    public XMLValue parse() {
+        return XMLFactory.parse(document);
+    }
+
+    @Benchmark
+    public String serialize() {
+        return xml.stringValue();
+    }
+}
@@ -0,0 +1,237 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.benchmarks.query;
+
+import org.ballerinalang.jvm.StringUtils;
+import org.ballerinalang.jvm.scheduling.Strand;
+import org.ballerinalang.jvm.types.BArrayType;
+import org.ballerinalang.jvm.types.BField;
+import org.ballerinalang.jvm.types.BObjectType;
+import org.ballerinalang.jvm.types.BPackage;
+import org.ballerinalang.jvm.types.BRecordType;
+import org.ballerinalang.jvm.types.BTableType;
+import org.ballerinalang.jvm.types.BTypes;
+import org.ballerinalang.jvm.util.Flags;
+import org.ballerinalang.jvm.values.AbstractObjectValue;
+import org.ballerinalang.jvm.values.ArrayValue;
+import org.ballerinalang.jvm.values.ArrayValueImpl;
+import org.ballerinalang.jvm.values.FPValue;
+import org.ballerinalang.jvm.values.FutureValue;
+import org.ballerinalang.jvm.values.MapValue;
+import org.ballerinalang.jvm.values.MapValueImpl;
+import org.ballerinalang.jvm.values.ObjectValue;
+import org.ballerinalang.jvm.values.TableValueImpl;
+import org.ballerinalang.jvm.values.api.BString;
+import org.ballerinalang.langlib.query.Process;
+import org.ballerinalang.langlib.query.Reset;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the time taken by the fused stream function of a query to evaluate
+ * <pre>
+ *     from var person in personList
+ *     let int newAge = person.age + 1
+ *     where newAge &gt; 30
+ *     select {name: person.name, age: newAge}
+ * </pre>
+ * over a list and a table of people. The stream functions are built in Java, with lambdas doing what the desugared
+ * clauses do, so that only the native pipeline is measured.
+ *
+ * @since 2.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FusedPipelineBenchmark {
+
+    private static final BPackage QUERY_PKG = new BPackage("ballerina", "lang.query");
+    private static final BString VALUE = StringUtils.fromString("value");
+    private static final BString SELECTED_VALUE = StringUtils.fromString("$value$");
+    private static final BString PERSON = StringUtils.fromString("person");
+    private static final BString NEW_AGE = StringUtils.fromString("newAge");
+    private static final BString ID = StringUtils.fromString("id");
+    private static final BString NAME = StringUtils.fromString("name");
+    private static final BString AGE = StringUtils.fromString("age");
+
+    @Param({"list", "table"})
+    private String source;
+
+    @Param({"10000"})
+    private int size;
+
+    private final Strand strand = new Strand(null);
+    private BRecordType personType;
+    private BRecordType employeeType;
+    private ObjectValue fusedFunc;
+
+    @Setup
+    public void setup() {
+        Map<String, BField> personFields = new LinkedHashMap<>();
+        personFields.put("id", new BField(BTypes.typeInt, "id", Flags.REQUIRED | Flags.READONLY));
+        personFields.put("name", new BField(BTypes.typeString, "name", Flags.REQUIRED));
+        personFields.put("age", new BField(BTypes.typeInt, "age", Flags.REQUIRED));
+        personType = new BRecordType("Person", new BPackage("test", "query"), 0, personFields, null, true, 0);
+        Map<String, BField> employeeFields = new LinkedHashMap<>();
+        employeeFields.put("name", new BField(BTypes.typeString, "name", Flags.REQUIRED));
+        employeeFields.put("age", new BField(BTypes.typeInt, "age", Flags.REQUIRED));
+        employeeType = new BRecordType("Employee", new BPackage("test", "query"), 0, employeeFields, null, true, 0);
+
+        Object collection = "table".equals(source) ? createPersonTable() : createPersonList();
+        StreamFunctionValue initFunc = new StreamFunctionValue("_InitFunction", null);
+        initFunc.set(StringUtils.fromString("collection"), collection);
+        StreamFunctionValue inputFunc = new StreamFunctionValue("_InputFunction", initFunc);
+        inputFunc.set(StringUtils.fromString("inputFunc"), createFunction(this::input));
+        StreamFunctionValue letFunc = new StreamFunctionValue("_LetFunction", inputFunc);
+        letFunc.set(StringUtils.fromString("letFunc"), createFunction(this::let));
+        StreamFunctionValue filterFunc = new StreamFunctionValue("_FilterFunction", letFunc);
+        filterFunc.set(StringUtils.fromString("filterFunc"), createFunction(this::filter));
+        StreamFunctionValue selectFunc = new StreamFunctionValue("_SelectFunction", filterFunc);
+        selectFunc.set(StringUtils.fromString("selectFunc"), createFunction(this::select));
+
+        fusedFunc = new StreamFunctionValue("_FusedFunction", null);
+        fusedFunc.set(StringUtils.fromString("streamFunction"), selectFunc);
+        fusedFunc.set(StringUtils.fromString("frame"), new MapValueImpl<BString, Object>());
+    }
+
+    @Benchmark
+    public int evaluate() {
+        Reset.reset(strand, fusedFunc);
+        int count = 0;
+        while (Process.process(strand, fusedFunc) != null) {
+            count++;
+        }
+        return count;
+    }
+
+    private Object input(MapValue<BString, Object> frame) {
+        frame.put(PERSON, frame.get(VALUE));
+        return frame;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object let(MapValue<BString, Object> frame) {
+        MapValue<BString, Object> person = (MapValue<BString, Object>) frame.get(PERSON);
+        frame.put(NEW_AGE, (long) person.get(AGE) + 1);
+        return frame;
+    }
+
+    private Object filter(MapValue<BString, Object> frame) {
+        return (long) frame.get(NEW_AGE) > 30;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object select(MapValue<BString, Object> frame) {
+        MapValue<BString, Object> person = (MapValue<BString, Object>) frame.get(PERSON);
+        MapValue<BString, Object> employee = new MapValueImpl<>(employeeType);
+        employee.put(NAME, person.get(NAME));
+        employee.put(AGE, frame.get(NEW_AGE));
+        MapValue<BString, Object> selected = new MapValueImpl<>();
+        selected.put(SELECTED_VALUE, employee);
+        return selected;
+    }
+
+    private ArrayValue createPersonList() {
+        ArrayValue personList = new ArrayValueImpl(new BArrayType(personType));
+        for (int i = 0; i < size; i++) {
+            personList.append(createPerson(i));
+        }
+        return personList;
+    }
+
+    private TableValueImpl<Object, MapValue<BString, Object>> createPersonTable() {
+        TableValueImpl<Object, MapValue<BString, Object>> personTable =
+                new TableValueImpl<>(new BTableType(personType, new String[]{"id"}, false));
+        for (int i = 0; i < size; i++) {
+            personTable.add(createPerson(i));
+        }
+        return personTable;
+    }
+
+    private MapValue<BString, Object> createPerson(long id) {
+        MapValue<BString, Object> person = new MapValueImpl<>(personType);
+        person.put(ID, id);
+        person.put(NAME, StringUtils.fromString("name-" + id));
+        person.put(AGE, id % 60);
+        return person;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static FPValue<Object[], Object> createFunction(Clause clause) {
+        // The arguments of a clause function are the strand, the frame and whether the frame is given.
+        return new FPValue<>(args -> clause.apply((MapValue<BString, Object>) args[1]), null, false);
+    }
+
+    /**
+     * A desugared query clause taking a frame.
+     */
+    private interface Clause {
+
+        Object apply(MapValue<BString, Object> frame);
+    }
+
+    /**
+     * A stream function object of lang.query holding only the fields read by the fused pipeline.
+     */
+    private static class StreamFunctionValue extends AbstractObjectValue {
+
+        private final Map<BString, Object> fields = new HashMap<>();
+
+        StreamFunctionValue(String typeName, ObjectValue prevFunc) {
+            super(new BObjectType(typeName, QUERY_PKG, 0));
+            fields.put(StringUtils.fromString("prevFunc"), prevFunc);
+        }
+
+        @Override
+        public Object call(Strand strand, String funcName, Object... args) {
+            throw new UnsupportedOperationException(funcName);
+        }
+
+        @Override
+        public FutureValue start(Strand strand, String funcName, Object... args) {
+            throw new UnsupportedOperationException(funcName);
+        }
+
+        @Override
+        public Object get(BString fieldName) {
+            return fields.get(fieldName);
+        }
+
+        @Override
+        public void set(BString fieldName, Object value) {
+            fields.put(fieldName, value);
+        }
+    }
+}
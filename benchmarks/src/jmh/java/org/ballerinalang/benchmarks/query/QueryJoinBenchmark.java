@@ -0,0 +1,81 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.benchmarks.query;
+
+import org.ballerinalang.model.values.BInteger;
+import org.ballerinalang.model.values.BValue;
+import org.ballerinalang.test.util.BCompileUtil;
+import org.ballerinalang.test.util.BRunUtil;
+import org.ballerinalang.test.util.CompileResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.wso2.ballerinalang.compiler.util.CompilerContext;
+
+import java.nio.file.Paths;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the throughput of a query joining two lists on an equi-join on clause, which is evaluated as a hash join,
+ * with that of the same join evaluated as a nested loop join. The index of a hash join is built from the joined
+ * (right-hand) list.
+ *
+ * @since 2.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QueryJoinBenchmark {
+
+    private static final String SOURCE_ROOT = Paths.get("src/jmh/resources/query").toAbsolutePath().toString();
+    private static final String SOURCE_FILE = "join.bal";
+
+    @Param({"hashJoin", "nestedLoopJoin"})
+    private String join;
+
+    @Param({"100", "1000"})
+    private long count;
+
+    private CompileResult result;
+    private BValue[] args;
+
+    @Setup
+    public void setup() {
+        result = BCompileUtil.compileOnJBallerina(new CompilerContext(), SOURCE_ROOT, SOURCE_FILE, false, true);
+        if (result.getErrorCount() > 0) {
+            throw new IllegalStateException("compilation of " + SOURCE_FILE + " failed: " + result);
+        }
+        args = new BValue[]{new BInteger(count)};
+    }
+
+    @Benchmark
+    public BValue[] joinLists() {
+        return BRunUtil.invoke(result, join, args);
+    }
+}
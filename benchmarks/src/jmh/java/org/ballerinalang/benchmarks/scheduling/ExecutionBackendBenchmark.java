@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.benchmarks.scheduling;
+
+import org.ballerinalang.jvm.scheduling.ExecutionBackend;
+import org.ballerinalang.jvm.scheduling.Scheduler;
+import org.ballerinalang.jvm.scheduling.SchedulingPolicy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Compares the {@link ExecutionBackend}s on a mixed workload where a part of the strands block in a Java call, the
+ * way a JDBC query does, while the rest are CPU bound.
+ * <p>
+ * The virtual thread backend needs a JVM with virtual thread support; otherwise the scheduler falls back to platform
+ * threads and both modes report the same numbers.
+ *
+ * @since 2.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ExecutionBackendBenchmark {
+
+    private static final int STRANDS = 2000;
+    private static final int CPU_TOKENS = 10_000;
+
+    @Param({"8", "64"})
+    private int threads;
+
+    @Param({"PLATFORM_THREADS", "VIRTUAL_THREADS"})
+    private ExecutionBackend backend;
+
+    /**
+     * Percentage of strands which make a blocking call.
+     */
+    @Param({"20", "50"})
+    private int blockingPercentage;
+
+    @Param({"5"})
+    private long blockingMillis;
+
+    @Benchmark
+    @OperationsPerInvocation(STRANDS)
+    public void mixedWorkload() {
+        Scheduler scheduler = new Scheduler(threads, false, SchedulingPolicy.SHARED, backend);
+        Function<Object[], Object> cpuBound = params -> {
+            Blackhole.consumeCPU(CPU_TOKENS);
+            return null;
+        };
+        Function<Object[], Object> blocking = params -> {
+            try {
+                Thread.sleep(blockingMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return null;
+        };
+        for (int i = 0; i < STRANDS; i++) {
+            Function<Object[], Object> function = i % 100 < blockingPercentage ? blocking : cpuBound;
+            scheduler.schedule(new Object[1], function, null, null, null, null);
+        }
+        scheduler.start();
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.benchmarks.scheduling;
+
+import org.ballerinalang.jvm.scheduling.Scheduler;
+import org.ballerinalang.jvm.scheduling.SchedulingPolicy;
+import org.ballerinalang.jvm.scheduling.Strand;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Compares the strand throughput of the {@link Scheduler} run queue policies.
+ * <p>
+ * Each invocation schedules a set of root strands which in turn spawn child strands from the worker threads, and
+ * runs the scheduler until all of them are done. Starting the scheduler threads is part of every invocation for
+ * both policies.
+ *
+ * @since 2.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SchedulerBenchmark {
+
+    private static final int ROOT_STRANDS = 1000;
+    private static final int CHILDREN_PER_STRAND = 16;
+    private static final int TOTAL_STRANDS = ROOT_STRANDS * (CHILDREN_PER_STRAND + 1);
+
+    @Param({"1", "2", "4", "8", "16", "32", "64"})
+    private int threads;
+
+    @Param({"SHARED", "WORK_STEALING"})
+    private SchedulingPolicy policy;
+
+    @Benchmark
+    @OperationsPerInvocation(TOTAL_STRANDS)
+    public int scheduleStrands() {
+        Scheduler scheduler = new Scheduler(threads, false, policy);
+        AtomicInteger completed = new AtomicInteger();
+        Function<Object[], Object> child = params -> completed.incrementAndGet();
+        Function<Object[], Object> root = params -> {
+            Strand strand = (Strand) params[0];
+            for (int i = 0; i < CHILDREN_PER_STRAND; i++) {
+                scheduler.schedule(new Object[1], child, strand, null, null, null);
+            }
+            return completed.incrementAndGet();
+        };
+        for (int i = 0; i < ROOT_STRANDS; i++) {
+            scheduler.schedule(new Object[1], root, null, null, null, null);
+        }
+        scheduler.start();
+        return completed.get();
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.benchmarks.transactions;
+
+import org.ballerinalang.jvm.scheduling.Strand;
+import org.ballerinalang.jvm.transactions.BallerinaTransactionContext;
+import org.ballerinalang.jvm.transactions.TransactionLocalContext;
+import org.ballerinalang.jvm.transactions.TransactionResourceManager;
+import org.ballerinalang.jvm.values.FPValue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.transaction.xa.XAResource;
+
+/**
+ * Measures the commit throughput of local transactions in the {@link TransactionResourceManager} as the number of
+ * concurrent transactions grows.
+ * <p>
+ * Each transaction runs on its own strand, registers two non XA resources and a committed function, and is committed
+ * and cleaned up as a transaction statement does.
+ *
+ * @since 2.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TransactionResourceManagerBenchmark {
+
+    private static final int TRANSACTIONS = 10000;
+    private static final String BLOCK_ID = "0";
+    private static final String URL = "http://localhost:8080/balcoordinator/initiator/0/register";
+    private static final String PROTOCOL = "2pc";
+
+    @Param({"1", "4", "16", "64", "256"})
+    private int concurrency;
+
+    private final TransactionResourceManager resourceManager = TransactionResourceManager.getInstance();
+    private final AtomicLong transactionCount = new AtomicLong();
+    private final BallerinaTransactionContext resource = new NoOpTransactionContext();
+    private final FPValue<Object[], Object> committedFunction = new FPValue<>(args -> null, null, false);
+    private ExecutorService executor;
+    private List<Callable<Integer>> tasks;
+
+    @Setup
+    public void setup() {
+        executor = Executors.newFixedThreadPool(concurrency);
+        tasks = new ArrayList<>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            tasks.add(() -> runTransactions(TRANSACTIONS / concurrency));
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TRANSACTIONS)
+    public int commit() throws InterruptedException, ExecutionException {
+        int committed = 0;
+        for (Future<Integer> future : executor.invokeAll(tasks)) {
+            committed += future.get();
+        }
+        return committed;
+    }
+
+    private int runTransactions(int count) {
+        int committed = 0;
+        for (int i = 0; i < count; i++) {
+            String transactionId = "trx-" + transactionCount.incrementAndGet();
+            Strand strand = new Strand(null);
+            TransactionLocalContext transactionLocalContext = TransactionLocalContext.create(transactionId, URL,
+                                                                                             PROTOCOL);
+            strand.setCurrentTransactionContext(transactionLocalContext);
+            transactionLocalContext.beginTransactionBlock(BLOCK_ID);
+
+            resourceManager.register(transactionId, BLOCK_ID, resource);
+            resourceManager.register(transactionId, BLOCK_ID, resource);
+            resourceManager.registerCommittedFunction(transactionId, committedFunction);
+            if (resourceManager.notifyCommit(strand, transactionId, BLOCK_ID)) {
+                committed++;
+            }
+
+            transactionLocalContext.removeTransactionInfo();
+            strand.removeCurrentTrxContext();
+        }
+        return committed;
+    }
+
+    /**
+     * A local resource whose commit and rollback do nothing.
+     */
+    private static class NoOpTransactionContext implements BallerinaTransactionContext {
+
+        @Override
+        public void commit() {
+        }
+
+        @Override
+        public void rollback() {
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public XAResource getXAResource() {
+            return null;
+        }
+    }
+}
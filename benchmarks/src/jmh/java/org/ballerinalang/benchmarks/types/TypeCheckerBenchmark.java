@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.benchmarks.types;
+
+import org.ballerinalang.jvm.StringUtils;
+import org.ballerinalang.jvm.TypeChecker;
+import org.ballerinalang.jvm.types.BArrayType;
+import org.ballerinalang.jvm.types.BField;
+import org.ballerinalang.jvm.types.BMapType;
+import org.ballerinalang.jvm.types.BPackage;
+import org.ballerinalang.jvm.types.BRecordType;
+import org.ballerinalang.jvm.types.BType;
+import org.ballerinalang.jvm.types.BTypes;
+import org.ballerinalang.jvm.types.BUnionType;
+import org.ballerinalang.jvm.util.Flags;
+import org.ballerinalang.jvm.values.ArrayValueImpl;
+import org.ballerinalang.jvm.values.MapValue;
+import org.ballerinalang.jvm.values.MapValueImpl;
+import org.ballerinalang.jvm.values.api.BString;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link TypeChecker#checkIsType} for values and types that are commonly checked by generated code.
+ *
+ * @since 2.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TypeCheckerBenchmark {
+
+    private static final BString ID = StringUtils.fromString("id");
+    private static final BString NAME = StringUtils.fromString("name");
+
+    private Object intValue;
+    private BType intStringUnion;
+    private BRecordType recordType;
+    private BRecordType otherRecordType;
+    private BMapType anydataMapType;
+    private MapValue<BString, Object> record;
+    private ArrayValueImpl intArray;
+    private BArrayType anydataArrayType;
+
+    @Setup
+    public void setup() {
+        intValue = 10L;
+        intStringUnion = new BUnionType(Arrays.asList(BTypes.typeString, BTypes.typeFloat, BTypes.typeInt));
+        recordType = createRecordType("Person");
+        otherRecordType = createRecordType("Employee");
+        anydataMapType = new BMapType(BTypes.typeAnydata);
+        record = new MapValueImpl<>(recordType);
+        record.put(ID, 1L);
+        record.put(NAME, StringUtils.fromString("John"));
+        intArray = new ArrayValueImpl(new long[]{1, 2, 3, 4, 5, 6, 7, 8});
+        anydataArrayType = new BArrayType(BTypes.typeAnydata);
+    }
+
+    @Benchmark
+    public boolean intToUnion() {
+        return TypeChecker.checkIsType(intValue, intStringUnion);
+    }
+
+    @Benchmark
+    public boolean recordToSameRecord() {
+        return TypeChecker.checkIsType(record, recordType);
+    }
+
+    @Benchmark
+    public boolean recordToStructurallyEqualRecord() {
+        return TypeChecker.checkIsType(record, otherRecordType);
+    }
+
+    @Benchmark
+    public boolean recordToMap() {
+        return TypeChecker.checkIsType(record, anydataMapType);
+    }
+
+    @Benchmark
+    public boolean intArrayToAnydataArray() {
+        return TypeChecker.checkIsType(intArray, anydataArrayType);
+    }
+
+    @Benchmark
+    public boolean recordTypeToRecordType() {
+        return TypeChecker.checkIsType(recordType, otherRecordType);
+    }
+
+    private static BRecordType createRecordType(String name) {
+        Map<String, BField> fields = new LinkedHashMap<>();
+        fields.put(ID.getValue(), new BField(BTypes.typeInt, ID.getValue(), Flags.REQUIRED));
+        fields.put(NAME.getValue(), new BField(BTypes.typeString, NAME.getValue(), Flags.REQUIRED));
+        return new BRecordType(name, new BPackage("bench", "types"), 0, fields, null, true, 0);
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.benchmarks.values;
+
+import org.ballerinalang.jvm.types.BArrayType;
+import org.ballerinalang.jvm.types.BTypes;
+import org.ballerinalang.jvm.values.ArrayValue;
+import org.ballerinalang.jvm.values.ArrayValueImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures appending to, reading from and copying {@link ArrayValueImpl} lists of ints and of reference values, and
+ * using them as queues with shift, unshift and push.
+ *
+ * @since 2.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ArrayValueBenchmark {
+
+    @Param({"1000"})
+    private int size;
+
+    private BArrayType intArrayType;
+    private BArrayType anyArrayType;
+    private ArrayValueImpl ints;
+    private ArrayValueImpl refs;
+
+    @Setup
+    public void setup() {
+        intArrayType = new BArrayType(BTypes.typeInt);
+        anyArrayType = new BArrayType(BTypes.typeAny);
+        ints = appendInts();
+        refs = appendRefs();
+    }
+
+    @Benchmark
+    public ArrayValueImpl appendInts() {
+        ArrayValueImpl array = new ArrayValueImpl(intArrayType);
+        for (long i = 0; i < size; i++) {
+            array.add(i, i);
+        }
+        return array;
+    }
+
+    @Benchmark
+    public ArrayValueImpl appendRefs() {
+        ArrayValueImpl array = new ArrayValueImpl(anyArrayType);
+        for (long i = 0; i < size; i++) {
+            array.append(i);
+        }
+        return array;
+    }
+
+    @Benchmark
+    public long sumInts() {
+        long sum = 0;
+        for (long i = 0; i < size; i++) {
+            sum += ints.getInt(i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long sumRefs() {
+        long sum = 0;
+        for (long i = 0; i < size; i++) {
+            sum += (Long) refs.getRefValue(i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public Object copyRefs() {
+        return refs.copy(new HashMap<>());
+    }
+
+    @Benchmark
+    public Object sliceInts() {
+        return ints.slice(0, size / 2);
+    }
+
+    @Benchmark
+    public long drainInts() {
+        ArrayValueImpl queue = appendInts();
+        long sum = 0;
+        while (!queue.isEmpty()) {
+            sum += (Long) queue.shift();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public ArrayValueImpl unshiftInts() {
+        ArrayValueImpl array = new ArrayValueImpl(intArrayType);
+        ArrayValue vals = new ArrayValueImpl(new long[]{1});
+        for (int i = 0; i < size; i++) {
+            array.unshift(vals);
+        }
+        return array;
+    }
+
+    @Benchmark
+    public long queueRefs() {
+        // a queue that holds size members, from which each member is shifted after the next one is pushed
+        ArrayValueImpl queue = appendRefs();
+        long sum = 0;
+        for (long i = 0; i < size; i++) {
+            queue.append(i);
+            sum += (Long) queue.shift();
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.benchmarks.values;
+
+import org.ballerinalang.benchmarks.parsing.JSONParserBenchmark;
+import org.ballerinalang.jvm.JSONParser;
+import org.ballerinalang.jvm.values.CloneUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures deep copies of a json value with {@link CloneUtils}, both as a mutable clone and as a read-only clone.
+ *
+ * @since 2.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CloneUtilsBenchmark {
+
+    @Param({"100"})
+    private int records;
+
+    private Object json;
+    private Object readOnlyJson;
+
+    @Setup
+    public void setup() {
+        json = JSONParser.parse(JSONParserBenchmark.createDocument(records));
+        readOnlyJson = CloneUtils.cloneReadOnly(json);
+    }
+
+    @Benchmark
+    public Object cloneValue() {
+        return CloneUtils.cloneValue(json);
+    }
+
+    @Benchmark
+    public Object cloneReadOnly() {
+        return CloneUtils.cloneReadOnly(json);
+    }
+
+    @Benchmark
+    public Object cloneReadOnlyValue() {
+        // immutable values are not copied
+        return CloneUtils.cloneReadOnly(readOnlyJson);
+    }
+}
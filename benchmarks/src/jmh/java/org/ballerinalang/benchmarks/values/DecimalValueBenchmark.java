@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.benchmarks.values;
+
+import org.ballerinalang.jvm.values.DecimalValue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the arithmetic, parsing and conversions of {@link DecimalValue}.
+ *
+ * @since 2.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DecimalValueBenchmark {
+
+    private String text = "12345.6789";
+    private DecimalValue left = new DecimalValue("98765.4321");
+    private DecimalValue right = new DecimalValue("12.5");
+    private long intValue = 123456789L;
+    private double floatValue = 1234.5678d;
+
+    @Benchmark
+    public DecimalValue add() {
+        return left.add(right);
+    }
+
+    @Benchmark
+    public DecimalValue multiply() {
+        return left.multiply(right);
+    }
+
+    @Benchmark
+    public DecimalValue divide() {
+        return left.divide(right);
+    }
+
+    @Benchmark
+    public DecimalValue parse() {
+        return new DecimalValue(text);
+    }
+
+    @Benchmark
+    public DecimalValue fromInt() {
+        return DecimalValue.valueOf(intValue);
+    }
+
+    @Benchmark
+    public DecimalValue fromFloat() {
+        return DecimalValue.valueOf(floatValue);
+    }
+
+    @Benchmark
+    public String stringValue() {
+        return left.stringValue();
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.benchmarks.values;
+
+import org.ballerinalang.jvm.StringUtils;
+import org.ballerinalang.jvm.types.BMapType;
+import org.ballerinalang.jvm.types.BTypes;
+import org.ballerinalang.jvm.values.MapValueImpl;
+import org.ballerinalang.jvm.values.api.BString;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures insertion, lookup, iteration and copying of {@link MapValueImpl} maps with string keys.
+ *
+ * @since 2.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapValueBenchmark {
+
+    @Param({"1000"})
+    private int size;
+
+    private BMapType mapType;
+    private BString[] keys;
+    private MapValueImpl<BString, Object> map;
+
+    @Setup
+    public void setup() {
+        mapType = new BMapType(BTypes.typeAnydata);
+        keys = new BString[size];
+        for (int i = 0; i < size; i++) {
+            keys[i] = StringUtils.fromString("key-" + i);
+        }
+        map = put();
+    }
+
+    @Benchmark
+    public MapValueImpl<BString, Object> put() {
+        MapValueImpl<BString, Object> values = new MapValueImpl<>(mapType);
+        for (int i = 0; i < size; i++) {
+            values.put(keys[i], (long) i);
+        }
+        return values;
+    }
+
+    @Benchmark
+    public long get() {
+        long sum = 0;
+        for (int i = 0; i < size; i++) {
+            sum += (Long) map.get(keys[i]);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long iterate() {
+        long sum = 0;
+        for (Object value : map.values()) {
+            sum += (Long) value;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public Object copy() {
+        return map.copy(new HashMap<>());
+    }
+}
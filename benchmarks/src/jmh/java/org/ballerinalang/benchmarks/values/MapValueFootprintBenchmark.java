@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.benchmarks.values;
+
+import org.ballerinalang.jvm.StringUtils;
+import org.ballerinalang.jvm.types.BField;
+import org.ballerinalang.jvm.types.BMapType;
+import org.ballerinalang.jvm.types.BPackage;
+import org.ballerinalang.jvm.types.BRecordType;
+import org.ballerinalang.jvm.types.BTypes;
+import org.ballerinalang.jvm.util.Flags;
+import org.ballerinalang.jvm.values.MapValueImpl;
+import org.ballerinalang.jvm.values.MappingInitialValueEntry;
+import org.ballerinalang.jvm.values.api.BString;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the heap footprint of {@link MapValueImpl} based records and maps. Each invocation builds and retains
+ * one million values, so with {@code -prof gc} the normalized allocation rate divided by the number of operations
+ * gives the bytes allocated per value.
+ *
+ * @since 2.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgs = {"-Xms4g", "-Xmx4g"})
+public class MapValueFootprintBenchmark {
+
+    private static final int VALUES = 1_000_000;
+
+    private static final BString ID = StringUtils.fromString("id");
+    private static final BString NAME = StringUtils.fromString("name");
+    private static final BString PRICE = StringUtils.fromString("price");
+
+    private BRecordType recordType;
+    private BMapType mapType;
+    private MapValueImpl<?, ?>[] retained;
+
+    @Setup
+    public void setup() {
+        Map<String, BField> fields = new LinkedHashMap<>();
+        fields.put(ID.getValue(), new BField(BTypes.typeInt, ID.getValue(), Flags.REQUIRED));
+        fields.put(NAME.getValue(), new BField(BTypes.typeString, NAME.getValue(), Flags.REQUIRED));
+        fields.put(PRICE.getValue(), new BField(BTypes.typeFloat, PRICE.getValue(), Flags.REQUIRED));
+        recordType = new BRecordType("Item", new BPackage("bench", "values"), 0, fields, null, true, 0);
+        mapType = new BMapType(BTypes.typeAnydata);
+        retained = new MapValueImpl[VALUES];
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(VALUES)
+    public Object closedRecords() {
+        for (int i = 0; i < VALUES; i++) {
+            retained[i] = new MapValueImpl<>(recordType, entries(i));
+        }
+        return retained;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(VALUES)
+    public Object maps() {
+        for (int i = 0; i < VALUES; i++) {
+            retained[i] = new MapValueImpl<>(mapType, entries(i));
+        }
+        return retained;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(VALUES)
+    public Object emptyMaps() {
+        for (int i = 0; i < VALUES; i++) {
+            retained[i] = new MapValueImpl<>(mapType);
+        }
+        return retained;
+    }
+
+    private static MappingInitialValueEntry[] entries(int i) {
+        return new MappingInitialValueEntry[]{
+                new MappingInitialValueEntry.KeyValueEntry(ID, (long) i),
+                new MappingInitialValueEntry.KeyValueEntry(NAME, NAME),
+                new MappingInitialValueEntry.KeyValueEntry(PRICE, (double) i)
+        };
+    }
+}
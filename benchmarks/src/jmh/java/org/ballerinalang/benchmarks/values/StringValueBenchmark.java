@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.benchmarks.values;
+
+import org.ballerinalang.jvm.StringUtils;
+import org.ballerinalang.jvm.values.BmpStringValue;
+import org.ballerinalang.jvm.values.api.BString;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the {@link BString} operations of {@link BmpStringValue} and of strings with supplementary characters. The
+ * concatenation benchmarks follow the scenarios of {@code benchmark-type-string.bal}.
+ *
+ * @since 2.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StringValueBenchmark {
+
+    private static final int CONCATENATIONS = 100;
+
+    private String bmpText;
+    private String nonBmpText;
+    private BString bmp;
+    private BString nonBmp;
+    private BString part;
+    private BString doe;
+    private BString needle;
+
+    @Setup
+    public void setup() {
+        StringBuilder bmpBuilder = new StringBuilder();
+        StringBuilder nonBmpBuilder = new StringBuilder();
+        for (int i = 0; i < 64; i++) {
+            bmpBuilder.append("abcd");
+            nonBmpBuilder.append("ab").appendCodePoint(0x1F600).append('d');
+        }
+        bmpText = bmpBuilder.append("needle").toString();
+        nonBmpText = nonBmpBuilder.toString();
+        bmp = StringUtils.fromString(bmpText);
+        nonBmp = StringUtils.fromString(nonBmpText);
+        part = StringUtils.fromString("part");
+        doe = StringUtils.fromString("Doe");
+        needle = StringUtils.fromString("needle");
+    }
+
+    @Benchmark
+    public BString fromBmpString() {
+        return StringUtils.fromString(bmpText);
+    }
+
+    @Benchmark
+    public BString fromNonBmpString() {
+        return StringUtils.fromString(nonBmpText);
+    }
+
+    @Benchmark
+    public BString concat() {
+        return doe.concat(doe);
+    }
+
+    @Benchmark
+    public BString concatInLoop() {
+        BString result = StringUtils.fromString("");
+        for (int i = 0; i < CONCATENATIONS; i++) {
+            result = result.concat(part);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public String concatInLoopAndGetValue() {
+        return concatInLoop().getValue();
+    }
+
+    @Benchmark
+    public BString nonBmpConcatInLoop() {
+        BString result = StringUtils.fromString("");
+        for (int i = 0; i < CONCATENATIONS; i++) {
+            result = result.concat(nonBmp);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public BString substring() {
+        return bmp.substring(4, 128);
+    }
+
+    @Benchmark
+    public BString nonBmpSubstring() {
+        return nonBmp.substring(4, 128);
+    }
+
+    @Benchmark
+    public Long indexOf() {
+        return bmp.indexOf(needle, 0);
+    }
+
+    @Benchmark
+    public long bmpCodePoints() {
+        long sum = 0;
+        for (int i = 0; i < bmp.length(); i++) {
+            sum += bmp.getCodePoint(i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long nonBmpCodePoints() {
+        long sum = 0;
+        for (int i = 0; i < nonBmp.length(); i++) {
+            sum += nonBmp.getCodePoint(i);
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.benchmarks.values;
+
+import org.ballerinalang.jvm.StringUtils;
+import org.ballerinalang.jvm.types.BField;
+import org.ballerinalang.jvm.types.BPackage;
+import org.ballerinalang.jvm.types.BRecordType;
+import org.ballerinalang.jvm.types.BTableType;
+import org.ballerinalang.jvm.types.BTypes;
+import org.ballerinalang.jvm.util.Flags;
+import org.ballerinalang.jvm.values.IteratorValue;
+import org.ballerinalang.jvm.values.MapValue;
+import org.ballerinalang.jvm.values.MapValueImpl;
+import org.ballerinalang.jvm.values.TableValueImpl;
+import org.ballerinalang.jvm.values.api.BString;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures building, key lookups and iteration of a keyed {@link TableValueImpl}.
+ *
+ * @since 2.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TableValueBenchmark {
+
+    private static final BString ID = StringUtils.fromString("id");
+    private static final BString NAME = StringUtils.fromString("name");
+
+    @Param({"1000"})
+    private int size;
+
+    private BTableType tableType;
+    private BRecordType rowType;
+    private MapValue<BString, Object>[] rows;
+    private TableValueImpl<Object, MapValue<BString, Object>> table;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setup() {
+        Map<String, BField> fields = new LinkedHashMap<>();
+        fields.put(ID.getValue(), new BField(BTypes.typeInt, ID.getValue(), Flags.REQUIRED | Flags.READONLY));
+        fields.put(NAME.getValue(), new BField(BTypes.typeString, NAME.getValue(), Flags.REQUIRED));
+        rowType = new BRecordType("Row", new BPackage("bench", "values"), 0, fields, null, true, 0);
+        tableType = new BTableType(rowType, new String[]{ID.getValue()}, false);
+        rows = new MapValue[size];
+        for (int i = 0; i < size; i++) {
+            MapValue<BString, Object> row = new MapValueImpl<>(rowType);
+            row.put(ID, (long) i);
+            row.put(NAME, StringUtils.fromString("name-" + i));
+            rows[i] = row;
+        }
+        table = add();
+    }
+
+    @Benchmark
+    public TableValueImpl<Object, MapValue<BString, Object>> add() {
+        TableValueImpl<Object, MapValue<BString, Object>> values = new TableValueImpl<>(tableType);
+        for (MapValue<BString, Object> row : rows) {
+            values.add(row);
+        }
+        return values;
+    }
+
+    @Benchmark
+    public int get() {
+        int found = 0;
+        for (long i = 0; i < size; i++) {
+            if (table.get(i) != null) {
+                found++;
+            }
+        }
+        return found;
+    }
+
+    @Benchmark
+    public int iterate() {
+        int count = 0;
+        IteratorValue iterator = table.getIterator();
+        while (iterator.hasNext()) {
+            iterator.next();
+            count++;
+        }
+        return count;
+    }
+}
@@ -0,0 +1,69 @@
+// Copyright (c) 2020 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+type Person record {|
+    int id;
+    string name;
+|};
+
+type Department record {|
+    int id;
+    string name;
+|};
+
+type DeptPerson record {|
+    string name;
+    string dept;
+|};
+
+Person[] personList = [];
+Department[] deptList = [];
+
+function init() {
+    foreach int i in 0 ..< 10000 {
+        personList.push({id: i, name: "name" + i.toString()});
+        deptList.push({id: i, name: "dept" + i.toString()});
+    }
+}
+
+function hashJoin(int count) returns int {
+    Person[] persons = personList.slice(0, count);
+    Department[] depts = deptList.slice(0, count);
+    DeptPerson[] deptPersonList =
+        from var person in persons
+        join Department dept in depts
+        on person.id equals dept.id
+        select {
+            name: person.name,
+            dept: dept.name
+        };
+    return deptPersonList.length();
+}
+
+function nestedLoopJoin(int count) returns int {
+    Person[] persons = personList.slice(0, count);
+    Department[] depts = deptList.slice(0, count);
+    // The on clause is not an equi-join, hence the join is evaluated as a nested loop.
+    DeptPerson[] deptPersonList =
+        from var person in persons
+        join Department dept in depts
+        on person.id == dept.id && dept.name != ""
+        select {
+            name: person.name,
+            dept: dept.name
+        };
+    return deptPersonList.length();
+}
@@ -17,34 +17,167 @@
 */
 package org.ballerinalang.jvm;
 
+import org.ballerinalang.jvm.observability.ObserveUtils;
 import org.ballerinalang.jvm.scheduling.State;
 import org.ballerinalang.jvm.scheduling.Strand;
+import org.ballerinalang.jvm.util.exceptions.BallerinaErrorReasons;
 
 import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * {@code VarLock} represents lock object for variables in jvm.
+ * <p>
+ * The lock can be held exclusively by a single strand or shared by many strands. Both modes are reentrant. A strand
+ * that cannot acquire the lock is queued and yields. When the lock is released, it is handed over to the waiters at
+ * the head of the queue before they are unblocked, so that their retry succeeds without competing with new strands.
+ * Before a strand is queued, the holders it would wait on and the locks they wait on are followed, and a deadlock
+ * error is raised if they lead back to the strand itself.
  *
  * @since 1.0.0
  */
 public class BLock {
 
-    private ArrayDeque<Strand> current;
+    private static final int MAX_DEADLOCK_SEARCH_DEPTH = 64;
 
-    private ArrayDeque<Strand> waitingForLock;
+    /**
+     * Strand holding the lock exclusively. Read without the monitor only for deadlock detection.
+     */
+    private volatile Strand owner;
+
+    private int ownerHoldCount;
+
+    /**
+     * Strands holding the lock in shared mode, one entry per hold. Read without the monitor only for deadlock
+     * detection.
+     */
+    private final List<Strand> sharedHolders;
+
+    private final ArrayDeque<Waiter> waitingForLock;
+
+    /**
+     * Unblocked strands which have been handed over the lock, but have not retried the acquisition yet.
+     */
+    private final List<Strand> grantedWaiters;
+
+    /**
+     * Store the lock was created in, or null if it does not belong to a store.
+     */
+    private final BLockStore store;
 
     public BLock() {
-        this.current = new ArrayDeque<>();
-        this.waitingForLock = new ArrayDeque<>();
+        this(null);
+    }
+
+    public BLock(BLockStore store) {
+        this.store = store;
+        this.sharedHolders = new CopyOnWriteArrayList<>();
+        this.waitingForLock = new ArrayDeque<>(0);
+        this.grantedWaiters = new ArrayList<>(0);
+    }
+
+    /**
+     * Acquires the lock exclusively for the given strand.
+     *
+     * @param strand strand acquiring the lock
+     * @return true if the lock was acquired, false if the strand has to yield and retry once unblocked
+     */
+    public boolean lock(Strand strand) {
+        return acquire(strand, false);
     }
 
-    public synchronized boolean lock(Strand strand) {
-        if (isLockFree() || lockedBySameContext(strand)) {
-            this.current.offerLast(strand);
+    /**
+     * Acquires the lock in shared mode for the given strand. Shared holds are used by lock blocks that only read the
+     * guarded state.
+     *
+     * @param strand strand acquiring the lock
+     * @return true if the lock was acquired, false if the strand has to yield and retry once unblocked
+     */
+    public boolean lockShared(Strand strand) {
+        return acquire(strand, true);
+    }
+
+    /**
+     * Releases one exclusive hold of the lock.
+     */
+    public synchronized void unlock() {
+        //owner cannot be null as unlock cannot be called without lock being called first.
+        Strand strand = this.owner;
+        if (strand == null) {
+            throw new IllegalMonitorStateException("lock is not held exclusively");
+        }
+        released(strand);
+        if (--this.ownerHoldCount == 0) {
+            this.owner = null;
+            unblockWaiters();
+        }
+    }
+
+    /**
+     * Releases one shared hold of the lock held by the given strand.
+     *
+     * @param strand strand releasing the lock
+     */
+    public synchronized void unlockShared(Strand strand) {
+        int index = this.sharedHolders.lastIndexOf(strand);
+        if (index < 0) {
+            throw new IllegalMonitorStateException("lock is not held in shared mode by the strand");
+        }
+        this.sharedHolders.remove(index);
+        released(strand);
+        if (this.owner == null) {
+            // besides a free lock, a waiter upgrading its shared hold may now be the only holder
+            unblockWaiters();
+        }
+    }
+
+    public synchronized boolean isLockFree() {
+        return this.owner == null && this.sharedHolders.isEmpty();
+    }
+
+    public boolean lockedBySameContext(Strand ctx) {
+        return this.owner == ctx;
+    }
+
+    public BLockStore getStore() {
+        return this.store;
+    }
+
+    private synchronized boolean acquire(Strand strand, boolean shared) {
+        if (this.grantedWaiters.remove(strand)) {
+            // the lock was handed over to the strand when it was unblocked
+            return true;
+        }
+        if (shared ? canAcquireShared(strand) : canAcquireExclusive(strand)) {
+            grant(strand, shared);
             return true;
         }
 
-        this.waitingForLock.offerLast(strand);
+        if (isDeadlocked(strand)) {
+            if (strand.waitingForLock != null) {
+                strand.waitingForLock = null;
+                if (ObserveUtils.isMetricsEnabled()) {
+                    BLockStatistics.stoppedWaiting();
+                }
+            }
+            if (ObserveUtils.isMetricsEnabled()) {
+                BLockStatistics.deadlockDetected();
+            }
+            throw BallerinaErrors.createError(BallerinaErrorReasons.LOCK_DEADLOCK_ERROR,
+                                              "deadlock detected while waiting for a lock");
+        }
+
+        this.waitingForLock.offerLast(new Waiter(strand, shared));
+        if (strand.waitingForLock == null && ObserveUtils.isMetricsEnabled()) {
+            strand.lockWaitStartTime = System.nanoTime();
+            BLockStatistics.startedWaiting();
+        }
+        strand.waitingForLock = this;
 
         // Strand state change
         strand.setState(State.BLOCK_AND_YIELD);
@@ -52,20 +185,151 @@ public class BLock {
         return false;
     }
 
-    public synchronized void unlock() {
-        //current cannot be empty as unlock cannot be called without lock being called first.
-        this.current.removeLast();
-        if (!waitingForLock.isEmpty()) {
-            Strand strand = this.waitingForLock.removeFirst();
-            strand.scheduler.unblockStrand(strand);
+    private boolean canAcquireExclusive(Strand strand) {
+        if (this.owner != null) {
+            return this.owner == strand;
         }
+        // a strand may upgrade a shared hold only if no other strand shares the lock
+        for (Strand holder : this.sharedHolders) {
+            if (holder != strand) {
+                return false;
+            }
+        }
+        return true;
     }
 
-    public boolean isLockFree() {
-        return this.current.isEmpty();
+    private boolean canAcquireShared(Strand strand) {
+        if (this.owner != null) {
+            return this.owner == strand;
+        }
+        // new readers queue behind waiting strands so that writers are not starved, reentrant holds do not
+        return this.waitingForLock.isEmpty() || this.sharedHolders.contains(strand);
     }
 
-    public boolean lockedBySameContext(Strand ctx) {
-        return this.current.getLast() == ctx;
+    private void grant(Strand strand, boolean shared) {
+        if (shared) {
+            this.sharedHolders.add(strand);
+        } else {
+            this.owner = strand;
+            this.ownerHoldCount++;
+        }
+        if (strand.heldLocks == null) {
+            strand.heldLocks = new ArrayList<>(2);
+        }
+        strand.heldLocks.add(this);
+        acquired(strand);
+    }
+
+    private void released(Strand strand) {
+        // locks are mostly released in the reverse order of their acquisition, hence searched from the end
+        strand.heldLocks.remove(strand.heldLocks.lastIndexOf(this));
+    }
+
+    private void acquired(Strand strand) {
+        if (!ObserveUtils.isMetricsEnabled()) {
+            strand.waitingForLock = null;
+            return;
+        }
+        boolean waited = strand.waitingForLock != null;
+        BLockStatistics.acquired(waited ? System.nanoTime() - strand.lockWaitStartTime : 0, waited);
+        strand.waitingForLock = null;
+    }
+
+    /**
+     * Hands the lock over to the waiters at the head of the queue and unblocks them: either the exclusive waiter at
+     * the head, once no other strand holds the lock, or the run of shared waiters at the head while the lock is not
+     * held exclusively.
+     */
+    private void unblockWaiters() {
+        while (!this.waitingForLock.isEmpty()) {
+            Waiter waiter = this.waitingForLock.peekFirst();
+            if (waiter.shared ? this.owner != null : !canAcquireExclusive(waiter.strand)) {
+                return;
+            }
+            this.waitingForLock.pollFirst();
+            grant(waiter.strand, waiter.shared);
+            this.grantedWaiters.add(waiter.strand);
+            waiter.strand.scheduler.unblockStrand(waiter.strand);
+        }
+    }
+
+    /**
+     * Checks whether waiting on this lock closes a cycle of strands, each waiting on a lock held by the next one. A
+     * queued strand waits on every holder of the lock, since even a shared waiter queues behind an exclusive waiter
+     * which waits for the shared holders. The holders are first followed without holding the monitors of the other
+     * locks, and a cycle found is then validated from its end, where every link is stable since each strand on it is
+     * blocked by a strand that is blocked as well.
+     */
+    private boolean isDeadlocked(Strand strand) {
+        Set<Strand> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        return findWaitCycle(strand, strand, this, new ArrayList<>(), new ArrayList<>(), visited);
+    }
+
+    private static boolean findWaitCycle(Strand strand, Strand waiter, BLock lock, List<BLock> locks,
+                                         List<Strand> holders, Set<Strand> visited) {
+        if (locks.size() == MAX_DEADLOCK_SEARCH_DEPTH) {
+            return false;
+        }
+        for (Strand holder : lock.getHolders()) {
+            if (holder == waiter) {
+                continue;
+            }
+            locks.add(lock);
+            holders.add(holder);
+            if (holder == strand) {
+                if (isValidWaitChain(strand, locks, holders)) {
+                    return true;
+                }
+            } else if (visited.add(holder)) {
+                // a strand waits on a single lock, hence the holders it waits on are followed once
+                BLock next = holder.waitingForLock;
+                if (next != null && findWaitCycle(strand, holder, next, locks, holders, visited)) {
+                    return true;
+                }
+            }
+            locks.remove(locks.size() - 1);
+            holders.remove(holders.size() - 1);
+        }
+        return false;
+    }
+
+    private List<Strand> getHolders() {
+        Strand lockOwner = this.owner;
+        if (lockOwner == null) {
+            return this.sharedHolders;
+        }
+        List<Strand> holders = new ArrayList<>(this.sharedHolders);
+        holders.add(lockOwner);
+        return holders;
+    }
+
+    private boolean isHeldBy(Strand strand) {
+        return this.owner == strand || this.sharedHolders.contains(strand);
+    }
+
+    private static boolean isValidWaitChain(Strand strand, List<BLock> locks, List<Strand> holders) {
+        for (int i = locks.size() - 1; i >= 0; i--) {
+            if (!locks.get(i).isHeldBy(holders.get(i))) {
+                return false;
+            }
+            if (i > 0 && holders.get(i - 1).waitingForLock != locks.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Strand queued on the lock together with the mode it requested.
+     */
+    private static class Waiter {
+
+        private final Strand strand;
+        private final boolean shared;
+
+        private Waiter(Strand strand, boolean shared) {
+            this.strand = strand;
+            this.shared = shared;
+        }
     }
 }
@@ -0,0 +1,86 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.jvm;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Contention statistics of the {@link BLock}s of all modules. The statistics are only collected while metrics are
+ * enabled and are published as polled gauges by the metrics launch listener.
+ *
+ * @since 2.0.0
+ */
+public class BLockStatistics {
+
+    private static final BLockStatistics INSTANCE = new BLockStatistics();
+
+    private final LongAdder acquisitions = new LongAdder();
+    private final LongAdder contendedAcquisitions = new LongAdder();
+    private final LongAdder waitTimeNanos = new LongAdder();
+    private final LongAdder waitingStrands = new LongAdder();
+    private final LongAdder detectedDeadlocks = new LongAdder();
+
+    private BLockStatistics() {
+    }
+
+    public static BLockStatistics getInstance() {
+        return INSTANCE;
+    }
+
+    static void acquired(long waitTimeNanos, boolean waited) {
+        INSTANCE.acquisitions.increment();
+        if (waited) {
+            INSTANCE.contendedAcquisitions.increment();
+            INSTANCE.waitTimeNanos.add(waitTimeNanos);
+            INSTANCE.waitingStrands.decrement();
+        }
+    }
+
+    static void startedWaiting() {
+        INSTANCE.waitingStrands.increment();
+    }
+
+    static void stoppedWaiting() {
+        INSTANCE.waitingStrands.decrement();
+    }
+
+    static void deadlockDetected() {
+        INSTANCE.detectedDeadlocks.increment();
+    }
+
+    public long getAcquisitionCount() {
+        return acquisitions.sum();
+    }
+
+    public long getContendedAcquisitionCount() {
+        return contendedAcquisitions.sum();
+    }
+
+    public long getWaitTimeNanos() {
+        return waitTimeNanos.sum();
+    }
+
+    public long getWaitingStrandCount() {
+        return waitingStrands.sum();
+    }
+
+    public long getDetectedDeadlockCount() {
+        return detectedDeadlocks.sum();
+    }
+}
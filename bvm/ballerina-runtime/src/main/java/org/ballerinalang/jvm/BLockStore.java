@@ -21,10 +21,14 @@ package org.ballerinalang.jvm;
 import org.ballerinalang.jvm.scheduling.Strand;
 import org.ballerinalang.jvm.util.exceptions.BallerinaErrorReasons;
 
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
+ * Store of the locks of a module, created lazily by name. Each lock is guarded by its own monitor and knows the store
+ * it was created in, and the locks held by a strand are recorded on the strand itself, so whether a strand holds a
+ * lock of this store is checked on the locks it holds rather than on every lock of the module.
  *
  * @since 1.2.0
  */
@@ -40,21 +44,29 @@ public class BLockStore {
     }
 
     public void addLockToMap(String lockName) {
-        globalLockMap.put(lockName, new BLock());
+        globalLockMap.put(lockName, new BLock(this));
     }
 
     public BLock getLockFromMap(String lockName) {
+        // computeIfAbsent locks the bin even if the lock exists, hence look it up first
+        BLock lock = globalLockMap.get(lockName);
+        if (lock != null) {
+            return lock;
+        }
         return globalLockMap.computeIfAbsent(lockName, (k) -> {
-            return new BLock();
+            return new BLock(this);
         });
     }
 
     public void panicIfInLock(String lockName, Strand strand) {
-        for (BLock lock : globalLockMap.values()) {
-            if (lock.isLockFree()) {
-                continue;
-            }
-            if (lock.lockedBySameContext(strand)) {
+        List<BLock> heldLocks = strand.heldLocks;
+        if (heldLocks == null) {
+            return;
+        }
+        for (BLock lock : heldLocks) {
+            BLockStore lockStore = lock.getStore();
+            // a lock created outside a store is looked up among the locks of this store
+            if (lockStore == this || (lockStore == null && globalLockMap.containsValue(lock))) {
                 throw BallerinaErrors.createError(BallerinaErrorReasons.ASYNC_CALL_INSIDE_LOCK);
             }
         }
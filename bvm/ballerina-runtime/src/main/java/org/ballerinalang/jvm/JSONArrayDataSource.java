@@ -0,0 +1,108 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.jvm;
+
+import org.ballerinalang.jvm.JSONEventReader.Event;
+import org.ballerinalang.jvm.types.BArrayType;
+import org.ballerinalang.jvm.types.BType;
+import org.ballerinalang.jvm.types.BTypes;
+import org.ballerinalang.jvm.util.exceptions.BallerinaException;
+import org.ballerinalang.jvm.values.ArrayValue;
+import org.ballerinalang.jvm.values.ArrayValueImpl;
+
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * {@link JSONDataSource} implementation that reads the members of a JSON array from a {@link Reader} one at a time.
+ * Only the member being read is held in memory, so a {@link org.ballerinalang.jvm.values.StreamingJsonValue} backed
+ * by this data source can serialize or iterate arrays that are too large to be parsed into a single json value.
+ *
+ * @since 2.0.0
+ */
+public class JSONArrayDataSource implements JSONDataSource {
+
+    private final JSONEventReader reader;
+    private final JSONBinder binder;
+    private final BType elementType;
+    private Event nextEvent;
+    private int index;
+
+    public JSONArrayDataSource(Reader reader) {
+        this(reader, BTypes.typeJSON);
+    }
+
+    /**
+     * Creates a data source that binds each member of the array to the given type.
+     *
+     * @param reader      reader which contains the JSON array
+     * @param elementType type of the members
+     */
+    public JSONArrayDataSource(Reader reader, BType elementType) {
+        this.reader = new JSONEventReader(reader);
+        this.binder = new JSONBinder(this.reader);
+        this.elementType = elementType;
+    }
+
+    @Override
+    public void serialize(JSONGenerator gen) throws IOException {
+        gen.writeStartArray();
+        while (this.hasNext()) {
+            gen.serialize(this.next());
+        }
+        gen.writeEndArray();
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (this.nextEvent == null) {
+            this.nextEvent = readNextEvent();
+        }
+        return this.nextEvent != Event.END_ARRAY;
+    }
+
+    @Override
+    public Object next() {
+        if (!hasNext()) {
+            throw new BallerinaException("no more members in the JSON array");
+        }
+        Event event = this.nextEvent;
+        this.nextEvent = null;
+        return this.binder.bind(event, this.elementType, "[" + this.index++ + "]");
+    }
+
+    @Override
+    public Object build() {
+        ArrayValue values = new ArrayValueImpl(new BArrayType(this.elementType));
+        while (this.hasNext()) {
+            values.append(this.next());
+        }
+        return values;
+    }
+
+    private Event readNextEvent() {
+        if (this.reader.getEvent() == null && this.reader.next() != Event.START_ARRAY) {
+            throw this.reader.syntaxError("expected a JSON array");
+        }
+        Event event = this.reader.next();
+        if (event == Event.END_ARRAY && this.reader.next() != Event.END_DOCUMENT) {
+            throw this.reader.syntaxError("JSON document has already ended");
+        }
+        return event;
+    }
+}
@@ -0,0 +1,544 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.jvm;
+
+import org.ballerinalang.jvm.JSONEventReader.Event;
+import org.ballerinalang.jvm.commons.ArrayState;
+import org.ballerinalang.jvm.types.BArrayType;
+import org.ballerinalang.jvm.types.BField;
+import org.ballerinalang.jvm.types.BIntersectionType;
+import org.ballerinalang.jvm.types.BMapType;
+import org.ballerinalang.jvm.types.BRecordType;
+import org.ballerinalang.jvm.types.BTupleType;
+import org.ballerinalang.jvm.types.BType;
+import org.ballerinalang.jvm.types.BTypes;
+import org.ballerinalang.jvm.types.BUnionType;
+import org.ballerinalang.jvm.types.TypeTags;
+import org.ballerinalang.jvm.util.Flags;
+import org.ballerinalang.jvm.util.exceptions.BallerinaErrorReasons;
+import org.ballerinalang.jvm.values.ArrayValueImpl;
+import org.ballerinalang.jvm.values.DecimalValue;
+import org.ballerinalang.jvm.values.MapValueImpl;
+import org.ballerinalang.jvm.values.TupleValueImpl;
+import org.ballerinalang.jvm.values.ValueCreator;
+import org.ballerinalang.jvm.values.api.BString;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Binds the tokens of a {@link JSONEventReader} directly to values of a target type, without creating an
+ * intermediate json value. The value is checked against the target type as it is read, so a document that does not
+ * belong to the type is rejected at the first offending token.
+ *
+ * @since 2.0.0
+ */
+@SuppressWarnings("unchecked")
+class JSONBinder {
+
+    private static final BMapType JSON_MAP_TYPE = new BMapType(BTypes.typeJSON);
+    private static final BArrayType JSON_ARRAY_TYPE = new BArrayType(BTypes.typeJSON);
+
+    private final JSONEventReader reader;
+    private final Map<BRecordType, RecordInfo> recordInfos = new IdentityHashMap<>();
+
+    JSONBinder(JSONEventReader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * Binds the whole document of the reader to the given type.
+     *
+     * @param targetType type of the value
+     * @return the value of the document
+     */
+    Object bindDocument(BType targetType) {
+        Object value = bind(this.reader.next(), targetType, "");
+        if (this.reader.next() != Event.END_DOCUMENT) {
+            throw this.reader.syntaxError("JSON document has already ended");
+        }
+        return value;
+    }
+
+    /**
+     * Binds the value starting at the given token to the given type.
+     *
+     * @param event      event of the first token of the value, which is the current token of the reader
+     * @param targetType type of the value
+     * @param path       path of the value in the document, used in error messages
+     * @return the value
+     */
+    Object bind(Event event, BType targetType, String path) {
+        try {
+            return bindValue(event, targetType);
+        } catch (BindingException e) {
+            throw BallerinaErrors.createError(BallerinaErrorReasons.BALLERINA_PREFIXED_CONVERSION_ERROR,
+                    "incompatible value at '$" + path + e.path + "': " + e.getMessage() + " at line: " + e.line +
+                            " column: " + e.column);
+        }
+    }
+
+    private Object bindValue(Event event, BType targetType) {
+        switch (event) {
+            case START_OBJECT:
+                return bindObject(targetType);
+            case START_ARRAY:
+                return bindArray(targetType);
+            case STRING:
+            case INT:
+            case FLOAT:
+            case BOOLEAN:
+            case NULL:
+                return bindSimpleValue(event, targetType);
+            default:
+                throw this.reader.syntaxError("unexpected token " + event);
+        }
+    }
+
+    private Object bindObject(BType targetType) {
+        BType type = getEffectiveType(targetType);
+        switch (type.getTag()) {
+            case TypeTags.RECORD_TYPE_TAG:
+                return bindRecord((BRecordType) type);
+            case TypeTags.MAP_TAG:
+                return bindMap((BMapType) type);
+            case TypeTags.JSON_TAG:
+            case TypeTags.ANYDATA_TAG:
+            case TypeTags.ANY_TAG:
+                return bindMap(JSON_MAP_TYPE);
+            case TypeTags.READONLY_TAG:
+                MapValueImpl<BString, Object> map = bindMap(JSON_MAP_TYPE);
+                map.freezeDirect();
+                return map;
+            case TypeTags.UNION_TAG:
+                return bindObject(selectStructuredMember((BUnionType) type, Event.START_OBJECT));
+            default:
+                throw mismatch(type, Event.START_OBJECT);
+        }
+    }
+
+    private MapValueImpl<BString, Object> bindRecord(BRecordType recordType) {
+        RecordInfo recordInfo = getRecordInfo(recordType);
+        MapValueImpl<BString, Object> record = recordInfo.valueCreator == null ? new MapValueImpl<>(recordType) :
+                (MapValueImpl<BString, Object>) recordInfo.valueCreator.createRecordValue(recordType.getName());
+        Map<String, BField> fields = recordType.getFields();
+        int requiredFieldCount = 0;
+        Event event;
+        while ((event = this.reader.next()) != Event.END_OBJECT) {
+            String fieldName = this.reader.getText();
+            BString key = StringUtils.fromString(fieldName);
+            BField field = fields.get(fieldName);
+            BType fieldType;
+            if (field != null) {
+                fieldType = field.getFieldType();
+                if (Flags.isFlagOn(field.flags, Flags.REQUIRED) && !record.containsKey(key)) {
+                    requiredFieldCount++;
+                }
+            } else if (recordType.restFieldType != null) {
+                fieldType = recordType.restFieldType;
+            } else {
+                throw new BindingException("field '" + fieldName + "' cannot be added to the closed record '" +
+                        recordType + "'", this.reader);
+            }
+
+            event = this.reader.next();
+            try {
+                record.put(key, bindValue(event, fieldType));
+            } catch (BindingException e) {
+                throw e.enclosedBy("." + fieldName);
+            }
+        }
+
+        if (requiredFieldCount < recordInfo.requiredFieldCount) {
+            for (BField field : fields.values()) {
+                if (Flags.isFlagOn(field.flags, Flags.REQUIRED) &&
+                        !record.containsKey(StringUtils.fromString(field.getFieldName()))) {
+                    throw new BindingException("missing required field '" + field.getFieldName() + "' of type '" +
+                            field.getFieldType() + "' in record '" + recordType + "'", this.reader);
+                }
+            }
+        }
+        if (recordType.isReadOnly()) {
+            record.freezeDirect();
+        }
+        return record;
+    }
+
+    private MapValueImpl<BString, Object> bindMap(BMapType mapType) {
+        MapValueImpl<BString, Object> map = new MapValueImpl<>(mapType);
+        BType constraintType = mapType.getConstrainedType();
+        while (this.reader.next() != Event.END_OBJECT) {
+            String fieldName = this.reader.getText();
+            Event event = this.reader.next();
+            try {
+                map.put(StringUtils.fromString(fieldName), bindValue(event, constraintType));
+            } catch (BindingException e) {
+                throw e.enclosedBy("." + fieldName);
+            }
+        }
+        if (mapType.isReadOnly()) {
+            map.freezeDirect();
+        }
+        return map;
+    }
+
+    private Object bindArray(BType targetType) {
+        BType type = getEffectiveType(targetType);
+        switch (type.getTag()) {
+            case TypeTags.ARRAY_TAG:
+                return bindArray((BArrayType) type);
+            case TypeTags.TUPLE_TAG:
+                return bindTuple((BTupleType) type);
+            case TypeTags.JSON_TAG:
+            case TypeTags.ANYDATA_TAG:
+            case TypeTags.ANY_TAG:
+                return bindArray(JSON_ARRAY_TYPE);
+            case TypeTags.READONLY_TAG:
+                ArrayValueImpl array = bindArray(JSON_ARRAY_TYPE);
+                array.freezeDirect();
+                return array;
+            case TypeTags.UNION_TAG:
+                return bindArray(selectStructuredMember((BUnionType) type, Event.START_ARRAY));
+            default:
+                throw mismatch(type, Event.START_ARRAY);
+        }
+    }
+
+    private ArrayValueImpl bindArray(BArrayType arrayType) {
+        ArrayValueImpl array = new ArrayValueImpl(arrayType);
+        BType elementType = arrayType.getElementType();
+        int maxSize = arrayType.getState() == ArrayState.CLOSED_SEALED ? arrayType.getSize() : Integer.MAX_VALUE;
+        Event event;
+        for (int i = 0; (event = this.reader.next()) != Event.END_ARRAY; i++) {
+            if (i == maxSize) {
+                throw new BindingException("expected at most " + maxSize + " members for '" + arrayType + "'",
+                        this.reader);
+            }
+            try {
+                array.add(i, bindValue(event, elementType));
+            } catch (BindingException e) {
+                throw e.enclosedBy("[" + i + "]");
+            }
+        }
+        if (arrayType.isReadOnly()) {
+            array.freezeDirect();
+        }
+        return array;
+    }
+
+    private TupleValueImpl bindTuple(BTupleType tupleType) {
+        TupleValueImpl tuple = new TupleValueImpl(tupleType);
+        List<BType> memberTypes = tupleType.getTupleTypes();
+        BType restType = tupleType.getRestType();
+        int minSize = memberTypes.size();
+        int i = 0;
+        Event event;
+        for (; (event = this.reader.next()) != Event.END_ARRAY; i++) {
+            BType memberType = i < minSize ? memberTypes.get(i) : restType;
+            if (memberType == null) {
+                throw new BindingException("expected " + minSize + " members for '" + tupleType + "'", this.reader);
+            }
+            try {
+                tuple.add(i, bindValue(event, memberType));
+            } catch (BindingException e) {
+                throw e.enclosedBy("[" + i + "]");
+            }
+        }
+        if (i < minSize) {
+            throw new BindingException("expected " + (restType == null ? "" : "at least ") + minSize +
+                    " members for '" + tupleType + "' but found " + i, this.reader);
+        }
+        if (tupleType.isReadOnly()) {
+            tuple.freezeDirect();
+        }
+        return tuple;
+    }
+
+    private Object bindSimpleValue(Event event, BType targetType) {
+        BType type = getEffectiveType(targetType);
+        int tag = type.getTag();
+        if (event == Event.NULL) {
+            if (type.isNilable()) {
+                return null;
+            }
+            throw mismatch(type, event);
+        }
+
+        switch (tag) {
+            case TypeTags.JSON_TAG:
+            case TypeTags.ANYDATA_TAG:
+            case TypeTags.ANY_TAG:
+            case TypeTags.READONLY_TAG:
+                return getSimpleValue(event);
+            case TypeTags.UNION_TAG:
+                return bindSimpleUnionMember(event, (BUnionType) type);
+            case TypeTags.FINITE_TYPE_TAG:
+                Object value = getSimpleValue(event);
+                if (TypeChecker.checkIsType(value, type)) {
+                    return value;
+                }
+                throw mismatch(type, event);
+            default:
+                break;
+        }
+
+        switch (event) {
+            case STRING:
+                if (tag == TypeTags.STRING_TAG) {
+                    return this.reader.getBString();
+                }
+                if (tag == TypeTags.CHAR_STRING_TAG) {
+                    BString string = this.reader.getBString();
+                    if (TypeChecker.isCharLiteralValue(string)) {
+                        return string;
+                    }
+                }
+                break;
+            case INT:
+                long intValue = this.reader.getInt();
+                switch (tag) {
+                    case TypeTags.INT_TAG:
+                        return intValue;
+                    case TypeTags.BYTE_TAG:
+                        if (TypeChecker.isByteLiteral(intValue)) {
+                            return (int) intValue;
+                        }
+                        break;
+                    case TypeTags.SIGNED32_INT_TAG:
+                    case TypeTags.SIGNED16_INT_TAG:
+                    case TypeTags.SIGNED8_INT_TAG:
+                    case TypeTags.UNSIGNED32_INT_TAG:
+                    case TypeTags.UNSIGNED16_INT_TAG:
+                    case TypeTags.UNSIGNED8_INT_TAG:
+                        if (TypeChecker.checkIsType(intValue, type)) {
+                            return intValue;
+                        }
+                        break;
+                    case TypeTags.FLOAT_TAG:
+                        return (double) intValue;
+                    case TypeTags.DECIMAL_TAG:
+                        return DecimalValue.valueOf(intValue);
+                    default:
+                        break;
+                }
+                break;
+            case FLOAT:
+                switch (tag) {
+                    case TypeTags.FLOAT_TAG:
+                        return this.reader.getFloat();
+                    case TypeTags.DECIMAL_TAG:
+                        return new DecimalValue(this.reader.getText());
+                    case TypeTags.INT_TAG:
+                        return TypeConverter.convertValues(type, this.reader.getFloat());
+                    default:
+                        break;
+                }
+                break;
+            case BOOLEAN:
+                if (tag == TypeTags.BOOLEAN_TAG) {
+                    return this.reader.getBoolean();
+                }
+                break;
+            default:
+                break;
+        }
+        throw mismatch(type, event);
+    }
+
+    /**
+     * Binds a simple value to the first member of the union it belongs to, preferring the members that are the
+     * natural type of the token, so that for example an integer is bound as an int rather than as a float.
+     */
+    private Object bindSimpleUnionMember(Event event, BUnionType unionType) {
+        List<BType> members = unionType.getMemberTypes();
+        for (BType member : members) {
+            if (isNaturalType(event, getEffectiveType(member))) {
+                return bindSimpleValue(event, member);
+            }
+        }
+        for (BType member : members) {
+            try {
+                return bindSimpleValue(event, member);
+            } catch (BindingException e) {
+                // try the next member
+            }
+        }
+        throw mismatch(unionType, event);
+    }
+
+    private static boolean isNaturalType(Event event, BType type) {
+        switch (type.getTag()) {
+            case TypeTags.JSON_TAG:
+            case TypeTags.ANYDATA_TAG:
+            case TypeTags.ANY_TAG:
+            case TypeTags.READONLY_TAG:
+                return true;
+            case TypeTags.STRING_TAG:
+                return event == Event.STRING;
+            case TypeTags.INT_TAG:
+                return event == Event.INT;
+            case TypeTags.FLOAT_TAG:
+                return event == Event.FLOAT;
+            case TypeTags.BOOLEAN_TAG:
+                return event == Event.BOOLEAN;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Selects the member of a union that an object or an array is bound to. Since the value is bound as it is read,
+     * the member is selected by the kind of the value alone, and it has to be unique.
+     */
+    private BType selectStructuredMember(BUnionType unionType, Event event) {
+        List<BType> candidates = new ArrayList<>(1);
+        collectStructuredMembers(unionType, event, candidates);
+        if (candidates.size() == 1) {
+            return candidates.get(0);
+        }
+        if (candidates.isEmpty()) {
+            throw mismatch(unionType, event);
+        }
+        throw new BindingException("ambiguous target type '" + unionType + "' for " + describe(event), this.reader);
+    }
+
+    private static void collectStructuredMembers(BUnionType unionType, Event event, List<BType> candidates) {
+        for (BType member : unionType.getMemberTypes()) {
+            BType type = getEffectiveType(member);
+            switch (type.getTag()) {
+                case TypeTags.UNION_TAG:
+                    collectStructuredMembers((BUnionType) type, event, candidates);
+                    break;
+                case TypeTags.JSON_TAG:
+                case TypeTags.ANYDATA_TAG:
+                case TypeTags.ANY_TAG:
+                case TypeTags.READONLY_TAG:
+                    candidates.add(type);
+                    break;
+                case TypeTags.RECORD_TYPE_TAG:
+                case TypeTags.MAP_TAG:
+                    if (event == Event.START_OBJECT) {
+                        candidates.add(type);
+                    }
+                    break;
+                case TypeTags.ARRAY_TAG:
+                case TypeTags.TUPLE_TAG:
+                    if (event == Event.START_ARRAY) {
+                        candidates.add(type);
+                    }
+                    break;
+                default:
+                    break;
+            }
+        }
+    }
+
+    private Object getSimpleValue(Event event) {
+        switch (event) {
+            case STRING:
+                return this.reader.getBString();
+            case INT:
+                return this.reader.getInt();
+            case FLOAT:
+                return this.reader.getFloat();
+            case BOOLEAN:
+                return this.reader.getBoolean();
+            default:
+                return null;
+        }
+    }
+
+    private RecordInfo getRecordInfo(BRecordType recordType) {
+        RecordInfo recordInfo = this.recordInfos.get(recordType);
+        if (recordInfo == null) {
+            recordInfo = new RecordInfo(recordType);
+            this.recordInfos.put(recordType, recordInfo);
+        }
+        return recordInfo;
+    }
+
+    private static BType getEffectiveType(BType type) {
+        while (type.getTag() == TypeTags.INTERSECTION_TAG) {
+            type = ((BIntersectionType) type).getEffectiveType();
+        }
+        return type;
+    }
+
+    private BindingException mismatch(BType type, Event event) {
+        return new BindingException("expected '" + type + "' but found " + describe(event), this.reader);
+    }
+
+    private static String describe(Event event) {
+        switch (event) {
+            case START_OBJECT:
+                return "object";
+            case START_ARRAY:
+                return "array";
+            default:
+                return event.name().toLowerCase();
+        }
+    }
+
+    /**
+     * Details of a record type that are looked up once per document rather than once per record value.
+     */
+    private static class RecordInfo {
+
+        private final ValueCreator valueCreator;
+        private final int requiredFieldCount;
+
+        private RecordInfo(BRecordType recordType) {
+            // types that are not defined in a module, such as the ones created by native code, have no value creator
+            // and are created without default values
+            this.valueCreator = ValueCreator.getValueCreatorIfPresent(recordType.getPackage().toString());
+            int count = 0;
+            for (BField field : recordType.getFields().values()) {
+                if (Flags.isFlagOn(field.flags, Flags.REQUIRED)) {
+                    count++;
+                }
+            }
+            this.requiredFieldCount = count;
+        }
+    }
+
+    /**
+     * Signals a value that does not belong to the target type. The path of the value is built up as the exception
+     * propagates through the enclosing values, so that nothing is tracked while binding succeeds.
+     */
+    private static class BindingException extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int line;
+        private final int column;
+        private String path = "";
+
+        private BindingException(String message, JSONEventReader reader) {
+            super(message, null, false, false);
+            this.line = reader.getLine();
+            this.column = reader.getColumn();
+        }
+
+        private BindingException enclosedBy(String segment) {
+            this.path = segment + this.path;
+            return this;
+        }
+    }
+}
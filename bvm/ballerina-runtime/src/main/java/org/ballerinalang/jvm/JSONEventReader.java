@@ -0,0 +1,484 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.jvm;
+
+import org.ballerinalang.jvm.util.exceptions.BallerinaException;
+import org.ballerinalang.jvm.values.api.BString;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+
+/**
+ * Pull based reader of a JSON document. Each call to {@link #next()} reads the next token of the document and
+ * returns its {@link Event}, and the value of the token is available through the accessor matching the event. No
+ * json values are created while reading, so callers can bind the document directly to their own representation or
+ * stream through documents that do not fit in memory.
+ * <p>
+ * The accepted syntax is the same as {@link JSONParser}, i.e. strings may also be single quoted.
+ *
+ * @since 2.0.0
+ */
+public class JSONEventReader implements Closeable {
+
+    /**
+     * Tokens of a JSON document.
+     */
+    public enum Event {
+        START_OBJECT, END_OBJECT, START_ARRAY, END_ARRAY, FIELD_NAME, STRING, INT, FLOAT, BOOLEAN, NULL, END_DOCUMENT
+    }
+
+    private static final int BUFFER_SIZE = 8192;
+    private static final int EOF = -1;
+
+    private static final int EMPTY_DOCUMENT = 0;
+    private static final int NONEMPTY_DOCUMENT = 1;
+    private static final int EMPTY_OBJECT = 2;
+    private static final int DANGLING_NAME = 3;
+    private static final int NONEMPTY_OBJECT = 4;
+    private static final int EMPTY_ARRAY = 5;
+    private static final int NONEMPTY_ARRAY = 6;
+
+    private final Reader reader;
+    private final char[] buffer = new char[BUFFER_SIZE];
+    private int pos;
+    private int limit;
+    private int line = 1;
+    private int column;
+
+    private int[] scopes = new int[32];
+    private int depth = 1;
+
+    private Event event;
+    private char[] text = new char[64];
+    private int textLength;
+    private long intValue;
+    private boolean booleanValue;
+
+    public JSONEventReader(Reader reader) {
+        this.reader = reader;
+        this.scopes[0] = EMPTY_DOCUMENT;
+    }
+
+    /**
+     * Reads the next token of the document.
+     *
+     * @return the event of the token
+     * @throws BallerinaException if the document is not well formed or cannot be read
+     */
+    public Event next() throws BallerinaException {
+        int c;
+        switch (this.scopes[this.depth - 1]) {
+            case EMPTY_DOCUMENT:
+                this.scopes[this.depth - 1] = NONEMPTY_DOCUMENT;
+                c = nextNonWhitespace();
+                if (c == EOF) {
+                    throw syntaxError("empty JSON document");
+                }
+                return this.event = readValue(c);
+            case NONEMPTY_DOCUMENT:
+                if (nextNonWhitespace() != EOF) {
+                    throw syntaxError("JSON document has already ended");
+                }
+                return this.event = Event.END_DOCUMENT;
+            case EMPTY_OBJECT:
+                c = nextNonWhitespace();
+                if (c == '}') {
+                    this.depth--;
+                    return this.event = Event.END_OBJECT;
+                }
+                return this.event = readFieldName(c);
+            case NONEMPTY_OBJECT:
+                c = nextNonWhitespace();
+                if (c == '}') {
+                    this.depth--;
+                    return this.event = Event.END_OBJECT;
+                }
+                if (c != ',') {
+                    throw unexpected(c, "',' or '}'");
+                }
+                return this.event = readFieldName(nextNonWhitespace());
+            case DANGLING_NAME:
+                c = nextNonWhitespace();
+                if (c != ':') {
+                    throw unexpected(c, "':'");
+                }
+                this.scopes[this.depth - 1] = NONEMPTY_OBJECT;
+                return this.event = readValue(nextNonWhitespace());
+            case EMPTY_ARRAY:
+                this.scopes[this.depth - 1] = NONEMPTY_ARRAY;
+                c = nextNonWhitespace();
+                if (c == ']') {
+                    this.depth--;
+                    return this.event = Event.END_ARRAY;
+                }
+                return this.event = readValue(c);
+            case NONEMPTY_ARRAY:
+                c = nextNonWhitespace();
+                if (c == ']') {
+                    this.depth--;
+                    return this.event = Event.END_ARRAY;
+                }
+                if (c != ',') {
+                    throw unexpected(c, "',' or ']'");
+                }
+                return this.event = readValue(nextNonWhitespace());
+            default:
+                throw new IllegalStateException("invalid scope: " + this.scopes[this.depth - 1]);
+        }
+    }
+
+    /**
+     * Returns the event of the last token read.
+     *
+     * @return the current event, or null before the first call to {@link #next()}
+     */
+    public Event getEvent() {
+        return this.event;
+    }
+
+    /**
+     * Returns the text of the current field name, string or number token.
+     *
+     * @return text of the token
+     */
+    public String getText() {
+        return new String(this.text, 0, this.textLength);
+    }
+
+    public BString getBString() {
+        return StringUtils.fromString(getText());
+    }
+
+    public long getInt() {
+        return this.intValue;
+    }
+
+    public double getFloat() {
+        if (this.event == Event.INT) {
+            return this.intValue;
+        }
+        return Double.parseDouble(getText());
+    }
+
+    public boolean getBoolean() {
+        return this.booleanValue;
+    }
+
+    /**
+     * Skips the value whose first token is the current token. If the current token starts an object or an array, the
+     * tokens up to and including the matching end token are read.
+     */
+    public void skipValue() {
+        if (this.event != Event.START_OBJECT && this.event != Event.START_ARRAY) {
+            return;
+        }
+        int targetDepth = this.depth - 1;
+        while (this.depth > targetDepth) {
+            next();
+        }
+    }
+
+    /**
+     * Returns the number of objects and arrays that enclose the current position of the reader.
+     *
+     * @return the nesting depth
+     */
+    public int getDepth() {
+        return this.depth - 1;
+    }
+
+    public int getLine() {
+        return this.line;
+    }
+
+    public int getColumn() {
+        return this.column;
+    }
+
+    /**
+     * Creates an exception for an error found at the current position of the reader.
+     *
+     * @param message error message
+     * @return the exception to be thrown
+     */
+    public BallerinaException syntaxError(String message) {
+        return new BallerinaException(message + " at line: " + this.line + " column: " + this.column);
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.reader.close();
+    }
+
+    private Event readFieldName(int c) {
+        if (c != '"' && c != '\'') {
+            throw unexpected(c, "field name");
+        }
+        readString((char) c);
+        this.scopes[this.depth - 1] = DANGLING_NAME;
+        return Event.FIELD_NAME;
+    }
+
+    private Event readValue(int c) {
+        switch (c) {
+            case '{':
+                push(EMPTY_OBJECT);
+                return Event.START_OBJECT;
+            case '[':
+                push(EMPTY_ARRAY);
+                return Event.START_ARRAY;
+            case '"':
+            case '\'':
+                readString((char) c);
+                return Event.STRING;
+            case EOF:
+                throw syntaxError("unexpected end of JSON document");
+            case ',':
+            case ':':
+            case ']':
+            case '}':
+                throw unexpected(c, "value");
+            default:
+                return readLiteral(c);
+        }
+    }
+
+    private Event readLiteral(int first) {
+        this.textLength = 0;
+        appendText((char) first);
+        while (true) {
+            if (this.pos == this.limit && !fill()) {
+                break;
+            }
+            char ch = this.buffer[this.pos];
+            if (isWhitespace(ch) || ch == ',' || ch == ']' || ch == '}' || ch == ':') {
+                break;
+            }
+            this.pos++;
+            this.column++;
+            appendText(ch);
+        }
+
+        if (first == 't' && matchesText("true")) {
+            this.booleanValue = true;
+            return Event.BOOLEAN;
+        } else if (first == 'f' && matchesText("false")) {
+            this.booleanValue = false;
+            return Event.BOOLEAN;
+        } else if (first == 'n' && matchesText("null")) {
+            return Event.NULL;
+        }
+        return readNumber();
+    }
+
+    private Event readNumber() {
+        int i = 0;
+        boolean negative = this.text[0] == '-';
+        if (negative) {
+            i++;
+        }
+        int intStart = i;
+        long value = 0;
+        boolean overflow = false;
+        for (; i < this.textLength && isDigit(this.text[i]); i++) {
+            int digit = this.text[i] - '0';
+            // accumulate as a negative number, since its range is one larger than the positive range
+            if (value < (Long.MIN_VALUE + digit) / 10) {
+                overflow = true;
+            }
+            value = value * 10 - digit;
+        }
+        if (i == intStart) {
+            throw unrecognizedToken();
+        }
+
+        if (i == this.textLength) {
+            if (overflow || (!negative && value == Long.MIN_VALUE)) {
+                throw syntaxError("number too large '" + getText() + "'");
+            }
+            this.intValue = negative ? value : -value;
+            return Event.INT;
+        }
+
+        if (this.text[i] == '.') {
+            int fractionStart = ++i;
+            while (i < this.textLength && isDigit(this.text[i])) {
+                i++;
+            }
+            if (i == fractionStart) {
+                throw unrecognizedToken();
+            }
+        }
+        if (i < this.textLength && (this.text[i] == 'e' || this.text[i] == 'E')) {
+            i++;
+            if (i < this.textLength && (this.text[i] == '+' || this.text[i] == '-')) {
+                i++;
+            }
+            int exponentStart = i;
+            while (i < this.textLength && isDigit(this.text[i])) {
+                i++;
+            }
+            if (i == exponentStart) {
+                throw unrecognizedToken();
+            }
+        }
+        if (i != this.textLength) {
+            throw unrecognizedToken();
+        }
+        return Event.FLOAT;
+    }
+
+    private void readString(char quote) {
+        this.textLength = 0;
+        while (true) {
+            int c = read();
+            if (c == quote) {
+                return;
+            }
+            switch (c) {
+                case EOF:
+                    throw syntaxError("unexpected end of JSON document");
+                case '\\':
+                    appendText(readEscapedChar());
+                    break;
+                default:
+                    appendText((char) c);
+                    break;
+            }
+        }
+    }
+
+    private char readEscapedChar() {
+        int c = read();
+        switch (c) {
+            case '"':
+            case '\'':
+            case '\\':
+            case '/':
+                return (char) c;
+            case 'b':
+                return '\b';
+            case 'f':
+                return '\f';
+            case 'n':
+                return '\n';
+            case 'r':
+                return '\r';
+            case 't':
+                return '\t';
+            case 'u':
+                int value = 0;
+                for (int i = 0; i < 4; i++) {
+                    int digit = Character.digit(read(), 16);
+                    if (digit < 0) {
+                        throw syntaxError("expected the hexadecimal value of a unicode character");
+                    }
+                    value = (value << 4) | digit;
+                }
+                return (char) value;
+            case EOF:
+                throw syntaxError("unexpected end of JSON document");
+            default:
+                throw syntaxError("expected escaped characters");
+        }
+    }
+
+    private int nextNonWhitespace() {
+        while (true) {
+            int c = read();
+            if (c == EOF || !isWhitespace((char) c)) {
+                return c;
+            }
+        }
+    }
+
+    private int read() {
+        if (this.pos == this.limit && !fill()) {
+            return EOF;
+        }
+        char ch = this.buffer[this.pos++];
+        if (ch == '\n') {
+            this.line++;
+            this.column = 0;
+        } else {
+            this.column++;
+        }
+        return ch;
+    }
+
+    private boolean fill() {
+        try {
+            int count = this.reader.read(this.buffer, 0, this.buffer.length);
+            if (count <= 0) {
+                return false;
+            }
+            this.pos = 0;
+            this.limit = count;
+            return true;
+        } catch (IOException e) {
+            throw new BallerinaException("Error reading JSON: " + e.getMessage());
+        }
+    }
+
+    private void push(int scope) {
+        if (this.depth == this.scopes.length) {
+            this.scopes = Arrays.copyOf(this.scopes, this.depth * 2);
+        }
+        this.scopes[this.depth++] = scope;
+    }
+
+    private void appendText(char ch) {
+        if (this.textLength == this.text.length) {
+            this.text = Arrays.copyOf(this.text, this.textLength * 2);
+        }
+        this.text[this.textLength++] = ch;
+    }
+
+    private boolean matchesText(String literal) {
+        if (this.textLength != literal.length()) {
+            return false;
+        }
+        for (int i = 0; i < this.textLength; i++) {
+            if (this.text[i] != literal.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private BallerinaException unrecognizedToken() {
+        return syntaxError("unrecognized token '" + getText() + "'");
+    }
+
+    private BallerinaException unexpected(int c, String expected) {
+        if (c == EOF) {
+            return syntaxError("unexpected end of JSON document");
+        }
+        return syntaxError("expected " + expected + " but found '" + (char) c + "'");
+    }
+
+    private static boolean isWhitespace(char ch) {
+        return ch == ' ' || ch == '\t' || ch == '\n' || ch == '\r';
+    }
+
+    private static boolean isDigit(char ch) {
+        return ch >= '0' && ch <= '9';
+    }
+}
@@ -20,6 +20,7 @@ package org.ballerinalang.jvm;
 import org.apache.commons.lang3.StringEscapeUtils;
 import org.ballerinalang.jvm.types.BArrayType;
 import org.ballerinalang.jvm.types.BMapType;
+import org.ballerinalang.jvm.types.BType;
 import org.ballerinalang.jvm.types.BTypes;
 import org.ballerinalang.jvm.types.TypeTags;
 import org.ballerinalang.jvm.util.exceptions.BallerinaException;
@@ -118,6 +119,34 @@ public class JSONParser {
         }
     }
 
+    /**
+     * Parses the contents in the given string directly into a value of the given type.
+     *
+     * @param jsonStr    the string which contains the JSON content
+     * @param targetType the type of the value
+     * @return value of the given type
+     * @throws BallerinaException for any parsing error
+     * @see #parse(Reader, BType)
+     */
+    public static Object parse(String jsonStr, BType targetType) throws BallerinaException {
+        return parse(new StringReader(jsonStr), targetType);
+    }
+
+    /**
+     * Parses the contents in the given {@link Reader} directly into a value of the given type, in a single pass
+     * without creating an intermediate json value. Objects are bound to records and maps, and arrays to arrays and
+     * tuples of the type, and numbers are converted to the numeric type expected at their position. Values that
+     * do not belong to the type are rejected as soon as they are read, with a conversion error.
+     *
+     * @param reader     reader which contains the JSON content
+     * @param targetType the type of the value
+     * @return value of the given type
+     * @throws BallerinaException for any parsing error
+     */
+    public static Object parse(Reader reader, BType targetType) throws BallerinaException {
+        return new JSONBinder(new JSONEventReader(reader)).bindDocument(targetType);
+    }
+
     /**
      * Represents a JSON parser related exception.
      */
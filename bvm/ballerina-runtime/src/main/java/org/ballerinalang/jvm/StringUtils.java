@@ -60,6 +60,40 @@ public class StringUtils {
         }
     }
 
+    /**
+     * Compare two strings by the code points of their characters, which is the order of Ballerina strings. Unlike
+     * {@link String#compareTo(String)}, which compares UTF-16 code units, characters outside the basic multilingual
+     * plane are ordered after the characters in the range U+E000 to U+FFFF.
+     *
+     * @param s1 First string
+     * @param s2 Second string
+     * @return a negative integer, zero, or a positive integer as the first string is less than, equal to, or greater
+     * than the second string
+     */
+    public static int compareCodePoints(String s1, String s2) {
+        int length = Math.min(s1.length(), s2.length());
+        for (int i = 0; i < length; i++) {
+            char c1 = s1.charAt(i);
+            char c2 = s2.charAt(i);
+            if (c1 != c2) {
+                return getCodePointOrder(c1) - getCodePointOrder(c2);
+            }
+        }
+        return s1.length() - s2.length();
+    }
+
+    // Moves the surrogates, which encode the code points above U+FFFF, above the code units at or after U+E000, so
+    // that the first differing code units of two strings compare as the code points they belong to.
+    private static int getCodePointOrder(char c) {
+        if (c < Character.MIN_SURROGATE) {
+            return c;
+        }
+        if (c <= Character.MAX_SURROGATE) {
+            return c + 0x2000;
+        }
+        return c - 0x800;
+    }
+
     /**
      * Convert input stream to String.
      *
@@ -636,8 +636,16 @@ public class TypeChecker {
             case TypeTags.XML_PI_TAG:
                 return targetTypeTag == sourceTypeTag;
             default:
-                return checkIsRecursiveType(sourceType, targetType,
-                        unresolvedTypes == null ? new ArrayList<>() : unresolvedTypes);
+                if (unresolvedTypes != null) {
+                    return checkIsRecursiveType(sourceType, targetType, unresolvedTypes);
+                }
+                // only top level relations are cached, nested ones depend on the pairs assumed to be related so far
+                Boolean isSubType = TypeRelationCache.get(sourceType, targetType);
+                if (isSubType == null) {
+                    isSubType = checkIsRecursiveType(sourceType, targetType, new ArrayList<>());
+                    TypeRelationCache.put(sourceType, targetType, isSubType);
+                }
+                return isSubType;
         }
     }
 
@@ -1627,11 +1635,10 @@ public class TypeChecker {
                     case TypeTags.BYTE_TAG:
                         return true;
                     default:
-                        return isLikeType(arr.getValues(), BTypes.typeAnydata, unresolvedValues,
-                                          allowNumericConversion);
+                        return isLikeType(arr, BTypes.typeAnydata, unresolvedValues, allowNumericConversion);
                 }
             case TypeTags.TUPLE_TAG:
-                return isLikeType(((ArrayValue) sourceValue).getValues(), BTypes.typeAnydata, unresolvedValues,
+                return isLikeType((ArrayValue) sourceValue, BTypes.typeAnydata, unresolvedValues,
                                   allowNumericConversion);
             case TypeTags.ANYDATA_TAG:
                 return true;
@@ -1654,6 +1661,17 @@ public class TypeChecker {
         return true;
     }
 
+    private static boolean isLikeType(ArrayValue array, BType targetType, List<TypeValuePair> unresolvedValues,
+                                      boolean allowNumericConversion) {
+        // the members are read in place, since getValues() copies them
+        for (int i = 0; i < array.size(); i++) {
+            if (!checkIsLikeType(array.getRefValue(i), targetType, unresolvedValues, allowNumericConversion)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     private static boolean checkIsLikeTupleType(Object sourceValue, BTupleType targetType,
                                                 List<TypeValuePair> unresolvedValues, boolean allowNumericConversion) {
         if (!(sourceValue instanceof ArrayValue)) {
@@ -1779,13 +1797,7 @@ public class TypeChecker {
             }
         }
 
-        Object[] arrayValues = source.getValues();
-        for (int i = 0; i < ((ArrayValue) sourceValue).size(); i++) {
-            if (!checkIsLikeType(arrayValues[i], targetTypeElementType, unresolvedValues, allowNumericConversion)) {
-                return false;
-            }
-        }
-        return true;
+        return isLikeType(source, targetTypeElementType, unresolvedValues, allowNumericConversion);
     }
 
     private static boolean checkIsLikeMapType(Object sourceValue, BMapType targetType,
@@ -1821,13 +1833,7 @@ public class TypeChecker {
                 return checkIsType(elementType, targetType, new ArrayList<>());
             }
 
-            Object[] arrayValues = source.getValues();
-            for (int i = 0; i < ((ArrayValue) sourceValue).size(); i++) {
-                if (!checkIsLikeType(arrayValues[i], targetType, unresolvedValues, allowNumericConversion)) {
-                    return false;
-                }
-            }
-            return true;
+            return isLikeType(source, targetType, unresolvedValues, allowNumericConversion);
         } else if (sourceType.getTag() == TypeTags.MAP_TAG) {
             for (Object value : ((MapValueImpl) sourceValue).values()) {
                 if (!checkIsLikeType(value, targetType, unresolvedValues, allowNumericConversion)) {
@@ -0,0 +1,108 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.jvm;
+
+import org.ballerinalang.jvm.types.BType;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded cache of the subtype relation between pairs of types, keyed by the identity of the source and the target
+ * type. It is used by the {@link TypeChecker} for the type-only relation of structured types, which otherwise walks
+ * the structure of both types on every check.
+ * <p>
+ * The cache is a direct-mapped table of immutable entries, so a lookup does not lock or allocate, and a pair that
+ * collides with another simply replaces it. Since types are compared by identity, the cached relations assume that
+ * type definitions are fully populated before values of them are checked, which holds once module initialization
+ * has created the types.
+ *
+ * @since 2.0.0
+ */
+public class TypeRelationCache {
+
+    private static final int CAPACITY = 4096;
+    private static final int MASK = CAPACITY - 1;
+
+    private static final Entry[] ENTRIES = new Entry[CAPACITY];
+    private static final LongAdder HITS = new LongAdder();
+    private static final LongAdder MISSES = new LongAdder();
+
+    private TypeRelationCache() {
+    }
+
+    /**
+     * Returns the cached relation of the given types.
+     *
+     * @param sourceType source type
+     * @param targetType target type
+     * @return whether the source type is a subtype of the target type, or null if the relation is not cached
+     */
+    static Boolean get(BType sourceType, BType targetType) {
+        Entry entry = ENTRIES[index(sourceType, targetType)];
+        if (entry != null && entry.sourceType == sourceType && entry.targetType == targetType) {
+            HITS.increment();
+            return entry.isSubType;
+        }
+        MISSES.increment();
+        return null;
+    }
+
+    static void put(BType sourceType, BType targetType, boolean isSubType) {
+        ENTRIES[index(sourceType, targetType)] = new Entry(sourceType, targetType, isSubType);
+    }
+
+    public static long getHitCount() {
+        return HITS.sum();
+    }
+
+    public static long getMissCount() {
+        return MISSES.sum();
+    }
+
+    /**
+     * Removes all cached relations. Meant for callers that redefine types at runtime.
+     */
+    public static void clear() {
+        for (int i = 0; i < CAPACITY; i++) {
+            ENTRIES[i] = null;
+        }
+    }
+
+    private static int index(BType sourceType, BType targetType) {
+        int hash = System.identityHashCode(sourceType) * 31 + System.identityHashCode(targetType);
+        return (hash ^ (hash >>> 16)) & MASK;
+    }
+
+    /**
+     * Cached relation of a pair of types. The fields are final so that an entry read through a data race is always
+     * seen fully constructed.
+     */
+    private static class Entry {
+
+        private final BType sourceType;
+        private final BType targetType;
+        private final boolean isSubType;
+
+        private Entry(BType sourceType, BType targetType, boolean isSubType) {
+            this.sourceType = sourceType;
+            this.targetType = targetType;
+            this.isSubType = isSubType;
+        }
+    }
+}
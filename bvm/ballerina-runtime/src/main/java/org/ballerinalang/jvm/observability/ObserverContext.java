@@ -19,40 +19,54 @@ package org.ballerinalang.jvm.observability;
 
 import org.ballerinalang.jvm.observability.metrics.Tag;
 
+import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 
 /**
  * Context object used for observation purposes.
+ * <p>
+ * A context is created for every observed resource and function invocation, so properties and tags are kept in
+ * small arrays, which are only allocated when the first entry is added, instead of in maps.
  */
 public class ObserverContext {
 
+    private static final Object[] NO_PROPERTIES = new Object[0];
+    private static final Tag[] NO_TAGS = new Tag[0];
+
     /**
-     * {@link Map} of properties, which is used to represent additional information required for observers.
+     * Properties, which are used to represent additional information required for observers, as consecutive
+     * key and value pairs.
      */
-    private Map<String, Object> properties;
+    private Object[] properties = NO_PROPERTIES;
+
+    private int propertyCount;
 
     /**
-     * {@link Map} of values (with tag as map's key and tag value as map's value),
-     * which is required to pass to observers.
+     * Tags which are required to pass to observers, with tag keys being unique.
      *
-     * {@link Map} is used here to stop {@link Set} and @{link Tag} objects being instantiated
-     * every-time tags are taken from the observer context to generate metrics.
+     * Tags are kept instead of key value pairs to stop {@link Tag} objects being instantiated every-time tags are
+     * taken from the observer context to generate metrics.
      *
      * These tags are updated before the a service resource function is hit in the runtime.
      * After that point only additional tags should be used.
      */
-    private Map<String, Tag> mainTags;
+    private Tag[] mainTags = NO_TAGS;
+
+    private int mainTagCount;
 
     /**
      * This is similar to the mainTags.
-     * However, this map contains all the tags added after a service resource function is hit in the runtime.
+     * However, this contains all the tags added after a service resource function is hit in the runtime.
      */
-    private Map<String, Tag> additionalTags;
+    private Tag[] additionalTags = NO_TAGS;
+
+    private int additionalTagCount;
+
+    // sum of the hash codes of the main tags, which is the hash code of the set of main tags
+    private int mainTagsHashCode;
 
     private String serviceName;
 
@@ -72,18 +86,27 @@ public class ObserverContext {
 
     private boolean isSystemSpan;
 
-    public ObserverContext() {
-        this.properties = new HashMap<>();
-        this.mainTags = new HashMap<>();
-        this.additionalTags = new HashMap<>();
-    }
-
     public void addProperty(String key, Object value) {
-        properties.put(key, value);
+        for (int i = 0; i < propertyCount; i += 2) {
+            if (properties[i].equals(key)) {
+                properties[i + 1] = value;
+                return;
+            }
+        }
+        if (propertyCount == properties.length) {
+            properties = Arrays.copyOf(properties, propertyCount == 0 ? 8 : propertyCount << 1);
+        }
+        properties[propertyCount++] = key;
+        properties[propertyCount++] = value;
     }
 
     public Object getProperty(String key) {
-        return properties.get(key);
+        for (int i = 0; i < propertyCount; i += 2) {
+            if (properties[i].equals(key)) {
+                return properties[i + 1];
+            }
+        }
+        return null;
     }
 
     /**
@@ -97,7 +120,18 @@ public class ObserverContext {
         if (isStarted()) {
             throw new IllegalStateException("main tags cannot be added after the observation had been started");
         }
-        addTag(mainTags, key, value);
+        Tag tag = createTag(key, value);
+        int index = indexOf(mainTags, mainTagCount, key);
+        if (index >= 0) {
+            mainTagsHashCode -= mainTags[index].hashCode();
+            mainTags[index] = tag;
+        } else {
+            if (mainTagCount == mainTags.length) {
+                mainTags = Arrays.copyOf(mainTags, mainTagCount == 0 ? 8 : mainTagCount << 1);
+            }
+            mainTags[mainTagCount++] = tag;
+        }
+        mainTagsHashCode += tag.hashCode();
     }
 
     /**
@@ -108,36 +142,122 @@ public class ObserverContext {
      * @param value The tag value
      */
     public void addTag(String key, String value) {
-        addTag(additionalTags, key, value);
+        Tag tag = createTag(key, value);
+        int index = indexOf(additionalTags, additionalTagCount, key);
+        if (index >= 0) {
+            additionalTags[index] = tag;
+        } else {
+            if (additionalTagCount == additionalTags.length) {
+                additionalTags = Arrays.copyOf(additionalTags, additionalTagCount == 0 ? 4 : additionalTagCount << 1);
+            }
+            additionalTags[additionalTagCount++] = tag;
+        }
     }
 
-    private void addTag(Map<String, Tag> tagsValueMap, String key, String value) {
+    private static Tag createTag(String key, String value) {
         String sanitizedValue = value != null ? value : "";
-        Tag tag = Tag.of(key, sanitizedValue);
-        tagsValueMap.put(key, tag);
+        return Tag.of(key, sanitizedValue);
+    }
+
+    private static int indexOf(Tag[] tags, int tagCount, String key) {
+        for (int i = 0; i < tagCount; i++) {
+            if (tags[i].getKey().equals(key)) {
+                return i;
+            }
+        }
+        return -1;
     }
 
     public Tag getTag(String key) {
-        Tag tag = mainTags.get(key);
-        if (tag == null) {
-            tag = additionalTags.get(key);
+        int index = indexOf(mainTags, mainTagCount, key);
+        if (index >= 0) {
+            return mainTags[index];
         }
-        return tag;
+        index = indexOf(additionalTags, additionalTagCount, key);
+        return index >= 0 ? additionalTags[index] : null;
     }
 
     public Set<Tag> getMainTags() {
-        Set<Tag> tagSet = new HashSet<>(mainTags.size());
-        tagSet.addAll(mainTags.values());
+        Set<Tag> tagSet = new HashSet<>(mainTagCount);
+        tagSet.addAll(Arrays.asList(mainTags).subList(0, mainTagCount));
         return Collections.unmodifiableSet(tagSet);
     }
 
     public Set<Tag> getAllTags() {
-        Set<Tag> allTags = new HashSet<>(mainTags.size() + additionalTags.size());
-        allTags.addAll(mainTags.values());
-        allTags.addAll(additionalTags.values());
+        Set<Tag> allTags = new HashSet<>(mainTagCount + additionalTagCount);
+        allTags.addAll(Arrays.asList(mainTags).subList(0, mainTagCount));
+        allTags.addAll(Arrays.asList(additionalTags).subList(0, additionalTagCount));
         return Collections.unmodifiableSet(allTags);
     }
 
+    /**
+     * Get the hash code of the set of main tags, without creating the set.
+     *
+     * @return hash code of the set returned by {@link #getMainTags()}
+     */
+    public int getMainTagsHashCode() {
+        return mainTagsHashCode;
+    }
+
+    /**
+     * Get the hash code of the set of all the tags, without creating the set.
+     *
+     * @return hash code of the set returned by {@link #getAllTags()}
+     */
+    public int getAllTagsHashCode() {
+        int hashCode = mainTagsHashCode;
+        for (int i = 0; i < additionalTagCount; i++) {
+            if (!isMainTag(additionalTags[i])) {
+                hashCode += additionalTags[i].hashCode();
+            }
+        }
+        return hashCode;
+    }
+
+    /**
+     * Check whether the main tags are the given tags, without creating the set of main tags.
+     *
+     * @param tags set of tags
+     * @return true if the set returned by {@link #getMainTags()} is equal to the given set
+     */
+    public boolean hasMainTags(Set<Tag> tags) {
+        return tags.size() == mainTagCount && containsAll(tags, mainTags, mainTagCount);
+    }
+
+    /**
+     * Check whether all the tags are the given tags, without creating the set of all the tags.
+     *
+     * @param tags set of tags
+     * @return true if the set returned by {@link #getAllTags()} is equal to the given set
+     */
+    public boolean hasAllTags(Set<Tag> tags) {
+        if (!containsAll(tags, mainTags, mainTagCount) || !containsAll(tags, additionalTags, additionalTagCount)) {
+            return false;
+        }
+        // an additional tag which is the same as a main tag is in the set only once
+        int tagCount = mainTagCount;
+        for (int i = 0; i < additionalTagCount; i++) {
+            if (!isMainTag(additionalTags[i])) {
+                tagCount++;
+            }
+        }
+        return tags.size() == tagCount;
+    }
+
+    private boolean isMainTag(Tag tag) {
+        int index = indexOf(mainTags, mainTagCount, tag.getKey());
+        return index >= 0 && mainTags[index].equals(tag);
+    }
+
+    private static boolean containsAll(Set<Tag> tags, Tag[] tagArray, int tagCount) {
+        for (int i = 0; i < tagCount; i++) {
+            if (!tags.contains(tagArray[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     public String getServiceName() {
         return serviceName;
     }
@@ -26,10 +26,14 @@ import java.util.Set;
 
 /**
  * Observe the runtime and collect measurements.
+ * <p>
+ * The metrics of an observation are resolved from the {@link MetricRegistry} once for every distinct set of tags,
+ * and are looked up afterwards with the tags held by the {@link ObserverContext}.
  */
 public class BallerinaMetricsObserver implements BallerinaObserver {
 
     private static final String PROPERTY_START_TIME = "_observation_start_time_";
+    private static final String PROPERTY_IN_PROGRESS_GAUGE = "_observation_inprogress_gauge_";
 
     private static final PrintStream consoleError = System.err;
 
@@ -50,6 +54,9 @@ public class BallerinaMetricsObserver implements BallerinaObserver {
                     .build()
     };
 
+    private final TagSetCache<Gauge> inProgressGauges = new TagSetCache<>(false);
+    private final TagSetCache<ResponseMetrics> responseMetrics = new TagSetCache<>(true);
+
     @Override
     public void startServerObservation(ObserverContext observerContext) {
         startObservation(observerContext);
@@ -80,33 +87,39 @@ public class BallerinaMetricsObserver implements BallerinaObserver {
 
     private void startObservation(ObserverContext observerContext) {
         observerContext.addProperty(PROPERTY_START_TIME, System.nanoTime());
-        Set<Tag> mainTags = observerContext.getMainTags();
         try {
-            getInprogressGauge(mainTags).increment();
+            Gauge inProgressGauge = getInprogressGauge(observerContext);
+            inProgressGauge.increment();
+            // main tags cannot change once the observation has started, so the gauge is reused on stop
+            observerContext.addProperty(PROPERTY_IN_PROGRESS_GAUGE, inProgressGauge);
         } catch (RuntimeException e) {
-            handleError("inprogress_requests", mainTags, e);
+            handleError("inprogress_requests", observerContext.getMainTags(), e);
         }
     }
 
     private void stopObservation(ObserverContext observerContext) {
-        Set<Tag> mainTags = observerContext.getMainTags();
-        Set<Tag> allTags = observerContext.getAllTags();
         try {
             Long startTime = (Long) observerContext.getProperty(PROPERTY_START_TIME);
             long duration = System.nanoTime() - startTime;
-            getInprogressGauge(mainTags).decrement();
-            metricRegistry.gauge(new MetricId("response_time_seconds", "Response time",
-                    allTags), responseTimeStatisticConfigs).setValue(duration / 1E9);
-            metricRegistry.counter(new MetricId("response_time_nanoseconds_total",
-                    "Total response response time for all requests", allTags)).increment(duration);
-            metricRegistry.counter(new MetricId("requests_total",
-                    "Total number of requests", allTags)).increment();
+            Gauge inProgressGauge = (Gauge) observerContext.getProperty(PROPERTY_IN_PROGRESS_GAUGE);
+            if (inProgressGauge == null) {
+                inProgressGauge = getInprogressGauge(observerContext);
+            }
+            inProgressGauge.decrement();
+            ResponseMetrics metrics = responseMetrics.get(observerContext, ResponseMetrics::new);
+            metrics.responseTime.setValue(duration / 1E9);
+            metrics.responseTimeTotal.increment(duration);
+            metrics.requests.increment();
         } catch (RuntimeException e) {
-            handleError("multiple metrics", allTags, e);
+            handleError("multiple metrics", observerContext.getAllTags(), e);
         }
     }
 
-    private Gauge getInprogressGauge(Set<Tag> tags) {
+    private Gauge getInprogressGauge(ObserverContext observerContext) {
+        return inProgressGauges.get(observerContext, BallerinaMetricsObserver::createInprogressGauge);
+    }
+
+    private static Gauge createInprogressGauge(Set<Tag> tags) {
         return metricRegistry.gauge(new MetricId("inprogress_requests", "In-progress requests", tags));
     }
 
@@ -115,4 +128,22 @@ public class BallerinaMetricsObserver implements BallerinaObserver {
         consoleError.println("error: error collecting metrics for " + metricName + " with tags " + tags +
                 ": " + e.getMessage());
     }
+
+    /**
+     * Metrics of the responses of the observations with a set of tags.
+     */
+    private static class ResponseMetrics {
+
+        private final Gauge responseTime;
+        private final Counter responseTimeTotal;
+        private final Counter requests;
+
+        private ResponseMetrics(Set<Tag> tags) {
+            responseTime = metricRegistry.gauge(new MetricId("response_time_seconds", "Response time", tags),
+                                                responseTimeStatisticConfigs);
+            responseTimeTotal = metricRegistry.counter(new MetricId("response_time_nanoseconds_total",
+                    "Total response response time for all requests", tags));
+            requests = metricRegistry.counter(new MetricId("requests_total", "Total number of requests", tags));
+        }
+    }
 }
@@ -18,6 +18,7 @@
 package org.ballerinalang.jvm.observability.metrics;
 
 import org.ballerinalang.config.ConfigRegistry;
+import org.ballerinalang.jvm.BLockStatistics;
 import org.ballerinalang.jvm.launch.LaunchListener;
 import org.ballerinalang.jvm.observability.ObserveUtils;
 import org.ballerinalang.jvm.observability.metrics.noop.NoOpMetricProvider;
@@ -129,6 +130,23 @@ public class MetricsLaunchListener implements LaunchListener {
 //                BLangScheduler.SchedulerStats::getWaitingForResponseWorkerCount).register();
 //        PolledGauge.builder(prefix + "waiting_for_lock_worker_count", schedulerStats,
 //                BLangScheduler.SchedulerStats::getWaitingForLockWorkerCount).register();
+        final BLockStatistics lockStats = BLockStatistics.getInstance();
+        final String lockPrefix = "ballerina_lock_";
+        PolledGauge.builder(lockPrefix + "acquisitions_total", lockStats,
+                BLockStatistics::getAcquisitionCount)
+                .description("Number of lock acquisitions").register();
+        PolledGauge.builder(lockPrefix + "contended_acquisitions_total", lockStats,
+                BLockStatistics::getContendedAcquisitionCount)
+                .description("Number of lock acquisitions that had to wait").register();
+        PolledGauge.builder(lockPrefix + "wait_time_nanoseconds_total", lockStats,
+                BLockStatistics::getWaitTimeNanos)
+                .description("Total time strands waited to acquire locks in nanoseconds").register();
+        PolledGauge.builder(lockPrefix + "waiting_strand_count", lockStats,
+                BLockStatistics::getWaitingStrandCount)
+                .description("Number of strands queued on locks").register();
+        PolledGauge.builder(lockPrefix + "deadlocks_total", lockStats,
+                BLockStatistics::getDetectedDeadlockCount)
+                .description("Number of deadlocks detected while acquiring locks").register();
     }
 
     @Override
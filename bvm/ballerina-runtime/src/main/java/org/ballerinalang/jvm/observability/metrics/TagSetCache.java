@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.jvm.observability.metrics;
+
+import org.ballerinalang.jvm.observability.ObserverContext;
+
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+
+/**
+ * Cache of values, such as metric handles, by the set of main tags or of all the tags of an {@link ObserverContext}.
+ * Values are looked up with the tags held by the observer context, so a lookup of a cached value neither creates the
+ * set of tags nor a metric id.
+ * <p>
+ * Lookups do not lock. Values are added under a lock, and are never removed, since the number of distinct sets of
+ * tags is bounded by the metrics registered for them.
+ *
+ * @param <V> type of the cached values
+ * @since 2.0.0
+ */
+class TagSetCache<V> {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final boolean allTags;
+    private volatile AtomicReferenceArray<Entry<V>> table = new AtomicReferenceArray<>(INITIAL_CAPACITY);
+    private int size;
+
+    /**
+     * Create a cache.
+     *
+     * @param allTags true to look up values by all the tags of observer contexts, and false to look up values by
+     *                the main tags
+     */
+    TagSetCache(boolean allTags) {
+        this.allTags = allTags;
+    }
+
+    /**
+     * Get the value for the tags of an observer context, creating it if it is not cached.
+     *
+     * @param observerContext observer context
+     * @param valueFunction   function that creates the value for a set of tags
+     * @return cached value
+     */
+    V get(ObserverContext observerContext, Function<Set<Tag>, V> valueFunction) {
+        int hash = allTags ? observerContext.getAllTagsHashCode() : observerContext.getMainTagsHashCode();
+        V value = find(table, hash, observerContext);
+        if (value != null) {
+            return value;
+        }
+
+        Set<Tag> tags = allTags ? observerContext.getAllTags() : observerContext.getMainTags();
+        synchronized (this) {
+            value = find(table, hash, observerContext);
+            if (value != null) {
+                return value;
+            }
+            value = valueFunction.apply(tags);
+            if (++size > table.length() * 3 / 4) {
+                resize();
+            }
+            AtomicReferenceArray<Entry<V>> entries = table;
+            int index = spread(hash) & (entries.length() - 1);
+            entries.set(index, new Entry<>(tags, hash, value, entries.get(index)));
+            return value;
+        }
+    }
+
+    private V find(AtomicReferenceArray<Entry<V>> entries, int hash, ObserverContext observerContext) {
+        Entry<V> entry = entries.get(spread(hash) & (entries.length() - 1));
+        while (entry != null) {
+            if (entry.hash == hash && (allTags ? observerContext.hasAllTags(entry.tags) :
+                    observerContext.hasMainTags(entry.tags))) {
+                return entry.value;
+            }
+            entry = entry.next;
+        }
+        return null;
+    }
+
+    private void resize() {
+        AtomicReferenceArray<Entry<V>> oldEntries = table;
+        AtomicReferenceArray<Entry<V>> newEntries = new AtomicReferenceArray<>(oldEntries.length() << 1);
+        int mask = newEntries.length() - 1;
+        for (int i = 0; i < oldEntries.length(); i++) {
+            for (Entry<V> entry = oldEntries.get(i); entry != null; entry = entry.next) {
+                int index = spread(entry.hash) & mask;
+                newEntries.set(index, new Entry<>(entry.tags, entry.hash, entry.value, newEntries.get(index)));
+            }
+        }
+        table = newEntries;
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * Immutable entry of a bucket of the cache.
+     */
+    private static class Entry<V> {
+
+        private final Set<Tag> tags;
+        private final int hash;
+        private final V value;
+        private final Entry<V> next;
+
+        private Entry(Set<Tag> tags, int hash, V value, Entry<V> next) {
+            this.tags = tags;
+            this.hash = hash;
+            this.value = value;
+            this.next = next;
+        }
+    }
+}
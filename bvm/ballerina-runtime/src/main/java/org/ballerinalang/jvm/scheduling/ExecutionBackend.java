@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.jvm.scheduling;
+
+/**
+ * Kinds of threads the {@link Scheduler} can execute strand groups on.
+ * This can be selected by setting the BALLERINA_EXECUTION_BACKEND system variable.
+ *
+ * @since 2.0.0
+ */
+public enum ExecutionBackend {
+
+    /**
+     * Strand groups run on the fixed pool of scheduler threads. A strand blocked in a Java call occupies one of
+     * the pool threads until the call returns.
+     */
+    PLATFORM_THREADS("platform"),
+
+    /**
+     * Each strand group taken from the run queue runs on a new JDK virtual thread, so strands blocked in Java calls
+     * do not hold on to the scheduler threads. Falls back to {@link #PLATFORM_THREADS} if the JVM does not support
+     * virtual threads.
+     */
+    VIRTUAL_THREADS("virtual");
+
+    private final String value;
+
+    ExecutionBackend(String value) {
+        this.value = value;
+    }
+
+    public String value() {
+        return value;
+    }
+
+    public static ExecutionBackend fromValue(String value) {
+        for (ExecutionBackend backend : values()) {
+            if (backend.value.equalsIgnoreCase(value)) {
+                return backend;
+            }
+        }
+        throw new IllegalArgumentException("unknown execution backend '" + value + "'");
+    }
+}
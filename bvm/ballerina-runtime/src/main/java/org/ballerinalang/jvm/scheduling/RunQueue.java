@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.jvm.scheduling;
+
+/**
+ * Holds the {@link ItemGroup}s that are ready to be picked by the scheduler threads.
+ *
+ * @since 2.0.0
+ */
+interface RunQueue {
+
+    /**
+     * Binds the calling thread to the given worker slot. Called once by each scheduler thread before it starts
+     * taking groups from the queue.
+     *
+     * @param workerId index of the scheduler thread
+     */
+    void register(int workerId);
+
+    /**
+     * Adds a group that is ready to be executed.
+     *
+     * @param group runnable group
+     */
+    void add(ItemGroup group);
+
+    /**
+     * Retrieves and removes a runnable group, waiting if none is available.
+     *
+     * @return runnable group
+     * @throws InterruptedException if interrupted while waiting
+     */
+    ItemGroup take() throws InterruptedException;
+
+    /**
+     * Returns the number of groups waiting to be executed.
+     *
+     * @return number of queued groups
+     */
+    int size();
+}
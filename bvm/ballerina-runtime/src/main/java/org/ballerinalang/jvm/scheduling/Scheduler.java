@@ -32,8 +32,7 @@ import java.io.PrintStream;
 import java.util.Map;
 import java.util.Set;
 import java.util.Stack;
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -58,7 +57,7 @@ public class Scheduler {
     /**
      * Strands that are ready for execution.
      */
-    private BlockingQueue<ItemGroup> runnableList = new LinkedBlockingDeque<>();
+    private final RunQueue runnableList;
 
     private static final ThreadLocal<StrandHolder> strandHolder = ThreadLocal.withInitial(StrandHolder::new);
 
@@ -74,6 +73,27 @@ public class Scheduler {
 
     private static int poolSize = Runtime.getRuntime().availableProcessors() * 2;
 
+    private static String policyConf = System.getenv(BLangConstants.BALLERINA_SCHEDULER_POLICY_ENV_VAR);
+
+    /**
+     * This can be changed by setting the BALLERINA_SCHEDULER_POLICY system variable.
+     * Default is {@link SchedulingPolicy#SHARED}.
+     */
+    private final SchedulingPolicy policy;
+
+    private static String backendConf = System.getenv(BLangConstants.BALLERINA_EXECUTION_BACKEND_ENV_VAR);
+
+    /**
+     * This can be changed by setting the BALLERINA_EXECUTION_BACKEND system variable.
+     * Default is {@link ExecutionBackend#PLATFORM_THREADS}.
+     */
+    private final ExecutionBackend backend;
+
+    /**
+     * Executor that runs the strand groups when using virtual threads. Null when groups run on the scheduler threads.
+     */
+    private final ExecutorService groupExecutor;
+
     private Semaphore mainBlockSem;
 
     public Scheduler(boolean immortal) {
@@ -88,11 +108,86 @@ public class Scheduler {
         }
         this.numThreads = poolSize;
         this.immortal = immortal;
+        this.policy = readPolicy();
+        this.runnableList = createRunQueue(policy, numThreads);
+        this.groupExecutor = createGroupExecutor(readBackend());
+        this.backend = groupExecutor == null ? ExecutionBackend.PLATFORM_THREADS : ExecutionBackend.VIRTUAL_THREADS;
     }
 
     public Scheduler(int numThreads, boolean immortal) {
+        this(numThreads, immortal, readPolicy());
+    }
+
+    public Scheduler(int numThreads, boolean immortal, SchedulingPolicy policy) {
+        this(numThreads, immortal, policy, readBackend());
+    }
+
+    public Scheduler(int numThreads, boolean immortal, SchedulingPolicy policy, ExecutionBackend backend) {
         this.numThreads = numThreads;
         this.immortal = immortal;
+        this.policy = policy;
+        this.runnableList = createRunQueue(policy, numThreads);
+        this.groupExecutor = createGroupExecutor(backend);
+        this.backend = groupExecutor == null ? ExecutionBackend.PLATFORM_THREADS : ExecutionBackend.VIRTUAL_THREADS;
+    }
+
+    private static SchedulingPolicy readPolicy() {
+        try {
+            if (policyConf != null) {
+                return SchedulingPolicy.fromValue(policyConf.trim());
+            }
+        } catch (Throwable t) {
+            // Log and continue with default
+            System.err.println("ballerina: error occurred in scheduler while reading system variable:" +
+                    BLangConstants.BALLERINA_SCHEDULER_POLICY_ENV_VAR + ", " + t.getMessage());
+        }
+        return SchedulingPolicy.SHARED;
+    }
+
+    private static ExecutionBackend readBackend() {
+        try {
+            if (backendConf != null) {
+                return ExecutionBackend.fromValue(backendConf.trim());
+            }
+        } catch (Throwable t) {
+            // Log and continue with default
+            System.err.println("ballerina: error occurred in scheduler while reading system variable:" +
+                    BLangConstants.BALLERINA_EXECUTION_BACKEND_ENV_VAR + ", " + t.getMessage());
+        }
+        return ExecutionBackend.PLATFORM_THREADS;
+    }
+
+    private static ExecutorService createGroupExecutor(ExecutionBackend backend) {
+        if (backend != ExecutionBackend.VIRTUAL_THREADS) {
+            return null;
+        }
+        ExecutorService executor = VirtualThreads.newExecutor();
+        if (executor == null) {
+            System.err.println("ballerina: virtual threads are not supported by the current JVM, " +
+                    "continuing with platform threads");
+        }
+        return executor;
+    }
+
+    private static RunQueue createRunQueue(SchedulingPolicy policy, int numThreads) {
+        if (policy == SchedulingPolicy.WORK_STEALING) {
+            return new WorkStealingRunQueue(numThreads);
+        }
+        return new SharedRunQueue();
+    }
+
+    public SchedulingPolicy getPolicy() {
+        return policy;
+    }
+
+    /**
+     * Returns the backend the strand groups are executed on. This is {@link ExecutionBackend#PLATFORM_THREADS} if
+     * virtual threads were requested but are not supported by the JVM.
+     *
+     * @return execution backend in use
+     */
+    public ExecutionBackend getBackend() {
+        return backend;
     }
 
     public static Strand getStrand() {
@@ -217,21 +312,26 @@ public class Scheduler {
     public void start() {
         this.mainBlockSem = new Semaphore(-(numThreads - 1));
         for (int i = 0; i < numThreads - 1; i++) {
-            new Thread(this::runSafely, "jbal-strand-exec-" + i).start();
+            final int workerId = i;
+            new Thread(() -> runSafely(workerId), "jbal-strand-exec-" + i).start();
         }
-        this.runSafely();
+        this.runSafely(numThreads - 1);
         try {
             this.mainBlockSem.acquire();
         } catch (InterruptedException e) {
             RuntimeUtils.printCrashLog(e);
         }
+        if (groupExecutor != null) {
+            groupExecutor.shutdown();
+        }
     }
 
     /**
      * Defensive programming to prevent unforeseen errors.
      */
-    private void runSafely() {
+    private void runSafely(int workerId) {
         try {
+            runnableList.register(workerId);
             run();
         } catch (Throwable t) {
             RuntimeUtils.printCrashLog(t);
@@ -243,7 +343,6 @@ public class Scheduler {
      */
     private void run() {
         while (true) {
-            SchedulerItem item;
             ItemGroup group;
             try {
                 group = runnableList.take();
@@ -256,35 +355,56 @@ public class Scheduler {
                 break;
             }
 
-            while (!group.items.empty()) {
-                Object result = null;
-                Throwable panic = null;
+            if (groupExecutor != null) {
+                // the scheduler threads only dispatch, a blocking strand parks its own virtual thread
+                groupExecutor.execute(() -> runGroupSafely(group));
+            } else {
+                runGroup(group);
+            }
+        }
+    }
 
-                item = group.get();
+    private void runGroupSafely(ItemGroup group) {
+        try {
+            runGroup(group);
+        } catch (Throwable t) {
+            RuntimeUtils.printCrashLog(t);
+        }
+    }
 
-                try {
-                    strandHolder.get().strand = item.future.strand;
-                    result = item.execute();
-                } catch (Throwable e) {
-                    panic = createError(e);
-                    notifyChannels(item, panic);
+    /**
+     * Executes the items of the given group until none of them is runnable.
+     */
+    private void runGroup(ItemGroup group) {
+        SchedulerItem item;
+        while (!group.items.empty()) {
+            Object result = null;
+            Throwable panic = null;
 
-                    if (!(panic instanceof ErrorValue)) {
-                        RuntimeUtils.printCrashLog(panic);
-                    }
-                    // Please refer #18763.
-                    // This logs cases where errors have occurred while strand is blocked.
-                    if (item.isYielded()) {
-                        RuntimeUtils.printCrashLog(panic);
-                    }
-                } finally {
-                    strandHolder.get().strand = null;
-                }
+            item = group.get();
 
-                postProcess(item, result, panic);
+            try {
+                strandHolder.get().strand = item.future.strand;
+                result = item.execute();
+            } catch (Throwable e) {
+                panic = createError(e);
+                notifyChannels(item, panic);
+
+                if (!(panic instanceof ErrorValue)) {
+                    RuntimeUtils.printCrashLog(panic);
+                }
+                // Please refer #18763.
+                // This logs cases where errors have occurred while strand is blocked.
+                if (item.isYielded()) {
+                    RuntimeUtils.printCrashLog(panic);
+                }
+            } finally {
+                strandHolder.get().strand = null;
             }
-            group.scheduled.set(false);
+
+            postProcess(item, result, panic);
         }
+        group.scheduled.set(false);
     }
 
     /**
@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.jvm.scheduling;
+
+/**
+ * Policies the {@link Scheduler} can use to distribute runnable strand groups among its threads.
+ * This can be selected by setting the BALLERINA_SCHEDULER_POLICY system variable.
+ *
+ * @since 2.0.0
+ */
+public enum SchedulingPolicy {
+
+    /**
+     * All the scheduler threads take work from a single shared queue.
+     */
+    SHARED("shared"),
+
+    /**
+     * Each scheduler thread has its own queue and steals from others once it runs out of work.
+     */
+    WORK_STEALING("work-stealing");
+
+    private final String value;
+
+    SchedulingPolicy(String value) {
+        this.value = value;
+    }
+
+    public String value() {
+        return value;
+    }
+
+    public static SchedulingPolicy fromValue(String value) {
+        for (SchedulingPolicy policy : values()) {
+            if (policy.value.equalsIgnoreCase(value)) {
+                return policy;
+            }
+        }
+        throw new IllegalArgumentException("unknown scheduling policy '" + value + "'");
+    }
+}
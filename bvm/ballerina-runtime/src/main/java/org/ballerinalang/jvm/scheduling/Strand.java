@@ -17,6 +17,7 @@
  */
 package org.ballerinalang.jvm.scheduling;
 
+import org.ballerinalang.jvm.BLock;
 import org.ballerinalang.jvm.StringUtils;
 import org.ballerinalang.jvm.TypeChecker;
 import org.ballerinalang.jvm.observability.ObserverContext;
@@ -65,6 +66,16 @@ public class Strand {
     public ObserverContext observerContext;
     public boolean cancel;
     public int threadId;
+    /**
+     * Locks held by this strand, one entry per hold not yet released. Created when the strand acquires its first
+     * lock.
+     */
+    public List<BLock> heldLocks;
+    /**
+     * Lock this strand is queued on, or null if it is not waiting for a lock.
+     */
+    public volatile BLock waitingForLock;
+    public long lockWaitStartTime;
 
     SchedulerItem schedulerItem;
     List<WaitContext> waitingContexts;
@@ -310,6 +321,10 @@ public class Strand {
         return (this.state.getStatus() & YIELD.getStatus()) == YIELD.getStatus();
     }
 
+    public boolean isInLock() {
+        return this.heldLocks != null && !this.heldLocks.isEmpty();
+    }
+
     public boolean isBlockedOnExtern() {
         return blockedOnExtern;
     }
@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.jvm.scheduling;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Looks up JDK virtual thread support reflectively, since the runtime is compiled against Java 8.
+ *
+ * @since 2.0.0
+ */
+class VirtualThreads {
+
+    private static final Method NEW_EXECUTOR_METHOD = lookupNewExecutorMethod();
+
+    private VirtualThreads() {
+    }
+
+    private static Method lookupNewExecutorMethod() {
+        try {
+            return Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+        } catch (NoSuchMethodException | SecurityException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Creates an executor that starts a new virtual thread for each task.
+     *
+     * @return the executor, or null if virtual threads are not available in the running JVM
+     */
+    static ExecutorService newExecutor() {
+        if (NEW_EXECUTOR_METHOD == null) {
+            return null;
+        }
+        try {
+            return (ExecutorService) NEW_EXECUTOR_METHOD.invoke(null);
+        } catch (Throwable t) {
+            // e.g. virtual threads are a preview feature which is not enabled
+            return null;
+        }
+    }
+}
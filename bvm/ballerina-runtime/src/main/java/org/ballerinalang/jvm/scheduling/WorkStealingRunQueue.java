@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.jvm.scheduling;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.Semaphore;
+
+/**
+ * {@link RunQueue} that keeps a separate deque per scheduler thread. Groups made runnable by a scheduler thread are
+ * placed on that thread's own deque, while groups submitted from any other thread go to a shared injection deque.
+ * A thread that runs out of local work takes from the injection deque and then steals from the other workers.
+ * <p>
+ * The number of queued groups is tracked with a semaphore so that an idle thread parks until there is work, and a
+ * thread that acquired a permit is guaranteed to find a group in one of the deques.
+ *
+ * @since 2.0.0
+ */
+class WorkStealingRunQueue implements RunQueue {
+
+    private final WorkerDeque[] workerDeques;
+    private final WorkerDeque injectionDeque = new WorkerDeque();
+    private final Semaphore available = new Semaphore(0);
+    private final ThreadLocal<Integer> workerIndex = new ThreadLocal<>();
+
+    WorkStealingRunQueue(int numThreads) {
+        this.workerDeques = new WorkerDeque[numThreads];
+        for (int i = 0; i < numThreads; i++) {
+            workerDeques[i] = new WorkerDeque();
+        }
+    }
+
+    @Override
+    public void register(int workerId) {
+        workerIndex.set(workerId);
+    }
+
+    @Override
+    public void add(ItemGroup group) {
+        Integer index = workerIndex.get();
+        if (index == null) {
+            injectionDeque.addLast(group);
+        } else {
+            workerDeques[index].addLast(group);
+        }
+        available.release();
+    }
+
+    @Override
+    public ItemGroup take() throws InterruptedException {
+        available.acquire();
+        Integer index = workerIndex.get();
+        int self = index == null ? -1 : index;
+        while (true) {
+            ItemGroup group;
+            if (self >= 0 && (group = workerDeques[self].pollFirst()) != null) {
+                return group;
+            }
+            if ((group = injectionDeque.pollFirst()) != null) {
+                return group;
+            }
+            if ((group = steal(self)) != null) {
+                return group;
+            }
+            // A permit is held, hence a group is still queued somewhere; it was only moved around while scanning.
+        }
+    }
+
+    private ItemGroup steal(int self) {
+        int numWorkers = workerDeques.length;
+        int start = self < 0 ? 0 : self + 1;
+        for (int i = 0; i < numWorkers; i++) {
+            int victim = (start + i) % numWorkers;
+            if (victim == self) {
+                continue;
+            }
+            ItemGroup group = workerDeques[victim].pollLast();
+            if (group != null) {
+                return group;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public int size() {
+        return available.availablePermits();
+    }
+
+    /**
+     * Array backed deque owned by a single worker. The owner takes from the head while other workers steal from the
+     * tail. Access is rarely contended, hence a monitor is sufficient and no node is allocated per group.
+     */
+    private static class WorkerDeque {
+
+        private final ArrayDeque<ItemGroup> groups = new ArrayDeque<>();
+
+        synchronized void addLast(ItemGroup group) {
+            groups.addLast(group);
+        }
+
+        synchronized ItemGroup pollFirst() {
+            return groups.pollFirst();
+        }
+
+        synchronized ItemGroup pollLast() {
+            return groups.pollLast();
+        }
+    }
+}
@@ -48,6 +48,8 @@ public class TransactionLocalContext {
     private Object rollbackOnlyError;
     private Object transactionData;
     private BArray transactionId;
+    private Object infoRecord;
+    private TransactionResources transactionResources;
 
     private TransactionLocalContext(String globalTransactionId, String url, String protocol, Object infoRecord) {
         this.globalTransactionId = globalTransactionId;
@@ -61,7 +63,10 @@ public class TransactionLocalContext {
         this.transactionFailure = new Stack<>();
         this.rollbackOnlyError = null;
         this.transactionId = BValueCreator.createArrayValue(globalTransactionId.getBytes());
-        transactionResourceManager.transactionInfoMap.put(transactionId, infoRecord);
+        this.infoRecord = infoRecord;
+        if (infoRecord != null) {
+            transactionResourceManager.transactionInfoMap.put(transactionId, infoRecord);
+        }
     }
 
     public static TransactionLocalContext createTransactionParticipantLocalCtx(String globalTransactionId,
@@ -162,6 +167,20 @@ public class TransactionLocalContext {
 
     public void removeTransactionInfo() {
         transactionResourceManager.transactionInfoMap.remove(transactionId);
+        transactionResourceManager.removeTransactionResources(globalTransactionId);
+    }
+
+    /**
+     * Get the resources and handler functions registered with this transaction. They are looked up once, and then
+     * reached from the strand running the transaction.
+     *
+     * @return the resources of the transaction
+     */
+    TransactionResources getTransactionResources() {
+        if (transactionResources == null) {
+            transactionResources = transactionResourceManager.getTransactionResources(globalTransactionId);
+        }
+        return transactionResources;
     }
 
     public void notifyLocalParticipantFailure() {
@@ -228,7 +247,7 @@ public class TransactionLocalContext {
     }
 
     public Object getInfoRecord() {
-        return transactionResourceManager.transactionInfoMap.get(transactionId);
+        return infoRecord;
     }
 
     /**
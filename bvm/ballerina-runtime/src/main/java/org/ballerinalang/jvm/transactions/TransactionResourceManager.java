@@ -24,8 +24,6 @@ import org.ballerinalang.jvm.values.api.BArray;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -40,6 +38,10 @@ import static javax.transaction.xa.XAResource.TMSUCCESS;
 
 /**
  * {@code TransactionResourceManager} registry for transaction contexts.
+ * <p>
+ * The resources and handler functions of each transaction are kept in its own {@link TransactionResources}, which are
+ * looked up by the transaction id in a concurrent map, or reached through the {@link TransactionLocalContext} of the
+ * strand running the transaction. Hence concurrent transactions neither share nor lock a registry.
  *
  * @since 1.0
  */
@@ -47,24 +49,16 @@ public class TransactionResourceManager {
 
     private static TransactionResourceManager transactionResourceManager = null;
     private static final Logger log = LoggerFactory.getLogger(TransactionResourceManager.class);
-    private Map<String, List<BallerinaTransactionContext>> resourceRegistry;
-    private Map<String, Xid> xidRegistry;
-
-    private Map<String, List<FPValue>> committedFuncRegistry;
-    private Map<String, List<FPValue>> abortedFuncRegistry;
+    // key - transaction id
+    private final Map<String, TransactionResources> transactionResources = new ConcurrentHashMap<>();
 
     private ConcurrentSkipListSet<String> failedResourceParticipantSet = new ConcurrentSkipListSet<>();
     private ConcurrentSkipListSet<String> failedLocalParticipantSet = new ConcurrentSkipListSet<>();
     private ConcurrentHashMap<String, ConcurrentSkipListSet<String>> localParticipants = new ConcurrentHashMap<>();
 
-    public Map<BArray, Object> transactionInfoMap;
+    public final Map<BArray, Object> transactionInfoMap = new ConcurrentHashMap<>();
 
     private TransactionResourceManager() {
-        resourceRegistry = new HashMap<>();
-        xidRegistry = new HashMap<>();
-        committedFuncRegistry = new HashMap<>();
-        abortedFuncRegistry = new HashMap<>();
-        transactionInfoMap = new HashMap<>();
     }
 
     public static TransactionResourceManager getInstance() {
@@ -86,31 +80,30 @@ public class TransactionResourceManager {
      * @param txContext          ballerina transaction context which includes the underlying connection info
      */
     public void register(String transactionId, String transactionBlockId, BallerinaTransactionContext txContext) {
-        String combinedId = generateCombinedTransactionId(transactionId, transactionBlockId);
-        resourceRegistry.computeIfAbsent(combinedId, resourceList -> new ArrayList<>()).add(txContext);
+        getTransactionResources(transactionId).addResource(transactionBlockId, txContext);
     }
 
     /**
      * This method will register a committed function handler of a particular transaction.
      *
-     * @param transactionBlockId the block id of the transaction
-     * @param fpValue   the function pointer for the committed function
+     * @param transactionId the global transaction id
+     * @param fpValue       the function pointer for the committed function
      */
-    public void registerCommittedFunction(String transactionBlockId, FPValue fpValue) {
+    public void registerCommittedFunction(String transactionId, FPValue fpValue) {
         if (fpValue != null) {
-            committedFuncRegistry.computeIfAbsent(transactionBlockId, list -> new ArrayList<>()).add(fpValue);
+            getTransactionResources(transactionId).addCommittedFunction(fpValue);
         }
     }
 
     /**
      * This method will register an aborted function handler of a particular transaction.
      *
-     * @param transactionBlockId the block id of the transaction
-     * @param fpValue   the function pointer for the aborted function
+     * @param transactionId the global transaction id
+     * @param fpValue       the function pointer for the aborted function
      */
-    public void registerAbortedFunction(String transactionBlockId, FPValue fpValue) {
+    public void registerAbortedFunction(String transactionId, FPValue fpValue) {
         if (fpValue != null) {
-            abortedFuncRegistry.computeIfAbsent(transactionBlockId, list -> new ArrayList<>()).add(fpValue);
+            getTransactionResources(transactionId).addAbortedFunction(fpValue);
         }
     }
 
@@ -129,8 +122,9 @@ public class TransactionResourceManager {
         localParticipants.computeIfAbsent(gTransactionId, gid -> new ConcurrentSkipListSet<>()).add(transactionBlockId);
 
         TransactionLocalContext transactionLocalContext = strand.currentTrxContext;
-        registerCommittedFunction(transactionBlockId, committed);
-        registerAbortedFunction(transactionBlockId, aborted);
+        // The handlers are kept with the resources of the global transaction, which are removed when it ends.
+        registerCommittedFunction(gTransactionId, committed);
+        registerAbortedFunction(gTransactionId, aborted);
         transactionLocalContext.beginTransactionBlock(transactionBlockId);
     }
 
@@ -142,18 +136,18 @@ public class TransactionResourceManager {
      * @return the status of the prepare operation
      */
     public boolean prepare(String transactionId, String transactionBlockId) {
-        String combinedId = generateCombinedTransactionId(transactionId, transactionBlockId);
-        List<BallerinaTransactionContext> txContextList = resourceRegistry.get(combinedId);
-        if (txContextList != null) {
-            for (BallerinaTransactionContext ctx : txContextList) {
+        TransactionResources resources = transactionResources.get(transactionId);
+        if (resources != null) {
+            for (BallerinaTransactionContext ctx : resources.getResources(transactionBlockId)) {
                 try {
                     XAResource xaResource = ctx.getXAResource();
                     if (xaResource != null) {
-                        Xid xid = xidRegistry.get(combinedId);
+                        Xid xid = resources.getXid(transactionBlockId);
                         xaResource.prepare(xid);
                     }
                 } catch (Throwable e) {
-                    log.error("error in prepare the transaction, " + combinedId + ":" + e.getMessage(), e);
+                    log.error("error in prepare the transaction, " + generateCombinedTransactionId(transactionId,
+                            transactionBlockId) + ":" + e.getMessage(), e);
                     return false;
                 }
             }
@@ -177,29 +171,29 @@ public class TransactionResourceManager {
      * @return the status of the commit operation
      */
     public boolean notifyCommit(Strand strand, String transactionId, String transactionBlockId) {
-        String combinedId = generateCombinedTransactionId(transactionId, transactionBlockId);
+        TransactionResources resources = findTransactionResources(strand, transactionId);
         boolean commitSuccess = true;
-        List<BallerinaTransactionContext> txContextList = resourceRegistry.get(combinedId);
-        if (txContextList != null) {
-            for (BallerinaTransactionContext ctx : txContextList) {
+        if (resources != null) {
+            for (BallerinaTransactionContext ctx : resources.getResources(transactionBlockId)) {
                 try {
                     XAResource xaResource = ctx.getXAResource();
                     if (xaResource != null) {
-                        Xid xid = xidRegistry.get(combinedId);
+                        Xid xid = resources.getXid(transactionBlockId);
                         xaResource.commit(xid, false);
                     } else {
                         ctx.commit();
                     }
                 } catch (Throwable e) {
-                    log.error("error in commit the transaction, " + combinedId + ":" + e.getMessage(), e);
+                    log.error("error in commit the transaction, " + generateCombinedTransactionId(transactionId,
+                            transactionBlockId) + ":" + e.getMessage(), e);
                     commitSuccess = false;
                 } finally {
                     ctx.close();
                 }
             }
+            invokeCommittedFunction(strand, resources);
+            resources.removeResources(transactionBlockId);
         }
-        invokeCommittedFunction(strand, transactionId, transactionBlockId);
-        removeContextsFromRegistry(combinedId, transactionId);
         failedResourceParticipantSet.remove(transactionId);
         failedLocalParticipantSet.remove(transactionId);
         localParticipants.remove(transactionId);
@@ -216,34 +210,35 @@ public class TransactionResourceManager {
      * @return the status of the abort operation
      */
     public boolean notifyAbort(Strand strand, String transactionId, String transactionBlockId, Object error) {
-        String combinedId = generateCombinedTransactionId(transactionId, transactionBlockId);
+        TransactionResources resources = findTransactionResources(strand, transactionId);
         boolean abortSuccess = true;
-        List<BallerinaTransactionContext> txContextList = resourceRegistry.get(combinedId);
-        if (txContextList != null) {
-            for (BallerinaTransactionContext ctx : txContextList) {
+        if (resources != null) {
+            for (BallerinaTransactionContext ctx : resources.getResources(transactionBlockId)) {
                 try {
                     XAResource xaResource = ctx.getXAResource();
-                    Xid xid = xidRegistry.get(combinedId);
+                    Xid xid = resources.getXid(transactionBlockId);
                     if (xaResource != null) {
                         ctx.getXAResource().rollback(xid);
                     } else {
                         ctx.rollback();
                     }
                 } catch (Throwable e) {
-                    log.error("error in abort the transaction, " + combinedId + ":" + e.getMessage(), e);
+                    log.error("error in abort the transaction, " + generateCombinedTransactionId(transactionId,
+                            transactionBlockId) + ":" + e.getMessage(), e);
                     abortSuccess = false;
                 } finally {
                     ctx.close();
                 }
             }
-        }
-        //For the retry  attempt failures the aborted function should not be invoked. It should invoked only when the
-        //whole transaction aborts after all the retry attempts.
+            //For the retry  attempt failures the aborted function should not be invoked. It should invoked only when
+            //the whole transaction aborts after all the retry attempts.
 
-        // todo: Temporaraly disabling abort functions as there is no clear way to separate rollback and full abort.
+            // todo: Temporaraly disabling abort functions as there is no clear way to separate rollback and full
+            // abort.
 
-        invokeAbortedFunction(strand, transactionId, transactionBlockId, error);
-        removeContextsFromRegistry(combinedId, transactionId);
+            invokeAbortedFunction(strand, resources, error);
+            resources.removeResources(transactionBlockId);
+        }
         failedResourceParticipantSet.remove(transactionId);
         failedLocalParticipantSet.remove(transactionId);
         localParticipants.remove(transactionId);
@@ -259,17 +254,12 @@ public class TransactionResourceManager {
      * @param xaResource         the XA resource which participates in the transaction
      */
     public void beginXATransaction(String transactionId, String transactionBlockId, XAResource xaResource) {
-        String combinedId = generateCombinedTransactionId(transactionId, transactionBlockId);
-        Xid xid = xidRegistry.get(combinedId);
-        if (xid == null) {
-            xid = XIDGenerator.createXID();
-            xidRegistry.put(combinedId, xid);
-        }
+        Xid xid = getTransactionResources(transactionId).getOrCreateXid(transactionBlockId);
         try {
             xaResource.start(xid, TMNOFLAGS);
         } catch (XAException e) {
-            throw new BallerinaException("error in starting the XA transaction: id: " + combinedId + " error:" + e
-                    .getMessage());
+            throw new BallerinaException("error in starting the XA transaction: id: " +
+                    generateCombinedTransactionId(transactionId, transactionBlockId) + " error:" + e.getMessage());
         }
     }
 
@@ -280,21 +270,19 @@ public class TransactionResourceManager {
      * @param transactionBlockId the block id of the transaction
      */
     void endXATransaction(String transactionId, String transactionBlockId) {
-        String combinedId = generateCombinedTransactionId(transactionId, transactionBlockId);
-        Xid xid = xidRegistry.get(combinedId);
+        TransactionResources resources = transactionResources.get(transactionId);
+        Xid xid = resources != null ? resources.getXid(transactionBlockId) : null;
         if (xid != null) {
-            List<BallerinaTransactionContext> txContextList = resourceRegistry.get(combinedId);
-            if (txContextList != null) {
-                for (BallerinaTransactionContext ctx : txContextList) {
-                    try {
-                        XAResource xaResource = ctx.getXAResource();
-                        if (xaResource != null) {
-                            ctx.getXAResource().end(xid, TMSUCCESS);
-                        }
-                    } catch (Throwable e) {
-                        throw new BallerinaException(
-                                "error in ending the XA transaction: id: " + combinedId + " error:" + e.getMessage());
+            for (BallerinaTransactionContext ctx : resources.getResources(transactionBlockId)) {
+                try {
+                    XAResource xaResource = ctx.getXAResource();
+                    if (xaResource != null) {
+                        ctx.getXAResource().end(xid, TMSUCCESS);
                     }
+                } catch (Throwable e) {
+                    throw new BallerinaException("error in ending the XA transaction: id: " +
+                            generateCombinedTransactionId(transactionId, transactionBlockId) + " error:" +
+                            e.getMessage());
                 }
             }
         }
@@ -305,19 +293,43 @@ public class TransactionResourceManager {
         notifyAbort(strand, transactionId, transactionBlockId, error);
     }
 
-    private void removeContextsFromRegistry(String transactionCombinedId, String gTransactionId) {
-        resourceRegistry.remove(transactionCombinedId);
-        xidRegistry.remove(transactionCombinedId);
+    /**
+     * Get the resources of a transaction, creating them if the transaction has none yet.
+     *
+     * @param transactionId the transaction id
+     * @return the resources of the transaction
+     */
+    TransactionResources getTransactionResources(String transactionId) {
+        return transactionResources.computeIfAbsent(transactionId, id -> new TransactionResources());
+    }
+
+    // The strand ending a transaction usually runs it, in which case its resources are reached without a lookup.
+    // Returns null if nothing is registered with the transaction.
+    private TransactionResources findTransactionResources(Strand strand, String transactionId) {
+        TransactionLocalContext transactionLocalContext = strand.currentTrxContext;
+        if (transactionLocalContext != null && transactionId.equals(transactionLocalContext.getGlobalTransactionId())) {
+            return transactionLocalContext.getTransactionResources();
+        }
+        return transactionResources.get(transactionId);
+    }
+
+    /**
+     * Remove the resources and handler functions of a transaction which has ended.
+     *
+     * @param transactionId the transaction id
+     */
+    void removeTransactionResources(String transactionId) {
+        transactionResources.remove(transactionId);
     }
 
     private String generateCombinedTransactionId(String transactionId, String transactionBlockId) {
         return transactionId + ":" + transactionBlockId;
     }
 
-    private void invokeCommittedFunction(Strand strand, String transactionId, String transactionBlockId) {
-        List<FPValue> fpValueList = committedFuncRegistry.get(transactionId);
-        Object[] args = { strand, strand.currentTrxContext.getInfoRecord(), true };
-        if (fpValueList != null) {
+    private void invokeCommittedFunction(Strand strand, TransactionResources resources) {
+        List<FPValue> fpValueList = resources.getCommittedFunctions();
+        if (!fpValueList.isEmpty()) {
+            Object[] args = { strand, strand.currentTrxContext.getInfoRecord(), true };
             for (int i = fpValueList.size(); i > 0; i--) {
                 FPValue fp = fpValueList.get(i - 1);
                 //TODO: Replace fp.getFunction().apply
@@ -328,11 +340,11 @@ public class TransactionResourceManager {
         }
     }
 
-    private void invokeAbortedFunction(Strand strand, String transactionId, String transactionBlockId, Object error) {
-        List<FPValue> fpValueList = abortedFuncRegistry.get(transactionId);
-        //TODO: Need to pass the retryManager to get the willRetry value.
-        Object[] args = { strand, strand.currentTrxContext.getInfoRecord(), true, error, true, false, true };
-        if (fpValueList != null) {
+    private void invokeAbortedFunction(Strand strand, TransactionResources resources, Object error) {
+        List<FPValue> fpValueList = resources.getAbortedFunctions();
+        if (!fpValueList.isEmpty()) {
+            //TODO: Need to pass the retryManager to get the willRetry value.
+            Object[] args = { strand, strand.currentTrxContext.getInfoRecord(), true, error, true, false, true };
             for (int i = fpValueList.size(); i > 0; i--) {
                 FPValue fp = fpValueList.get(i - 1);
                 //TODO: Replace fp.getFunction().apply
@@ -0,0 +1,84 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.jvm.transactions;
+
+import org.ballerinalang.jvm.values.FPValue;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import javax.transaction.xa.Xid;
+
+/**
+ * {@code TransactionResources} holds the resources, XIDs and handler functions registered with a transaction.
+ * <p>
+ * The strand which started the transaction reaches it through its {@link TransactionLocalContext}, and the other
+ * strands through the {@link TransactionResourceManager}. As the participants of a transaction may run on different
+ * strands, its registries are safe for concurrent access.
+ *
+ * @since 2.0.0
+ */
+class TransactionResources {
+
+    // key - transaction block id
+    private final Map<String, List<BallerinaTransactionContext>> resources = new ConcurrentHashMap<>();
+    private final Map<String, Xid> xids = new ConcurrentHashMap<>();
+
+    private final List<FPValue> committedFunctions = new CopyOnWriteArrayList<>();
+    private final List<FPValue> abortedFunctions = new CopyOnWriteArrayList<>();
+
+    void addResource(String transactionBlockId, BallerinaTransactionContext txContext) {
+        resources.computeIfAbsent(transactionBlockId, blockId -> new CopyOnWriteArrayList<>()).add(txContext);
+    }
+
+    List<BallerinaTransactionContext> getResources(String transactionBlockId) {
+        return resources.getOrDefault(transactionBlockId, Collections.emptyList());
+    }
+
+    Xid getXid(String transactionBlockId) {
+        return xids.get(transactionBlockId);
+    }
+
+    Xid getOrCreateXid(String transactionBlockId) {
+        return xids.computeIfAbsent(transactionBlockId, blockId -> XIDGenerator.createXID());
+    }
+
+    void removeResources(String transactionBlockId) {
+        resources.remove(transactionBlockId);
+        xids.remove(transactionBlockId);
+    }
+
+    void addCommittedFunction(FPValue fpValue) {
+        committedFunctions.add(fpValue);
+    }
+
+    List<FPValue> getCommittedFunctions() {
+        return committedFunctions;
+    }
+
+    void addAbortedFunction(FPValue fpValue) {
+        abortedFunctions.add(fpValue);
+    }
+
+    List<FPValue> getAbortedFunctions() {
+        return abortedFunctions;
+    }
+}
@@ -91,6 +91,7 @@ public class BallerinaErrorReasons {
     public static final String FUTURE_CANCELLED = getModulePrefixedReason(FUTURE_LANG_LIB, "FutureAlreadyCancelled");
 
     public static final String ASYNC_CALL_INSIDE_LOCK = BALLERINA_PREFIX.concat("AsyncCallInsideLockError");
+    public static final String LOCK_DEADLOCK_ERROR = BALLERINA_PREFIX.concat("LockDeadlockError");
 
     public static String getModulePrefixedReason(String moduleName, String identifier) {
         return BALLERINA_ORG_PREFIX.concat(moduleName).concat(CLOSING_CURLY_BRACE).concat(identifier);
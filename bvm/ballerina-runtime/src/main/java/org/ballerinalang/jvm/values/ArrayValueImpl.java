@@ -42,6 +42,7 @@ import java.util.Objects;
 import java.util.StringJoiner;
 import java.util.stream.IntStream;
 
+import static org.ballerinalang.jvm.StringUtils.compareCodePoints;
 import static org.ballerinalang.jvm.util.BLangConstants.ARRAY_LANG_LIB;
 import static org.ballerinalang.jvm.util.exceptions.BallerinaErrorReasons.INDEX_OUT_OF_RANGE_ERROR_IDENTIFIER;
 import static org.ballerinalang.jvm.util.exceptions.BallerinaErrorReasons.INHERENT_TYPE_VIOLATION_ERROR_IDENTIFIER;
@@ -68,6 +69,12 @@ public class ArrayValueImpl extends AbstractArrayValue {
     private byte[] byteValues;
     private double[] floatValues;
     private BString[] bStringValues;
+
+    // Index of the first member in the backing array. Shifting the first member of an unsealed array and
+    // unshifting members to its front move the head instead of the members, so that arrays used as queues take
+    // amortized constant time per operation.
+    private int head;
+
     // ------------------------ Constructors -------------------------------------------------------------------
 
     @Deprecated
@@ -213,18 +220,18 @@ public class ArrayValueImpl extends AbstractArrayValue {
             case TypeTags.UNSIGNED32_INT_TAG:
             case TypeTags.UNSIGNED16_INT_TAG:
             case TypeTags.UNSIGNED8_INT_TAG:
-                return intValues[(int) index];
+                return intValues[head + (int) index];
             case TypeTags.BOOLEAN_TAG:
-                return booleanValues[(int) index];
+                return booleanValues[head + (int) index];
             case TypeTags.BYTE_TAG:
-                return Byte.toUnsignedInt(byteValues[(int) index]);
+                return Byte.toUnsignedInt(byteValues[head + (int) index]);
             case TypeTags.FLOAT_TAG:
-                return floatValues[(int) index];
+                return floatValues[head + (int) index];
             case TypeTags.STRING_TAG:
             case TypeTags.CHAR_STRING_TAG:
-                    return bStringValues[(int) index];
+                    return bStringValues[head + (int) index];
             default:
-                return refValues[(int) index];
+                return refValues[head + (int) index];
         }
     }
 
@@ -238,7 +245,7 @@ public class ArrayValueImpl extends AbstractArrayValue {
     public Object getRefValue(long index) {
         rangeCheckForGet(index, size);
         if (refValues != null) {
-            return refValues[(int) index];
+            return refValues[head + (int) index];
         }
         return get(index);
     }
@@ -251,7 +258,7 @@ public class ArrayValueImpl extends AbstractArrayValue {
                 handleImmutableArrayValue();
                 fillRead(index, refValues.length);
             }
-            return refValues[(int) index];
+            return refValues[head + (int) index];
         }
         return get(index);
     }
@@ -266,11 +273,11 @@ public class ArrayValueImpl extends AbstractArrayValue {
     public long getInt(long index) {
         rangeCheckForGet(index, size);
         if (intValues != null) {
-            return intValues[(int) index];
+            return intValues[head + (int) index];
         } else if (refValues != null) {
-            return (Long) refValues[(int) index];
+            return (Long) refValues[head + (int) index];
         }
-        return Byte.toUnsignedInt(byteValues[(int) index]);
+        return Byte.toUnsignedInt(byteValues[head + (int) index]);
     }
 
     /**
@@ -283,9 +290,9 @@ public class ArrayValueImpl extends AbstractArrayValue {
     public boolean getBoolean(long index) {
         rangeCheckForGet(index, size);
         if (booleanValues != null) {
-            return booleanValues[(int) index];
+            return booleanValues[head + (int) index];
         }
-        return (Boolean) refValues[(int) index];
+        return (Boolean) refValues[head + (int) index];
     }
 
     /**
@@ -298,9 +305,9 @@ public class ArrayValueImpl extends AbstractArrayValue {
     public byte getByte(long index) {
         rangeCheckForGet(index, size);
         if (byteValues != null) {
-            return byteValues[(int) index];
+            return byteValues[head + (int) index];
         }
-        return ((Integer) refValues[(int) index]).byteValue();
+        return ((Integer) refValues[head + (int) index]).byteValue();
     }
 
     /**
@@ -313,9 +320,9 @@ public class ArrayValueImpl extends AbstractArrayValue {
     public double getFloat(long index) {
         rangeCheckForGet(index, size);
         if (floatValues != null) {
-            return floatValues[(int) index];
+            return floatValues[head + (int) index];
         }
-        return (Double) refValues[(int) index];
+        return (Double) refValues[head + (int) index];
     }
 
     /**
@@ -329,9 +336,9 @@ public class ArrayValueImpl extends AbstractArrayValue {
     public String getString(long index) {
         rangeCheckForGet(index, size);
         if (bStringValues != null) {
-            return bStringValues[(int) index].getValue();
+            return bStringValues[head + (int) index].getValue();
         }
-        return (String) refValues[(int) index];
+        return (String) refValues[head + (int) index];
     }
 
     /**
@@ -344,9 +351,9 @@ public class ArrayValueImpl extends AbstractArrayValue {
     public BString getBString(long index) {
         rangeCheckForGet(index, size);
         if (bStringValues != null) {
-            return bStringValues[(int) index];
+            return bStringValues[head + (int) index];
         }
-        return (BString) refValues[(int) index];
+        return (BString) refValues[head + (int) index];
     }
 
     // ---------------------------- add methods --------------------------------------------------
@@ -441,15 +448,15 @@ public class ArrayValueImpl extends AbstractArrayValue {
         switch (this.elementType.getTag()) {
             case TypeTags.BOOLEAN_TAG:
                 prepareForAdd(index, value, type, booleanValues.length);
-                this.booleanValues[(int) index] = (Boolean) value;
+                this.booleanValues[head + (int) index] = (Boolean) value;
                 return;
             case TypeTags.FLOAT_TAG:
                 prepareForAdd(index, value, type, floatValues.length);
-                this.floatValues[(int) index] = (Double) value;
+                this.floatValues[head + (int) index] = (Double) value;
                 return;
             case TypeTags.BYTE_TAG:
                 prepareForAdd(index, value, type, byteValues.length);
-                this.byteValues[(int) index] = ((Number) value).byteValue();
+                this.byteValues[head + (int) index] = ((Number) value).byteValue();
                 return;
             case TypeTags.INT_TAG:
             case TypeTags.SIGNED32_INT_TAG:
@@ -459,43 +466,43 @@ public class ArrayValueImpl extends AbstractArrayValue {
             case TypeTags.UNSIGNED16_INT_TAG:
             case TypeTags.UNSIGNED8_INT_TAG:
                 prepareForAdd(index, value, type, intValues.length);
-                this.intValues[(int) index] = (Long) value;
+                this.intValues[head + (int) index] = (Long) value;
                 return;
             case TypeTags.STRING_TAG:
             case TypeTags.CHAR_STRING_TAG:
                 prepareForAdd(index, value, type, bStringValues.length);
-                this.bStringValues[(int) index] = (BString) value;
+                this.bStringValues[head + (int) index] = (BString) value;
                 return;
             default:
                 prepareForAdd(index, value, type, refValues.length);
-                this.refValues[(int) index] = value;
+                this.refValues[head + (int) index] = value;
         }
     }
 
     public void addInt(long index, long value) {
         if (intValues != null) {
             prepareForAdd(index, value, BTypes.typeInt, intValues.length);
-            intValues[(int) index] = value;
+            intValues[head + (int) index] = value;
             return;
         }
 
         prepareForAdd(index, value, TypeChecker.getType(value), byteValues.length);
-        byteValues[(int) index] = (byte) ((Long) value).intValue();
+        byteValues[head + (int) index] = (byte) ((Long) value).intValue();
     }
 
     private void addBoolean(long index, boolean value) {
         prepareForAdd(index, value, BTypes.typeBoolean, booleanValues.length);
-        booleanValues[(int) index] = value;
+        booleanValues[head + (int) index] = value;
     }
 
     private void addByte(long index, byte value) {
         prepareForAdd(index, value, BTypes.typeByte, byteValues.length);
-        byteValues[(int) index] = value;
+        byteValues[head + (int) index] = value;
     }
 
     private void addFloat(long index, double value) {
         prepareForAdd(index, value, BTypes.typeFloat, floatValues.length);
-        floatValues[(int) index] = value;
+        floatValues[head + (int) index] = value;
     }
 
     @Deprecated
@@ -505,7 +512,7 @@ public class ArrayValueImpl extends AbstractArrayValue {
 
     private void addBString(long index, BString value) {
         prepareForAdd(index, value, BTypes.typeString, bStringValues.length);
-        bStringValues[(int) index] = value;
+        bStringValues[head + (int) index] = value;
     }
 
     // -------------------------------------------------------------------------------------------------------------
@@ -524,7 +531,7 @@ public class ArrayValueImpl extends AbstractArrayValue {
     public Object shift(long index) {
         handleImmutableArrayValue();
         Object val = get(index);
-        shiftArray((int) index, getArrayFromType(this.elementType.getTag()));
+        shiftArray((int) index);
         return val;
     }
 
@@ -555,33 +562,33 @@ public class ArrayValueImpl extends AbstractArrayValue {
             case TypeTags.UNSIGNED16_INT_TAG:
             case TypeTags.UNSIGNED8_INT_TAG:
                 for (int i = 0; i < size; i++) {
-                    sj.add(Long.toString(intValues[i]));
+                    sj.add(Long.toString(intValues[head + i]));
                 }
                 break;
             case TypeTags.BOOLEAN_TAG:
                 for (int i = 0; i < size; i++) {
-                    sj.add(Boolean.toString(booleanValues[i]));
+                    sj.add(Boolean.toString(booleanValues[head + i]));
                 }
                 break;
             case TypeTags.BYTE_TAG:
                 for (int i = 0; i < size; i++) {
-                    sj.add(Long.toString(Byte.toUnsignedLong(byteValues[i])));
+                    sj.add(Long.toString(Byte.toUnsignedLong(byteValues[head + i])));
                 }
                 break;
             case TypeTags.FLOAT_TAG:
                 for (int i = 0; i < size; i++) {
-                    sj.add(Double.toString(floatValues[i]));
+                    sj.add(Double.toString(floatValues[head + i]));
                 }
                 break;
             case TypeTags.STRING_TAG:
             case TypeTags.CHAR_STRING_TAG:
                 for (int i = 0; i < size; i++) {
-                    sj.add(bStringValues[i].getValue());
+                    sj.add(bStringValues[head + i].getValue());
                 }
                 break;
             default:
                 for (int i = 0; i < size; i++) {
-                    sj.add(StringUtils.getStringValue(refValues[i]));
+                    sj.add(StringUtils.getStringValue(refValues[head + i]));
                 }
                 break;
         }
@@ -622,26 +629,26 @@ public class ArrayValueImpl extends AbstractArrayValue {
             case TypeTags.UNSIGNED32_INT_TAG:
             case TypeTags.UNSIGNED16_INT_TAG:
             case TypeTags.UNSIGNED8_INT_TAG:
-                valueArray = new ArrayValueImpl(Arrays.copyOf(intValues, this.size));
+                valueArray = new ArrayValueImpl(Arrays.copyOfRange(intValues, head, head + this.size));
                 break;
             case TypeTags.BOOLEAN_TAG:
-                valueArray = new ArrayValueImpl(Arrays.copyOf(booleanValues, this.size));
+                valueArray = new ArrayValueImpl(Arrays.copyOfRange(booleanValues, head, head + this.size));
                 break;
             case TypeTags.BYTE_TAG:
-                valueArray = new ArrayValueImpl(Arrays.copyOf(byteValues, this.size));
+                valueArray = new ArrayValueImpl(Arrays.copyOfRange(byteValues, head, head + this.size));
                 break;
             case TypeTags.FLOAT_TAG:
-                valueArray = new ArrayValueImpl(Arrays.copyOf(floatValues, this.size));
+                valueArray = new ArrayValueImpl(Arrays.copyOfRange(floatValues, head, head + this.size));
                 break;
             case TypeTags.STRING_TAG:
             case TypeTags.CHAR_STRING_TAG:
-                valueArray = new ArrayValueImpl(Arrays.copyOf(bStringValues, this.size));
+                valueArray = new ArrayValueImpl(Arrays.copyOfRange(bStringValues, head, head + this.size));
                 break;
             default:
                 Object[] values = new Object[this.size];
                 valueArray = new ArrayValueImpl(values, arrayType);
                 IntStream.range(0, this.size).forEach(i -> {
-                    Object value = this.refValues[i];
+                    Object value = this.refValues[head + i];
                     if (value instanceof RefValue) {
                         values[i] = ((RefValue) value).copy(refs);
                     } else {
@@ -684,28 +691,28 @@ public class ArrayValueImpl extends AbstractArrayValue {
             case TypeTags.UNSIGNED16_INT_TAG:
             case TypeTags.UNSIGNED8_INT_TAG:
                 slicedArray = new ArrayValueImpl(new long[slicedSize]);
-                System.arraycopy(intValues, (int) startIndex, slicedArray.intValues, 0, slicedSize);
+                System.arraycopy(intValues, head + (int) startIndex, slicedArray.intValues, 0, slicedSize);
                 break;
             case TypeTags.BOOLEAN_TAG:
                 slicedArray = new ArrayValueImpl(new boolean[slicedSize]);
-                System.arraycopy(booleanValues, (int) startIndex, slicedArray.booleanValues, 0, slicedSize);
+                System.arraycopy(booleanValues, head + (int) startIndex, slicedArray.booleanValues, 0, slicedSize);
                 break;
             case TypeTags.BYTE_TAG:
                 slicedArray = new ArrayValueImpl(new byte[slicedSize]);
-                System.arraycopy(byteValues, (int) startIndex, slicedArray.byteValues, 0, slicedSize);
+                System.arraycopy(byteValues, head + (int) startIndex, slicedArray.byteValues, 0, slicedSize);
                 break;
             case TypeTags.FLOAT_TAG:
                 slicedArray = new ArrayValueImpl(new double[slicedSize]);
-                System.arraycopy(floatValues, (int) startIndex, slicedArray.floatValues, 0, slicedSize);
+                System.arraycopy(floatValues, head + (int) startIndex, slicedArray.floatValues, 0, slicedSize);
                 break;
             case TypeTags.STRING_TAG:
             case TypeTags.CHAR_STRING_TAG:
                 slicedArray = new ArrayValueImpl(new BString[slicedSize]);
-                System.arraycopy(bStringValues, (int) startIndex, slicedArray.bStringValues, 0, slicedSize);
+                System.arraycopy(bStringValues, head + (int) startIndex, slicedArray.bStringValues, 0, slicedSize);
                 break;
             default:
                 slicedArray = new ArrayValueImpl(new Object[slicedSize], new BArrayType(this.elementType));
-                System.arraycopy(refValues, (int) startIndex, slicedArray.refValues, 0, slicedSize);
+                System.arraycopy(refValues, head + (int) startIndex, slicedArray.refValues, 0, slicedSize);
                 break;
         }
         return slicedArray;
@@ -717,13 +724,16 @@ public class ArrayValueImpl extends AbstractArrayValue {
     }
 
     /**
-     * Get ref values array.
+     * Get a copy of ref values array.
      * 
-     * @return ref value array
+     * @return ref value array, or null if the array holds values of a simple basic type
      */
     @Override
     public Object[] getValues() {
-        return refValues;
+        if (refValues == null) {
+            return null;
+        }
+        return Arrays.copyOfRange(refValues, head, head + size);
     }
 
     /**
@@ -734,7 +744,7 @@ public class ArrayValueImpl extends AbstractArrayValue {
     @Override
     public byte[] getBytes() {
         byte[] bytes = new byte[this.size];
-        System.arraycopy(byteValues, 0, bytes, 0, this.size);
+        System.arraycopy(byteValues, head, bytes, 0, this.size);
         return bytes;
     }
 
@@ -747,13 +757,13 @@ public class ArrayValueImpl extends AbstractArrayValue {
     public String[] getStringArray() {
         String[] arr = new String[size];
         for (int i = 0; i < size; i++) {
-            arr[i] = bStringValues[i].getValue();
+            arr[i] = bStringValues[head + i].getValue();
         }
         return arr;
     }
 
     public long[] getLongArray() {
-        return Arrays.copyOf(intValues, size);
+        return Arrays.copyOfRange(intValues, head, head + size);
     }
 
     /**
@@ -763,7 +773,57 @@ public class ArrayValueImpl extends AbstractArrayValue {
      */
     @Override
     public long[] getIntArray() {
-        return Arrays.copyOf(intValues, size);
+        return Arrays.copyOfRange(intValues, head, head + size);
+    }
+
+    /**
+     * Sort the members of an int, float or string array in ascending order, on the backing array itself. Floats are
+     * ordered as by {@link Double#compare(double, double)} and strings by their code points. Members which are equal
+     * keep their relative order.
+     *
+     * @param parallel whether to sort the members using the threads of the common fork join pool
+     * @return false if the element type has no natural order, in which case the array is not modified
+     */
+    public boolean sortMembers(boolean parallel) {
+        int from = head;
+        int to = head + size;
+        switch (this.elementType.getTag()) {
+            case TypeTags.INT_TAG:
+            case TypeTags.SIGNED32_INT_TAG:
+            case TypeTags.SIGNED16_INT_TAG:
+            case TypeTags.SIGNED8_INT_TAG:
+            case TypeTags.UNSIGNED32_INT_TAG:
+            case TypeTags.UNSIGNED16_INT_TAG:
+            case TypeTags.UNSIGNED8_INT_TAG:
+                handleImmutableArrayValue();
+                if (parallel) {
+                    Arrays.parallelSort(intValues, from, to);
+                } else {
+                    Arrays.sort(intValues, from, to);
+                }
+                return true;
+            case TypeTags.FLOAT_TAG:
+                handleImmutableArrayValue();
+                if (parallel) {
+                    Arrays.parallelSort(floatValues, from, to);
+                } else {
+                    Arrays.sort(floatValues, from, to);
+                }
+                return true;
+            case TypeTags.STRING_TAG:
+            case TypeTags.CHAR_STRING_TAG:
+                handleImmutableArrayValue();
+                // Both sorts of object arrays are stable merge sorts.
+                if (parallel) {
+                    Arrays.parallelSort(bStringValues, from, to,
+                                        (s1, s2) -> compareCodePoints(s1.getValue(), s2.getValue()));
+                } else {
+                    Arrays.sort(bStringValues, from, to, (s1, s2) -> compareCodePoints(s1.getValue(), s2.getValue()));
+                }
+                return true;
+            default:
+                return false;
+        }
     }
 
     @Override
@@ -771,7 +831,7 @@ public class ArrayValueImpl extends AbstractArrayValue {
         if (this.elementType.getTag() == TypeTags.BYTE_TAG) {
             try {
                 for (int i = 0; i < this.size; i++) {
-                    outputStream.write(this.byteValues[i]);
+                    outputStream.write(this.byteValues[head + i]);
                 }
             } catch (IOException e) {
                 throw new BallerinaException("error occurred while writing the binary content to the output stream", e);
@@ -827,33 +887,7 @@ public class ArrayValueImpl extends AbstractArrayValue {
 
     @Override
     protected void resizeInternalArray(int newLength) {
-        switch (this.elementType.getTag()) {
-            case TypeTags.INT_TAG:
-            case TypeTags.SIGNED32_INT_TAG:
-            case TypeTags.SIGNED16_INT_TAG:
-            case TypeTags.SIGNED8_INT_TAG:
-            case TypeTags.UNSIGNED32_INT_TAG:
-            case TypeTags.UNSIGNED16_INT_TAG:
-            case TypeTags.UNSIGNED8_INT_TAG:
-                intValues = Arrays.copyOf(intValues, newLength);
-                break;
-            case TypeTags.BOOLEAN_TAG:
-                booleanValues = Arrays.copyOf(booleanValues, newLength);
-                break;
-            case TypeTags.BYTE_TAG:
-                byteValues = Arrays.copyOf(byteValues, newLength);
-                break;
-            case TypeTags.FLOAT_TAG:
-                floatValues = Arrays.copyOf(floatValues, newLength);
-                break;
-            case TypeTags.STRING_TAG:
-            case TypeTags.CHAR_STRING_TAG:
-                bStringValues = Arrays.copyOf(bStringValues, newLength);
-                break;
-            default:
-                refValues = Arrays.copyOf(refValues, newLength);
-                break;
-        }
+        moveMembers(newLength, 0);
     }
 
     @Override
@@ -864,7 +898,7 @@ public class ArrayValueImpl extends AbstractArrayValue {
 
         switch (this.elementType.getTag()) {
             case TypeTags.STRING_TAG:
-                Arrays.fill(bStringValues, size, index, BLangConstants.STRING_EMPTY_VALUE);
+                Arrays.fill(bStringValues, head + size, head + index, BLangConstants.STRING_EMPTY_VALUE);
                 return;
             case TypeTags.INT_TAG:
             case TypeTags.SIGNED32_INT_TAG:
@@ -880,7 +914,7 @@ public class ArrayValueImpl extends AbstractArrayValue {
             default:
                 if (arrayType.hasFillerValue()) {
                     for (int i = size; i < index; i++) {
-                        this.refValues[i] = this.elementType.getZeroValue();
+                        this.refValues[head + i] = this.elementType.getZeroValue();
                     }
                 }
         }
@@ -957,7 +991,11 @@ public class ArrayValueImpl extends AbstractArrayValue {
     @Override
     protected void unshift(long index, ArrayValue vals) {
         handleImmutableArrayValue();
-        unshiftArray(index, vals.size(), getCurrentArrayLength());
+        if (index == 0 && this.arrayType.getState() == ArrayState.UNSEALED) {
+            unshiftHead(vals.size());
+        } else {
+            unshiftArray(index, vals.size(), getCurrentArrayLength());
+        }
 
         int startIndex = (int) index;
         int endIndex = startIndex + vals.size();
@@ -981,7 +1019,7 @@ public class ArrayValueImpl extends AbstractArrayValue {
         int intIndex = (int) index;
         rangeCheck(index, size);
         fillerValueCheck(intIndex, size);
-        ensureCapacity(intIndex + 1, currentArraySize);
+        ensureCapacity(intIndex + 1, currentArraySize - head);
         fillValues(intIndex);
         resetSize(intIndex);
     }
@@ -994,7 +1032,7 @@ public class ArrayValueImpl extends AbstractArrayValue {
 
         int intIndex = (int) index;
         rangeCheck(index, size);
-        ensureCapacity(intIndex + 1, currentArraySize);
+        ensureCapacity(intIndex + 1, currentArraySize - head);
 
         switch (this.elementType.getTag()) {
             case TypeTags.INT_TAG:
@@ -1003,11 +1041,11 @@ public class ArrayValueImpl extends AbstractArrayValue {
             case TypeTags.BOOLEAN_TAG:
                 break;
             case TypeTags.STRING_TAG:
-                Arrays.fill(bStringValues, size, intIndex, BLangConstants.STRING_EMPTY_VALUE);
+                Arrays.fill(bStringValues, head + size, head + intIndex, BLangConstants.STRING_EMPTY_VALUE);
                 break;
             default:
                 for (int i = size; i <= index; i++) {
-                    this.refValues[i] = this.elementType.getZeroValue();
+                    this.refValues[head + i] = this.elementType.getZeroValue();
                 }
         }
 
@@ -1025,16 +1063,27 @@ public class ArrayValueImpl extends AbstractArrayValue {
         }
     }
 
-    private void shiftArray(int index, Object arr) {
+    private void shiftArray(int index) {
+        if (index == 0 && this.arrayType.getState() == ArrayState.UNSEALED) {
+            clearMembers(head, head + 1);
+            this.size--;
+            this.head = this.size == 0 ? 0 : this.head + 1;
+            return;
+        }
+
+        Object arr = getArrayFromType(this.elementType.getTag());
         int nElemsToBeMoved = this.size - 1 - index;
         if (nElemsToBeMoved >= 0) {
-            System.arraycopy(arr, index + 1, arr, index, nElemsToBeMoved);
+            System.arraycopy(arr, head + index + 1, arr, head + index, nElemsToBeMoved);
         }
         this.size--;
+        // reset the vacated slot, since members added past the end rely on the slots beyond the size being unused
+        clearMembers(head + this.size, head + this.size + 1);
     }
 
     private void unshiftArray(long index, int unshiftByN, int arrLength) {
-        int lastIndex = size() + unshiftByN - 1;
+        int currentSize = size;
+        int lastIndex = currentSize + unshiftByN - 1;
         prepareForConsecutiveMultiAdd(lastIndex, arrLength);
         Object arr = getArrayFromType(elementType.getTag());
 
@@ -1045,7 +1094,116 @@ public class ArrayValueImpl extends AbstractArrayValue {
         }
 
         int i = (int) index;
-        System.arraycopy(arr, i, arr, i + unshiftByN, this.size - i);
+        System.arraycopy(arr, head + i, arr, head + i + unshiftByN, currentSize - i);
+    }
+
+    /**
+     * Makes room for the given number of members at the front of the array by moving the head. When there are not
+     * enough free slots before the head, the members are moved to a new backing array that leaves a gap at the
+     * front proportional to the size, so that repeated unshifts take amortized constant time.
+     *
+     * @param unshiftByN number of members to make room for
+     */
+    private void unshiftHead(int unshiftByN) {
+        if (unshiftByN == 0) {
+            return;
+        }
+        rangeCheck((long) size + unshiftByN - 1, size);
+
+        if (head < unshiftByN) {
+            int newHead = unshiftByN + (size >> 1);
+            int freeSlotsAtEnd = getCurrentArrayLength() - size;
+            moveMembers((int) Math.min((long) newHead + size + freeSlotsAtEnd, Integer.MAX_VALUE), newHead);
+        }
+        head -= unshiftByN;
+        size += unshiftByN;
+    }
+
+    /**
+     * Moves the members to a new backing array of the given length, starting from the given index.
+     *
+     * @param newLength length of the new backing array
+     * @param newHead   index of the first member in the new backing array
+     */
+    private void moveMembers(int newLength, int newHead) {
+        int nMembers = Math.max(Math.min(size, newLength - newHead), 0);
+        switch (this.elementType.getTag()) {
+            case TypeTags.INT_TAG:
+            case TypeTags.SIGNED32_INT_TAG:
+            case TypeTags.SIGNED16_INT_TAG:
+            case TypeTags.SIGNED8_INT_TAG:
+            case TypeTags.UNSIGNED32_INT_TAG:
+            case TypeTags.UNSIGNED16_INT_TAG:
+            case TypeTags.UNSIGNED8_INT_TAG:
+                long[] ints = new long[newLength];
+                System.arraycopy(intValues, head, ints, newHead, nMembers);
+                intValues = ints;
+                break;
+            case TypeTags.BOOLEAN_TAG:
+                boolean[] booleans = new boolean[newLength];
+                System.arraycopy(booleanValues, head, booleans, newHead, nMembers);
+                booleanValues = booleans;
+                break;
+            case TypeTags.BYTE_TAG:
+                byte[] bytes = new byte[newLength];
+                System.arraycopy(byteValues, head, bytes, newHead, nMembers);
+                byteValues = bytes;
+                break;
+            case TypeTags.FLOAT_TAG:
+                double[] floats = new double[newLength];
+                System.arraycopy(floatValues, head, floats, newHead, nMembers);
+                floatValues = floats;
+                break;
+            case TypeTags.STRING_TAG:
+            case TypeTags.CHAR_STRING_TAG:
+                BString[] strings = new BString[newLength];
+                System.arraycopy(bStringValues, head, strings, newHead, nMembers);
+                bStringValues = strings;
+                break;
+            default:
+                Object[] refs = new Object[newLength];
+                System.arraycopy(refValues, head, refs, newHead, nMembers);
+                refValues = refs;
+                break;
+        }
+        head = newHead;
+    }
+
+    /**
+     * Resets the slots of the backing array in the given range, so that they hold neither stale values nor
+     * references to removed members.
+     *
+     * @param from index of the first slot, inclusive
+     * @param to   index of the last slot, exclusive
+     */
+    private void clearMembers(int from, int to) {
+        switch (this.elementType.getTag()) {
+            case TypeTags.INT_TAG:
+            case TypeTags.SIGNED32_INT_TAG:
+            case TypeTags.SIGNED16_INT_TAG:
+            case TypeTags.SIGNED8_INT_TAG:
+            case TypeTags.UNSIGNED32_INT_TAG:
+            case TypeTags.UNSIGNED16_INT_TAG:
+            case TypeTags.UNSIGNED8_INT_TAG:
+                Arrays.fill(intValues, from, to, 0L);
+                break;
+            case TypeTags.BOOLEAN_TAG:
+                Arrays.fill(booleanValues, from, to, false);
+                break;
+            case TypeTags.BYTE_TAG:
+                Arrays.fill(byteValues, from, to, (byte) 0);
+                break;
+            case TypeTags.FLOAT_TAG:
+                Arrays.fill(floatValues, from, to, 0.0);
+                break;
+            case TypeTags.STRING_TAG:
+            case TypeTags.CHAR_STRING_TAG:
+                Arrays.fill(bStringValues, from, to, null);
+                break;
+            default:
+                Arrays.fill(refValues, from, to, null);
+                break;
+        }
     }
 
     private Object getArrayFromType(int typeTag) {
@@ -1072,6 +1230,11 @@ public class ArrayValueImpl extends AbstractArrayValue {
         }
     }
 
+    /**
+     * Get the number of members the backing array can hold without resizing, counting from the head.
+     *
+     * @return capacity of the backing array from the head
+     */
     private int getCurrentArrayLength() {
         switch (elementType.getTag()) {
             case TypeTags.INT_TAG:
@@ -1081,18 +1244,18 @@ public class ArrayValueImpl extends AbstractArrayValue {
             case TypeTags.UNSIGNED32_INT_TAG:
             case TypeTags.UNSIGNED16_INT_TAG:
             case TypeTags.UNSIGNED8_INT_TAG:
-                return intValues.length;
+                return intValues.length - head;
             case TypeTags.BOOLEAN_TAG:
-                return booleanValues.length;
+                return booleanValues.length - head;
             case TypeTags.BYTE_TAG:
-                return byteValues.length;
+                return byteValues.length - head;
             case TypeTags.FLOAT_TAG:
-                return floatValues.length;
+                return floatValues.length - head;
             case TypeTags.STRING_TAG:
             case TypeTags.CHAR_STRING_TAG:
-                return bStringValues.length;
+                return bStringValues.length - head;
             default:
-                return refValues.length;
+                return refValues.length - head;
         }
     }
 
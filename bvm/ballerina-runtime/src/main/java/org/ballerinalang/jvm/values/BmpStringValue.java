@@ -51,12 +51,12 @@ package org.ballerinalang.jvm.values;
      @Override
      public BString concat(BString str) {
          if (str instanceof BmpStringValue) {
-             return new BmpStringValue(this.value + ((BmpStringValue) str).value);
-         } else if (str instanceof NonBmpStringValue) {
-             return new NonBmpStringValue(this.value + str.getValue(), ((NonBmpStringValue) str).getSurrogates());
-         } else {
-             throw new RuntimeException("not impl yet");
+             String other = ((BmpStringValue) str).value;
+             if (this.value.length() + other.length() < ConcatStringValue.MIN_LENGTH) {
+                 return new BmpStringValue(this.value.concat(other));
+             }
          }
+         return ConcatStringValue.concat(this, str);
      }
 
      @Override
@@ -0,0 +1,195 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.jvm.values;
+
+import org.ballerinalang.jvm.StringUtils;
+import org.ballerinalang.jvm.values.api.BString;
+
+/**
+ * Represent ballerina strings that are the result of a concatenation. The characters are held in a
+ * {@link StringBuilder}, which is shared with the strings that are created by concatenating to this string, so that
+ * building a string with repeated concatenations takes amortized linear time instead of quadratic time. A string is
+ * materialized into a {@link BmpStringValue} or a {@link NonBmpStringValue} only when its characters are read.
+ * <p>
+ * Only the string which holds all the characters of the builder appends to it. Concatenating to any other string
+ * created from the same builder copies its characters to a new builder. A materialized string drops its reference to
+ * the builder, and concatenating to it starts a new builder.
+ *
+ * @since 2.0.0
+ */
+public class ConcatStringValue implements StringValue {
+
+    // strings shorter than this are concatenated eagerly, since a builder costs more than copying them
+    static final int MIN_LENGTH = 64;
+
+    // null once the string is materialized
+    private volatile StringBuilder builder;
+    private final int charLength;
+    private final int length;
+    private volatile BString value;
+
+    private ConcatStringValue(StringBuilder builder, int charLength, int length) {
+        this.builder = builder;
+        this.charLength = charLength;
+        this.length = length;
+    }
+
+    /**
+     * Concatenate two strings.
+     *
+     * @param str1 first string
+     * @param str2 second string
+     * @return concatenated string
+     */
+    static BString concat(BString str1, BString str2) {
+        String value1 = str1.getValue();
+        String value2 = str2.getValue();
+        if (value2.isEmpty()) {
+            return str1;
+        }
+        if (value1.isEmpty()) {
+            return str2;
+        }
+
+        int length = str1.length() + str2.length();
+        int charLength = value1.length() + value2.length();
+        if (charLength < MIN_LENGTH) {
+            return materialize(value1.concat(value2), length);
+        }
+        StringBuilder builder = new StringBuilder(getCapacity(charLength));
+        builder.append(value1).append(value2);
+        return new ConcatStringValue(builder, charLength, length);
+    }
+
+    @Override
+    public String getValue() {
+        return materialize().getValue();
+    }
+
+    @Override
+    public int getCodePoint(int index) {
+        return materialize().getCodePoint(index);
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public BString concat(BString str) {
+        // read the other string before locking the builder, so that no two builders are locked at once
+        String other = str.getValue();
+        if (other.isEmpty()) {
+            return this;
+        }
+
+        StringBuilder builder = this.builder;
+        if (builder == null) {
+            return concat(materialize(), str);
+        }
+
+        int newLength = this.length + str.length();
+        int newCharLength = this.charLength + other.length();
+        synchronized (builder) {
+            if (builder.length() == charLength) {
+                builder.append(other);
+                return new ConcatStringValue(builder, newCharLength, newLength);
+            }
+        }
+
+        // a different string has already been appended to the builder
+        StringBuilder copy = new StringBuilder(getCapacity(newCharLength));
+        synchronized (builder) {
+            copy.append(builder, 0, charLength);
+        }
+        copy.append(other);
+        return new ConcatStringValue(copy, newCharLength, newLength);
+    }
+
+    @Override
+    public String stringValue() {
+        return getValue();
+    }
+
+    @Override
+    public int hashCode() {
+        return getValue().hashCode();
+    }
+
+    @Override
+    public boolean equals(Object str) {
+        if (str == this) {
+            return true;
+        }
+        if (str instanceof BString) {
+            return ((BString) str).getValue().equals(getValue());
+        }
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return getValue();
+    }
+
+    @Override
+    public Long indexOf(BString str, int fromIndex) {
+        return materialize().indexOf(str, fromIndex);
+    }
+
+    @Override
+    public Long lastIndexOf(BString str, int fromIndex) {
+        return materialize().lastIndexOf(str, fromIndex);
+    }
+
+    @Override
+    public BString substring(int beginIndex, int endIndex) {
+        return materialize().substring(beginIndex, endIndex);
+    }
+
+    private BString materialize() {
+        BString materialized = this.value;
+        if (materialized != null) {
+            return materialized;
+        }
+        StringBuilder builder = this.builder;
+        if (builder == null) {
+            // the value is set before the builder is dropped
+            return this.value;
+        }
+        String chars;
+        synchronized (builder) {
+            chars = builder.substring(0, charLength);
+        }
+        materialized = materialize(chars, length);
+        this.value = materialized;
+        this.builder = null;
+        return materialized;
+    }
+
+    private static BString materialize(String value, int length) {
+        // strings with as many characters as code points have no surrogate pairs
+        return value.length() == length ? new BmpStringValue(value) : StringUtils.fromString(value);
+    }
+
+    private static int getCapacity(int charLength) {
+        int capacity = charLength << 1;
+        return capacity < 0 ? charLength : capacity;
+    }
+}
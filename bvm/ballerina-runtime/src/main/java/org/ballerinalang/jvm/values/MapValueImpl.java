@@ -79,9 +79,13 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
         BMap<K, V> {
 
     private static final long serialVersionUID = 1L;
+    private static final int DEFAULT_INITIAL_CAPACITY = 16;
     private TypedescValue typedesc;
     private BType type;
-    private final Map<String, Object> nativeData = new HashMap<>();
+    /**
+     * Created on first use since only a few values, e.g. listener configs, carry native data.
+     */
+    private Map<String, Object> nativeData;
     private BType iteratorNextReturnType;
 
     public MapValueImpl(TypedescValue typedesc) {
@@ -95,7 +99,7 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
     }
 
     public MapValueImpl(BType type, MappingInitialValueEntry[] initialValues) {
-        super();
+        super(getInitialCapacity(initialValues));
         this.type = type;
         populateInitialValues(initialValues);
     }
@@ -105,6 +109,27 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
         type = BTypes.typeMap;
     }
 
+    /**
+     * Sizes the hash table for the entries of the mapping constructor, rather than the default of 16 buckets.
+     * The table itself is allocated on the first insert, hence record fields stored in the generated fields of
+     * the record class do not allocate it at all.
+     */
+    private static int getInitialCapacity(MappingInitialValueEntry[] initialValues) {
+        int expectedSize = 0;
+        for (MappingInitialValueEntry initialValue : initialValues) {
+            if (initialValue.isKeyValueEntry()) {
+                expectedSize++;
+            } else {
+                expectedSize += ((MappingInitialValueEntry.SpreadFieldEntry) initialValue).values.size();
+            }
+        }
+        if (expectedSize == 0) {
+            return DEFAULT_INITIAL_CAPACITY;
+        }
+        // keep the entries below the default load factor of 0.75
+        return expectedSize < 3 ? expectedSize + 1 : (int) (expectedSize / 0.75f + 1.0f);
+    }
+
     public Long getIntValue(BString key) {
         return (Long) get(key);
     }
@@ -500,7 +525,7 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
      * @param data value to be added.
      */
     public void addNativeData(String key, Object data) {
-        nativeData.put(key, data);
+        getNativeDataMap().put(key, data);
     }
 
     /**
@@ -509,7 +534,7 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
      * @return value for the given key.
      */
     public Object getNativeData(String key) {
-        return nativeData.get(key);
+        return nativeData == null ? null : nativeData.get(key);
     }
 
     @Override
@@ -523,6 +548,9 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
      * @return nativeData map
      */
     public Map<String, Object> getNativeDataMap() {
+        if (this.nativeData == null) {
+            this.nativeData = new HashMap<>();
+        }
         return this.nativeData;
     }
 
@@ -29,23 +29,25 @@ import org.ballerinalang.jvm.types.BTableType;
 import org.ballerinalang.jvm.types.BTupleType;
 import org.ballerinalang.jvm.types.BType;
 import org.ballerinalang.jvm.types.TypeTags;
+import org.ballerinalang.jvm.util.Flags;
 import org.ballerinalang.jvm.util.exceptions.BLangFreezeException;
 import org.ballerinalang.jvm.values.api.BIterator;
+import org.ballerinalang.jvm.values.api.BString;
 import org.ballerinalang.jvm.values.api.BValueCreator;
 
 import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.Iterator;
-import java.util.LinkedHashMap;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.NavigableMap;
 import java.util.Set;
 import java.util.StringJoiner;
-import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.TreeMap;
 
 import static org.ballerinalang.jvm.util.BLangConstants.TABLE_LANG_LIB;
 import static org.ballerinalang.jvm.util.exceptions.BallerinaErrorReasons.INHERENT_TYPE_VIOLATION_ERROR_IDENTIFIER;
@@ -56,6 +58,12 @@ import static org.ballerinalang.jvm.util.exceptions.BallerinaErrorReasons.getMod
 
 /**
  * The runtime representation of table.
+ * <p>
+ * Rows are kept in insertion order in a pair of slot arrays, one for the keys and one for the values. A removed row
+ * leaves an empty slot behind, and the rows are compacted once more than half of the slots are empty. Iterators
+ * created before a compaction follow the moved rows through the slot mapping of the compaction. Rows of a keyed table
+ * are looked up through an open addressing index from the hash of the key to the slot of the row. Optionally,
+ * secondary indexes can be added on read-only fields of the rows.
  *
  * @param <K> the type of keys maintained by this map
  * @param <V> the type of mapped values
@@ -64,32 +72,35 @@ import static org.ballerinalang.jvm.util.exceptions.BallerinaErrorReasons.getMod
  */
 public class TableValueImpl<K, V> implements TableValue<K, V> {
 
+    private static final int INITIAL_CAPACITY = 16;
+    // The rows are compacted when the empty slots are more than this fraction of the used slots
+    private static final float MAX_EMPTY_SLOT_RATIO = 0.5f;
+
     private BTableType type;
     private BType iteratorNextReturnType;
-    private ConcurrentHashMap<Long, Map.Entry<K, V>> entries;
-    private LinkedHashMap<Long, V> values;
-    private LinkedHashMap<Long, K> keys;
     private String[] fieldNames;
     private ValueHolder valueHolder;
     private long maxIntKey = 0;
 
-    //These are required to achieve the iterator behavior
-    private LinkedHashMap<Long, Long> indexToKeyMap;
-    private LinkedHashMap<Long, Long> keyToIndexMap;
-    private long noOfAddedEntries = 0;
+    // Row store, slot i holds the i-th added row. Keys are not stored for key-less tables.
+    private Object[] rowKeys;
+    private Object[] rowValues;
+    private int noOfAddedEntries = 0;
+    private int size = 0;
+    private final KeyIndex keyIndex = new KeyIndex();
+    private Map<String, SecondaryIndex> secondaryIndexes;
+    // Iterators created after the last compaction refer to this, older ones move their position through the chain
+    private Compaction lastCompaction = new Compaction();
 
     private boolean nextKeySupported;
 
     public TableValueImpl(BTableType type) {
         this.type = type;
 
-        this.entries = new ConcurrentHashMap<>();
-        this.keys = new LinkedHashMap<>();
-        this.values = new LinkedHashMap<>();
-        this.keyToIndexMap = new LinkedHashMap<>();
-        this.indexToKeyMap = new LinkedHashMap<>();
+        this.rowValues = new Object[INITIAL_CAPACITY];
         this.fieldNames = type.getFieldNames();
         if (type.getFieldNames() != null) {
+            this.rowKeys = new Object[INITIAL_CAPACITY];
             this.valueHolder = new KeyHashValueHolder();
         } else {
             this.valueHolder = new ValueHolder();
@@ -154,14 +165,12 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
     }
 
     protected void handleFrozenTableValue() {
-        synchronized (this) {
-            try {
-                if (this.type.isReadOnly()) {
-                    ReadOnlyUtils.handleInvalidUpdate(TABLE_LANG_LIB);
-                }
-            } catch (BLangFreezeException e) {
-                throw BallerinaErrors.createError(e.getMessage(), e.getDetail());
+        try {
+            if (this.type.isReadOnly()) {
+                ReadOnlyUtils.handleInvalidUpdate(TABLE_LANG_LIB);
             }
+        } catch (BLangFreezeException e) {
+            throw BallerinaErrors.createError(e.getMessage(), e.getDetail());
         }
     }
 
@@ -201,23 +210,41 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
     @Override
     public Set<Map.Entry<K, V>> entrySet() {
-        return new LinkedHashSet<>(entries.values());
+        Set<Map.Entry<K, V>> entrySet = new LinkedHashSet<>();
+        for (int i = 0; i < noOfAddedEntries; i++) {
+            if (rowValues[i] != null) {
+                entrySet.add(new AbstractMap.SimpleEntry<>((K) getRowKey(i), (V) rowValues[i]));
+            }
+        }
+        return entrySet;
     }
 
     @Override
     public Collection<V> values() {
-        return values.values();
+        List<V> values = new ArrayList<>(size);
+        for (int i = 0; i < noOfAddedEntries; i++) {
+            if (rowValues[i] != null) {
+                values.add((V) rowValues[i]);
+            }
+        }
+        return values;
     }
 
     @Override
     public void clear() {
         handleFrozenTableValue();
-        entries.clear();
-        keys.clear();
-        values.clear();
-        keyToIndexMap.clear();
-        indexToKeyMap.clear();
+        rowValues = new Object[INITIAL_CAPACITY];
+        if (rowKeys != null) {
+            rowKeys = new Object[INITIAL_CAPACITY];
+        }
+        keyIndex.clear();
+        if (secondaryIndexes != null) {
+            secondaryIndexes.values().forEach(SecondaryIndex::clear);
+        }
+        // every row is removed, hence the iterators continue from the first row added after this
+        lastCompaction = lastCompaction.chain(new int[noOfAddedEntries + 1]);
         noOfAddedEntries = 0;
+        size = 0;
     }
 
     @Override
@@ -242,7 +269,7 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
                     "Defined key sequence is not supported with nextKey(). "
                             + "The key sequence should only have an Integer field.");
         }
-        return keys.size() == 0 ? 0 : (this.maxIntKey + 1);
+        return size == 0 ? 0 : (this.maxIntKey + 1);
     }
 
     public BType getKeyType() {
@@ -269,17 +296,27 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
     @Override
     public K[] getKeys() {
-        return (K[]) keys.values().toArray(new Object[]{});
+        if (rowKeys == null) {
+            return (K[]) new Object[0];
+        }
+        Object[] keys = new Object[size];
+        int index = 0;
+        for (int i = 0; i < noOfAddedEntries; i++) {
+            if (rowValues[i] != null) {
+                keys[index++] = rowKeys[i];
+            }
+        }
+        return (K[]) keys;
     }
 
     @Override
     public int size() {
-        return entries.size();
+        return size;
     }
 
     @Override
     public boolean isEmpty() {
-        return entries.isEmpty();
+        return size == 0;
     }
 
     @Override
@@ -294,23 +331,19 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
     }
 
     public String stringValue() {
-        Iterator<Map.Entry<Long, V>> itr = values.entrySet().iterator();
-        return createStringValueDataEntry(itr);
-    }
-
-    private String createStringValueDataEntry(Iterator<Map.Entry<Long, V>> itr) {
         StringJoiner sj = new StringJoiner("\n");
-        while (itr.hasNext()) {
-            Map.Entry<Long, V> struct = itr.next();
-            sj.add(struct.getValue().toString());
+        for (int i = 0; i < noOfAddedEntries; i++) {
+            if (rowValues[i] != null) {
+                sj.add(rowValues[i].toString());
+            }
         }
         return sj.toString();
     }
 
     private BType getTableConstraintField(BType constraintType, String fieldName) {
         if (constraintType.getTag() == TypeTags.RECORD_TYPE_TAG) {
-            Map<String, BField> fieldList = ((BRecordType) constraintType).getFields();
-            return fieldList.get(fieldName).getFieldType();
+            BField field = ((BRecordType) constraintType).getFields().get(fieldName);
+            return field == null ? null : field.getFieldType();
         } else if (constraintType.getTag() == TypeTags.MAP_TAG) {
             return ((BMapType) constraintType).getConstrainedType();
         }
@@ -331,39 +364,49 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
     }
 
     private class TableIterator<K, V> implements IteratorValue {
-        private long cursor;
+        private int cursor;
+        private Compaction compaction;
 
         TableIterator() {
             this.cursor = 0;
+            this.compaction = lastCompaction;
         }
 
         @Override
         public Object next() {
-            Long hash = indexToKeyMap.get(cursor);
-            if (hash != null) {
-                Map.Entry<K, V> next = (Map.Entry<K, V>) entries.get(hash);
-                V value = next.getValue();
-                K key = next.getKey();
-
-                List<BType> types = new ArrayList<>();
-                types.add(TypeChecker.getType(key));
-                types.add(TypeChecker.getType(value));
-                BTupleType tupleType = new BTupleType(types);
-
-                TupleValueImpl tuple = new TupleValueImpl(tupleType);
-                tuple.add(0, key);
-                tuple.add(1, value);
-                cursor++;
-                return tuple;
-            } else {
+            moveToCompactedSlot();
+            // skip the slots of removed rows, trailing empty slots are never counted in noOfAddedEntries
+            while (rowValues[cursor] == null) {
                 cursor++;
-                return next();
             }
+            V value = (V) rowValues[cursor];
+            K key = (K) getRowKey(cursor);
+
+            List<BType> types = new ArrayList<>();
+            types.add(TypeChecker.getType(key));
+            types.add(TypeChecker.getType(value));
+            BTupleType tupleType = new BTupleType(types);
+
+            TupleValueImpl tuple = new TupleValueImpl(tupleType);
+            tuple.add(0, key);
+            tuple.add(1, value);
+            cursor++;
+            return tuple;
         }
 
         @Override
         public boolean hasNext() {
-           return cursor < noOfAddedEntries;
+            moveToCompactedSlot();
+            return cursor < noOfAddedEntries;
+        }
+
+        private void moveToCompactedSlot() {
+            while (compaction.next != null) {
+                // a cursor past the used slots of the compacted rows stays past them
+                int[] newSlots = compaction.newSlots;
+                cursor = newSlots[Math.min(cursor, newSlots.length - 1)];
+                compaction = compaction.next;
+            }
         }
     }
 
@@ -383,11 +426,8 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
         public V putData(V data) {
             checkInherentTypeViolation((MapValue) data, type);
-            Map.Entry<K, V> entry = new AbstractMap.SimpleEntry(data, data);
-            UUID uuid = UUID.randomUUID();
-            entries.put((long) uuid.hashCode(), entry);
-            updateIndexKeyMappings((long) uuid.hashCode());
-            return values.put((long) uuid.hashCode(), data);
+            addRow(null, data);
+            return null;
         }
 
         public V remove(K key) {
@@ -426,63 +466,65 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
                         key + "'");
             }
 
-            if (nextKeySupported && (keys.size() == 0 || maxIntKey < TypeChecker.anyToInt(key))) {
+            if (nextKeySupported && (size == 0 || maxIntKey < TypeChecker.anyToInt(key))) {
                 maxIntKey = ((Long) TypeChecker.anyToInt(key)).intValue();
             }
 
-            Map.Entry<K, V> entry = new AbstractMap.SimpleEntry(key, data);
-            Long hash = TableUtils.hash(key, null);
-            putData(key, data, entry, hash);
+            long hash = TableUtils.hash(key, null);
+            putData(key, data, hash);
         }
 
         public V getData(K key) {
-            return values.get(TableUtils.hash(key, null));
+            int slot = keyIndex.get(TableUtils.hash(key, null));
+            return slot == KeyIndex.NOT_FOUND ? null : (V) rowValues[slot];
         }
 
         public V putData(K key, V data) {
-            Map.Entry<K, V> entry = new AbstractMap.SimpleEntry<>(key, data);
             Object actualKey = this.keyWrapper.wrapKey((MapValue) data);
-            Long actualHash = TableUtils.hash(actualKey, null);
-            Long hash = TableUtils.hash(key, null);
+            long actualHash = TableUtils.hash(actualKey, null);
+            long hash = TableUtils.hash(key, null);
 
-            if (!hash.equals(actualHash)) {
+            if (hash != actualHash) {
                 throw BallerinaErrors.createError(TABLE_KEY_NOT_FOUND_ERROR, "The key '" +
                         key + "' not found in value " + data.toString());
             }
 
-            return putData(key, data, entry, hash);
+            return putData(key, data, hash);
         }
 
-        private V putData(K key, V data, Map.Entry<K, V> entry, Long hash) {
-            entries.put(hash, entry);
-            keys.put(hash, key);
-            updateIndexKeyMappings(hash);
-            return values.put(hash, data);
+        private V putData(K key, V data, long hash) {
+            int slot = keyIndex.get(hash);
+            if (slot == KeyIndex.NOT_FOUND) {
+                keyIndex.put(hash, addRow(key, data));
+                return null;
+            }
+            // an existing row keeps its position
+            V oldValue = (V) rowValues[slot];
+            removeFromSecondaryIndexes(slot, oldValue);
+            rowKeys[slot] = key;
+            rowValues[slot] = data;
+            addToSecondaryIndexes(slot, data);
+            return oldValue;
         }
 
         public V putData(V data) {
             MapValue dataMap = (MapValue) data;
             checkInherentTypeViolation(dataMap, type);
             K key = this.keyWrapper.wrapKey(dataMap);
-            Map.Entry<K, V> entry = new AbstractMap.SimpleEntry<>(key, data);
-            Long hash = TableUtils.hash(key, null);
-            return putData((K) key, data, entry, hash);
+            long hash = TableUtils.hash(key, null);
+            return putData((K) key, data, hash);
         }
 
         public V remove(K key) {
-            Long hash = TableUtils.hash(key, null);
-            entries.remove(hash);
-            keys.remove(hash);
-            Long index = keyToIndexMap.remove(hash);
-            indexToKeyMap.remove(index);
-            if (index != null && index == noOfAddedEntries - 1) {
-                noOfAddedEntries--;
+            int slot = keyIndex.remove(TableUtils.hash(key, null));
+            if (slot == KeyIndex.NOT_FOUND) {
+                return null;
             }
-            return values.remove(hash);
+            return removeRow(slot);
         }
 
         public boolean containsKey(K key) {
-            return keys.containsKey(TableUtils.hash(key, null));
+            return keyIndex.get(TableUtils.hash(key, null)) != KeyIndex.NOT_FOUND;
         }
 
         public BType getKeyType() {
@@ -532,13 +574,86 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
         }
     }
 
-    // This method updates the indexes and the order required by the iterators
-    private void updateIndexKeyMappings(Long hash) {
-        if (!keyToIndexMap.containsKey(hash)) {
-            keyToIndexMap.put(hash, noOfAddedEntries);
-            indexToKeyMap.put(noOfAddedEntries, hash);
-            noOfAddedEntries++;
+    // Appends a row to the row store and returns its slot
+    private int addRow(K key, V data) {
+        if (noOfAddedEntries == rowValues.length) {
+            int newCapacity = rowValues.length << 1;
+            rowValues = Arrays.copyOf(rowValues, newCapacity);
+            if (rowKeys != null) {
+                rowKeys = Arrays.copyOf(rowKeys, newCapacity);
+            }
         }
+        int slot = noOfAddedEntries++;
+        if (rowKeys != null) {
+            rowKeys[slot] = key;
+        }
+        rowValues[slot] = data;
+        size++;
+        addToSecondaryIndexes(slot, data);
+        return slot;
+    }
+
+    // Empties the slot of a row, trailing empty slots are released so that iterators stop at the last row
+    private V removeRow(int slot) {
+        V value = (V) rowValues[slot];
+        removeFromSecondaryIndexes(slot, value);
+        rowValues[slot] = null;
+        if (rowKeys != null) {
+            rowKeys[slot] = null;
+        }
+        size--;
+        while (noOfAddedEntries > 0 && rowValues[noOfAddedEntries - 1] == null) {
+            noOfAddedEntries--;
+        }
+        if (noOfAddedEntries > INITIAL_CAPACITY && noOfAddedEntries - size > noOfAddedEntries * MAX_EMPTY_SLOT_RATIO) {
+            compact();
+        }
+        return value;
+    }
+
+    // Moves the rows to the front of the slot arrays in the same order, and updates the slots held by the indexes
+    private void compact() {
+        // newSlots[i] is the number of rows before slot i, which is the new slot of the row in slot i
+        int[] newSlots = new int[noOfAddedEntries + 1];
+        int next = 0;
+        for (int i = 0; i < noOfAddedEntries; i++) {
+            newSlots[i] = next;
+            if (rowValues[i] != null) {
+                rowValues[next] = rowValues[i];
+                if (rowKeys != null) {
+                    rowKeys[next] = rowKeys[i];
+                }
+                next++;
+            }
+        }
+        newSlots[noOfAddedEntries] = next;
+        Arrays.fill(rowValues, next, noOfAddedEntries, null);
+        if (rowKeys != null) {
+            Arrays.fill(rowKeys, next, noOfAddedEntries, null);
+        }
+        noOfAddedEntries = next;
+
+        // release the capacity of removed rows, while leaving room to grow
+        int capacity = Math.max(INITIAL_CAPACITY, Integer.highestOneBit(noOfAddedEntries) << 2);
+        if (capacity < rowValues.length) {
+            rowValues = Arrays.copyOf(rowValues, capacity);
+            if (rowKeys != null) {
+                rowKeys = Arrays.copyOf(rowKeys, capacity);
+            }
+        }
+
+        keyIndex.moveSlots(newSlots);
+        if (secondaryIndexes != null) {
+            for (SecondaryIndex index : secondaryIndexes.values()) {
+                index.moveSlots(newSlots);
+            }
+        }
+        lastCompaction = lastCompaction.chain(newSlots);
+    }
+
+    // Key-less tables use the row itself as the key
+    private Object getRowKey(int slot) {
+        return rowKeys == null ? rowValues[slot] : rowKeys[slot];
     }
 
     // This method checks for inherent table type violation
@@ -578,4 +693,447 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
     public int hashCode() {
         return System.identityHashCode(this);
     }
+
+    /**
+     * Adds a secondary index on the given field of the rows. A hash index supports equality lookups, while a sorted
+     * index also supports range lookups on int, float, decimal and string fields. Since rows can be mutated after
+     * they are added, only read-only fields, or the fields of an immutable table, can be indexed.
+     *
+     * @param fieldName name of the field to index
+     * @param sorted    whether to keep the index sorted by the field value
+     */
+    public void addIndex(String fieldName, boolean sorted) {
+        BType fieldType = getTableConstraintField(type.getConstrainedType(), fieldName);
+        if (fieldType == null) {
+            throw BallerinaErrors.createError(OPERATION_NOT_SUPPORTED_IDENTIFIER,
+                    "cannot index field '" + fieldName + "' of table type '" + type + "'");
+        }
+        if (!type.isReadOnly() && !isReadOnlyField(fieldName)) {
+            throw BallerinaErrors.createError(OPERATION_NOT_SUPPORTED_IDENTIFIER,
+                    "cannot index field '" + fieldName + "' since it is not a read-only field");
+        }
+        if (sorted && !isOrderedType(fieldType)) {
+            throw BallerinaErrors.createError(OPERATION_NOT_SUPPORTED_IDENTIFIER,
+                    "cannot create a sorted index on field '" + fieldName + "' of type '" + fieldType + "'");
+        }
+        if (secondaryIndexes == null) {
+            secondaryIndexes = new HashMap<>();
+        }
+        SecondaryIndex index = sorted ? new SortedIndex(fieldName) : new HashIndex(fieldName);
+        for (int i = 0; i < noOfAddedEntries; i++) {
+            if (rowValues[i] != null) {
+                index.add(i, (V) rowValues[i]);
+            }
+        }
+        secondaryIndexes.put(fieldName, index);
+    }
+
+    /**
+     * Checks whether there is a secondary index on the given field.
+     *
+     * @param fieldName name of the field
+     * @return true if the field is indexed
+     */
+    public boolean hasIndex(String fieldName) {
+        return secondaryIndexes != null && secondaryIndexes.containsKey(fieldName);
+    }
+
+    /**
+     * Returns the rows whose indexed field is equal to the given value, in insertion order.
+     *
+     * @param fieldName name of an indexed field
+     * @param value     value to look up
+     * @return matching rows
+     */
+    public List<V> getRowsByIndex(String fieldName, Object value) {
+        return toRows(getIndex(fieldName).get(value));
+    }
+
+    /**
+     * Returns the rows whose sorted-indexed field is in the given range, ordered by the field value.
+     *
+     * @param fieldName     name of a field with a sorted index
+     * @param from          lower bound, or null for no lower bound
+     * @param fromInclusive whether the lower bound is included
+     * @param to            upper bound, or null for no upper bound
+     * @param toInclusive   whether the upper bound is included
+     * @return matching rows
+     */
+    public List<V> getRowsByIndexRange(String fieldName, Object from, boolean fromInclusive, Object to,
+                                       boolean toInclusive) {
+        SecondaryIndex index = getIndex(fieldName);
+        if (!(index instanceof TableValueImpl.SortedIndex)) {
+            throw BallerinaErrors.createError(OPERATION_NOT_SUPPORTED_IDENTIFIER,
+                    "field '" + fieldName + "' does not have a sorted index");
+        }
+        return toRows(((TableValueImpl.SortedIndex) index).getRange(from, fromInclusive, to, toInclusive));
+    }
+
+    private SecondaryIndex getIndex(String fieldName) {
+        SecondaryIndex index = secondaryIndexes == null ? null : secondaryIndexes.get(fieldName);
+        if (index == null) {
+            throw BallerinaErrors.createError(OPERATION_NOT_SUPPORTED_IDENTIFIER,
+                    "field '" + fieldName + "' is not indexed");
+        }
+        return index;
+    }
+
+    private List<V> toRows(List<Integer> slots) {
+        List<V> rows = new ArrayList<>(slots.size());
+        for (int slot : slots) {
+            rows.add((V) rowValues[slot]);
+        }
+        return rows;
+    }
+
+    private boolean isReadOnlyField(String fieldName) {
+        BType constraintType = type.getConstrainedType();
+        if (constraintType.getTag() != TypeTags.RECORD_TYPE_TAG) {
+            return false;
+        }
+        BField field = ((BRecordType) constraintType).getFields().get(fieldName);
+        return Flags.isFlagOn(field.flags, Flags.READONLY);
+    }
+
+    private static boolean isOrderedType(BType type) {
+        switch (type.getTag()) {
+            case TypeTags.INT_TAG:
+            case TypeTags.FLOAT_TAG:
+            case TypeTags.DECIMAL_TAG:
+            case TypeTags.STRING_TAG:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    // nil values of optional fields are ordered before all the other values
+    private static int compareIndexedValues(Object lhs, Object rhs) {
+        if (lhs == null || rhs == null) {
+            return lhs == null ? (rhs == null ? 0 : -1) : 1;
+        }
+        if (lhs instanceof Long) {
+            return Long.compare((Long) lhs, (Long) rhs);
+        }
+        if (lhs instanceof Double) {
+            return Double.compare((Double) lhs, (Double) rhs);
+        }
+        if (lhs instanceof DecimalValue) {
+            return ((DecimalValue) lhs).decimalValue().compareTo(((DecimalValue) rhs).decimalValue());
+        }
+        return compareCodePoints(((BString) lhs).getValue(), ((BString) rhs).getValue());
+    }
+
+    private static int compareCodePoints(String lhs, String rhs) {
+        int i = 0;
+        int j = 0;
+        while (i < lhs.length() && j < rhs.length()) {
+            int lhsCodePoint = lhs.codePointAt(i);
+            int rhsCodePoint = rhs.codePointAt(j);
+            if (lhsCodePoint != rhsCodePoint) {
+                return Integer.compare(lhsCodePoint, rhsCodePoint);
+            }
+            i += Character.charCount(lhsCodePoint);
+            j += Character.charCount(rhsCodePoint);
+        }
+        return Integer.compare(lhs.length() - i, rhs.length() - j);
+    }
+
+    private void addToSecondaryIndexes(int slot, V data) {
+        if (secondaryIndexes != null) {
+            for (SecondaryIndex index : secondaryIndexes.values()) {
+                index.add(slot, data);
+            }
+        }
+    }
+
+    private void removeFromSecondaryIndexes(int slot, V data) {
+        if (secondaryIndexes != null) {
+            for (SecondaryIndex index : secondaryIndexes.values()) {
+                index.remove(slot, data);
+            }
+        }
+    }
+
+    /**
+     * Open addressing hash table from the hash of a row key to the slot of the row. Uses linear probing and shifts
+     * back the following entries on removal, hence no tombstones are left behind.
+     */
+    private static class KeyIndex {
+
+        static final int NOT_FOUND = -1;
+        private static final float LOAD_FACTOR = 0.5f;
+
+        private long[] hashes;
+        private int[] slots;
+        private int count;
+        private int mask;
+
+        KeyIndex() {
+            clear();
+        }
+
+        int get(long hash) {
+            for (int i = indexOf(hash); slots[i] != NOT_FOUND; i = (i + 1) & mask) {
+                if (hashes[i] == hash) {
+                    return slots[i];
+                }
+            }
+            return NOT_FOUND;
+        }
+
+        void put(long hash, int slot) {
+            int i = indexOf(hash);
+            while (slots[i] != NOT_FOUND) {
+                if (hashes[i] == hash) {
+                    slots[i] = slot;
+                    return;
+                }
+                i = (i + 1) & mask;
+            }
+            hashes[i] = hash;
+            slots[i] = slot;
+            if (++count > slots.length * LOAD_FACTOR) {
+                resize(slots.length << 1);
+            }
+        }
+
+        int remove(long hash) {
+            int i = indexOf(hash);
+            while (slots[i] != NOT_FOUND) {
+                if (hashes[i] == hash) {
+                    int slot = slots[i];
+                    shiftBack(i);
+                    count--;
+                    return slot;
+                }
+                i = (i + 1) & mask;
+            }
+            return NOT_FOUND;
+        }
+
+        // Updates the slots of the rows after the rows are compacted, the hashes stay in place
+        void moveSlots(int[] newSlots) {
+            for (int i = 0; i < slots.length; i++) {
+                if (slots[i] != NOT_FOUND) {
+                    slots[i] = newSlots[slots[i]];
+                }
+            }
+        }
+
+        void clear() {
+            hashes = new long[INITIAL_CAPACITY];
+            slots = new int[INITIAL_CAPACITY];
+            Arrays.fill(slots, NOT_FOUND);
+            mask = INITIAL_CAPACITY - 1;
+            count = 0;
+        }
+
+        private void shiftBack(int free) {
+            int i = (free + 1) & mask;
+            while (slots[i] != NOT_FOUND) {
+                int home = indexOf(hashes[i]);
+                // move the entry to the free position if that does not put it before its home position
+                if (((i - home) & mask) >= ((i - free) & mask)) {
+                    hashes[free] = hashes[i];
+                    slots[free] = slots[i];
+                    free = i;
+                }
+                i = (i + 1) & mask;
+            }
+            slots[free] = NOT_FOUND;
+        }
+
+        private int indexOf(long hash) {
+            long mixed = hash * 0x9E3779B97F4A7C15L;
+            return (int) (mixed ^ (mixed >>> 32)) & mask;
+        }
+
+        private void resize(int capacity) {
+            long[] oldHashes = hashes;
+            int[] oldSlots = slots;
+            hashes = new long[capacity];
+            slots = new int[capacity];
+            Arrays.fill(slots, NOT_FOUND);
+            mask = capacity - 1;
+            for (int i = 0; i < oldSlots.length; i++) {
+                if (oldSlots[i] != NOT_FOUND) {
+                    int j = indexOf(oldHashes[i]);
+                    while (slots[j] != NOT_FOUND) {
+                        j = (j + 1) & mask;
+                    }
+                    hashes[j] = oldHashes[i];
+                    slots[j] = oldSlots[i];
+                }
+            }
+        }
+    }
+
+    /**
+     * Secondary index from the value of a row field to the slots of the rows having that value.
+     */
+    private abstract class SecondaryIndex {
+
+        final BString fieldName;
+
+        SecondaryIndex(String fieldName) {
+            this.fieldName = StringUtils.fromString(fieldName);
+        }
+
+        abstract void add(int slot, V data);
+
+        abstract void remove(int slot, V data);
+
+        abstract List<Integer> get(Object fieldValue);
+
+        abstract void clear();
+
+        abstract void moveSlots(int[] newSlots);
+
+        Object getFieldValue(V data) {
+            return ((MapValue) data).get(fieldName);
+        }
+    }
+
+    /**
+     * Hash based secondary index. Like the key index, field values are hashed with {@link TableUtils#hash}; rows of
+     * colliding values are filtered out on lookup.
+     */
+    private class HashIndex extends SecondaryIndex {
+
+        private final Map<Long, List<Integer>> slotsByHash = new HashMap<>();
+
+        HashIndex(String fieldName) {
+            super(fieldName);
+        }
+
+        @Override
+        void add(int slot, V data) {
+            slotsByHash.computeIfAbsent(TableUtils.hash(getFieldValue(data), null), k -> new ArrayList<>()).add(slot);
+        }
+
+        @Override
+        void remove(int slot, V data) {
+            Long hash = TableUtils.hash(getFieldValue(data), null);
+            List<Integer> slots = slotsByHash.get(hash);
+            if (slots != null) {
+                slots.remove(Integer.valueOf(slot));
+                if (slots.isEmpty()) {
+                    slotsByHash.remove(hash);
+                }
+            }
+        }
+
+        @Override
+        List<Integer> get(Object fieldValue) {
+            List<Integer> slots = slotsByHash.get(TableUtils.hash(fieldValue, null));
+            if (slots == null) {
+                return Collections.emptyList();
+            }
+            List<Integer> matches = new ArrayList<>(slots.size());
+            for (int slot : slots) {
+                if (TypeChecker.isEqual(getFieldValue((V) rowValues[slot]), fieldValue)) {
+                    matches.add(slot);
+                }
+            }
+            matches.sort(Integer::compare);
+            return matches;
+        }
+
+        @Override
+        void clear() {
+            slotsByHash.clear();
+        }
+
+        @Override
+        void moveSlots(int[] newSlots) {
+            slotsByHash.values().forEach(slots -> slots.replaceAll(slot -> newSlots[slot]));
+        }
+    }
+
+    /**
+     * Sorted secondary index on an int, float, decimal or string field.
+     */
+    private class SortedIndex extends SecondaryIndex {
+
+        private final NavigableMap<Object, List<Integer>> slotsByValue =
+                new TreeMap<>(TableValueImpl::compareIndexedValues);
+
+        SortedIndex(String fieldName) {
+            super(fieldName);
+        }
+
+        @Override
+        void add(int slot, V data) {
+            slotsByValue.computeIfAbsent(getFieldValue(data), k -> new ArrayList<>()).add(slot);
+        }
+
+        @Override
+        void remove(int slot, V data) {
+            Object fieldValue = getFieldValue(data);
+            List<Integer> slots = slotsByValue.get(fieldValue);
+            if (slots != null) {
+                slots.remove(Integer.valueOf(slot));
+                if (slots.isEmpty()) {
+                    slotsByValue.remove(fieldValue);
+                }
+            }
+        }
+
+        @Override
+        List<Integer> get(Object fieldValue) {
+            List<Integer> slots = slotsByValue.get(fieldValue);
+            if (slots == null) {
+                return Collections.emptyList();
+            }
+            List<Integer> matches = new ArrayList<>(slots);
+            matches.sort(Integer::compare);
+            return matches;
+        }
+
+        List<Integer> getRange(Object from, boolean fromInclusive, Object to, boolean toInclusive) {
+            NavigableMap<Object, List<Integer>> range = slotsByValue;
+            if (from != null) {
+                range = range.tailMap(from, fromInclusive);
+            }
+            if (to != null) {
+                range = range.headMap(to, toInclusive);
+            }
+            List<Integer> matches = new ArrayList<>();
+            for (List<Integer> slots : range.values()) {
+                List<Integer> sorted = new ArrayList<>(slots);
+                sorted.sort(Integer::compare);
+                matches.addAll(sorted);
+            }
+            return matches;
+        }
+
+        @Override
+        void clear() {
+            slotsByValue.clear();
+        }
+
+        @Override
+        void moveSlots(int[] newSlots) {
+            slotsByValue.values().forEach(slots -> slots.replaceAll(slot -> newSlots[slot]));
+        }
+    }
+
+    /**
+     * A compaction of the rows. Holds the new slot of each old slot until every iterator created before it has moved
+     * its position to the compacted rows.
+     */
+    private static class Compaction {
+
+        private int[] newSlots;
+        private Compaction next;
+
+        // Records the next compaction, which is the one that later iterators start from
+        Compaction chain(int[] newSlots) {
+            Compaction compaction = new Compaction();
+            this.newSlots = newSlots;
+            this.next = compaction;
+            return compaction;
+        }
+    }
 }
@@ -78,6 +78,16 @@ public abstract class ValueCreator {
         return runtimeValueCreators.get(key);
     }
 
+    /**
+     * Returns the value creator of the given module, if the module has been initialized.
+     *
+     * @param key lookup key of the module
+     * @return the value creator, or null if there is no value creator for the module
+     */
+    public static ValueCreator getValueCreatorIfPresent(String key) {
+        return runtimeValueCreators.get(key);
+    }
+
     public abstract MapValue<BString, Object> createRecordValue(String recordTypeName);
 
     public abstract ObjectValue createObjectValue(String objectTypeName, Scheduler scheduler, Strand parent,
@@ -0,0 +1,205 @@
+/*
+*  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*    http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing,
+* software distributed under the License is distributed on an
+* "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+* KIND, either express or implied.  See the License for the
+* specific language governing permissions and limitations
+* under the License.
+*/
+
+package org.ballerinalang.runtime.test;
+
+import org.ballerinalang.jvm.StringUtils;
+import org.ballerinalang.jvm.types.BArrayType;
+import org.ballerinalang.jvm.types.BType;
+import org.ballerinalang.jvm.types.BTypes;
+import org.ballerinalang.jvm.values.ArrayValue;
+import org.ballerinalang.jvm.values.ArrayValueImpl;
+import org.ballerinalang.jvm.values.IteratorValue;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Random;
+import java.util.function.IntFunction;
+
+/**
+ * Test cases for shifting and unshifting members of {@link ArrayValueImpl}, which move the head of the backing
+ * array instead of the members.
+ */
+public class ArrayValueTests {
+
+    @Test
+    public void testIntArrayAsQueue() {
+        ArrayValue queue = new ArrayValueImpl(new BArrayType(BTypes.typeInt));
+        long next = 0;
+        long expected = 0;
+        for (int round = 0; round < 50; round++) {
+            for (int i = 0; i < 40; i++) {
+                queue.append(next++);
+            }
+            for (int i = 0; i < 30; i++) {
+                Assert.assertEquals(queue.shift(), expected++);
+            }
+        }
+        Assert.assertEquals(queue.size(), (int) (next - expected));
+        Assert.assertEquals(queue.getInt(0), expected);
+        Assert.assertEquals(queue.getIntArray()[queue.size() - 1], next - 1);
+
+        IteratorValue iterator = queue.getIterator();
+        while (iterator.hasNext()) {
+            Assert.assertEquals(iterator.next(), expected++);
+        }
+        Assert.assertEquals(expected, next);
+    }
+
+    @Test
+    public void testIntArrayOperations() {
+        assertOperations(BTypes.typeInt, i -> (long) i);
+    }
+
+    @Test
+    public void testFloatArrayOperations() {
+        assertOperations(BTypes.typeFloat, i -> i + 0.5);
+    }
+
+    @Test
+    public void testByteArrayOperations() {
+        assertOperations(BTypes.typeByte, i -> i & 0xFF);
+    }
+
+    @Test
+    public void testBooleanArrayOperations() {
+        assertOperations(BTypes.typeBoolean, i -> i % 3 == 0);
+    }
+
+    @Test
+    public void testStringArrayOperations() {
+        assertOperations(BTypes.typeString, i -> StringUtils.fromString("s" + i));
+    }
+
+    @Test
+    public void testRefArrayOperations() {
+        assertOperations(BTypes.typeAnydata, i -> i % 2 == 0 ? (Object) (long) i : StringUtils.fromString("s" + i));
+    }
+
+    @Test
+    public void testShiftDoesNotLeaveStaleMembers() {
+        ArrayValue array = new ArrayValueImpl(new long[]{1, 2, 3});
+        array.shift(2);
+        array.shift(0);
+        array.add(3, 5L);
+        Assert.assertEquals(array.getIntArray(), new long[]{2, 0, 0, 5});
+
+        ArrayValue strings = new ArrayValueImpl(new BArrayType(BTypes.typeString));
+        strings.append(StringUtils.fromString("a"));
+        strings.append(StringUtils.fromString("b"));
+        strings.shift();
+        strings.add(2, StringUtils.fromString("c"));
+        Assert.assertEquals(strings.getStringArray(), new String[]{"b", "", "c"});
+    }
+
+    @Test
+    public void testRefValuesStartAtFront() {
+        ArrayValue array = new ArrayValueImpl(new BArrayType(BTypes.typeAnydata));
+        for (long i = 0; i < 10; i++) {
+            array.append(i);
+        }
+        array.shift();
+        array.shift();
+        array.unshift(new ArrayValueImpl(new Object[]{-1L}, new BArrayType(BTypes.typeAnydata)));
+
+        Object[] values = array.getValues();
+        Assert.assertEquals(values[0], -1L);
+        Assert.assertEquals(values[1], 2L);
+        Assert.assertEquals(values[array.size() - 1], 9L);
+        Assert.assertEquals(values.length, array.size());
+        Assert.assertEquals(array.stringValue(), "-1 2 3 4 5 6 7 8 9");
+
+        values[0] = 0L;
+        Assert.assertEquals(array.get(0), -1L);
+    }
+
+    @Test
+    public void testValuesOfShiftedIntArray() {
+        ArrayValue array = new ArrayValueImpl(new long[]{1, 2, 3});
+        array.shift();
+        Assert.assertNull(array.getValues());
+        Assert.assertEquals(array.getIntArray(), new long[]{2, 3});
+    }
+
+    @Test
+    public void testUnshiftToEmptyArray() {
+        ArrayValue array = new ArrayValueImpl(new BArrayType(BTypes.typeInt));
+        for (long i = 0; i < 1000; i++) {
+            array.unshift(new ArrayValueImpl(new long[]{i}));
+        }
+        Assert.assertEquals(array.size(), 1000);
+        Assert.assertEquals(array.getInt(0), 999L);
+        Assert.assertEquals(array.getInt(999), 0L);
+        Assert.assertEquals(((ArrayValue) array.copy(new HashMap<>())).getInt(1), 998L);
+        Assert.assertEquals(((ArrayValueImpl) array).slice(10, 12).getIntArray(), new long[]{989, 988});
+    }
+
+    private static void assertOperations(BType elementType, IntFunction<Object> valueOf) {
+        Random random = new Random(42);
+        ArrayValue array = new ArrayValueImpl(new BArrayType(elementType));
+        List<Object> expected = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            switch (random.nextInt(6)) {
+                case 0:
+                case 1:
+                    Object value = valueOf.apply(i);
+                    array.append(value);
+                    expected.add(value);
+                    break;
+                case 2:
+                    int nVals = random.nextInt(4);
+                    ArrayValue vals = new ArrayValueImpl(new BArrayType(elementType));
+                    for (int j = 0; j < nVals; j++) {
+                        vals.append(valueOf.apply(i + j));
+                        expected.add(j, valueOf.apply(i + j));
+                    }
+                    array.unshift(vals);
+                    break;
+                case 3:
+                    if (!expected.isEmpty()) {
+                        Assert.assertEquals(array.shift(), expected.remove(0));
+                    }
+                    break;
+                case 4:
+                    if (!expected.isEmpty()) {
+                        Assert.assertEquals(array.shift(array.size() - 1), expected.remove(expected.size() - 1));
+                    }
+                    break;
+                default:
+                    if (!expected.isEmpty()) {
+                        int index = random.nextInt(expected.size());
+                        array.add(index, valueOf.apply(-i));
+                        expected.set(index, valueOf.apply(-i));
+                    }
+                    break;
+            }
+            Assert.assertEquals(array.size(), expected.size());
+        }
+
+        for (int i = 0; i < expected.size(); i++) {
+            Assert.assertEquals(array.get(i), expected.get(i));
+        }
+        ArrayValue copy = (ArrayValue) array.copy(new HashMap<>());
+        for (int i = 0; i < expected.size(); i++) {
+            Assert.assertEquals(copy.get(i), expected.get(i));
+        }
+    }
+}
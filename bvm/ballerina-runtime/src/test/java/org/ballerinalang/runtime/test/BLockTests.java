@@ -0,0 +1,295 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.runtime.test;
+
+import org.ballerinalang.jvm.BLock;
+import org.ballerinalang.jvm.BLockStore;
+import org.ballerinalang.jvm.scheduling.Scheduler;
+import org.ballerinalang.jvm.scheduling.Strand;
+import org.ballerinalang.jvm.util.exceptions.BallerinaErrorReasons;
+import org.ballerinalang.jvm.values.ErrorValue;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Test cases for the locks used by lock statements.
+ *
+ * @since 2.0.0
+ */
+public class BLockTests {
+
+    private List<Strand> unblocked;
+    private Scheduler scheduler;
+
+    @BeforeMethod
+    public void setup() {
+        unblocked = new ArrayList<>();
+        scheduler = new Scheduler(1, false) {
+            @Override
+            public void unblockStrand(Strand strand) {
+                unblocked.add(strand);
+            }
+        };
+    }
+
+    @Test
+    public void testReentrantLock() {
+        BLockStore store = new BLockStore();
+        Strand strand = new Strand(scheduler);
+        BLock lock = store.getLockFromMap("lock0");
+        Assert.assertSame(store.getLockFromMap("lock0"), lock);
+
+        Assert.assertTrue(lock.lock(strand));
+        Assert.assertTrue(lock.lock(strand));
+        Assert.assertTrue(strand.isInLock());
+        lock.unlock();
+        Assert.assertTrue(strand.isInLock());
+        Assert.assertFalse(lock.isLockFree());
+        lock.unlock();
+        Assert.assertFalse(strand.isInLock());
+        Assert.assertTrue(lock.isLockFree());
+    }
+
+    @Test
+    public void testAsyncCallInsideLock() {
+        BLockStore store = new BLockStore();
+        Strand strand = new Strand(scheduler);
+        BLock lock = store.getLockFromMap("lock0");
+        store.panicIfInLock("lock", strand);
+
+        lock.lock(strand);
+        try {
+            store.panicIfInLock("lock", strand);
+            Assert.fail("expected an error for an async call inside a lock");
+        } catch (ErrorValue e) {
+            Assert.assertEquals(e.getErrorMessage().getValue(), BallerinaErrorReasons.ASYNC_CALL_INSIDE_LOCK);
+        }
+        lock.unlock();
+        store.panicIfInLock("lock", strand);
+
+        lock.lockShared(strand);
+        try {
+            store.panicIfInLock("lock", strand);
+            Assert.fail("expected an error for an async call inside a shared lock");
+        } catch (ErrorValue e) {
+            Assert.assertEquals(e.getErrorMessage().getValue(), BallerinaErrorReasons.ASYNC_CALL_INSIDE_LOCK);
+        }
+        lock.unlockShared(strand);
+        store.panicIfInLock("lock", strand);
+        Assert.assertTrue(strand.heldLocks.isEmpty());
+    }
+
+    @Test
+    public void testContendedLock() {
+        BLock lock = new BLock();
+        Strand first = new Strand(scheduler);
+        Strand second = new Strand(scheduler);
+
+        Assert.assertTrue(lock.lock(first));
+        Assert.assertFalse(lock.lock(second));
+        Assert.assertTrue(second.isYielded());
+        Assert.assertSame(second.waitingForLock, lock);
+
+        lock.unlock();
+        Assert.assertEquals(unblocked.size(), 1);
+        Assert.assertSame(unblocked.get(0), second);
+        Assert.assertTrue(lock.lock(second));
+        Assert.assertNull(second.waitingForLock);
+        lock.unlock();
+        Assert.assertTrue(lock.isLockFree());
+    }
+
+    @Test
+    public void testSharedLock() {
+        BLock lock = new BLock();
+        Strand firstReader = new Strand(scheduler);
+        Strand secondReader = new Strand(scheduler);
+        Strand writer = new Strand(scheduler);
+        Strand lateReader = new Strand(scheduler);
+
+        Assert.assertTrue(lock.lockShared(firstReader));
+        Assert.assertTrue(lock.lockShared(secondReader));
+        Assert.assertFalse(lock.lock(writer));
+        // readers arriving after a waiting writer queue behind it
+        Assert.assertFalse(lock.lockShared(lateReader));
+        // reentrant shared holds are not queued
+        Assert.assertTrue(lock.lockShared(firstReader));
+
+        lock.unlockShared(firstReader);
+        lock.unlockShared(firstReader);
+        Assert.assertTrue(unblocked.isEmpty());
+        lock.unlockShared(secondReader);
+        Assert.assertEquals(unblocked.size(), 1);
+        Assert.assertSame(unblocked.get(0), writer);
+
+        Assert.assertTrue(lock.lock(writer));
+        lock.unlock();
+        Assert.assertEquals(unblocked.size(), 2);
+        Assert.assertSame(unblocked.get(1), lateReader);
+        Assert.assertTrue(lock.lockShared(lateReader));
+        lock.unlockShared(lateReader);
+        Assert.assertTrue(lock.isLockFree());
+    }
+
+    @Test
+    public void testAsyncCallInsideLockOfOtherModule() {
+        BLockStore store = new BLockStore();
+        Strand strand = new Strand(scheduler);
+        store.getLockFromMap("lock0");
+        BLock otherModuleLock = new BLockStore().getLockFromMap("lock0");
+
+        otherModuleLock.lock(strand);
+        store.panicIfInLock("lock", strand);
+        Assert.assertSame(otherModuleLock.getStore().getLockFromMap("lock0"), otherModuleLock);
+        otherModuleLock.unlock();
+    }
+
+    @Test
+    public void testReaderBetweenWaitingWriters() {
+        BLock lock = new BLock();
+        Strand firstWriter = new Strand(scheduler);
+        Strand reader = new Strand(scheduler);
+        Strand secondWriter = new Strand(scheduler);
+
+        Assert.assertTrue(lock.lock(firstWriter));
+        Assert.assertFalse(lock.lockShared(reader));
+        Assert.assertFalse(lock.lock(secondWriter));
+
+        // the reader is handed the lock, although the second writer is still queued
+        lock.unlock();
+        Assert.assertEquals(unblocked.size(), 1);
+        Assert.assertSame(unblocked.get(0), reader);
+        Assert.assertTrue(lock.lockShared(reader));
+        Assert.assertNull(reader.waitingForLock);
+
+        lock.unlockShared(reader);
+        Assert.assertEquals(unblocked.size(), 2);
+        Assert.assertSame(unblocked.get(1), secondWriter);
+        Assert.assertTrue(lock.lock(secondWriter));
+        lock.unlock();
+        Assert.assertTrue(lock.isLockFree());
+    }
+
+    @Test
+    public void testLockHandedOverBeforeRetry() {
+        BLock lock = new BLock();
+        Strand first = new Strand(scheduler);
+        Strand second = new Strand(scheduler);
+        Strand late = new Strand(scheduler);
+
+        Assert.assertTrue(lock.lock(first));
+        Assert.assertFalse(lock.lock(second));
+        lock.unlock();
+        // a strand arriving before the unblocked strand retries does not take the lock over
+        Assert.assertFalse(lock.lock(late));
+        Assert.assertTrue(lock.lock(second));
+        lock.unlock();
+        Assert.assertSame(unblocked.get(1), late);
+        Assert.assertTrue(lock.lock(late));
+        lock.unlock();
+        Assert.assertTrue(lock.isLockFree());
+    }
+
+    @Test
+    public void testSharedHoldUpgrade() {
+        BLock lock = new BLock();
+        Strand upgrading = new Strand(scheduler);
+        Strand reader = new Strand(scheduler);
+
+        Assert.assertTrue(lock.lockShared(upgrading));
+        Assert.assertTrue(lock.lockShared(reader));
+        Assert.assertFalse(lock.lock(upgrading));
+
+        // the upgrade is granted once the upgrading strand is the only holder
+        lock.unlockShared(reader);
+        Assert.assertSame(unblocked.get(0), upgrading);
+        Assert.assertTrue(lock.lock(upgrading));
+        lock.unlock();
+        lock.unlockShared(upgrading);
+        Assert.assertTrue(lock.isLockFree());
+    }
+
+    @Test
+    public void testSharedHoldUpgradeDeadlock() {
+        BLock lock = new BLock();
+        Strand firstReader = new Strand(scheduler);
+        Strand secondReader = new Strand(scheduler);
+
+        Assert.assertTrue(lock.lockShared(firstReader));
+        Assert.assertTrue(lock.lockShared(secondReader));
+        Assert.assertFalse(lock.lock(firstReader));
+        try {
+            lock.lock(secondReader);
+            Assert.fail("expected a deadlock error");
+        } catch (ErrorValue e) {
+            Assert.assertEquals(e.getErrorMessage().getValue(), BallerinaErrorReasons.LOCK_DEADLOCK_ERROR);
+        }
+
+        // releasing the shared hold of the failed strand lets the other strand upgrade
+        lock.unlockShared(secondReader);
+        Assert.assertSame(unblocked.get(0), firstReader);
+        Assert.assertTrue(lock.lock(firstReader));
+    }
+
+    @Test
+    public void testSharedWaitDeadlock() {
+        BLock first = new BLock();
+        BLock second = new BLock();
+        Strand reader = new Strand(scheduler);
+        Strand writer = new Strand(scheduler);
+
+        Assert.assertTrue(first.lockShared(reader));
+        Assert.assertTrue(second.lock(writer));
+        Assert.assertFalse(first.lock(writer));
+        try {
+            second.lockShared(reader);
+            Assert.fail("expected a deadlock error");
+        } catch (ErrorValue e) {
+            Assert.assertEquals(e.getErrorMessage().getValue(), BallerinaErrorReasons.LOCK_DEADLOCK_ERROR);
+        }
+    }
+
+    @Test
+    public void testDeadlockDetection() {
+        BLock first = new BLock();
+        BLock second = new BLock();
+        Strand firstStrand = new Strand(scheduler);
+        Strand secondStrand = new Strand(scheduler);
+
+        Assert.assertTrue(first.lock(firstStrand));
+        Assert.assertTrue(second.lock(secondStrand));
+        Assert.assertFalse(first.lock(secondStrand));
+        try {
+            second.lock(firstStrand);
+            Assert.fail("expected a deadlock error");
+        } catch (ErrorValue e) {
+            Assert.assertEquals(e.getErrorMessage().getValue(), BallerinaErrorReasons.LOCK_DEADLOCK_ERROR);
+        }
+        Assert.assertNull(firstStrand.waitingForLock);
+
+        // releasing the lock of the failed strand lets the other strand proceed
+        first.unlock();
+        Assert.assertSame(unblocked.get(0), secondStrand);
+        Assert.assertTrue(first.lock(secondStrand));
+    }
+}
@@ -0,0 +1,266 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.runtime.test;
+
+import org.ballerinalang.jvm.JSONArrayDataSource;
+import org.ballerinalang.jvm.JSONEventReader;
+import org.ballerinalang.jvm.JSONEventReader.Event;
+import org.ballerinalang.jvm.JSONParser;
+import org.ballerinalang.jvm.StringUtils;
+import org.ballerinalang.jvm.scheduling.Scheduler;
+import org.ballerinalang.jvm.scheduling.Strand;
+import org.ballerinalang.jvm.types.BArrayType;
+import org.ballerinalang.jvm.types.BField;
+import org.ballerinalang.jvm.types.BMapType;
+import org.ballerinalang.jvm.types.BPackage;
+import org.ballerinalang.jvm.types.BRecordType;
+import org.ballerinalang.jvm.types.BTupleType;
+import org.ballerinalang.jvm.types.BType;
+import org.ballerinalang.jvm.types.BTypes;
+import org.ballerinalang.jvm.types.BUnionType;
+import org.ballerinalang.jvm.util.Flags;
+import org.ballerinalang.jvm.util.exceptions.BallerinaException;
+import org.ballerinalang.jvm.values.ArrayValue;
+import org.ballerinalang.jvm.values.DecimalValue;
+import org.ballerinalang.jvm.values.ErrorValue;
+import org.ballerinalang.jvm.values.MapValue;
+import org.ballerinalang.jvm.values.MapValueImpl;
+import org.ballerinalang.jvm.values.ObjectValue;
+import org.ballerinalang.jvm.values.ValueCreator;
+import org.ballerinalang.jvm.values.api.BString;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.StringReader;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Test cases for the {@link JSONEventReader} and for parsing JSON directly into values of a type.
+ */
+@SuppressWarnings("unchecked")
+public class JSONBindingTests {
+
+    private static final BString ID = StringUtils.fromString("id");
+    private static final BString NAME = StringUtils.fromString("name");
+    private static final BString PRICE = StringUtils.fromString("price");
+    private static final BString TAGS = StringUtils.fromString("tags");
+    private static final BString STOCK = StringUtils.fromString("stock");
+
+    private BRecordType itemType;
+    private BRecordType openItemType;
+
+    @BeforeClass
+    public void setup() {
+        Map<String, BField> fields = new LinkedHashMap<>();
+        fields.put("id", new BField(BTypes.typeInt, "id", Flags.REQUIRED));
+        fields.put("name", new BField(BTypes.typeString, "name", Flags.REQUIRED));
+        fields.put("price", new BField(BTypes.typeDecimal, "price", Flags.REQUIRED));
+        fields.put("tags", new BField(new BArrayType(BTypes.typeString), "tags", Flags.OPTIONAL));
+        itemType = new BRecordType("Item", new BPackage("test", "json"), 0, fields, null, true, 0);
+
+        Map<String, BField> openFields = new LinkedHashMap<>(fields);
+        openFields.put("stock", new BField(BTypes.typeInt, "stock", Flags.OPTIONAL));
+        openItemType = new BRecordType("OpenItem", new BPackage("test", "jsondefaults"), 0, openFields,
+                BTypes.typeAnydata, false, 0);
+        ValueCreator.addValueCreator("test", "jsondefaults", "", new ValueCreator() {
+            @Override
+            public MapValue<BString, Object> createRecordValue(String recordTypeName) {
+                MapValue<BString, Object> record = new MapValueImpl<>(openItemType);
+                record.put(STOCK, 10L);
+                return record;
+            }
+
+            @Override
+            public ObjectValue createObjectValue(String objectTypeName, Scheduler scheduler, Strand parent,
+                                                 Map<String, Object> properties, Object[] args) {
+                return null;
+            }
+        });
+    }
+
+    @Test
+    public void testReadEvents() {
+        JSONEventReader reader = new JSONEventReader(new StringReader(
+                "{\"a\": [1, -2.5e3, \"x\\u0041\\n\"], 'b': {}, \"c\": [true, false, null]}"));
+        Event[] expected = {Event.START_OBJECT, Event.FIELD_NAME, Event.START_ARRAY, Event.INT, Event.FLOAT,
+                Event.STRING, Event.END_ARRAY, Event.FIELD_NAME, Event.START_OBJECT, Event.END_OBJECT,
+                Event.FIELD_NAME, Event.START_ARRAY, Event.BOOLEAN, Event.BOOLEAN, Event.NULL, Event.END_ARRAY,
+                Event.END_OBJECT, Event.END_DOCUMENT};
+        Event[] events = new Event[expected.length];
+        Object[] values = new Object[expected.length];
+        for (int i = 0; i < expected.length; i++) {
+            events[i] = reader.next();
+            switch (events[i]) {
+                case FIELD_NAME:
+                case STRING:
+                    values[i] = reader.getText();
+                    break;
+                case INT:
+                    values[i] = reader.getInt();
+                    break;
+                case FLOAT:
+                    values[i] = reader.getFloat();
+                    break;
+                default:
+                    break;
+            }
+        }
+        Assert.assertEquals(events, expected);
+        Assert.assertEquals(values[1], "a");
+        Assert.assertEquals(values[3], 1L);
+        Assert.assertEquals(values[4], -2500.0);
+        Assert.assertEquals(values[5], "xA\n");
+        Assert.assertEquals(values[7], "b");
+    }
+
+    @Test
+    public void testSkipValue() {
+        JSONEventReader reader = new JSONEventReader(new StringReader("[{\"a\": [1, {\"b\": 2}]}, 3]"));
+        Assert.assertEquals(reader.next(), Event.START_ARRAY);
+        Assert.assertEquals(reader.next(), Event.START_OBJECT);
+        reader.skipValue();
+        Assert.assertEquals(reader.getDepth(), 1);
+        Assert.assertEquals(reader.next(), Event.INT);
+        Assert.assertEquals(reader.getInt(), 3L);
+        Assert.assertEquals(reader.next(), Event.END_ARRAY);
+        Assert.assertEquals(reader.next(), Event.END_DOCUMENT);
+    }
+
+    @Test
+    public void testSyntaxErrors() {
+        assertSyntaxError("{\"a\" 1}", "expected ':' but found '1' at line: 1 column: 6");
+        assertSyntaxError("[1, 2", "unexpected end of JSON document");
+        assertSyntaxError("[1 2]", "expected ',' or ']' but found '2'");
+        assertSyntaxError("[01a]", "unrecognized token '01a'");
+        assertSyntaxError("{}\n{}", "JSON document has already ended at line: 2 column: 1");
+        assertSyntaxError("[99999999999999999999]", "number too large '99999999999999999999'");
+    }
+
+    @Test
+    public void testBindRecords() {
+        String json = "[{\"id\": 1, \"name\": \"pen\", \"price\": 1.10, \"tags\": [\"a\", \"b\"]}, " +
+                "{\"id\": 2, \"name\": \"ink\", \"price\": 5}]";
+        ArrayValue items = (ArrayValue) JSONParser.parse(json, new BArrayType(itemType));
+
+        Assert.assertEquals(items.size(), 2);
+        MapValue<BString, Object> first = (MapValue<BString, Object>) items.get(0);
+        Assert.assertSame(first.getType(), itemType);
+        Assert.assertEquals(first.get(ID), 1L);
+        Assert.assertEquals(first.get(NAME).toString(), "pen");
+        Assert.assertEquals(first.get(PRICE), new DecimalValue("1.10"));
+        Assert.assertEquals(((ArrayValue) first.get(TAGS)).getStringArray(), new String[]{"a", "b"});
+        MapValue<BString, Object> second = (MapValue<BString, Object>) items.get(1);
+        Assert.assertEquals(second.get(PRICE), DecimalValue.valueOf(5L));
+        Assert.assertFalse(second.containsKey(TAGS));
+    }
+
+    @Test
+    public void testBindRecordWithDefaultsAndRestFields() {
+        MapValue<BString, Object> item = (MapValue<BString, Object>) JSONParser.parse(
+                "{\"id\": 1, \"name\": \"pen\", \"price\": 2, \"color\": {\"r\": 255}}", openItemType);
+        Assert.assertEquals(item.get(STOCK), 10L);
+        Assert.assertEquals(((MapValue<BString, Object>) item.get(StringUtils.fromString("color")))
+                .get(StringUtils.fromString("r")), 255L);
+    }
+
+    @Test
+    public void testBindMapsTuplesAndUnions() {
+        BType mapType = new BMapType(new BUnionType(Arrays.asList(BTypes.typeInt, BTypes.typeFloat,
+                BTypes.typeNull)));
+        MapValue<BString, Object> map = (MapValue<BString, Object>) JSONParser.parse(
+                "{\"a\": 1, \"b\": 1.5, \"c\": null}", mapType);
+        Assert.assertEquals(map.get(StringUtils.fromString("a")), 1L);
+        Assert.assertEquals(map.get(StringUtils.fromString("b")), 1.5);
+        Assert.assertNull(map.get(StringUtils.fromString("c")));
+        Assert.assertTrue(map.containsKey(StringUtils.fromString("c")));
+
+        BTupleType tupleType = new BTupleType(Arrays.asList(BTypes.typeString, BTypes.typeFloat));
+        ArrayValue tuple = (ArrayValue) JSONParser.parse("[\"x\", 2]", tupleType);
+        Assert.assertEquals(tuple.get(0).toString(), "x");
+        Assert.assertEquals(tuple.get(1), 2.0);
+
+        BType nilableItem = new BUnionType(Arrays.asList(itemType, BTypes.typeNull));
+        Assert.assertNull(JSONParser.parse("null", nilableItem));
+    }
+
+    @Test
+    public void testMismatchesAreRejected() {
+        assertConversionError("[{\"id\": 1, \"name\": \"pen\", \"price\": 1}, {\"id\": \"2\"}]",
+                new BArrayType(itemType), "incompatible value at '$[1].id': expected 'int' but found string");
+        assertConversionError("{\"id\": 1, \"name\": \"pen\", \"price\": 1, \"stock\": 3}", itemType,
+                "field 'stock' cannot be added to the closed record 'json:Item'");
+        assertConversionError("{\"id\": 1, \"price\": 1}", itemType,
+                "missing required field 'name' of type 'string' in record 'json:Item'");
+        assertConversionError("{\"id\": 1, \"name\": \"pen\", \"price\": 1, \"tags\": [\"a\", 2]}", itemType,
+                "incompatible value at '$.tags[1]': expected 'string' but found int");
+        assertConversionError("[1, 2, 3]", new BArrayType(BTypes.typeInt, 2),
+                "expected at most 2 members for 'int[2]'");
+        assertConversionError("[\"x\"]", new BTupleType(Arrays.asList(BTypes.typeString, BTypes.typeFloat)),
+                "expected 2 members for '[string,float]' but found 1");
+    }
+
+    @Test
+    public void testStreamingDataSource() {
+        String json = "[{\"id\": 1, \"name\": \"pen\", \"price\": 1}, {\"id\": 2, \"name\": \"ink\", \"price\": 2}]";
+        JSONArrayDataSource dataSource = new JSONArrayDataSource(new StringReader(json), itemType);
+        Assert.assertTrue(dataSource.hasNext());
+        Assert.assertEquals(((MapValue<BString, Object>) dataSource.next()).get(ID), 1L);
+        Assert.assertTrue(dataSource.hasNext());
+        Assert.assertEquals(((MapValue<BString, Object>) dataSource.next()).get(ID), 2L);
+        Assert.assertFalse(dataSource.hasNext());
+
+        ArrayValue all = (ArrayValue) new JSONArrayDataSource(new StringReader(json)).build();
+        Assert.assertEquals(all.size(), 2);
+        Assert.assertEquals(all.getType().toString(), "json[]");
+
+        JSONArrayDataSource invalid = new JSONArrayDataSource(new StringReader("[{\"id\": \"x\"}]"), itemType);
+        try {
+            invalid.next();
+            Assert.fail("expected a conversion error");
+        } catch (ErrorValue e) {
+            Assert.assertTrue(e.getDetails().toString().contains("incompatible value at '$[0].id'"),
+                    e.getDetails().toString());
+        }
+    }
+
+    private static void assertSyntaxError(String json, String message) {
+        try {
+            JSONEventReader reader = new JSONEventReader(new StringReader(json));
+            while (reader.next() != Event.END_DOCUMENT) {
+                // read through the document
+            }
+            Assert.fail("expected a syntax error for: " + json);
+        } catch (BallerinaException e) {
+            Assert.assertTrue(e.getMessage().contains(message), e.getMessage());
+        }
+    }
+
+    private static void assertConversionError(String json, BType type, String message) {
+        try {
+            JSONParser.parse(json, type);
+            Assert.fail("expected a conversion error for: " + json);
+        } catch (ErrorValue e) {
+            Assert.assertEquals(e.getErrorMessage().getValue(), "{ballerina}ConversionError");
+            Assert.assertTrue(e.getDetails().toString().contains(message), e.getDetails().toString());
+        }
+    }
+}
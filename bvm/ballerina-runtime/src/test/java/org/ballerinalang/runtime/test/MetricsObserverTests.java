@@ -0,0 +1,157 @@
+/*
+*  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*    http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing,
+* software distributed under the License is distributed on an
+* "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+* KIND, either express or implied.  See the License for the
+* specific language governing permissions and limitations
+* under the License.
+*/
+
+package org.ballerinalang.runtime.test;
+
+import org.ballerinalang.jvm.observability.ObserverContext;
+import org.ballerinalang.jvm.observability.metrics.BallerinaMetricsObserver;
+import org.ballerinalang.jvm.observability.metrics.Counter;
+import org.ballerinalang.jvm.observability.metrics.DefaultMetricRegistry;
+import org.ballerinalang.jvm.observability.metrics.MetricId;
+import org.ballerinalang.jvm.observability.metrics.MetricRegistry;
+import org.ballerinalang.jvm.observability.metrics.Tag;
+import org.ballerinalang.jvm.observability.metrics.noop.NoOpCounter;
+import org.ballerinalang.jvm.observability.metrics.noop.NoOpMetricProvider;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Method;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Test cases for the tags of {@link ObserverContext} and the metric handles of {@link BallerinaMetricsObserver}.
+ */
+public class MetricsObserverTests {
+
+    private final AtomicInteger createdCounters = new AtomicInteger();
+    private MetricRegistry registry;
+    private Method setStarted;
+
+    @BeforeClass
+    public void setup() throws NoSuchMethodException {
+        if (DefaultMetricRegistry.getInstance() == null) {
+            DefaultMetricRegistry.setInstance(new MetricRegistry(new CountingMetricProvider()));
+        }
+        registry = DefaultMetricRegistry.getInstance();
+        setStarted = ObserverContext.class.getDeclaredMethod("setStarted");
+        setStarted.setAccessible(true);
+    }
+
+    @Test
+    public void testTagSets() {
+        ObserverContext context = new ObserverContext();
+        context.addMainTag("service", "hello");
+        context.addMainTag("resource", "sayHello");
+        context.addMainTag("resource", "sayHi");
+        context.addTag("error", "true");
+        context.addTag("service", "hello");
+
+        Set<Tag> mainTags = context.getMainTags();
+        Set<Tag> allTags = context.getAllTags();
+        Assert.assertEquals(allTags.size(), 3);
+        Assert.assertEquals(context.getMainTagsHashCode(), mainTags.hashCode());
+        Assert.assertEquals(context.getAllTagsHashCode(), allTags.hashCode());
+        Assert.assertTrue(context.hasMainTags(mainTags));
+        Assert.assertTrue(context.hasAllTags(allTags));
+        Assert.assertFalse(context.hasAllTags(mainTags));
+        Assert.assertFalse(context.hasMainTags(allTags));
+
+        Set<Tag> otherTags = new HashSet<>(allTags);
+        otherTags.remove(Tag.of("error", "true"));
+        otherTags.add(Tag.of("error", "false"));
+        Assert.assertFalse(context.hasAllTags(otherTags));
+        Assert.assertEquals(context.getTag("resource").getValue(), "sayHi");
+    }
+
+    @Test
+    public void testProperties() {
+        ObserverContext context = new ObserverContext();
+        for (int i = 0; i < 20; i++) {
+            context.addProperty("key" + i, i);
+        }
+        context.addProperty("key5", "five");
+        Assert.assertEquals(context.getProperty("key5"), "five");
+        Assert.assertEquals(context.getProperty("key19"), 19);
+        Assert.assertNull(context.getProperty("key20"));
+    }
+
+    @Test
+    public void testMetricsAreResolvedOncePerTagSet() throws ReflectiveOperationException {
+        BallerinaMetricsObserver observer = new BallerinaMetricsObserver();
+        int countersBefore = createdCounters.get();
+        for (int i = 0; i < 100; i++) {
+            observe(observer, i % 10 == 0);
+        }
+
+        Set<Tag> tags = createContext().getAllTags();
+        Counter requests = registry.counter(new MetricId("requests_total", "", tags));
+        Assert.assertEquals(requests.getValue(), 90L);
+        Set<Tag> errorTags = new HashSet<>(tags);
+        errorTags.add(Tag.of("error", "true"));
+        Assert.assertEquals(registry.counter(new MetricId("requests_total", "", errorTags)).getValue(), 10L);
+        // two counters for each of the two sets of tags
+        Assert.assertEquals(createdCounters.get() - countersBefore, 4);
+    }
+
+    private void observe(BallerinaMetricsObserver observer, boolean error) throws ReflectiveOperationException {
+        ObserverContext context = createContext();
+        setStarted.invoke(context);
+        observer.startServerObservation(context);
+        if (error) {
+            context.addTag("error", "true");
+        }
+        observer.stopServerObservation(context);
+    }
+
+    private static ObserverContext createContext() {
+        ObserverContext context = new ObserverContext();
+        context.addMainTag("module", "test/metrics");
+        context.addMainTag("service", "hello");
+        context.addMainTag("resource", "sayHello");
+        return context;
+    }
+
+    /**
+     * Metric provider with counters that count, which records the number of counters created.
+     */
+    private class CountingMetricProvider extends NoOpMetricProvider {
+
+        @Override
+        public Counter newCounter(MetricId metricId) {
+            createdCounters.incrementAndGet();
+            return new NoOpCounter(metricId) {
+
+                private final AtomicLong value = new AtomicLong();
+
+                @Override
+                public void increment(long amount) {
+                    value.addAndGet(amount);
+                }
+
+                @Override
+                public long getValue() {
+                    return value.get();
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,105 @@
+/*
+*  Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*    http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing,
+* software distributed under the License is distributed on an
+* "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+* KIND, either express or implied.  See the License for the
+* specific language governing permissions and limitations
+* under the License.
+*/
+
+package org.ballerinalang.runtime.test;
+
+import org.ballerinalang.jvm.scheduling.ExecutionBackend;
+import org.ballerinalang.jvm.scheduling.Scheduler;
+import org.ballerinalang.jvm.scheduling.SchedulingPolicy;
+import org.ballerinalang.jvm.scheduling.Strand;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Test cases for {@link Scheduler} with each of the {@link SchedulingPolicy}s and {@link ExecutionBackend}s.
+ */
+public class SchedulerTests {
+
+    private static final int ROOT_STRANDS = 200;
+    private static final int CHILDREN_PER_STRAND = 5;
+
+    @DataProvider(name = "policies")
+    public Object[][] policies() {
+        return new Object[][]{
+                {SchedulingPolicy.SHARED, 1}, {SchedulingPolicy.SHARED, 4},
+                {SchedulingPolicy.WORK_STEALING, 1}, {SchedulingPolicy.WORK_STEALING, 4}
+        };
+    }
+
+    @Test(dataProvider = "policies")
+    public void testAllStrandsComplete(SchedulingPolicy policy, int numThreads) {
+        Scheduler scheduler = new Scheduler(numThreads, false, policy);
+        Assert.assertEquals(scheduler.getPolicy(), policy);
+        AtomicInteger completed = new AtomicInteger();
+
+        Function<Object[], Object> child = params -> completed.incrementAndGet();
+        Function<Object[], Object> root = params -> {
+            Strand strand = (Strand) params[0];
+            for (int i = 0; i < CHILDREN_PER_STRAND; i++) {
+                // children spawned from a worker are queued on that worker when work-stealing
+                scheduler.schedule(new Object[1], child, strand, null, null, null);
+            }
+            return completed.incrementAndGet();
+        };
+        for (int i = 0; i < ROOT_STRANDS; i++) {
+            scheduler.schedule(new Object[1], root, null, null, null, null);
+        }
+
+        // returns once all the strands are done and the workers are poisoned
+        scheduler.start();
+        Assert.assertEquals(completed.get(), ROOT_STRANDS * (CHILDREN_PER_STRAND + 1));
+    }
+
+    @Test
+    public void testBlockingStrandsOnVirtualThreadBackend() {
+        Scheduler scheduler = new Scheduler(1, false, SchedulingPolicy.SHARED, ExecutionBackend.VIRTUAL_THREADS);
+        AtomicInteger completed = new AtomicInteger();
+        Function<Object[], Object> blocking = params -> {
+            try {
+                // simulates a blocking Java call
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return completed.incrementAndGet();
+        };
+        for (int i = 0; i < ROOT_STRANDS; i++) {
+            scheduler.schedule(new Object[1], blocking, null, null, null, null);
+        }
+
+        long start = System.nanoTime();
+        scheduler.start();
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        Assert.assertEquals(completed.get(), ROOT_STRANDS);
+        if (scheduler.getBackend() == ExecutionBackend.VIRTUAL_THREADS) {
+            // a single scheduler thread would have taken ROOT_STRANDS * 20ms if the strands blocked it
+            Assert.assertTrue(elapsedMillis < ROOT_STRANDS * 20 / 2, "took " + elapsedMillis + "ms");
+        }
+    }
+
+    @Test
+    public void testPolicyFromValue() {
+        Assert.assertEquals(SchedulingPolicy.fromValue("work-stealing"), SchedulingPolicy.WORK_STEALING);
+        Assert.assertEquals(SchedulingPolicy.fromValue("SHARED"), SchedulingPolicy.SHARED);
+    }
+}
@@ -1,6 +1,9 @@
 package org.ballerinalang.runtime.test;
 
+import org.ballerinalang.jvm.StringUtils;
+import org.ballerinalang.jvm.values.BmpStringValue;
 import org.ballerinalang.jvm.values.NonBmpStringValue;
+import org.ballerinalang.jvm.values.api.BString;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
@@ -40,4 +43,76 @@ public class StringValueTests {
         Assert.assertEquals(SUBJECT.length(), 16);
     }
 
+    @Test
+    void testConcatInLoop() {
+        BString result = StringUtils.fromString("");
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            result = result.concat(StringUtils.fromString("item" + i + ","));
+            expected.append("item").append(i).append(',');
+        }
+        Assert.assertEquals(result.length(), expected.length());
+        Assert.assertEquals(result.getValue(), expected.toString());
+        Assert.assertEquals(result.hashCode(), expected.toString().hashCode());
+        Assert.assertEquals(result, StringUtils.fromString(expected.toString()));
+        Assert.assertEquals(StringUtils.fromString(expected.toString()), result);
+        Assert.assertEquals(result.indexOf(StringUtils.fromString("item500,"), 0), (Long) 3890L);
+        Assert.assertEquals(result.substring(0, 12).getValue(), "item0,item1,");
+    }
+
+    @Test
+    void testConcatToSameString() {
+        BString base = StringUtils.fromString("x").concat(StringUtils.fromString(repeat('a', 100)));
+        BString first = base.concat(StringUtils.fromString("first"));
+        BString second = base.concat(StringUtils.fromString("second"));
+        BString third = first.concat(StringUtils.fromString("third"));
+
+        Assert.assertEquals(base.getValue(), "x" + repeat('a', 100));
+        Assert.assertEquals(first.getValue(), "x" + repeat('a', 100) + "first");
+        Assert.assertEquals(second.getValue(), "x" + repeat('a', 100) + "second");
+        Assert.assertEquals(third.getValue(), "x" + repeat('a', 100) + "firstthird");
+        Assert.assertEquals(base.length(), 101);
+    }
+
+    @Test
+    void testConcatToMaterializedString() {
+        BString base = StringUtils.fromString("x").concat(StringUtils.fromString(repeat('a', 100)));
+        Assert.assertEquals(base.getValue(), "x" + repeat('a', 100));
+        BString first = base.concat(StringUtils.fromString("first"));
+        BString second = first.concat(StringUtils.fromString("second"));
+
+        Assert.assertEquals(base.length(), 101);
+        Assert.assertEquals(base.getValue(), "x" + repeat('a', 100));
+        Assert.assertEquals(second.getValue(), "x" + repeat('a', 100) + "firstsecond");
+        Assert.assertEquals(first.getValue(), "x" + repeat('a', 100) + "first");
+    }
+
+    @Test
+    void testConcatNonBmp() {
+        BString result = StringUtils.fromString("");
+        for (int i = 0; i < 40; i++) {
+            result = result.concat(SUBJECT);
+        }
+        Assert.assertEquals(result.length(), 16 * 40);
+        Assert.assertEquals(result.getCodePoint(16 * 39 + 1), 0x1F6F8);
+        Assert.assertEquals(result.getCodePoint(16 * 39 + 14), 0x1F47D);
+        Assert.assertEquals(result.getCodePoint(16 * 39 + 15), 'r');
+        Assert.assertEquals(result.substring(16, 18).getValue(), "C\uD83D\uDEF8");
+
+        // short strings are concatenated eagerly
+        BString shortResult = SUBJECT.concat(SUBJECT);
+        Assert.assertTrue(shortResult instanceof NonBmpStringValue);
+        Assert.assertEquals(shortResult.getCodePoint(30), 0x1F47D);
+        Assert.assertEquals(StringUtils.fromString("ab").concat(SUBJECT).getCodePoint(3), 0x1F6F8);
+        BString name = StringUtils.fromString("John").concat(StringUtils.fromString("Doe"));
+        Assert.assertTrue(name instanceof BmpStringValue);
+    }
+
+    private static String repeat(char c, int count) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            builder.append(c);
+        }
+        return builder.toString();
+    }
 }
@@ -0,0 +1,231 @@
+/*
+*  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*    http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing,
+* software distributed under the License is distributed on an
+* "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+* KIND, either express or implied.  See the License for the
+* specific language governing permissions and limitations
+* under the License.
+*/
+
+package org.ballerinalang.runtime.test;
+
+import org.ballerinalang.jvm.StringUtils;
+import org.ballerinalang.jvm.types.BField;
+import org.ballerinalang.jvm.types.BPackage;
+import org.ballerinalang.jvm.types.BRecordType;
+import org.ballerinalang.jvm.types.BTableType;
+import org.ballerinalang.jvm.types.BTypes;
+import org.ballerinalang.jvm.util.Flags;
+import org.ballerinalang.jvm.values.ErrorValue;
+import org.ballerinalang.jvm.values.IteratorValue;
+import org.ballerinalang.jvm.values.MapValue;
+import org.ballerinalang.jvm.values.MapValueImpl;
+import org.ballerinalang.jvm.values.TableValueImpl;
+import org.ballerinalang.jvm.values.TupleValueImpl;
+import org.ballerinalang.jvm.values.api.BString;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Test cases for the row store and indexes of {@link TableValueImpl}.
+ */
+public class TableValueTests {
+
+    private static final BString ID = StringUtils.fromString("id");
+    private static final BString NAME = StringUtils.fromString("name");
+    private static final BString AGE = StringUtils.fromString("age");
+
+    private BRecordType rowType;
+    private TableValueImpl<Object, MapValue<BString, Object>> table;
+
+    @BeforeMethod
+    public void setup() {
+        Map<String, BField> fields = new LinkedHashMap<>();
+        fields.put("id", new BField(BTypes.typeInt, "id", Flags.REQUIRED | Flags.READONLY));
+        fields.put("name", new BField(BTypes.typeString, "name", Flags.REQUIRED | Flags.READONLY));
+        fields.put("age", new BField(BTypes.typeInt, "age", Flags.REQUIRED));
+        rowType = new BRecordType("Person", new BPackage("test", "tables"), 0, fields, null, true, 0);
+        table = new TableValueImpl<>(new BTableType(rowType, new String[]{"id"}, false));
+        for (long i = 0; i < 100; i++) {
+            table.add(createRow(i, "name-" + (i % 10), i % 50));
+        }
+    }
+
+    @Test
+    public void testKeyLookup() {
+        Assert.assertEquals(table.size(), 100);
+        Assert.assertTrue(table.containsKey(42L));
+        Assert.assertEquals(table.get(42L).get(AGE), 42L);
+        Assert.assertNull(table.get(100L));
+        Assert.assertEquals(table.getNextKey(), 100L);
+    }
+
+    @Test
+    public void testRemoveKeepsInsertionOrder() {
+        for (long i = 0; i < 100; i += 2) {
+            Assert.assertNotNull(table.remove(i));
+        }
+        Assert.assertNull(table.remove(0L));
+        table.add(createRow(0L, "name-0", 0L));
+
+        List<Object> keys = Arrays.asList(table.getKeys());
+        Assert.assertEquals(keys.size(), 51);
+        Assert.assertEquals(keys.get(0), 1L);
+        Assert.assertEquals(keys.get(49), 99L);
+        Assert.assertEquals(keys.get(50), 0L);
+        Assert.assertEquals(iterateKeys(), keys);
+    }
+
+    @Test
+    public void testPutReplacesRowInPlace() {
+        MapValue<BString, Object> old = table.put(createRow(5L, "other", 1L));
+        Assert.assertEquals(old.get(AGE), 5L);
+        Assert.assertEquals(table.size(), 100);
+        Assert.assertEquals(table.getKeys()[5], 5L);
+        Assert.assertEquals(table.get(5L).get(NAME).toString(), "other");
+    }
+
+    @Test
+    public void testRemoveTrailingRowsWhileIterating() {
+        IteratorValue iterator = table.getIterator();
+        for (int i = 0; i < 97; i++) {
+            iterator.next();
+        }
+        table.remove(98L);
+        table.remove(99L);
+        Assert.assertTrue(iterator.hasNext());
+        Assert.assertEquals(((TupleValueImpl) iterator.next()).get(0), 97L);
+        Assert.assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    public void testInsertAndRemoveChurn() {
+        table.addIndex("name", false);
+        // every row is replaced many times over, which compacts the rows repeatedly
+        for (long i = 100; i < 10000; i++) {
+            table.remove(i - 100);
+            table.add(createRow(i, "name-" + (i % 10), i % 50));
+        }
+        Assert.assertEquals(table.size(), 100);
+        List<Object> keys = Arrays.asList(table.getKeys());
+        Assert.assertEquals(keys.get(0), 9900L);
+        Assert.assertEquals(keys.get(99), 9999L);
+        Assert.assertEquals(iterateKeys(), keys);
+        Assert.assertEquals(table.get(9950L).get(AGE), 0L);
+        Assert.assertNull(table.get(9899L));
+        Assert.assertEquals(table.getRowsByIndex("name", StringUtils.fromString("name-3")).size(), 10);
+        Assert.assertEquals(table.getRowsByIndex("name", StringUtils.fromString("name-3")).get(0).get(ID), 9903L);
+    }
+
+    @Test
+    public void testCompactionWhileIterating() {
+        IteratorValue iterator = table.getIterator();
+        for (int i = 0; i < 10; i++) {
+            iterator.next();
+        }
+        IteratorValue laterIterator = null;
+        // removing 85 of the rows compacts them twice, after both iterators are created
+        for (long i = 0; i < 100; i += 2) {
+            table.remove(i);
+            if (i == 80) {
+                laterIterator = table.getIterator();
+            }
+        }
+        for (long i = 1; i < 70; i += 2) {
+            table.remove(i);
+        }
+
+        List<Object> keys = new ArrayList<>();
+        while (iterator.hasNext()) {
+            keys.add(((TupleValueImpl) iterator.next()).get(0));
+        }
+        Assert.assertEquals(keys, Arrays.asList(71L, 73L, 75L, 77L, 79L, 81L, 83L, 85L, 87L, 89L, 91L, 93L, 95L,
+                97L, 99L));
+        Assert.assertEquals(((TupleValueImpl) laterIterator.next()).get(0), 71L);
+        Assert.assertEquals(table.get(99L).get(AGE), 49L);
+    }
+
+    @Test
+    public void testIterateAfterClear() {
+        IteratorValue iterator = table.getIterator();
+        iterator.next();
+        table.clear();
+        Assert.assertFalse(iterator.hasNext());
+        table.add(createRow(200L, "name-0", 0L));
+        Assert.assertEquals(((TupleValueImpl) iterator.next()).get(0), 200L);
+    }
+
+    @Test
+    public void testHashIndex() {
+        table.addIndex("name", false);
+        List<MapValue<BString, Object>> rows = table.getRowsByIndex("name", StringUtils.fromString("name-3"));
+        Assert.assertEquals(rows.size(), 10);
+        Assert.assertEquals(rows.get(0).get(ID), 3L);
+        Assert.assertEquals(rows.get(9).get(ID), 93L);
+
+        table.remove(3L);
+        table.put(createRow(13L, "name-x", 0L));
+        rows = table.getRowsByIndex("name", StringUtils.fromString("name-3"));
+        Assert.assertEquals(rows.size(), 8);
+        Assert.assertEquals(rows.get(0).get(ID), 23L);
+        Assert.assertEquals(table.getRowsByIndex("name", StringUtils.fromString("name-x")).size(), 1);
+    }
+
+    @Test
+    public void testSortedIndexRange() {
+        table.addIndex("id", true);
+        List<MapValue<BString, Object>> rows = table.getRowsByIndexRange("id", 10L, true, 20L, false);
+        List<Object> ids = new ArrayList<>();
+        rows.forEach(row -> ids.add(row.get(ID)));
+        Assert.assertEquals(ids, Arrays.asList(10L, 11L, 12L, 13L, 14L, 15L, 16L, 17L, 18L, 19L));
+        Assert.assertEquals(table.getRowsByIndexRange("id", 98L, false, null, false).size(), 1);
+
+        table.clear();
+        Assert.assertTrue(table.getRowsByIndexRange("id", null, false, null, false).isEmpty());
+    }
+
+    @Test
+    public void testIndexOnMutableField() {
+        try {
+            table.addIndex("age", false);
+            Assert.fail("expected an error when indexing a mutable field");
+        } catch (ErrorValue e) {
+            Assert.assertEquals(e.getErrorMessage().getValue(), "OperationNotSupported");
+            Assert.assertTrue(e.getDetails().toString().contains(
+                    "cannot index field 'age' since it is not a read-only field"), e.getDetails().toString());
+        }
+    }
+
+    private List<Object> iterateKeys() {
+        List<Object> keys = new ArrayList<>();
+        IteratorValue iterator = table.getIterator();
+        while (iterator.hasNext()) {
+            keys.add(((TupleValueImpl) iterator.next()).get(0));
+        }
+        return keys;
+    }
+
+    private MapValue<BString, Object> createRow(long id, String name, long age) {
+        MapValue<BString, Object> row = new MapValueImpl<>(rowType);
+        row.put(ID, id);
+        row.put(NAME, StringUtils.fromString(name));
+        row.put(AGE, age);
+        return row;
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.runtime.test;
+
+import org.ballerinalang.jvm.scheduling.Strand;
+import org.ballerinalang.jvm.transactions.BallerinaTransactionContext;
+import org.ballerinalang.jvm.transactions.TransactionLocalContext;
+import org.ballerinalang.jvm.transactions.TransactionResourceManager;
+import org.ballerinalang.jvm.values.FPValue;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.transaction.xa.XAResource;
+
+/**
+ * Test cases for the registries of the {@link TransactionResourceManager}.
+ *
+ * @since 2.0.0
+ */
+public class TransactionResourceManagerTests {
+
+    private static final String BLOCK_ID = "0";
+
+    private final TransactionResourceManager resourceManager = TransactionResourceManager.getInstance();
+
+    @Test
+    public void testCommitAndAbort() {
+        Strand strand = new Strand(null);
+        TransactionLocalContext committedContext = startTransaction(strand, "trx-commit");
+        CountingResource committedResource = new CountingResource();
+        AtomicInteger committedCalls = new AtomicInteger();
+        resourceManager.register("trx-commit", BLOCK_ID, committedResource);
+        resourceManager.registerCommittedFunction("trx-commit", createFunction(committedCalls));
+        resourceManager.registerAbortedFunction("trx-commit", createFunction(committedCalls));
+
+        // The transaction committed by a strand other than the one running it is looked up by its id.
+        TransactionLocalContext abortedContext = startTransaction(new Strand(null), "trx-abort");
+        CountingResource abortedResource = new CountingResource();
+        AtomicInteger abortedCalls = new AtomicInteger();
+        resourceManager.register("trx-abort", BLOCK_ID, abortedResource);
+        resourceManager.registerAbortedFunction("trx-abort", createFunction(abortedCalls));
+
+        Assert.assertTrue(resourceManager.notifyCommit(strand, "trx-commit", BLOCK_ID));
+        Assert.assertTrue(resourceManager.notifyAbort(strand, "trx-abort", BLOCK_ID, null));
+
+        Assert.assertEquals(committedResource.commits.get(), 1);
+        Assert.assertEquals(committedResource.rollbacks.get(), 0);
+        Assert.assertEquals(committedCalls.get(), 1);
+        Assert.assertEquals(abortedResource.commits.get(), 0);
+        Assert.assertEquals(abortedResource.rollbacks.get(), 1);
+        Assert.assertEquals(abortedCalls.get(), 1);
+
+        // The resources of a block are released when it ends, and the handlers when the transaction is cleaned up.
+        committedContext.removeTransactionInfo();
+        strand.removeCurrentTrxContext();
+        abortedContext.removeTransactionInfo();
+        Assert.assertTrue(resourceManager.notifyCommit(strand, "trx-commit", BLOCK_ID));
+        Assert.assertEquals(committedResource.commits.get(), 1);
+        Assert.assertEquals(committedCalls.get(), 1);
+    }
+
+    @Test
+    public void testParticipation() {
+        Strand strand = new Strand(null);
+        TransactionLocalContext context = startTransaction(strand, "trx-participant");
+        AtomicInteger committedCalls = new AtomicInteger();
+        AtomicInteger abortedCalls = new AtomicInteger();
+        resourceManager.registerParticipation("trx-participant", "1", createFunction(committedCalls),
+                createFunction(abortedCalls), strand);
+
+        // The handlers of a participant are invoked with those of the global transaction.
+        Assert.assertTrue(resourceManager.notifyCommit(strand, "trx-participant", "1"));
+        Assert.assertEquals(committedCalls.get(), 1);
+        Assert.assertEquals(abortedCalls.get(), 0);
+
+        // Nothing is left behind for the participant once the transaction is cleaned up.
+        context.removeTransactionInfo();
+        strand.removeCurrentTrxContext();
+        Strand otherStrand = new Strand(null);
+        startTransaction(otherStrand, "trx-other");
+        Assert.assertTrue(resourceManager.notifyAbort(otherStrand, "trx-participant", "1", null));
+        Assert.assertTrue(resourceManager.notifyCommit(otherStrand, "1", "1"));
+        Assert.assertEquals(committedCalls.get(), 1);
+        Assert.assertEquals(abortedCalls.get(), 0);
+    }
+
+    @Test
+    public void testConcurrentTransactions() throws Exception {
+        int threads = 16;
+        int transactionsPerThread = 500;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Callable<Integer>> tasks = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            String prefix = "trx-" + i + "-";
+            tasks.add(() -> {
+                int committed = 0;
+                for (int j = 0; j < transactionsPerThread; j++) {
+                    String transactionId = prefix + j;
+                    Strand strand = new Strand(null);
+                    TransactionLocalContext context = startTransaction(strand, transactionId);
+                    CountingResource resource = new CountingResource();
+                    AtomicInteger calls = new AtomicInteger();
+                    resourceManager.register(transactionId, BLOCK_ID, resource);
+                    resourceManager.register(transactionId, BLOCK_ID, resource);
+                    resourceManager.registerCommittedFunction(transactionId, createFunction(calls));
+
+                    resourceManager.notifyCommit(strand, transactionId, BLOCK_ID);
+                    context.removeTransactionInfo();
+                    if (resource.commits.get() == 2 && calls.get() == 1) {
+                        committed++;
+                    }
+                }
+                return committed;
+            });
+        }
+
+        try {
+            for (Future<Integer> future : executor.invokeAll(tasks)) {
+                Assert.assertEquals(future.get().intValue(), transactionsPerThread);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static TransactionLocalContext startTransaction(Strand strand, String transactionId) {
+        TransactionLocalContext context = TransactionLocalContext.create(transactionId, "http://localhost", "2pc");
+        strand.setCurrentTransactionContext(context);
+        context.beginTransactionBlock(BLOCK_ID);
+        return context;
+    }
+
+    private static FPValue<Object[], Object> createFunction(AtomicInteger calls) {
+        return new FPValue<>(args -> calls.incrementAndGet(), null, false);
+    }
+
+    /**
+     * A local resource which counts its commits and rollbacks.
+     */
+    private static class CountingResource implements BallerinaTransactionContext {
+
+        private final AtomicInteger commits = new AtomicInteger();
+        private final AtomicInteger rollbacks = new AtomicInteger();
+
+        @Override
+        public void commit() {
+            commits.incrementAndGet();
+        }
+
+        @Override
+        public void rollback() {
+            rollbacks.incrementAndGet();
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public XAResource getXAResource() {
+            return null;
+        }
+    }
+}
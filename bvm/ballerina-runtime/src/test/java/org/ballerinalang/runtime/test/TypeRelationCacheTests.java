@@ -0,0 +1,99 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.runtime.test;
+
+import org.ballerinalang.jvm.StringUtils;
+import org.ballerinalang.jvm.TypeChecker;
+import org.ballerinalang.jvm.TypeRelationCache;
+import org.ballerinalang.jvm.types.BField;
+import org.ballerinalang.jvm.types.BMapType;
+import org.ballerinalang.jvm.types.BPackage;
+import org.ballerinalang.jvm.types.BRecordType;
+import org.ballerinalang.jvm.types.BType;
+import org.ballerinalang.jvm.types.BTypes;
+import org.ballerinalang.jvm.util.Flags;
+import org.ballerinalang.jvm.values.MapValueImpl;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Test cases for the type relations cached by the {@link TypeChecker}.
+ *
+ * @since 2.0.0
+ */
+public class TypeRelationCacheTests {
+
+    private BRecordType person;
+    private BRecordType employee;
+    private BRecordType named;
+
+    @BeforeMethod
+    public void setup() {
+        TypeRelationCache.clear();
+        person = createRecordType("Person", BTypes.typeInt);
+        employee = createRecordType("Employee", BTypes.typeInt);
+        named = createRecordType("Named", BTypes.typeString);
+    }
+
+    @Test
+    public void testRelationIsCached() {
+        long hits = TypeRelationCache.getHitCount();
+        long misses = TypeRelationCache.getMissCount();
+
+        Assert.assertTrue(TypeChecker.checkIsType(person, employee));
+        Assert.assertEquals(TypeRelationCache.getMissCount(), misses + 1);
+        Assert.assertTrue(TypeChecker.checkIsType(person, employee));
+        Assert.assertEquals(TypeRelationCache.getHitCount(), hits + 1);
+
+        Assert.assertFalse(TypeChecker.checkIsType(person, named));
+        Assert.assertFalse(TypeChecker.checkIsType(person, named));
+        Assert.assertEquals(TypeRelationCache.getHitCount(), hits + 2);
+        Assert.assertEquals(TypeRelationCache.getMissCount(), misses + 2);
+    }
+
+    @Test
+    public void testValueChecksUseCachedRelation() {
+        MapValueImpl<Object, Object> value = new MapValueImpl<>(person);
+        value.put(StringUtils.fromString("id"), 1L);
+        BType mapType = new BMapType(BTypes.typeAnydata);
+
+        long hits = TypeRelationCache.getHitCount();
+        Assert.assertTrue(TypeChecker.checkIsType(value, mapType));
+        Assert.assertSame(TypeChecker.checkCast(value, mapType), value);
+        Assert.assertEquals(TypeRelationCache.getHitCount(), hits + 1);
+    }
+
+    @Test
+    public void testSimpleTypesAreNotCached() {
+        long misses = TypeRelationCache.getMissCount();
+        Assert.assertTrue(TypeChecker.checkIsType(BTypes.typeByte, BTypes.typeInt));
+        Assert.assertFalse(TypeChecker.checkIsType(BTypes.typeString, BTypes.typeInt));
+        Assert.assertEquals(TypeRelationCache.getMissCount(), misses);
+    }
+
+    private static BRecordType createRecordType(String name, BType idType) {
+        Map<String, BField> fields = new LinkedHashMap<>();
+        fields.put("id", new BField(idType, "id", Flags.REQUIRED));
+        return new BRecordType(name, new BPackage("test", "types"), 0, fields, null, true, 0);
+    }
+}
@@ -0,0 +1,190 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.packerina;
+
+import org.ballerinalang.compiler.BLangCompilerException;
+import org.ballerinalang.compiler.CompiledJarCache;
+import org.ballerinalang.model.elements.PackageID;
+import org.ballerinalang.packerina.buildcontext.BuildContext;
+import org.ballerinalang.packerina.buildcontext.BuildContextField;
+import org.wso2.ballerinalang.compiler.CompiledJarFile;
+import org.wso2.ballerinalang.compiler.util.CompilerContext;
+import org.wso2.ballerinalang.compiler.util.ProjectDirConstants;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.jar.Attributes;
+import java.util.jar.JarEntry;
+import java.util.jar.JarInputStream;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
+
+import static org.ballerinalang.compiler.CompiledJarCache.COMPILED_JAR_CACHE_KEY;
+import static org.wso2.ballerinalang.compiler.util.ProjectDirConstants.BLANG_COMPILED_JAR_EXT;
+
+/**
+ * Keeps the jars generated for the modules of a project in the target directory, so that the jar of a module is
+ * reused by later builds as long as the module and its dependencies are unchanged.
+ * <p>
+ * The jar of a module is kept with the hash it was generated for in
+ * '&lt;target&gt;/build_cache/&lt;org&gt;/&lt;module&gt;/&lt;version&gt;', which is not removed when the target
+ * directory is cleaned.
+ *
+ * @since 2.0.0
+ */
+public class CompiledJarCacheImpl implements CompiledJarCache {
+
+    private static final String HASH_FILE_EXT = ".sha256";
+
+    private final Path buildCacheDir;
+    private final List<PackageID> reusedModules = new ArrayList<>();
+
+    public static CompiledJarCacheImpl getInstance(BuildContext buildContext) {
+        CompilerContext context = buildContext.get(BuildContextField.COMPILER_CONTEXT);
+        CompiledJarCache compiledJarCache = context.get(COMPILED_JAR_CACHE_KEY);
+        if (!(compiledJarCache instanceof CompiledJarCacheImpl)) {
+            compiledJarCache = new CompiledJarCacheImpl(buildContext);
+            context.put(COMPILED_JAR_CACHE_KEY, compiledJarCache);
+        }
+        return (CompiledJarCacheImpl) compiledJarCache;
+    }
+
+    private CompiledJarCacheImpl(BuildContext buildContext) {
+        Path targetDir = buildContext.get(BuildContextField.TARGET_DIR);
+        this.buildCacheDir = targetDir.resolve(ProjectDirConstants.BUILD_CACHE_DIR_NAME);
+    }
+
+    @Override
+    public Optional<CompiledJarFile> get(PackageID packageID, String moduleHash) {
+        Path moduleDir = getModuleDir(packageID);
+        Path jarPath = moduleDir.resolve(packageID.name.value + BLANG_COMPILED_JAR_EXT);
+        Path hashPath = moduleDir.resolve(packageID.name.value + HASH_FILE_EXT);
+        if (!Files.exists(jarPath) || !Files.exists(hashPath)) {
+            return Optional.empty();
+        }
+
+        try {
+            String cachedHash = new String(Files.readAllBytes(hashPath), StandardCharsets.UTF_8).trim();
+            if (!cachedHash.equals(moduleHash)) {
+                return Optional.empty();
+            }
+            CompiledJarFile compiledJarFile = readJar(jarPath);
+            reusedModules.add(packageID);
+            return Optional.of(compiledJarFile);
+        } catch (IOException e) {
+            // the module is compiled again if the cached jar cannot be read
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public void put(PackageID packageID, String moduleHash, CompiledJarFile compiledJarFile) {
+        Path moduleDir = getModuleDir(packageID);
+        Path jarPath = moduleDir.resolve(packageID.name.value + BLANG_COMPILED_JAR_EXT);
+        Path hashPath = moduleDir.resolve(packageID.name.value + HASH_FILE_EXT);
+        try {
+            Files.createDirectories(moduleDir);
+            // remove the old hash first, so that the jar is never paired with a hash it was not generated for
+            Files.deleteIfExists(hashPath);
+            writeJar(compiledJarFile, jarPath);
+            Files.write(hashPath, moduleHash.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new BLangCompilerException("error caching the compiled jar of '" + packageID + "' in '" +
+                    jarPath + "': " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Print the modules whose jars were reused from earlier builds.
+     *
+     * @param out stream to print to
+     */
+    public void printReusedModules(PrintStream out) {
+        if (reusedModules.isEmpty()) {
+            return;
+        }
+        out.println();
+        out.println("Reusing compiled modules");
+        for (PackageID packageID : reusedModules) {
+            out.println("\t" + packageID);
+        }
+        reusedModules.clear();
+    }
+
+    private Path getModuleDir(PackageID packageID) {
+        return buildCacheDir.resolve(packageID.orgName.value)
+                .resolve(packageID.name.value)
+                .resolve(packageID.version.value);
+    }
+
+    private static CompiledJarFile readJar(Path jarPath) throws IOException {
+        Map<String, byte[]> jarEntries = new HashMap<>();
+        try (JarInputStream jarInputStream = new JarInputStream(new BufferedInputStream(
+                new FileInputStream(jarPath.toString())))) {
+            byte[] buffer = new byte[8192];
+            JarEntry entry;
+            while ((entry = jarInputStream.getNextJarEntry()) != null) {
+                if (entry.isDirectory()) {
+                    continue;
+                }
+                ByteArrayOutputStream entryContent = new ByteArrayOutputStream();
+                int count;
+                while ((count = jarInputStream.read(buffer)) != -1) {
+                    entryContent.write(buffer, 0, count);
+                }
+                jarEntries.put(entry.getName(), entryContent.toByteArray());
+            }
+
+            Manifest manifest = jarInputStream.getManifest();
+            String mainClassName = manifest == null ? null :
+                    manifest.getMainAttributes().getValue(Attributes.Name.MAIN_CLASS);
+            return mainClassName == null ? new CompiledJarFile(jarEntries) :
+                    new CompiledJarFile(mainClassName, jarEntries);
+        }
+    }
+
+    private static void writeJar(CompiledJarFile compiledJarFile, Path jarPath) throws IOException {
+        Manifest manifest = new Manifest();
+        Attributes mainAttributes = manifest.getMainAttributes();
+        mainAttributes.put(Attributes.Name.MANIFEST_VERSION, "1.0");
+        compiledJarFile.getMainClassName().ifPresent(mainClassName ->
+                mainAttributes.put(Attributes.Name.MAIN_CLASS, mainClassName));
+
+        try (JarOutputStream target = new JarOutputStream(new BufferedOutputStream(
+                new FileOutputStream(jarPath.toString())), manifest)) {
+            for (Map.Entry<String, byte[]> keyVal : compiledJarFile.getJarEntries().entrySet()) {
+                target.putNextEntry(new JarEntry(keyVal.getKey()));
+                target.write(keyVal.getValue());
+                target.closeEntry();
+            }
+        }
+    }
+}
@@ -39,6 +39,8 @@ public enum BuildContextField {
     COMPILER_CONTEXT("compilerContext"),
 
     JAR_RESOLVER("jarResolver"),
+
+    COMPILED_JAR_CACHE("compiledJarCache"),
     
     BIR_CACHE_DIR("birCacheDir");
     
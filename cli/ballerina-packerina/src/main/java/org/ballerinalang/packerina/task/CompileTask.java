@@ -19,6 +19,7 @@
 package org.ballerinalang.packerina.task;
 
 import org.ballerinalang.compiler.BLangCompilerException;
+import org.ballerinalang.packerina.CompiledJarCacheImpl;
 import org.ballerinalang.packerina.buildcontext.BuildContext;
 import org.ballerinalang.packerina.buildcontext.BuildContextField;
 import org.ballerinalang.packerina.buildcontext.sourcecontext.MultiModuleContext;
@@ -72,6 +73,11 @@ public class CompileTask implements Task {
             }
         }
         
+        CompiledJarCacheImpl compiledJarCache = buildContext.get(BuildContextField.COMPILED_JAR_CACHE);
+        if (compiledJarCache != null) {
+            compiledJarCache.printReusedModules(buildContext.out());
+        }
+
         // check if there are any build errors
         List<BLangPackage> modules = buildContext.getModules();
         for (BLangPackage module : modules) {
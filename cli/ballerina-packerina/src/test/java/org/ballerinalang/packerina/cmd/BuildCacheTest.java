@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.packerina.cmd;
+
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import org.wso2.ballerinalang.compiler.util.ProjectDirConstants;
+import picocli.CommandLine;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.wso2.ballerinalang.compiler.util.ProjectDirConstants.BLANG_COMPILED_JAR_EXT;
+
+/**
+ * Tests for reusing the jars of unchanged modules from earlier builds of a project.
+ *
+ * @since 2.0.0
+ */
+public class BuildCacheTest extends CommandTest {
+
+    private static final String REUSED_MODULES_HEADER = "Reusing compiled modules";
+    private static final String APP = "testOrg/app:0.1.0";
+    private static final String UTIL = "testOrg/util:0.1.0";
+    private static final String OTHER = "testOrg/other:0.1.0";
+
+    private Path projectPath;
+
+    @BeforeClass
+    public void setup() throws IOException {
+        super.setup();
+        try {
+            this.projectPath = super.tmpDir.resolve("build-cache-project");
+            URI projectURI = getClass().getClassLoader().getResource("test-resources/build-cache-project").toURI();
+            Files.walkFileTree(Paths.get(projectURI), new BuildCommandTest.Copy(Paths.get(projectURI),
+                    this.projectPath));
+        } catch (URISyntaxException e) {
+            Assert.fail("error loading resources");
+        }
+    }
+
+    @Test(description = "The first build caches the jar of every module")
+    public void testFirstBuild() throws IOException {
+        Assert.assertEquals(build(), new HashSet<>());
+
+        Path buildCache = this.projectPath.resolve(ProjectDirConstants.TARGET_DIR_NAME)
+                .resolve(ProjectDirConstants.BUILD_CACHE_DIR_NAME);
+        for (String module : new String[]{"app", "util", "other"}) {
+            Path moduleCache = buildCache.resolve("testOrg").resolve(module).resolve("0.1.0");
+            Assert.assertTrue(Files.exists(moduleCache.resolve(module + BLANG_COMPILED_JAR_EXT)));
+            Assert.assertTrue(Files.exists(moduleCache.resolve(module + ".sha256")));
+        }
+    }
+
+    @Test(description = "The jars of all modules are reused when nothing has changed",
+            dependsOnMethods = "testFirstBuild")
+    public void testUnchangedSources() throws IOException {
+        Assert.assertEquals(build(), new HashSet<>(Arrays.asList(APP, UTIL, OTHER)));
+        Assert.assertTrue(Files.exists(this.projectPath.resolve(ProjectDirConstants.TARGET_DIR_NAME)
+                .resolve(ProjectDirConstants.BIN_DIR_NAME).resolve("app.jar")));
+    }
+
+    @Test(description = "Changing the body of a function regenerates the jar of its module only",
+            dependsOnMethods = "testUnchangedSources")
+    public void testFunctionBodyChange() throws IOException {
+        replace(this.projectPath.resolve("src").resolve("other").resolve("other.bal"), "return 1;", "return 2;");
+
+        Assert.assertEquals(build(), new HashSet<>(Arrays.asList(APP, UTIL)));
+        Assert.assertEquals(build(), new HashSet<>(Arrays.asList(APP, UTIL, OTHER)));
+    }
+
+    @Test(description = "Changing a module regenerates the jars of the modules which import it",
+            dependsOnMethods = "testFunctionBodyChange")
+    public void testDependencyChange() throws IOException {
+        replace(this.projectPath.resolve("src").resolve("util").resolve("util.bal"), "\"Hello\"", "\"Hi\"");
+
+        Assert.assertEquals(build(), new HashSet<>(Arrays.asList(OTHER)));
+        Assert.assertEquals(build(), new HashSet<>(Arrays.asList(APP, UTIL, OTHER)));
+    }
+
+    /**
+     * Builds all the modules of the project and returns the modules whose jars were reused.
+     *
+     * @return IDs of the reused modules
+     * @throws IOException if the build output cannot be read
+     */
+    private Set<String> build() throws IOException {
+        BuildCommand buildCommand = new BuildCommand(this.projectPath, printStream, printStream, false, true);
+        new CommandLine(buildCommand).parse("--all", "--skip-tests");
+        buildCommand.execute();
+
+        String[] buildLog = readOutput(true).replaceAll("\r", "").split("\n");
+        Set<String> reusedModules = new HashSet<>();
+        int line = Arrays.asList(buildLog).indexOf(REUSED_MODULES_HEADER) + 1;
+        if (line == 0) {
+            return reusedModules;
+        }
+        for (; line < buildLog.length && buildLog[line].startsWith("\t"); line++) {
+            reusedModules.add(buildLog[line].trim());
+        }
+        return reusedModules;
+    }
+
+    private static void replace(Path sourceFile, String target, String replacement) throws IOException {
+        String source = new String(Files.readAllBytes(sourceFile), StandardCharsets.UTF_8);
+        Assert.assertTrue(source.contains(target));
+        Files.write(sourceFile, source.replace(target, replacement).getBytes(StandardCharsets.UTF_8));
+    }
+}
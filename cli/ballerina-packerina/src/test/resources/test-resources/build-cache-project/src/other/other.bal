@@ -0,0 +1,3 @@
+public function getCount() returns int {
+    return 1;
+}
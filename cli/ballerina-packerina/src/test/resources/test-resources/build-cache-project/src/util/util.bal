@@ -0,0 +1,3 @@
+public function getGreeting() returns string {
+    return "Hello";
+}
@@ -0,0 +1,40 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.compiler;
+
+import org.ballerinalang.model.elements.PackageID;
+import org.wso2.ballerinalang.compiler.CompiledJarFile;
+import org.wso2.ballerinalang.compiler.util.CompilerContext;
+
+import java.util.Optional;
+
+/**
+ * Contains methods to reuse the jars generated for modules in earlier builds. The jar of a module is looked up by a
+ * hash of the sources of the module, the BIR of its imports and its native dependencies, so a jar is reused only if
+ * none of them changed since it was generated.
+ *
+ * @since 2.0.0
+ */
+public interface CompiledJarCache {
+
+    CompilerContext.Key<CompiledJarCache> COMPILED_JAR_CACHE_KEY = new CompilerContext.Key<>();
+
+    Optional<CompiledJarFile> get(PackageID packageID, String moduleHash);
+
+    void put(PackageID packageID, String moduleHash, CompiledJarFile compiledJarFile);
+}
@@ -54,6 +54,18 @@ public enum CompilerOptionName {
 
     DUMP_BIR("dumpBIR"),
 
+    DUMP_PHASE_METRICS("dumpPhaseMetrics"),
+
+    BIR_CONSTANT_FOLDING("birConstantFolding"),
+
+    BIR_COPY_PROPAGATION("birCopyPropagation"),
+
+    BIR_UNREACHABLE_BLOCK_REMOVAL("birUnreachableBlockRemoval"),
+
+    BIR_BASIC_BLOCK_MERGING("birBasicBlockMerging"),
+
+    FUSE_QUERY_PIPELINES("fuseQueryPipelines"),
+
     LOCK_ENABLED("lockEnabled"),
 
     EXPERIMENTAL_FEATURES_ENABLED("experimentalFeaturesEnabled"),
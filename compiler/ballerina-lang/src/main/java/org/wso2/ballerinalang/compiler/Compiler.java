@@ -44,6 +44,7 @@ public class Compiler {
     private final CompilerDriver compilerDriver;
     private final BinaryFileWriter binaryFileWriter;
     private final DependencyTree dependencyTree;
+    private final CompilerPhaseMetrics phaseMetrics;
     private final BLangDiagnosticLogHelper dlog;
     private final PackageLoader pkgLoader;
     private final Manifest manifest;
@@ -56,6 +57,7 @@ public class Compiler {
         this.compilerDriver = CompilerDriver.getInstance(context);
         this.binaryFileWriter = BinaryFileWriter.getInstance(context);
         this.dependencyTree = DependencyTree.getInstance(context);
+        this.phaseMetrics = CompilerPhaseMetrics.getInstance(context);
         this.dlog = BLangDiagnosticLogHelper.getInstance(context);
         this.pkgLoader = PackageLoader.getInstance(context);
         this.manifest = ManifestProcessor.getInstance(context).getManifest();
@@ -167,6 +169,7 @@ public class Compiler {
                 dlog.resetErrorCount();
             }
         }
+        this.phaseMetrics.print(this.outStream);
         return packages;
     }
 
@@ -43,9 +43,16 @@ import org.wso2.ballerinalang.compiler.util.CompilerOptions;
 import org.wso2.ballerinalang.compiler.util.Constants;
 import org.wso2.ballerinalang.compiler.util.diagnotic.BLangDiagnosticLogHelper;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
 
+import static org.ballerinalang.compiler.CompilerOptionName.DUMP_PHASE_METRICS;
 import static org.ballerinalang.compiler.CompilerOptionName.TOOLING_COMPILATION;
 import static org.ballerinalang.model.elements.PackageID.ANNOTATIONS;
 import static org.ballerinalang.model.elements.PackageID.ARRAY;
@@ -99,6 +106,7 @@ public class CompilerDriver {
     private final CodeGenerator codeGenerator;
     private final CompilerPhase compilerPhase;
     private final DataflowAnalyzer dataflowAnalyzer;
+    private final CompilerPhaseMetrics phaseMetrics;
     private boolean isToolingCompilation;
 
 
@@ -134,6 +142,9 @@ public class CompilerDriver {
         this.dataflowAnalyzer = DataflowAnalyzer.getInstance(context);
         this.isToolingCompilation = this.options.isSet(TOOLING_COMPILATION)
                 && Boolean.parseBoolean(this.options.get(TOOLING_COMPILATION));
+        this.phaseMetrics = this.options.isSet(DUMP_PHASE_METRICS)
+                && Boolean.parseBoolean(this.options.get(DUMP_PHASE_METRICS)) ?
+                CompilerPhaseMetrics.getInstance(context) : null;
     }
 
     public BLangPackage compilePackage(BLangPackage packageNode) {
@@ -223,93 +234,169 @@ public class CompilerDriver {
     // Private methods
 
     private void compilePackageSymbol(BPackageSymbol packageSymbol) {
-        BLangPackage pkgNode = this.pkgCache.get(packageSymbol.pkgID);
+        // If tests are enabled then the imports of the testable packages are compiled as well.
+        String testsEnabled = this.options.get(CompilerOptionName.SKIP_TESTS);
+        boolean withTestImports = testsEnabled != null && testsEnabled.equals(Constants.SKIP_TESTS);
+        for (List<BLangPackage> level : getCompilationLevels(packageSymbol, this.pkgCache, withTestImports)) {
+            List<BLangPackage> codeGenPkgNodes = new ArrayList<>(level.size());
+            for (BLangPackage pkgNode : level) {
+                if (compile(pkgNode)) {
+                    codeGenPkgNodes.add(pkgNode);
+                }
+            }
+            codeGen(codeGenPkgNodes);
+        }
+    }
+
+    /**
+     * Returns the modules to be compiled to compile the given module, grouped by their depth in the dependency graph,
+     * so that a module comes after all of its imports. Modules of the same depth do not depend on each other, hence
+     * their code can be generated concurrently, and are ordered by their IDs, so that the order of compilation, and
+     * hence the output, is the same in every build. Modules loaded from BALOs and modules which are already type
+     * checked are left out.
+     *
+     * @param packageSymbol   symbol of the module to be compiled
+     * @param pkgCache        package cache holding the modules loaded from sources
+     * @param withTestImports whether the imports of the testable packages are compiled as well
+     * @return modules of each depth, in the order in which they are compiled
+     */
+    static List<List<BLangPackage>> getCompilationLevels(BPackageSymbol packageSymbol, PackageCache pkgCache,
+                                                         boolean withTestImports) {
+        Map<BLangPackage, Integer> depths = new HashMap<>();
+        computeDepth(packageSymbol, pkgCache, withTestImports, depths);
+        List<BLangPackage> modules = new ArrayList<>(depths.keySet());
+        modules.sort(Comparator.comparing(pkgNode -> PackageCache.getCacheID(pkgNode.packageID)));
+
+        List<List<BLangPackage>> levels = new ArrayList<>();
+        for (BLangPackage pkgNode : modules) {
+            int depth = depths.get(pkgNode);
+            while (levels.size() <= depth) {
+                levels.add(new ArrayList<>());
+            }
+            levels.get(depth).add(pkgNode);
+        }
+        return levels;
+    }
+
+    private static int computeDepth(BPackageSymbol packageSymbol, PackageCache pkgCache, boolean withTestImports,
+                                    Map<BLangPackage, Integer> depths) {
+        BLangPackage pkgNode = pkgCache.get(packageSymbol.pkgID);
         if (pkgNode == null) {
             // This is a package loaded from a BALO.
-            return;
+            return -1;
         }
 
         if (pkgNode.completedPhases.contains(CompilerPhase.TYPE_CHECK)) {
-            return;
+            return -1;
         }
 
-        HashSet<BLangImportPackage> importPkgList = new HashSet<>();
-        importPkgList.addAll(pkgNode.imports);
-        // If tests are enabled then get the imports of the testable package as well.
-        String testsEnabled = this.options.get(CompilerOptionName.SKIP_TESTS);
-        if (testsEnabled != null && testsEnabled.equals(Constants.SKIP_TESTS)) {
+        Integer depth = depths.get(pkgNode);
+        if (depth != null) {
+            return depth;
+        }
+        // Guards against cyclic imports, which are reported when the modules are loaded.
+        depths.put(pkgNode, 0);
+
+        Set<BLangImportPackage> importPkgList = new HashSet<>(pkgNode.imports);
+        if (withTestImports) {
             pkgNode.getTestablePkgs().forEach(testablePackage -> importPkgList.addAll(testablePackage.imports));
         }
+        int maxImportDepth = -1;
         for (BLangImportPackage pkg : importPkgList) {
             if (pkg.symbol != null) {
-                this.compilePackageSymbol(pkg.symbol);
+                maxImportDepth = Math.max(maxImportDepth, computeDepth(pkg.symbol, pkgCache, withTestImports,
+                        depths));
             }
         }
-        compile(pkgNode);
+        depths.put(pkgNode, maxImportDepth + 1);
+        return maxImportDepth + 1;
     }
 
-    private void compile(BLangPackage pkgNode) {
+    /**
+     * Compiles the given module up to the generation of its code.
+     *
+     * @param pkgNode module to be compiled
+     * @return whether the code of the module is to be generated
+     */
+    private boolean compile(BLangPackage pkgNode) {
         if (this.stopCompilation(pkgNode, CompilerPhase.TYPE_CHECK)) {
-            return;
+            return false;
         }
 
-        typeCheck(pkgNode);
+        runPhase(pkgNode, CompilerPhase.TYPE_CHECK, this::typeCheck);
         if (this.stopCompilation(pkgNode, CompilerPhase.CODE_ANALYZE)) {
-            return;
+            return false;
         }
 
-        codeAnalyze(pkgNode);
+        runPhase(pkgNode, CompilerPhase.CODE_ANALYZE, this::codeAnalyze);
         if (this.stopCompilation(pkgNode, CompilerPhase.DATAFLOW_ANALYZE)) {
-            return;
+            return false;
         }
 
-        dataflowAnalyze(pkgNode);
+        runPhase(pkgNode, CompilerPhase.DATAFLOW_ANALYZE, this::dataflowAnalyze);
         if (this.stopCompilation(pkgNode, CompilerPhase.DOCUMENTATION_ANALYZE)) {
-            return;
+            return false;
         }
 
-        documentationAnalyze(pkgNode);
+        runPhase(pkgNode, CompilerPhase.DOCUMENTATION_ANALYZE, this::documentationAnalyze);
         if (this.stopCompilation(pkgNode, CompilerPhase.TAINT_ANALYZE)) {
-            return;
+            return false;
         }
 
-        taintAnalyze(pkgNode);
+        runPhase(pkgNode, CompilerPhase.TAINT_ANALYZE, this::taintAnalyze);
         if (this.stopCompilation(pkgNode, CompilerPhase.CONSTANT_PROPAGATION)) {
-            return;
+            return false;
         }
 
-        propagateConstants(pkgNode);
+        runPhase(pkgNode, CompilerPhase.CONSTANT_PROPAGATION, this::propagateConstants);
         if (this.stopCompilation(pkgNode, CompilerPhase.COMPILER_PLUGIN)) {
-            return;
+            return false;
         }
 
-        annotationProcess(pkgNode);
+        runPhase(pkgNode, CompilerPhase.COMPILER_PLUGIN, this::annotationProcess);
         if (this.stopCompilation(pkgNode, CompilerPhase.OBSERVABILITY_DATA_GEN)) {
-            return;
+            return false;
         }
 
-        generateObservabilityData(pkgNode);
+        runPhase(pkgNode, CompilerPhase.OBSERVABILITY_DATA_GEN, this::generateObservabilityData);
         if (this.stopCompilation(pkgNode, CompilerPhase.DESUGAR)) {
-            return;
+            return false;
         }
 
-        desugar(pkgNode);
+        runPhase(pkgNode, CompilerPhase.DESUGAR, this::desugar);
         if (this.stopCompilation(pkgNode, CompilerPhase.BIR_GEN)) {
-            return;
+            return false;
         }
 
-        birGen(pkgNode);
-        if (this.stopCompilation(pkgNode, CompilerPhase.CODE_GEN)) {
+        runPhase(pkgNode, CompilerPhase.BIR_GEN, this::birGen);
+        return !this.stopCompilation(pkgNode, CompilerPhase.CODE_GEN);
+    }
+
+    private void runPhase(BLangPackage pkgNode, CompilerPhase phase, Consumer<BLangPackage> phaseRunner) {
+        if (phaseMetrics == null) {
+            phaseRunner.accept(pkgNode);
             return;
         }
-
-        codeGen(pkgNode);
+        long startTime = System.nanoTime();
+        phaseRunner.accept(pkgNode);
+        phaseMetrics.record(pkgNode.packageID, phase, System.nanoTime() - startTime);
     }
 
     private BLangPackage codeGen(BLangPackage pkgNode) {
         return this.codeGenerator.generate(pkgNode);
     }
 
+    private void codeGen(List<BLangPackage> pkgNodes) {
+        if (phaseMetrics == null) {
+            this.codeGenerator.generate(pkgNodes);
+            return;
+        }
+        // The code of the modules is generated one after another, so that the time taken for each is measured.
+        for (BLangPackage pkgNode : pkgNodes) {
+            runPhase(pkgNode, CompilerPhase.CODE_GEN, this::codeGen);
+        }
+    }
+
     private void generateObservabilityData(BLangPackage pkgNode) {
         this.observabilitySymbolCollector.process(pkgNode);
     }
@@ -0,0 +1,100 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.wso2.ballerinalang.compiler;
+
+import org.ballerinalang.compiler.CompilerPhase;
+import org.ballerinalang.model.elements.PackageID;
+import org.wso2.ballerinalang.compiler.util.CompilerContext;
+
+import java.io.PrintStream;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records the time taken by each compiler phase to compile each module, in the order in which the modules are
+ * compiled.
+ *
+ * @since 2.0.0
+ */
+public class CompilerPhaseMetrics {
+
+    private static final CompilerContext.Key<CompilerPhaseMetrics> COMPILER_PHASE_METRICS_KEY =
+            new CompilerContext.Key<>();
+
+    private final Map<PackageID, Map<CompilerPhase, Long>> moduleMetrics = new LinkedHashMap<>();
+
+    public static CompilerPhaseMetrics getInstance(CompilerContext context) {
+        CompilerPhaseMetrics phaseMetrics = context.get(COMPILER_PHASE_METRICS_KEY);
+        if (phaseMetrics == null) {
+            phaseMetrics = new CompilerPhaseMetrics(context);
+        }
+        return phaseMetrics;
+    }
+
+    private CompilerPhaseMetrics(CompilerContext context) {
+        context.put(COMPILER_PHASE_METRICS_KEY, this);
+    }
+
+    /**
+     * Record the time taken by a compiler phase to compile a module.
+     *
+     * @param pkgID module compiled
+     * @param phase compiler phase
+     * @param nanos time taken in nanoseconds
+     */
+    public void record(PackageID pkgID, CompilerPhase phase, long nanos) {
+        moduleMetrics.computeIfAbsent(pkgID, k -> new EnumMap<>(CompilerPhase.class)).merge(phase, nanos, Long::sum);
+    }
+
+    /**
+     * Returns the time taken by each compiler phase to compile a module.
+     *
+     * @param pkgID module compiled
+     * @return time taken in nanoseconds by each compiler phase
+     */
+    public Map<CompilerPhase, Long> getPhaseTimes(PackageID pkgID) {
+        Map<CompilerPhase, Long> phaseTimes = moduleMetrics.get(pkgID);
+        return phaseTimes == null ? Collections.emptyMap() : Collections.unmodifiableMap(phaseTimes);
+    }
+
+    /**
+     * Print the time taken by each compiler phase for the modules compiled since the last print, and clear them.
+     *
+     * @param outStream stream to print to
+     */
+    public void print(PrintStream outStream) {
+        if (moduleMetrics.isEmpty()) {
+            return;
+        }
+        outStream.println("Compiler phase times");
+        for (Map.Entry<PackageID, Map<CompilerPhase, Long>> module : moduleMetrics.entrySet()) {
+            long total = 0;
+            StringBuilder phases = new StringBuilder();
+            for (Map.Entry<CompilerPhase, Long> phase : module.getValue().entrySet()) {
+                total += phase.getValue();
+                phases.append(", ").append(phase.getKey().toString()).append(": ")
+                        .append(TimeUnit.NANOSECONDS.toMillis(phase.getValue())).append("ms");
+            }
+            outStream.println("\t" + module.getKey() + " - " + TimeUnit.NANOSECONDS.toMillis(total) + "ms" + phases);
+        }
+        moduleMetrics.clear();
+    }
+}
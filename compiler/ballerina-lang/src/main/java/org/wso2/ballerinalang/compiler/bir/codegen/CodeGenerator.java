@@ -18,12 +18,15 @@
 package org.wso2.ballerinalang.compiler.bir.codegen;
 
 import org.ballerinalang.compiler.BLangCompilerException;
+import org.ballerinalang.compiler.CompiledJarCache;
 import org.ballerinalang.compiler.CompilerOptionName;
 import org.ballerinalang.compiler.JarResolver;
 import org.ballerinalang.model.elements.PackageID;
+import org.wso2.ballerinalang.compiler.CompiledJarFile;
 import org.wso2.ballerinalang.compiler.PackageCache;
 import org.wso2.ballerinalang.compiler.bir.codegen.interop.InteropValidator;
 import org.wso2.ballerinalang.compiler.bir.emit.BIREmitter;
+import org.wso2.ballerinalang.compiler.bir.optimizer.BIROptimizer;
 import org.wso2.ballerinalang.compiler.semantics.model.SymbolTable;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.BPackageSymbol;
 import org.wso2.ballerinalang.compiler.tree.BLangPackage;
@@ -42,13 +45,25 @@ import java.net.MalformedURLException;
 import java.net.URL;
 import java.net.URLClassLoader;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
 
+import static org.ballerinalang.compiler.CompiledJarCache.COMPILED_JAR_CACHE_KEY;
 import static org.ballerinalang.compiler.JarResolver.JAR_RESOLVER_KEY;
 import static org.wso2.ballerinalang.compiler.util.ProjectDirConstants.BALLERINA_HOME;
 import static org.wso2.ballerinalang.compiler.util.ProjectDirConstants.BALLERINA_HOME_BRE;
@@ -72,6 +87,7 @@ public class CodeGenerator {
     private boolean skipTests;
     private boolean dumbBIR;
     private boolean skipModuleDependencies;
+    private String birOptimizations;
     private Path ballerinaHome = Paths.get(System.getProperty(BALLERINA_HOME));
 
     private CodeGenerator(CompilerContext compilerContext) {
@@ -88,6 +104,14 @@ public class CodeGenerator {
         this.dumbBIR = getBooleanValueIfSet(compilerOptions, CompilerOptionName.DUMP_BIR);
         this.skipModuleDependencies = getBooleanValueIfSet(compilerOptions,
                 CompilerOptionName.SKIP_MODULE_DEPENDENCIES);
+
+        StringBuilder birOptimizations = new StringBuilder();
+        for (CompilerOptionName optionName : new CompilerOptionName[]{CompilerOptionName.BIR_CONSTANT_FOLDING,
+                CompilerOptionName.BIR_COPY_PROPAGATION, CompilerOptionName.BIR_UNREACHABLE_BLOCK_REMOVAL,
+                CompilerOptionName.BIR_BASIC_BLOCK_MERGING}) {
+            birOptimizations.append(BIROptimizer.isEnabled(compilerOptions, optionName) ? '1' : '0');
+        }
+        this.birOptimizations = birOptimizations.toString();
     }
 
     public static CodeGenerator getInstance(CompilerContext context) {
@@ -107,33 +131,82 @@ public class CodeGenerator {
 
     public BLangPackage generate(BLangPackage bLangPackage) {
 
-        if (dumbBIR) {
-            birEmitter.emit(bLangPackage.symbol.bir);
-        }
+        generate(Collections.singletonList(bLangPackage));
+        return bLangPackage;
+    }
 
-        // find module dependencies path
-        Set<Path> moduleDependencies = findDependencies(bLangPackage.packageID);
+    /**
+     * Generates the jars of modules which don't import each other. The modules are linked with their imports one
+     * after another, and their classes are then generated concurrently. The jars are set to the modules and cached in
+     * the given order once all of them are generated, hence the outcome doesn't depend on which of them finishes
+     * first. The jars of the tests of the modules are generated afterwards, one after another.
+     *
+     * @param bLangPackages modules to generate the jars of
+     */
+    public void generate(List<BLangPackage> bLangPackages) {
+
+        List<Set<Path>> moduleDependencies = new ArrayList<>(bLangPackages.size());
+        List<ModuleJarGen> moduleJarGens = new ArrayList<>(bLangPackages.size());
+        for (BLangPackage bLangPackage : bLangPackages) {
+            if (dumbBIR) {
+                birEmitter.emit(bLangPackage.symbol.bir);
+            }
 
-        // generate module jar
-        generate(bLangPackage.symbol, moduleDependencies);
+            // find module dependencies path
+            Set<Path> dependencies = findDependencies(bLangPackage.packageID);
+            moduleDependencies.add(dependencies);
 
-        if (skipTests || !bLangPackage.hasTestablePackage()) {
-            return bLangPackage;
+            // link the module with its imports
+            moduleJarGens.add(link(bLangPackage.symbol, dependencies, bLangPackage.sourceDigest));
         }
 
-        bLangPackage.getTestablePkgs().forEach(testablePackage -> {
+        // generate module jars
+        if (moduleJarGens.size() == 1) {
+            moduleJarGens.get(0).generate();
+        } else {
+            List<CompletableFuture<CompiledJarFile>> futures = new ArrayList<>(moduleJarGens.size());
+            for (ModuleJarGen moduleJarGen : moduleJarGens) {
+                futures.add(CompletableFuture.supplyAsync(moduleJarGen.classGen));
+            }
+            for (int i = 0; i < moduleJarGens.size(); i++) {
+                moduleJarGens.get(i).complete(join(futures.get(i)));
+            }
+        }
 
-            // find module dependencies path
-            Set<Path> testDependencies = findTestDependencies(testablePackage.packageID, moduleDependencies);
+        if (skipTests) {
+            return;
+        }
 
-            // generate test module jar
-            generate(testablePackage.symbol, testDependencies);
-        });
+        for (int i = 0; i < bLangPackages.size(); i++) {
+            BLangPackage bLangPackage = bLangPackages.get(i);
+            if (!bLangPackage.hasTestablePackage()) {
+                continue;
+            }
 
-        return bLangPackage;
+            Set<Path> dependencies = moduleDependencies.get(i);
+            bLangPackage.getTestablePkgs().forEach(testablePackage -> {
+
+                // find module dependencies path
+                Set<Path> testDependencies = findTestDependencies(testablePackage.packageID, dependencies);
+
+                // generate test module jar
+                link(testablePackage.symbol, testDependencies, null).generate();
+            });
+        }
     }
 
-    private void generate(BPackageSymbol packageSymbol, Set<Path> moduleDependencies) {
+    private ModuleJarGen link(BPackageSymbol packageSymbol, Set<Path> moduleDependencies, byte[] sourceDigest) {
+
+        // test modules have the same module id as the module they test, hence only module jars are cached
+        CompiledJarCache compiledJarCache = sourceDigest != null ? compilerContext.get(COMPILED_JAR_CACHE_KEY) : null;
+        String moduleHash = null;
+        if (compiledJarCache != null && packageSymbol.birPackageFile != null) {
+            moduleHash = getModuleHash(packageSymbol, sourceDigest, moduleDependencies);
+            Optional<CompiledJarFile> compiledJarFile = compiledJarCache.get(packageSymbol.pkgID, moduleHash);
+            if (compiledJarFile.isPresent()) {
+                return new ModuleJarGen(packageSymbol, compiledJarFile::get, null);
+            }
+        }
 
         final JvmPackageGen jvmPackageGen = new JvmPackageGen(symbolTable, packageCache, dlog);
 
@@ -141,7 +214,112 @@ public class CodeGenerator {
 
         ClassLoader interopValidationClassLoader = makeClassLoader(moduleDependencies);
         InteropValidator interopValidator = new InteropValidator(interopValidationClassLoader, symbolTable);
-        packageSymbol.compiledJarFile = jvmPackageGen.generate(packageSymbol.bir, interopValidator, true);
+        return new ModuleJarGen(packageSymbol, jvmPackageGen.link(packageSymbol.bir, interopValidator, true),
+                moduleHash);
+    }
+
+    private static CompiledJarFile join(CompletableFuture<CompiledJarFile> future) {
+
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Generator of the jar of a module, which sets the jar to the module and caches it once generated.
+     */
+    private class ModuleJarGen {
+
+        private final BPackageSymbol packageSymbol;
+        private final Supplier<CompiledJarFile> classGen;
+        private final String moduleHash;
+
+        private ModuleJarGen(BPackageSymbol packageSymbol, Supplier<CompiledJarFile> classGen, String moduleHash) {
+
+            this.packageSymbol = packageSymbol;
+            this.classGen = classGen;
+            this.moduleHash = moduleHash;
+        }
+
+        private void generate() {
+
+            complete(classGen.get());
+        }
+
+        private void complete(CompiledJarFile compiledJarFile) {
+
+            packageSymbol.compiledJarFile = compiledJarFile;
+            if (moduleHash != null && dlog.getErrorCount() == 0) {
+                compilerContext.get(COMPILED_JAR_CACHE_KEY).put(packageSymbol.pkgID, moduleHash, compiledJarFile);
+            }
+        }
+    }
+
+    /**
+     * Computes the hash which identifies the jar of a module. The jar of a module is generated from the sources of
+     * the module and the BIR of the modules it imports, and is validated against its native dependencies, hence the
+     * hash covers all of them along with the version of the compiler and the BIR optimizations enabled. The BIR of a
+     * module holds only its declarations, hence the sources cover the function bodies.
+     *
+     * @param packageSymbol      symbol of the module
+     * @param sourceDigest       digest of the sources of the module
+     * @param moduleDependencies native dependencies of the module
+     * @return hex encoded SHA-256 hash
+     */
+    private String getModuleHash(BPackageSymbol packageSymbol, byte[] sourceDigest, Set<Path> moduleDependencies) {
+
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new BLangCompilerException("error computing the hash of module '" + packageSymbol.pkgID + "'", e);
+        }
+        digest.update(RepoUtils.getBallerinaVersion().getBytes(StandardCharsets.UTF_8));
+        digest.update(birOptimizations.getBytes(StandardCharsets.UTF_8));
+        digest.update(sourceDigest);
+        digest.update(packageSymbol.birPackageFile.pkgBirBinaryContent);
+
+        Map<String, BPackageSymbol> imports = new TreeMap<>();
+        collectImports(packageSymbol, imports);
+        for (Map.Entry<String, BPackageSymbol> importEntry : imports.entrySet()) {
+            digest.update(importEntry.getKey().getBytes(StandardCharsets.UTF_8));
+            BPackageSymbol importSymbol = importEntry.getValue();
+            if (importSymbol.birPackageFile != null) {
+                digest.update(importSymbol.birPackageFile.pkgBirBinaryContent);
+            }
+        }
+
+        List<Path> dependencies = new ArrayList<>(moduleDependencies);
+        dependencies.sort(Comparator.comparing(Path::toString));
+        for (Path dependency : dependencies) {
+            File dependencyFile = dependency.toFile();
+            digest.update((dependency + ":" + dependencyFile.length() + ":" + dependencyFile.lastModified())
+                    .getBytes(StandardCharsets.UTF_8));
+        }
+
+        StringBuilder moduleHash = new StringBuilder();
+        for (byte hashByte : digest.digest()) {
+            moduleHash.append(String.format("%02x", hashByte));
+        }
+        return moduleHash.toString();
+    }
+
+    private void collectImports(BPackageSymbol packageSymbol, Map<String, BPackageSymbol> imports) {
+
+        for (BPackageSymbol importSymbol : packageSymbol.imports) {
+            if (importSymbol == null || imports.putIfAbsent(importSymbol.pkgID.toString(), importSymbol) != null) {
+                continue;
+            }
+            collectImports(importSymbol, imports);
+        }
     }
 
     private Set<Path> findDependencies(PackageID packageID) {
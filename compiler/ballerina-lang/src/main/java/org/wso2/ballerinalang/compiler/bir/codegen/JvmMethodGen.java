@@ -227,7 +227,6 @@ import static org.wso2.ballerinalang.compiler.bir.model.BIRTerminator.Return;
 public class JvmMethodGen {
 
     private static final FunctionParamComparator FUNCTION_PARAM_COMPARATOR = new FunctionParamComparator();
-    private static ResolvedTypeBuilder typeBuilder = new ResolvedTypeBuilder();
     private int nextId = -1;
     private int nextVarId = -1;
     private JvmPackageGen jvmPackageGen;
@@ -1231,7 +1230,7 @@ public class JvmMethodGen {
     }
 
     private static String generateReturnType(BType bType, boolean isExtern /* = false */) {
-        bType = typeBuilder.build(bType);
+        bType = new ResolvedTypeBuilder().build(bType);
 
         if (bType == null || bType.tag == TypeTags.NIL || bType.tag == TypeTags.NEVER) {
             if (isExtern) {
@@ -1627,7 +1626,7 @@ public class JvmMethodGen {
         // generate method desc
         BType retType = func.type.retType;
         if (isExternFunc(func) && Symbols.isFlagOn(retType.flags, Flags.PARAMETERIZED)) {
-            retType = typeBuilder.build(func.type.retType);
+            retType = new ResolvedTypeBuilder().build(func.type.retType);
         }
 
         String desc = getMethodDesc(func.type.paramTypes, retType, null, false);
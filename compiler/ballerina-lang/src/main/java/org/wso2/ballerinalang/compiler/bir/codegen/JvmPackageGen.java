@@ -70,6 +70,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
 import static org.objectweb.asm.ClassWriter.COMPUTE_FRAMES;
 import static org.objectweb.asm.Opcodes.ACC_FINAL;
@@ -127,8 +128,6 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.interop.ExternalMethod
  */
 public class JvmPackageGen {
 
-    private static ResolvedTypeBuilder typeBuilder;
-
     public final SymbolTable symbolTable;
     public final PackageCache packageCache;
     private final JvmMethodGen jvmMethodGen;
@@ -148,7 +147,6 @@ public class JvmPackageGen {
         this.packageCache = packageCache;
         this.dlog = dlog;
         jvmMethodGen = new JvmMethodGen(this);
-        typeBuilder = new ResolvedTypeBuilder();
 
         JvmCastGen.symbolTable = symbolTable;
         JvmInstructionGen.anyType = symbolTable.anyType;
@@ -355,7 +353,7 @@ public class JvmPackageGen {
 
         BType retType = functionTypeDesc.retType;
         if (isExternFunc(currentFunc) && Symbols.isFlagOn(retType.flags, Flags.PARAMETERIZED)) {
-            retType = typeBuilder.build(retType);
+            retType = new ResolvedTypeBuilder().build(retType);
         }
 
         String jvmMethodDescription = getMethodDesc(functionTypeDesc.paramTypes, retType, attachedType, false);
@@ -425,6 +423,22 @@ public class JvmPackageGen {
 
     CompiledJarFile generate(BIRNode.BIRPackage module, InteropValidator interopValidator, boolean isEntry) {
 
+        return link(module, interopValidator, isEntry).get();
+    }
+
+    /**
+     * Links a module with the modules it imports and maps its functions to classes. Linking rewrites the BIR of the
+     * imported modules, hence modules which share imports are linked one after another. The returned supplier
+     * generates the classes of the module and rewrites only the BIR of the module, hence the classes of modules which
+     * don't import each other can be generated concurrently.
+     *
+     * @param module           BIR of the module
+     * @param interopValidator validator of the interop functions of the module
+     * @param isEntry          whether the classes of the module are generated
+     * @return supplier of the jar of the module
+     */
+    Supplier<CompiledJarFile> link(BIRNode.BIRPackage module, InteropValidator interopValidator, boolean isEntry) {
+
         String orgName = module.org.value;
         String moduleName = module.name.value;
         String version = module.version.value;
@@ -439,7 +453,7 @@ public class JvmPackageGen {
                     importModule.name.value));
             generateDependencyList(pkgSymbol, interopValidator);
             if (dlog.getErrorCount() > 0) {
-                return new CompiledJarFile(Collections.emptyMap());
+                return () -> new CompiledJarFile(Collections.emptyMap());
             }
         }
 
@@ -451,9 +465,15 @@ public class JvmPackageGen {
         Map<String, JavaClass> jvmClassMapping = generateClassNameMapping(module, pkgName, moduleInitClass,
                 interopValidator, isEntry);
         if (!isEntry || dlog.getErrorCount() > 0) {
-            return new CompiledJarFile(Collections.emptyMap());
+            return () -> new CompiledJarFile(Collections.emptyMap());
         }
 
+        return () -> generateClasses(module, moduleImports, moduleInitClass, jvmClassMapping);
+    }
+
+    private CompiledJarFile generateClasses(BIRPackage module, Set<PackageID> moduleImports, String moduleInitClass,
+                                            Map<String, JavaClass> jvmClassMapping) {
+
         // using a concurrent hash map to store class byte values, which are generated in parallel
         final Map<String, byte[]> jarEntries = new ConcurrentHashMap<>();
 
@@ -120,8 +120,6 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.JvmPackageGen.getPacka
  */
 public class InteropMethodGen {
 
-    private static final ResolvedTypeBuilder typeBuilder = new ResolvedTypeBuilder();
-
     static void genJFieldForInteropField(JFieldFunctionWrapper jFieldFuncWrapper,
                                          ClassWriter classWriter,
                                          BIRPackage birModule,
@@ -142,7 +140,7 @@ public class InteropMethodGen {
         BType retType = birFunc.type.retType;
 
         if (Symbols.isFlagOn(retType.flags, Flags.PARAMETERIZED)) {
-            retType = typeBuilder.build(birFunc.type.retType);
+            retType = new ResolvedTypeBuilder().build(birFunc.type.retType);
         }
 
         String desc = getMethodDesc(birFunc.type.paramTypes, retType, null, false);
@@ -296,7 +294,7 @@ public class InteropMethodGen {
         // resetting the variable generation index
         BType retType = birFunc.type.retType;
         if (Symbols.isFlagOn(retType.flags, Flags.PARAMETERIZED)) {
-            retType = typeBuilder.build(birFunc.type.retType);
+            retType = new ResolvedTypeBuilder().build(birFunc.type.retType);
         }
         JMethod jMethod = extFuncWrapper.jMethod;
         Class<?>[] jMethodParamTypes = jMethod.getParamTypes();
@@ -45,8 +45,6 @@ class JMethodRequest {
     boolean returnsBErrorType = false;
     boolean restParamExist = false;
 
-    private static ResolvedTypeBuilder typeBuilder = new ResolvedTypeBuilder();
-
     private JMethodRequest() {
 
     }
@@ -83,7 +81,7 @@ class JMethodRequest {
         jMethodReq.bFuncParamCount = paramTypes.size();
         jMethodReq.bParamTypes = paramTypes.toArray(new BType[0]);
 
-        BType returnType = typeBuilder.build(bFuncType.retType);
+        BType returnType = new ResolvedTypeBuilder().build(bFuncType.retType);
         jMethodReq.bReturnType = returnType;
         if (returnType.tag == TypeTags.UNION) {
             for (BType bType : ((BUnionType) returnType).getMemberTypes()) {
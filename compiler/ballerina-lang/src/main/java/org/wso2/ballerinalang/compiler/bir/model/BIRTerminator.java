@@ -245,6 +245,11 @@ public abstract class BIRTerminator extends BIRAbstractInstruction implements BI
 
         public Integer lockId = -1;
 
+        /**
+         * Whether the locked block only reads, so that the lock is held in shared mode.
+         */
+        public boolean shared;
+
         public Lock(DiagnosticPos pos, BIRBasicBlock lockedBB) {
             super(pos, InstructionKind.LOCK);
             this.lockedBB = lockedBB;
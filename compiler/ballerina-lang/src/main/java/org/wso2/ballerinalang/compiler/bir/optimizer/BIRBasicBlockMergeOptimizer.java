@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.ballerinalang.compiler.bir.optimizer;
+
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRBasicBlock;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRErrorEntry;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRFunction;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRVariableDcl;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator;
+import org.wso2.ballerinalang.compiler.bir.model.BIRTerminator;
+import org.wso2.ballerinalang.compiler.bir.model.BIRVisitor;
+import org.wso2.ballerinalang.compiler.bir.model.InstructionKind;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Merge a basic block ending with a goto with the basic block it goes to, when the latter has no other predecessor.
+ * Basic blocks referred to by the error table, and basic blocks not covered by the same error entries, are not
+ * merged, since the error table is generated from the order of the basic blocks.
+ *
+ * @since 2.0.0
+ */
+public class BIRBasicBlockMergeOptimizer extends BIRVisitor {
+
+    private boolean changed;
+
+    /**
+     * Merge the basic blocks of a module.
+     *
+     * @param birPackage module
+     * @return true if any basic block was merged
+     */
+    public boolean optimize(BIRNode.BIRPackage birPackage) {
+        this.changed = false;
+        birPackage.accept(this);
+        return this.changed;
+    }
+
+    @Override
+    public void visit(BIRNode.BIRPackage birPackage) {
+        birPackage.typeDefs.forEach(tDef -> tDef.accept(this));
+        birPackage.functions.forEach(func -> func.accept(this));
+    }
+
+    @Override
+    public void visit(BIRNode.BIRTypeDefinition birTypeDefinition) {
+        birTypeDefinition.attachedFuncs.forEach(func -> func.accept(this));
+    }
+
+    @Override
+    public void visit(BIRFunction birFunction) {
+        List<BIRBasicBlock> basicBlocks = birFunction.basicBlocks;
+        if (basicBlocks.size() < 2) {
+            return;
+        }
+
+        Map<BIRBasicBlock, Integer> predecessorCounts = new HashMap<>();
+        for (BIRBasicBlock basicBlock : BIROptimizerUtils.getAllBasicBlocks(birFunction)) {
+            if (basicBlock.terminator == null) {
+                continue;
+            }
+            for (BIRBasicBlock successor : BIROptimizerUtils.getSuccessors(basicBlock.terminator)) {
+                predecessorCounts.merge(successor, 1, Integer::sum);
+            }
+        }
+
+        Set<BIRBasicBlock> errorTableBBs = new HashSet<>();
+        for (BIRErrorEntry errorEntry : birFunction.errorTable) {
+            errorTableBBs.add(errorEntry.trapBB);
+            errorTableBBs.add(errorEntry.endBB);
+            errorTableBBs.add(errorEntry.targetBB);
+        }
+        Map<BIRBasicBlock, Set<BIRErrorEntry>> errorCoverage = BIROptimizerUtils.getErrorCoverage(birFunction);
+
+        BIRBasicBlock entryBB = basicBlocks.get(0);
+        Set<BIRBasicBlock> mergedBBs = new HashSet<>();
+        for (BIRBasicBlock basicBlock : basicBlocks) {
+            if (mergedBBs.contains(basicBlock)) {
+                continue;
+            }
+            // Merging moves the terminator of the next basic block, so keep merging till it is not a goto.
+            while (basicBlock.terminator != null && basicBlock.terminator.kind == InstructionKind.GOTO) {
+                BIRBasicBlock targetBB = ((BIRTerminator.GOTO) basicBlock.terminator).targetBB;
+                if (targetBB == basicBlock || targetBB == entryBB || predecessorCounts.get(targetBB) != 1 ||
+                        errorTableBBs.contains(targetBB) || !errorCoverage.containsKey(targetBB) ||
+                        !errorCoverage.get(targetBB).equals(errorCoverage.get(basicBlock))) {
+                    break;
+                }
+                merge(birFunction, basicBlock, targetBB);
+                mergedBBs.add(targetBB);
+            }
+        }
+
+        if (mergedBBs.isEmpty()) {
+            return;
+        }
+        List<BIRBasicBlock> newBasicBlocks = new ArrayList<>(basicBlocks.size() - mergedBBs.size());
+        for (BIRBasicBlock basicBlock : basicBlocks) {
+            if (!mergedBBs.contains(basicBlock)) {
+                newBasicBlocks.add(basicBlock);
+            }
+        }
+        birFunction.basicBlocks = newBasicBlocks;
+        this.changed = true;
+
+        // A merged basic block takes the place of the first of the two, hence a variable may now go out of scope in
+        // a basic block generated before the one it comes into scope in.
+        for (BIRVariableDcl localVar : birFunction.localVars) {
+            if (localVar.startBB != null && localVar.endBB != null &&
+                    newBasicBlocks.indexOf(localVar.startBB) > newBasicBlocks.indexOf(localVar.endBB)) {
+                localVar.endBB = null;
+            }
+        }
+    }
+
+    private void merge(BIRFunction birFunction, BIRBasicBlock basicBlock, BIRBasicBlock targetBB) {
+        int offset = basicBlock.instructions.size();
+        List<BIRNonTerminator> instructions = new ArrayList<>(offset + targetBB.instructions.size());
+        instructions.addAll(basicBlock.instructions);
+        instructions.addAll(targetBB.instructions);
+        basicBlock.instructions = instructions;
+        basicBlock.terminator = targetBB.terminator;
+
+        for (BIRVariableDcl localVar : birFunction.localVars) {
+            if (localVar.startBB == targetBB) {
+                localVar.startBB = basicBlock;
+                localVar.insOffset += offset;
+                if (localVar.insOffset >= instructions.size()) {
+                    localVar.startBB = null;
+                    localVar.insOffset = 0;
+                }
+            }
+            if (localVar.endBB == targetBB) {
+                localVar.endBB = basicBlock;
+            }
+        }
+    }
+}
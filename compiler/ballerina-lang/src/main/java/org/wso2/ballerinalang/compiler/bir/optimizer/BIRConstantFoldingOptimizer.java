@@ -0,0 +1,289 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.ballerinalang.compiler.bir.optimizer;
+
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRBasicBlock;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRFunction;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRVariableDcl;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.BinaryOp;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.ConstantLoad;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.Move;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.UnaryOP;
+import org.wso2.ballerinalang.compiler.bir.model.BIROperand;
+import org.wso2.ballerinalang.compiler.bir.model.BIRTerminator;
+import org.wso2.ballerinalang.compiler.bir.model.BIRVisitor;
+import org.wso2.ballerinalang.compiler.bir.model.InstructionKind;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BType;
+import org.wso2.ballerinalang.compiler.util.TypeTags;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Fold the arithmetic, comparison and unary instructions whose operands are constants loaded earlier in the same
+ * basic block, and turn branches on constant conditions into gotos. Instructions which would panic at runtime, such
+ * as an integer division by zero or an overflowing integer addition, are left as they are.
+ *
+ * @since 2.0.0
+ */
+public class BIRConstantFoldingOptimizer extends BIRVisitor {
+
+    private boolean changed;
+
+    /**
+     * Fold the constants of a module.
+     *
+     * @param birPackage module
+     * @return true if any instruction was folded
+     */
+    public boolean optimize(BIRNode.BIRPackage birPackage) {
+        this.changed = false;
+        birPackage.accept(this);
+        return this.changed;
+    }
+
+    @Override
+    public void visit(BIRNode.BIRPackage birPackage) {
+        birPackage.typeDefs.forEach(tDef -> tDef.accept(this));
+        birPackage.functions.forEach(func -> func.accept(this));
+    }
+
+    @Override
+    public void visit(BIRNode.BIRTypeDefinition birTypeDefinition) {
+        birTypeDefinition.attachedFuncs.forEach(func -> func.accept(this));
+    }
+
+    @Override
+    public void visit(BIRFunction birFunction) {
+        BIROptimizerUtils.getAllBasicBlocks(birFunction).forEach(bb -> bb.accept(this));
+    }
+
+    @Override
+    public void visit(BIRBasicBlock birBasicBlock) {
+        // key - variable, value - constant last loaded to the variable in this basic block
+        Map<BIRVariableDcl, Object> constants = new HashMap<>();
+        List<BIRNonTerminator> instructions = birBasicBlock.instructions;
+        for (int i = 0; i < instructions.size(); i++) {
+            BIRNonTerminator ins = instructions.get(i);
+            BIRNonTerminator foldedIns = fold(ins, constants);
+            if (foldedIns != ins) {
+                instructions.set(i, foldedIns);
+                this.changed = true;
+            }
+
+            if (foldedIns.lhsOp == null) {
+                continue;
+            }
+            BIRVariableDcl lhsVar = foldedIns.lhsOp.variableDcl;
+            constants.remove(lhsVar);
+            if (foldedIns.kind == InstructionKind.CONST_LOAD && BIROptimizerUtils.isLocalVariable(lhsVar)) {
+                ConstantLoad constantLoad = (ConstantLoad) foldedIns;
+                Object value = getConstantValue(constantLoad.type.tag, constantLoad.value);
+                if (value != null && lhsVar.type.tag == constantLoad.type.tag) {
+                    constants.put(lhsVar, value);
+                }
+            }
+        }
+
+        BIRTerminator terminator = birBasicBlock.terminator;
+        if (terminator != null && terminator.kind == InstructionKind.BRANCH) {
+            BIRTerminator.Branch branch = (BIRTerminator.Branch) terminator;
+            Object condition = constants.get(branch.op.variableDcl);
+            if (condition instanceof Boolean) {
+                birBasicBlock.terminator = new BIRTerminator.GOTO(branch.pos,
+                        (Boolean) condition ? branch.trueBB : branch.falseBB);
+                this.changed = true;
+            }
+        }
+    }
+
+    private BIRNonTerminator fold(BIRNonTerminator ins, Map<BIRVariableDcl, Object> constants) {
+        if (ins instanceof Move) {
+            Move move = (Move) ins;
+            Object value = constants.get(move.rhsOp.variableDcl);
+            if (value == null || !BIROptimizerUtils.isLocalVariable(move.lhsOp.variableDcl)) {
+                return ins;
+            }
+            return createConstantLoad(move, value);
+        }
+
+        if (ins instanceof BinaryOp) {
+            BinaryOp binaryOp = (BinaryOp) ins;
+            Object lhsValue = constants.get(binaryOp.rhsOp1.variableDcl);
+            Object rhsValue = constants.get(binaryOp.rhsOp2.variableDcl);
+            if (lhsValue == null || rhsValue == null || getTypeTag(lhsValue) != getTypeTag(rhsValue)) {
+                return ins;
+            }
+            return createConstantLoad(binaryOp, foldBinaryOp(binaryOp.kind, lhsValue, rhsValue));
+        }
+
+        if (ins instanceof UnaryOP) {
+            UnaryOP unaryOp = (UnaryOP) ins;
+            Object value = constants.get(unaryOp.rhsOp.variableDcl);
+            if (value == null) {
+                return ins;
+            }
+            return createConstantLoad(unaryOp, foldUnaryOp(unaryOp.kind, value));
+        }
+
+        return ins;
+    }
+
+    private BIRNonTerminator createConstantLoad(BIRNonTerminator ins, Object value) {
+        if (value == null) {
+            return ins;
+        }
+
+        BIROperand lhsOp = ins.lhsOp;
+        BType type = lhsOp.variableDcl.type;
+        if (getTypeTag(value) != type.tag) {
+            return ins;
+        }
+        return new ConstantLoad(ins.pos, value, type, lhsOp);
+    }
+
+    private Object foldBinaryOp(InstructionKind kind, Object lhs, Object rhs) {
+        switch (getTypeTag(lhs)) {
+            case TypeTags.INT:
+                return foldIntBinaryOp(kind, (Long) lhs, (Long) rhs);
+            case TypeTags.FLOAT:
+                return foldFloatBinaryOp(kind, (Double) lhs, (Double) rhs);
+            case TypeTags.STRING:
+                return kind == InstructionKind.ADD ? (String) lhs + rhs : null;
+            case TypeTags.BOOLEAN:
+                if (kind == InstructionKind.EQUAL) {
+                    return lhs.equals(rhs);
+                } else if (kind == InstructionKind.NOT_EQUAL) {
+                    return !lhs.equals(rhs);
+                }
+                return null;
+            default:
+                return null;
+        }
+    }
+
+    private Object foldIntBinaryOp(InstructionKind kind, long lhs, long rhs) {
+        try {
+            switch (kind) {
+                case ADD:
+                    return Math.addExact(lhs, rhs);
+                case SUB:
+                    return Math.subtractExact(lhs, rhs);
+                case MUL:
+                    return Math.multiplyExact(lhs, rhs);
+                case DIV:
+                    // Division by zero and overflowing divisions panic at runtime.
+                    return rhs == 0 || rhs == -1 ? null : lhs / rhs;
+                case MOD:
+                    return rhs == 0 ? null : lhs % rhs;
+                case EQUAL:
+                    return lhs == rhs;
+                case NOT_EQUAL:
+                    return lhs != rhs;
+                case GREATER_THAN:
+                    return lhs > rhs;
+                case GREATER_EQUAL:
+                    return lhs >= rhs;
+                case LESS_THAN:
+                    return lhs < rhs;
+                case LESS_EQUAL:
+                    return lhs <= rhs;
+                default:
+                    return null;
+            }
+        } catch (ArithmeticException e) {
+            return null;
+        }
+    }
+
+    private Object foldFloatBinaryOp(InstructionKind kind, double lhs, double rhs) {
+        // Comparisons are not folded, since they are not generated with the Java semantics for NaN.
+        switch (kind) {
+            case ADD:
+                return lhs + rhs;
+            case SUB:
+                return lhs - rhs;
+            case MUL:
+                return lhs * rhs;
+            case DIV:
+                return lhs / rhs;
+            default:
+                return null;
+        }
+    }
+
+    private Object foldUnaryOp(InstructionKind kind, Object value) {
+        int typeTag = getTypeTag(value);
+        if (kind == InstructionKind.NOT && typeTag == TypeTags.BOOLEAN) {
+            return !(Boolean) value;
+        }
+        if (kind != InstructionKind.NEGATE) {
+            return null;
+        }
+        if (typeTag == TypeTags.INT) {
+            long intValue = (Long) value;
+            return intValue == Long.MIN_VALUE ? null : -intValue;
+        }
+        if (typeTag == TypeTags.FLOAT) {
+            return -(Double) value;
+        }
+        return null;
+    }
+
+    /**
+     * Get the value of a constant the way it is loaded by the generated code.
+     *
+     * @param typeTag type tag of the constant
+     * @param value   value of the constant
+     * @return value of the constant, or null if constants of the type are not folded
+     */
+    private static Object getConstantValue(int typeTag, Object value) {
+        try {
+            switch (typeTag) {
+                case TypeTags.INT:
+                    return value instanceof Long ? value : Long.parseLong(String.valueOf(value));
+                case TypeTags.FLOAT:
+                    return value instanceof Double ? value : Double.parseDouble(String.valueOf(value));
+                case TypeTags.STRING:
+                    return String.valueOf(value);
+                case TypeTags.BOOLEAN:
+                    return value instanceof Boolean ? value : Boolean.parseBoolean(String.valueOf(value));
+                default:
+                    return null;
+            }
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static int getTypeTag(Object value) {
+        if (value instanceof Long) {
+            return TypeTags.INT;
+        } else if (value instanceof Double) {
+            return TypeTags.FLOAT;
+        } else if (value instanceof String) {
+            return TypeTags.STRING;
+        } else if (value instanceof Boolean) {
+            return TypeTags.BOOLEAN;
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.ballerinalang.compiler.bir.optimizer;
+
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRBasicBlock;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRFunction;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRVariableDcl;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.Move;
+import org.wso2.ballerinalang.compiler.bir.model.BIROperand;
+import org.wso2.ballerinalang.compiler.bir.model.BIRVisitor;
+import org.wso2.ballerinalang.compiler.bir.model.InstructionKind;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BType;
+import org.wso2.ballerinalang.compiler.util.TypeTags;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Replace the reads of a variable copied with a move earlier in the same basic block with reads of the variable it
+ * was copied from, so that the moves into temporary variables become unused. Only the moves between variables of the
+ * same type are propagated, since moves do not convert the values they copy.
+ *
+ * @since 2.0.0
+ */
+public class BIRCopyPropagationOptimizer extends BIRVisitor {
+
+    private boolean changed;
+
+    /**
+     * Propagate the copies of a module.
+     *
+     * @param birPackage module
+     * @return true if any operand was replaced
+     */
+    public boolean optimize(BIRNode.BIRPackage birPackage) {
+        this.changed = false;
+        birPackage.accept(this);
+        return this.changed;
+    }
+
+    @Override
+    public void visit(BIRNode.BIRPackage birPackage) {
+        birPackage.typeDefs.forEach(tDef -> tDef.accept(this));
+        birPackage.functions.forEach(func -> func.accept(this));
+    }
+
+    @Override
+    public void visit(BIRNode.BIRTypeDefinition birTypeDefinition) {
+        birTypeDefinition.attachedFuncs.forEach(func -> func.accept(this));
+    }
+
+    @Override
+    public void visit(BIRFunction birFunction) {
+        BIROptimizerUtils.getAllBasicBlocks(birFunction).forEach(bb -> bb.accept(this));
+    }
+
+    @Override
+    public void visit(BIRBasicBlock birBasicBlock) {
+        // key - copy, value - variable it was copied from in this basic block
+        Map<BIRVariableDcl, BIRVariableDcl> copies = new HashMap<>();
+        for (BIRNonTerminator ins : birBasicBlock.instructions) {
+            if (!copies.isEmpty() && !BIROptimizerUtils.mapReadOperands(ins, op -> replace(op, copies))) {
+                // Nothing is known about what an unknown instruction writes.
+                copies.clear();
+                continue;
+            }
+
+            if (ins.lhsOp == null) {
+                continue;
+            }
+            BIRVariableDcl lhsVar = ins.lhsOp.variableDcl;
+            copies.remove(lhsVar);
+            copies.values().removeIf(lhsVar::equals);
+
+            if (ins.kind == InstructionKind.MOVE && isCopy((Move) ins)) {
+                copies.put(lhsVar, ((Move) ins).rhsOp.variableDcl);
+            }
+        }
+
+        if (!copies.isEmpty() && birBasicBlock.terminator != null) {
+            BIROptimizerUtils.mapReadOperands(birBasicBlock.terminator, op -> replace(op, copies));
+        }
+    }
+
+    private BIROperand replace(BIROperand operand, Map<BIRVariableDcl, BIRVariableDcl> copies) {
+        BIRVariableDcl source = copies.get(operand.variableDcl);
+        if (source == null) {
+            return operand;
+        }
+        this.changed = true;
+        return new BIROperand(source);
+    }
+
+    private static boolean isCopy(Move move) {
+        BIRVariableDcl lhsVar = move.lhsOp.variableDcl;
+        BIRVariableDcl rhsVar = move.rhsOp.variableDcl;
+        return !lhsVar.equals(rhsVar) && BIROptimizerUtils.isLocalVariable(lhsVar) &&
+                BIROptimizerUtils.isLocalVariable(rhsVar) && isSameType(lhsVar.type, rhsVar.type);
+    }
+
+    private static boolean isSameType(BType lhsType, BType rhsType) {
+        if (lhsType == rhsType) {
+            return true;
+        }
+        if (lhsType.tag != rhsType.tag) {
+            return false;
+        }
+        switch (lhsType.tag) {
+            case TypeTags.INT:
+            case TypeTags.BYTE:
+            case TypeTags.FLOAT:
+            case TypeTags.DECIMAL:
+            case TypeTags.STRING:
+            case TypeTags.BOOLEAN:
+                return true;
+            default:
+                return false;
+        }
+    }
+}
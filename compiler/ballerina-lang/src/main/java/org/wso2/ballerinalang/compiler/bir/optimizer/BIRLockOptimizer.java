@@ -18,18 +18,26 @@
 package org.wso2.ballerinalang.compiler.bir.optimizer;
 
 import org.wso2.ballerinalang.compiler.bir.model.BIRNode;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRBasicBlock;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator;
 import org.wso2.ballerinalang.compiler.bir.model.BIRTerminator;
 import org.wso2.ballerinalang.compiler.bir.model.BIRVisitor;
+import org.wso2.ballerinalang.compiler.bir.model.VarKind;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
 /**
- * Optimize Locks.
+ * Optimize Locks. Locks sharing no global variable are made disjoint, and a lock whose locked block only reads is
+ * marked to be held in shared mode.
  *
  * @since 1.2.1
  */
@@ -205,6 +213,7 @@ public class BIRLockOptimizer extends BIRVisitor {
     @Override
     public void visit(BIRTerminator.Lock lock) {
         lockList.add(lock);
+        lock.shared = isReadOnlyLockedBlock(lock);
     }
 
     @Override
@@ -253,4 +262,98 @@ public class BIRLockOptimizer extends BIRVisitor {
 
         terminator.accept(this);
     }
+
+    /**
+     * Checks the blocks reachable from the locked block until the unlocks of the lock. They may only load values into
+     * local variables, without filling in missing members, and branch, hence any call, store or nested lock keeps
+     * the lock exclusive.
+     */
+    private static boolean isReadOnlyLockedBlock(BIRTerminator.Lock lock) {
+        Set<BIRBasicBlock> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        Deque<BIRBasicBlock> worklist = new ArrayDeque<>();
+        worklist.push(lock.lockedBB);
+        while (!worklist.isEmpty()) {
+            BIRBasicBlock basicBlock = worklist.pop();
+            if (!visited.add(basicBlock)) {
+                continue;
+            }
+            for (BIRNonTerminator instruction : basicBlock.instructions) {
+                if (!isReadOnlyInstruction(instruction)) {
+                    return false;
+                }
+            }
+            BIRTerminator terminator = basicBlock.terminator;
+            if (terminator == null) {
+                return false;
+            }
+            switch (terminator.kind) {
+                case GOTO:
+                    worklist.push(((BIRTerminator.GOTO) terminator).targetBB);
+                    break;
+                case BRANCH:
+                    worklist.push(((BIRTerminator.Branch) terminator).trueBB);
+                    worklist.push(((BIRTerminator.Branch) terminator).falseBB);
+                    break;
+                case UNLOCK:
+                    if (((BIRTerminator.Unlock) terminator).relatedLock != lock) {
+                        return false;
+                    }
+                    break;
+                case PANIC:
+                    break;
+                default:
+                    return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isReadOnlyInstruction(BIRNonTerminator instruction) {
+        if (instruction.lhsOp == null || !isLocalSlot(instruction.lhsOp.variableDcl.kind)) {
+            return false;
+        }
+        switch (instruction.kind) {
+            case MAP_LOAD:
+            case ARRAY_LOAD:
+            case OBJECT_LOAD:
+                return !((BIRNonTerminator.FieldAccess) instruction).fillingRead;
+            case MOVE:
+            case CONST_LOAD:
+            case STRING_LOAD:
+            case TYPE_CAST:
+            case IS_LIKE:
+            case TYPE_TEST:
+            case ADD:
+            case SUB:
+            case MUL:
+            case DIV:
+            case MOD:
+            case EQUAL:
+            case NOT_EQUAL:
+            case GREATER_THAN:
+            case GREATER_EQUAL:
+            case LESS_THAN:
+            case LESS_EQUAL:
+            case AND:
+            case OR:
+            case REF_EQUAL:
+            case REF_NOT_EQUAL:
+            case TYPEOF:
+            case NOT:
+            case NEGATE:
+            case BITWISE_AND:
+            case BITWISE_OR:
+            case BITWISE_XOR:
+            case BITWISE_LEFT_SHIFT:
+            case BITWISE_RIGHT_SHIFT:
+            case BITWISE_UNSIGNED_RIGHT_SHIFT:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private static boolean isLocalSlot(VarKind kind) {
+        return kind == VarKind.LOCAL || kind == VarKind.TEMP || kind == VarKind.ARG || kind == VarKind.RETURN;
+    }
 }
@@ -17,6 +17,7 @@
  */
 package org.wso2.ballerinalang.compiler.bir.optimizer;
 
+import org.ballerinalang.compiler.CompilerOptionName;
 import org.wso2.ballerinalang.compiler.bir.model.BIRAbstractInstruction;
 import org.wso2.ballerinalang.compiler.bir.model.BIRInstruction;
 import org.wso2.ballerinalang.compiler.bir.model.BIRNode;
@@ -33,6 +34,7 @@ import org.wso2.ballerinalang.compiler.bir.model.BIRVisitor;
 import org.wso2.ballerinalang.compiler.bir.model.InstructionKind;
 import org.wso2.ballerinalang.compiler.bir.model.VarKind;
 import org.wso2.ballerinalang.compiler.util.CompilerContext;
+import org.wso2.ballerinalang.compiler.util.CompilerOptions;
 import org.wso2.ballerinalang.util.Lists;
 
 import java.util.ArrayList;
@@ -52,6 +54,10 @@ public class BIROptimizer {
     private RHSTempVarOptimizer rhsTempVarOptimizer;
     private LHSTempVarOptimizer lhsTempVarOptimizer;
     private BIRLockOptimizer lockOptimizer;
+    private BIRConstantFoldingOptimizer constantFoldingOptimizer;
+    private BIRCopyPropagationOptimizer copyPropagationOptimizer;
+    private BIRUnreachableBlockOptimizer unreachableBlockOptimizer;
+    private BIRBasicBlockMergeOptimizer basicBlockMergeOptimizer;
 
     public static BIROptimizer getInstance(CompilerContext context) {
         BIROptimizer birGen = context.get(BIR_OPTIMIZER);
@@ -67,6 +73,31 @@ public class BIROptimizer {
         this.rhsTempVarOptimizer = new RHSTempVarOptimizer();
         this.lhsTempVarOptimizer = new LHSTempVarOptimizer();
         this.lockOptimizer = new BIRLockOptimizer();
+
+        CompilerOptions options = CompilerOptions.getInstance(context);
+        if (isEnabled(options, CompilerOptionName.BIR_CONSTANT_FOLDING)) {
+            this.constantFoldingOptimizer = new BIRConstantFoldingOptimizer();
+        }
+        if (isEnabled(options, CompilerOptionName.BIR_COPY_PROPAGATION)) {
+            this.copyPropagationOptimizer = new BIRCopyPropagationOptimizer();
+        }
+        if (isEnabled(options, CompilerOptionName.BIR_UNREACHABLE_BLOCK_REMOVAL)) {
+            this.unreachableBlockOptimizer = new BIRUnreachableBlockOptimizer();
+        }
+        if (isEnabled(options, CompilerOptionName.BIR_BASIC_BLOCK_MERGING)) {
+            this.basicBlockMergeOptimizer = new BIRBasicBlockMergeOptimizer();
+        }
+    }
+
+    /**
+     * Check whether an optimization is enabled. Optimizations are enabled unless the option is set to false.
+     *
+     * @param options    compiler options
+     * @param optionName option of the optimization
+     * @return true if the optimization is enabled
+     */
+    public static boolean isEnabled(CompilerOptions options, CompilerOptionName optionName) {
+        return !options.isSet(optionName) || Boolean.parseBoolean(options.get(optionName));
     }
 
     public void optimizePackage(BIRPackage pkg) {
@@ -78,6 +109,27 @@ public class BIROptimizer {
 
         // Optimize lock statements
         this.lockOptimizer.optimizeNode(pkg);
+
+        // Fold constants and propagate copies, and remove the temp vars they leave unused
+        boolean removeTempVars = false;
+        if (this.constantFoldingOptimizer != null) {
+            removeTempVars = this.constantFoldingOptimizer.optimize(pkg);
+        }
+        if (this.copyPropagationOptimizer != null) {
+            removeTempVars |= this.copyPropagationOptimizer.optimize(pkg);
+        }
+        if (removeTempVars) {
+            pkg.functions.forEach(BIROptimizerUtils::removeUnusedTempVars);
+            pkg.typeDefs.forEach(tDef -> tDef.attachedFuncs.forEach(BIROptimizerUtils::removeUnusedTempVars));
+        }
+
+        // Simplify the control flow graphs
+        if (this.unreachableBlockOptimizer != null) {
+            this.unreachableBlockOptimizer.optimize(pkg);
+        }
+        if (this.basicBlockMergeOptimizer != null) {
+            this.basicBlockMergeOptimizer.optimize(pkg);
+        }
     }
 
     /**
@@ -0,0 +1,401 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.ballerinalang.compiler.bir.optimizer;
+
+import org.wso2.ballerinalang.compiler.bir.model.BIRAbstractInstruction;
+import org.wso2.ballerinalang.compiler.bir.model.BIRInstruction;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRBasicBlock;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRErrorEntry;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRFunction;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRMappingConstructorEntry;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRMappingConstructorKeyValueEntry;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRMappingConstructorSpreadFieldEntry;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRVariableDcl;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator;
+import org.wso2.ballerinalang.compiler.bir.model.BIROperand;
+import org.wso2.ballerinalang.compiler.bir.model.BIRTerminator;
+import org.wso2.ballerinalang.compiler.bir.model.InstructionKind;
+import org.wso2.ballerinalang.compiler.bir.model.VarKind;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.UnaryOperator;
+
+/**
+ * Utilities shared by the BIR optimizer passes which work on the control flow graphs of functions.
+ *
+ * @since 2.0.0
+ */
+class BIROptimizerUtils {
+
+    private BIROptimizerUtils() {
+    }
+
+    /**
+     * Get the basic blocks a terminator may transfer the control to.
+     *
+     * @param terminator terminator of a basic block
+     * @return successor basic blocks
+     */
+    static List<BIRBasicBlock> getSuccessors(BIRTerminator terminator) {
+        switch (terminator.kind) {
+            case GOTO:
+                return Collections.singletonList(((BIRTerminator.GOTO) terminator).targetBB);
+            case BRANCH:
+                BIRTerminator.Branch branch = (BIRTerminator.Branch) terminator;
+                List<BIRBasicBlock> successors = new ArrayList<>(2);
+                successors.add(branch.trueBB);
+                successors.add(branch.falseBB);
+                return successors;
+            case LOCK:
+                return Collections.singletonList(((BIRTerminator.Lock) terminator).lockedBB);
+            case FIELD_LOCK:
+                return Collections.singletonList(((BIRTerminator.FieldLock) terminator).lockedBB);
+            case UNLOCK:
+                return Collections.singletonList(((BIRTerminator.Unlock) terminator).unlockBB);
+            case RETURN:
+            case PANIC:
+                return Collections.emptyList();
+            default:
+                return terminator.thenBB == null ? Collections.emptyList() :
+                        Collections.singletonList(terminator.thenBB);
+        }
+    }
+
+    /**
+     * Check whether a variable is held in a local slot of the function, so that it is only written by the
+     * instructions of the function.
+     *
+     * @param variableDcl variable
+     * @return true if the variable is a local, temporary or argument variable
+     */
+    static boolean isLocalVariable(BIRVariableDcl variableDcl) {
+        return variableDcl.kind == VarKind.LOCAL || variableDcl.kind == VarKind.TEMP ||
+                variableDcl.kind == VarKind.ARG;
+    }
+
+    /**
+     * Get all the basic blocks of a function, including the basic blocks of the default values of parameters.
+     *
+     * @param birFunction function
+     * @return basic blocks of the function
+     */
+    static List<BIRBasicBlock> getAllBasicBlocks(BIRFunction birFunction) {
+        List<BIRBasicBlock> basicBlocks = new ArrayList<>();
+        birFunction.parameters.values().forEach(basicBlocks::addAll);
+        basicBlocks.addAll(birFunction.basicBlocks);
+        return basicBlocks;
+    }
+
+    /**
+     * Replace the operands an instruction reads with the operands returned by the mapper. Operands are shared
+     * between instructions, hence a replaced operand is set to the field or the list of the instruction, and the
+     * operand itself is never changed. The lhs operand is not mapped, even for the store instructions that read it.
+     *
+     * @param ins    instruction
+     * @param mapper function that returns the operand to be read in place of the given operand
+     * @return false if the operands of the instruction are unknown
+     */
+    static boolean mapReadOperands(BIRInstruction ins, UnaryOperator<BIROperand> mapper) {
+        if (ins instanceof BIRNonTerminator.Move) {
+            BIRNonTerminator.Move move = (BIRNonTerminator.Move) ins;
+            move.rhsOp = map(move.rhsOp, mapper);
+        } else if (ins instanceof BIRNonTerminator.BinaryOp) {
+            BIRNonTerminator.BinaryOp binaryOp = (BIRNonTerminator.BinaryOp) ins;
+            binaryOp.rhsOp1 = map(binaryOp.rhsOp1, mapper);
+            binaryOp.rhsOp2 = map(binaryOp.rhsOp2, mapper);
+        } else if (ins instanceof BIRNonTerminator.UnaryOP) {
+            BIRNonTerminator.UnaryOP unaryOp = (BIRNonTerminator.UnaryOP) ins;
+            unaryOp.rhsOp = map(unaryOp.rhsOp, mapper);
+        } else if (ins instanceof BIRNonTerminator.ConstantLoad || ins instanceof BIRNonTerminator.NewInstance) {
+            // Do nothing
+        } else if (ins instanceof BIRNonTerminator.NewStructure) {
+            BIRNonTerminator.NewStructure newStructure = (BIRNonTerminator.NewStructure) ins;
+            newStructure.rhsOp = map(newStructure.rhsOp, mapper);
+            for (BIRMappingConstructorEntry initialValue : newStructure.initialValues) {
+                if (initialValue.isKeyValuePair()) {
+                    BIRMappingConstructorKeyValueEntry keyValueEntry =
+                            (BIRMappingConstructorKeyValueEntry) initialValue;
+                    keyValueEntry.keyOp = map(keyValueEntry.keyOp, mapper);
+                    keyValueEntry.valueOp = map(keyValueEntry.valueOp, mapper);
+                } else {
+                    BIRMappingConstructorSpreadFieldEntry spreadFieldEntry =
+                            (BIRMappingConstructorSpreadFieldEntry) initialValue;
+                    spreadFieldEntry.exprOp = map(spreadFieldEntry.exprOp, mapper);
+                }
+            }
+        } else if (ins instanceof BIRNonTerminator.NewArray) {
+            BIRNonTerminator.NewArray newArray = (BIRNonTerminator.NewArray) ins;
+            newArray.sizeOp = map(newArray.sizeOp, mapper);
+            map(newArray.values, mapper);
+        } else if (ins instanceof BIRNonTerminator.FieldAccess) {
+            BIRNonTerminator.FieldAccess fieldAccess = (BIRNonTerminator.FieldAccess) ins;
+            fieldAccess.keyOp = map(fieldAccess.keyOp, mapper);
+            fieldAccess.rhsOp = map(fieldAccess.rhsOp, mapper);
+        } else if (ins instanceof BIRNonTerminator.NewError) {
+            BIRNonTerminator.NewError newError = (BIRNonTerminator.NewError) ins;
+            newError.messageOp = map(newError.messageOp, mapper);
+            newError.causeOp = map(newError.causeOp, mapper);
+            newError.detailOp = map(newError.detailOp, mapper);
+        } else if (ins instanceof BIRNonTerminator.TypeCast) {
+            BIRNonTerminator.TypeCast typeCast = (BIRNonTerminator.TypeCast) ins;
+            typeCast.rhsOp = map(typeCast.rhsOp, mapper);
+        } else if (ins instanceof BIRNonTerminator.IsLike) {
+            BIRNonTerminator.IsLike isLike = (BIRNonTerminator.IsLike) ins;
+            isLike.rhsOp = map(isLike.rhsOp, mapper);
+        } else if (ins instanceof BIRNonTerminator.TypeTest) {
+            BIRNonTerminator.TypeTest typeTest = (BIRNonTerminator.TypeTest) ins;
+            typeTest.rhsOp = map(typeTest.rhsOp, mapper);
+        } else if (ins instanceof BIRNonTerminator.NewXMLElement) {
+            BIRNonTerminator.NewXMLElement newXMLElement = (BIRNonTerminator.NewXMLElement) ins;
+            newXMLElement.startTagOp = map(newXMLElement.startTagOp, mapper);
+            newXMLElement.defaultNsURIOp = map(newXMLElement.defaultNsURIOp, mapper);
+        } else if (ins instanceof BIRNonTerminator.NewXMLQName) {
+            BIRNonTerminator.NewXMLQName newXMLQName = (BIRNonTerminator.NewXMLQName) ins;
+            newXMLQName.localnameOp = map(newXMLQName.localnameOp, mapper);
+            newXMLQName.nsURIOp = map(newXMLQName.nsURIOp, mapper);
+            newXMLQName.prefixOp = map(newXMLQName.prefixOp, mapper);
+        } else if (ins instanceof BIRNonTerminator.NewStringXMLQName) {
+            BIRNonTerminator.NewStringXMLQName newStringXMLQName = (BIRNonTerminator.NewStringXMLQName) ins;
+            newStringXMLQName.stringQNameOP = map(newStringXMLQName.stringQNameOP, mapper);
+        } else if (ins instanceof BIRNonTerminator.NewXMLText) {
+            BIRNonTerminator.NewXMLText newXMLText = (BIRNonTerminator.NewXMLText) ins;
+            newXMLText.textOp = map(newXMLText.textOp, mapper);
+        } else if (ins instanceof BIRNonTerminator.NewXMLProcIns) {
+            BIRNonTerminator.NewXMLProcIns newXMLProcIns = (BIRNonTerminator.NewXMLProcIns) ins;
+            newXMLProcIns.dataOp = map(newXMLProcIns.dataOp, mapper);
+            newXMLProcIns.targetOp = map(newXMLProcIns.targetOp, mapper);
+        } else if (ins instanceof BIRNonTerminator.NewXMLComment) {
+            BIRNonTerminator.NewXMLComment newXMLComment = (BIRNonTerminator.NewXMLComment) ins;
+            newXMLComment.textOp = map(newXMLComment.textOp, mapper);
+        } else if (ins instanceof BIRNonTerminator.XMLAccess) {
+            BIRNonTerminator.XMLAccess xmlAccess = (BIRNonTerminator.XMLAccess) ins;
+            xmlAccess.rhsOp = map(xmlAccess.rhsOp, mapper);
+        } else if (ins instanceof BIRNonTerminator.FPLoad) {
+            map(((BIRNonTerminator.FPLoad) ins).closureMaps, mapper);
+        } else if (ins instanceof BIRNonTerminator.NewTable) {
+            BIRNonTerminator.NewTable newTable = (BIRNonTerminator.NewTable) ins;
+            newTable.keyColOp = map(newTable.keyColOp, mapper);
+            newTable.dataOp = map(newTable.dataOp, mapper);
+        } else if (ins instanceof BIRNonTerminator.NewTypeDesc) {
+            map(((BIRNonTerminator.NewTypeDesc) ins).closureVars, mapper);
+        } else if (ins instanceof BIRTerminator) {
+            return mapReadOperands((BIRTerminator) ins, mapper);
+        } else {
+            return false;
+        }
+        return true;
+    }
+
+    private static boolean mapReadOperands(BIRTerminator terminator, UnaryOperator<BIROperand> mapper) {
+        switch (terminator.kind) {
+            case GOTO:
+            case RETURN:
+            case LOCK:
+            case UNLOCK:
+            case FLUSH:
+            case WK_RECEIVE:
+                return true;
+            case CALL:
+            case ASYNC_CALL:
+                map(((BIRTerminator.Call) terminator).args, mapper);
+                return true;
+            case FP_CALL:
+                BIRTerminator.FPCall fpCall = (BIRTerminator.FPCall) terminator;
+                fpCall.fp = map(fpCall.fp, mapper);
+                map(fpCall.args, mapper);
+                return true;
+            case BRANCH:
+                BIRTerminator.Branch branch = (BIRTerminator.Branch) terminator;
+                branch.op = map(branch.op, mapper);
+                return true;
+            case FIELD_LOCK:
+                BIRTerminator.FieldLock fieldLock = (BIRTerminator.FieldLock) terminator;
+                fieldLock.localVar = map(fieldLock.localVar, mapper);
+                return true;
+            case PANIC:
+                BIRTerminator.Panic panic = (BIRTerminator.Panic) terminator;
+                panic.errorOp = map(panic.errorOp, mapper);
+                return true;
+            case WAIT:
+                map(((BIRTerminator.Wait) terminator).exprList, mapper);
+                return true;
+            case WAIT_ALL:
+                map(((BIRTerminator.WaitAll) terminator).valueExprs, mapper);
+                return true;
+            case WK_SEND:
+                BIRTerminator.WorkerSend workerSend = (BIRTerminator.WorkerSend) terminator;
+                workerSend.data = map(workerSend.data, mapper);
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Remove the temporary variables of a function which are only ever assigned with moves or constant loads,
+     * along with the instructions assigning them. The instruction offsets which local variables are in scope from
+     * are updated to match the removed instructions.
+     *
+     * @param birFunction function
+     */
+    static void removeUnusedTempVars(BIRFunction birFunction) {
+        List<BIRBasicBlock> basicBlocks = getAllBasicBlocks(birFunction);
+        while (true) {
+            Set<BIRVariableDcl> usedVars = new HashSet<>();
+            Set<BIRVariableDcl> assignedVars = new HashSet<>();
+            for (BIRBasicBlock basicBlock : basicBlocks) {
+                for (BIRNonTerminator ins : basicBlock.instructions) {
+                    if (!collectTempVars(ins, usedVars, assignedVars)) {
+                        return;
+                    }
+                }
+                if (!collectTempVars(basicBlock.terminator, usedVars, assignedVars)) {
+                    return;
+                }
+            }
+            for (BIRErrorEntry errorEntry : birFunction.errorTable) {
+                usedVars.add(errorEntry.errorOp.variableDcl);
+            }
+
+            assignedVars.removeAll(usedVars);
+            if (assignedVars.isEmpty()) {
+                return;
+            }
+
+            for (BIRBasicBlock basicBlock : basicBlocks) {
+                List<BIRNonTerminator> newInstructions = new ArrayList<>(basicBlock.instructions.size());
+                List<Integer> removedOffsets = new ArrayList<>();
+                for (BIRNonTerminator ins : basicBlock.instructions) {
+                    if (isTempAssignment(ins) && assignedVars.contains(ins.lhsOp.variableDcl)) {
+                        removedOffsets.add(newInstructions.size() + removedOffsets.size());
+                        continue;
+                    }
+                    newInstructions.add(ins);
+                }
+                if (!removedOffsets.isEmpty()) {
+                    basicBlock.instructions = newInstructions;
+                    updateInsOffsets(birFunction, basicBlock, removedOffsets);
+                }
+            }
+
+            List<BIRVariableDcl> newLocalVars = new ArrayList<>(birFunction.localVars.size());
+            for (BIRVariableDcl localVar : birFunction.localVars) {
+                if (localVar.kind != VarKind.TEMP || !assignedVars.contains(localVar)) {
+                    newLocalVars.add(localVar);
+                }
+            }
+            birFunction.localVars = newLocalVars;
+        }
+    }
+
+    private static boolean collectTempVars(BIRInstruction ins, Set<BIRVariableDcl> usedVars,
+                                           Set<BIRVariableDcl> assignedVars) {
+        boolean known = mapReadOperands(ins, operand -> {
+            usedVars.add(operand.variableDcl);
+            return operand;
+        });
+        if (!known) {
+            return false;
+        }
+
+        BIROperand lhsOp = ((BIRAbstractInstruction) ins).lhsOp;
+        if (lhsOp == null) {
+            return true;
+        }
+        if (isTempAssignment(ins)) {
+            assignedVars.add(lhsOp.variableDcl);
+        } else {
+            // Other instructions either have side effects or read the lhs operand.
+            usedVars.add(lhsOp.variableDcl);
+        }
+        return true;
+    }
+
+    private static boolean isTempAssignment(BIRInstruction ins) {
+        InstructionKind kind = ins.getKind();
+        return (kind == InstructionKind.MOVE || kind == InstructionKind.CONST_LOAD) &&
+                ((BIRAbstractInstruction) ins).lhsOp.variableDcl.kind == VarKind.TEMP;
+    }
+
+    private static void updateInsOffsets(BIRFunction birFunction, BIRBasicBlock basicBlock,
+                                         List<Integer> removedOffsets) {
+        for (BIRVariableDcl localVar : birFunction.localVars) {
+            if (localVar.startBB != basicBlock) {
+                continue;
+            }
+            int removedBefore = 0;
+            for (int offset : removedOffsets) {
+                if (offset < localVar.insOffset) {
+                    removedBefore++;
+                }
+            }
+            localVar.insOffset -= removedBefore;
+            if (localVar.insOffset >= basicBlock.instructions.size()) {
+                // The instruction the variable is in scope from is no longer there.
+                localVar.startBB = null;
+                localVar.insOffset = 0;
+            }
+        }
+    }
+
+    /**
+     * Get the error entries covering each basic block of a function. An error entry covers the basic blocks from
+     * its trap basic block to its end basic block, in the order the basic blocks are generated.
+     *
+     * @param birFunction function
+     * @return error entries covering each basic block, by the basic block
+     */
+    static Map<BIRBasicBlock, Set<BIRErrorEntry>> getErrorCoverage(BIRFunction birFunction) {
+        Map<BIRBasicBlock, Set<BIRErrorEntry>> coverage = new HashMap<>();
+        List<BIRBasicBlock> basicBlocks = birFunction.basicBlocks;
+        for (BIRBasicBlock basicBlock : basicBlocks) {
+            coverage.put(basicBlock, new HashSet<>());
+        }
+        for (BIRErrorEntry errorEntry : birFunction.errorTable) {
+            int start = basicBlocks.indexOf(errorEntry.trapBB);
+            int end = basicBlocks.indexOf(errorEntry.endBB);
+            for (int i = Math.max(start, 0); start >= 0 && i <= end; i++) {
+                coverage.get(basicBlocks.get(i)).add(errorEntry);
+            }
+        }
+        return coverage;
+    }
+
+    private static BIROperand map(BIROperand operand, UnaryOperator<BIROperand> mapper) {
+        return operand == null ? null : mapper.apply(operand);
+    }
+
+    private static void map(List<BIROperand> operands, UnaryOperator<BIROperand> mapper) {
+        if (operands == null) {
+            return;
+        }
+        for (int i = 0; i < operands.size(); i++) {
+            BIROperand operand = operands.get(i);
+            BIROperand mappedOperand = map(operand, mapper);
+            if (mappedOperand != operand) {
+                operands.set(i, mappedOperand);
+            }
+        }
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.ballerinalang.compiler.bir.optimizer;
+
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRBasicBlock;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRErrorEntry;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRFunction;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRVariableDcl;
+import org.wso2.ballerinalang.compiler.bir.model.BIRVisitor;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Remove the basic blocks of functions which are not reachable from the entry basic block. The basic blocks
+ * referred to by the error table are kept, since the error table is generated from them.
+ *
+ * @since 2.0.0
+ */
+public class BIRUnreachableBlockOptimizer extends BIRVisitor {
+
+    private boolean changed;
+
+    /**
+     * Remove the unreachable basic blocks of a module.
+     *
+     * @param birPackage module
+     * @return true if any basic block was removed
+     */
+    public boolean optimize(BIRNode.BIRPackage birPackage) {
+        this.changed = false;
+        birPackage.accept(this);
+        return this.changed;
+    }
+
+    @Override
+    public void visit(BIRNode.BIRPackage birPackage) {
+        birPackage.typeDefs.forEach(tDef -> tDef.accept(this));
+        birPackage.functions.forEach(func -> func.accept(this));
+    }
+
+    @Override
+    public void visit(BIRNode.BIRTypeDefinition birTypeDefinition) {
+        birTypeDefinition.attachedFuncs.forEach(func -> func.accept(this));
+    }
+
+    @Override
+    public void visit(BIRFunction birFunction) {
+        List<BIRBasicBlock> basicBlocks = birFunction.basicBlocks;
+        if (basicBlocks.isEmpty()) {
+            return;
+        }
+
+        LinkedList<BIRBasicBlock> worklist = new LinkedList<>();
+        worklist.add(basicBlocks.get(0));
+        for (BIRErrorEntry errorEntry : birFunction.errorTable) {
+            worklist.add(errorEntry.trapBB);
+            worklist.add(errorEntry.endBB);
+            worklist.add(errorEntry.targetBB);
+        }
+        for (List<BIRBasicBlock> paramBBs : birFunction.parameters.values()) {
+            for (BIRBasicBlock paramBB : paramBBs) {
+                if (paramBB.terminator != null) {
+                    worklist.addAll(BIROptimizerUtils.getSuccessors(paramBB.terminator));
+                }
+            }
+        }
+
+        Set<BIRBasicBlock> reachable = new HashSet<>();
+        while (!worklist.isEmpty()) {
+            BIRBasicBlock basicBlock = worklist.poll();
+            if (basicBlock == null || !reachable.add(basicBlock) || basicBlock.terminator == null) {
+                continue;
+            }
+            worklist.addAll(BIROptimizerUtils.getSuccessors(basicBlock.terminator));
+        }
+
+        List<BIRBasicBlock> newBasicBlocks = new ArrayList<>(reachable.size());
+        for (BIRBasicBlock basicBlock : basicBlocks) {
+            if (reachable.contains(basicBlock)) {
+                newBasicBlocks.add(basicBlock);
+            }
+        }
+        if (newBasicBlocks.size() == basicBlocks.size()) {
+            return;
+        }
+        birFunction.basicBlocks = newBasicBlocks;
+        this.changed = true;
+
+        // Variables whose scope starts or ends in a removed basic block are given the scope of the whole function.
+        for (BIRVariableDcl localVar : birFunction.localVars) {
+            if (localVar.startBB != null && !reachable.contains(localVar.startBB)) {
+                localVar.startBB = null;
+                localVar.insOffset = 0;
+            }
+            if (localVar.endBB != null && !reachable.contains(localVar.endBB)) {
+                localVar.endBB = null;
+            }
+        }
+    }
+}
@@ -16,9 +16,11 @@
  */
 package org.wso2.ballerinalang.compiler.desugar;
 
+import org.ballerinalang.compiler.CompilerOptionName;
 import org.ballerinalang.model.TreeBuilder;
 import org.ballerinalang.model.tree.IdentifierNode;
 import org.ballerinalang.model.tree.NodeKind;
+import org.ballerinalang.model.tree.OperatorKind;
 import org.ballerinalang.model.tree.expressions.RecordLiteralNode;
 import org.ballerinalang.model.tree.statements.VariableDefinitionNode;
 import org.ballerinalang.model.tree.types.TypeNode;
@@ -162,6 +164,7 @@ import org.wso2.ballerinalang.compiler.tree.types.BLangRecordTypeNode;
 import org.wso2.ballerinalang.compiler.tree.types.BLangUnionTypeNode;
 import org.wso2.ballerinalang.compiler.tree.types.BLangValueType;
 import org.wso2.ballerinalang.compiler.util.CompilerContext;
+import org.wso2.ballerinalang.compiler.util.CompilerOptions;
 import org.wso2.ballerinalang.compiler.util.Name;
 import org.wso2.ballerinalang.compiler.util.Names;
 import org.wso2.ballerinalang.compiler.util.TypeTags;
@@ -171,8 +174,10 @@ import org.wso2.ballerinalang.util.Lists;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Class responsible for desugar query pipeline into actual Ballerina code.
@@ -185,11 +190,13 @@ public class QueryDesugar extends BLangNodeVisitor {
     private static final Name QUERY_CREATE_NESTED_FROM_FUNCTION = new Name("createNestedFromFunction");
     private static final Name QUERY_CREATE_LET_FUNCTION = new Name("createLetFunction");
     private static final Name QUERY_CREATE_JOIN_FUNCTION = new Name("createJoinFunction");
+    private static final Name QUERY_CREATE_HASH_JOIN_FUNCTION = new Name("createHashJoinFunction");
     private static final Name QUERY_CREATE_FILTER_FUNCTION = new Name("createFilterFunction");
     private static final Name QUERY_CREATE_SELECT_FUNCTION = new Name("createSelectFunction");
     private static final Name QUERY_CREATE_DO_FUNCTION = new Name("createDoFunction");
     private static final Name QUERY_CREATE_LIMIT_FUNCTION = new Name("createLimitFunction");
     private static final Name QUERY_ADD_STREAM_FUNCTION = new Name("addStreamFunction");
+    private static final Name QUERY_FUSE_STREAM_FUNCTIONS = new Name("fuseStreamFunctions");
     private static final Name QUERY_CONSUME_STREAM_FUNCTION = new Name("consumeStream");
     private static final Name QUERY_TO_ARRAY_FUNCTION = new Name("toArray");
     private static final Name QUERY_TO_STRING_FUNCTION = new Name("toString");
@@ -203,11 +210,14 @@ public class QueryDesugar extends BLangNodeVisitor {
     private BLangBlockFunctionBody currentLambdaBody;
     private Map<String, BSymbol> identifiers;
     private int streamElementCount = 0;
+    // Whether the lambdas of the current query may yield, i.e. contain calls to functions or worker interactions.
+    private boolean mayYield = false;
     private final Desugar desugar;
     private final SymbolTable symTable;
     private final SymbolResolver symResolver;
     private final Names names;
     private final Types types;
+    private final boolean fuseQueryPipelines;
     private SymbolEnv env;
 
     private QueryDesugar(CompilerContext context) {
@@ -217,6 +227,9 @@ public class QueryDesugar extends BLangNodeVisitor {
         this.names = Names.getInstance(context);
         this.types = Types.getInstance(context);
         this.desugar = Desugar.getInstance(context);
+        CompilerOptions options = CompilerOptions.getInstance(context);
+        this.fuseQueryPipelines = !options.isSet(CompilerOptionName.FUSE_QUERY_PIPELINES)
+                || Boolean.parseBoolean(options.get(CompilerOptionName.FUSE_QUERY_PIPELINES));
     }
 
     public static QueryDesugar getInstance(CompilerContext context) {
@@ -298,12 +311,15 @@ public class QueryDesugar extends BLangNodeVisitor {
      */
     BLangVariableReference buildStream(List<BLangNode> clauses, BType resultType, SymbolEnv env, BLangBlockStmt block) {
         this.env = env;
+        this.mayYield = false;
         BLangFromClause initFromClause = (BLangFromClause) clauses.get(0);
         final BLangVariableReference initPipeline = addPipeline(block, initFromClause.pos,
                 initFromClause.collection, resultType);
         BLangVariableReference initFrom = addInputFunction(block, initFromClause);
         addStreamFunction(block, initPipeline, initFrom);
-        for (BLangNode clause : clauses.subList(1, clauses.size())) {
+        BLangNode hashJoinOnClause = null;
+        for (int i = 1; i < clauses.size(); i++) {
+            BLangNode clause = clauses.get(i);
             switch (clause.getKind()) {
                 case FROM:
                     BLangFromClause fromClause = (BLangFromClause) clause;
@@ -318,8 +334,17 @@ public class QueryDesugar extends BLangNodeVisitor {
                             joinClause.collection, resultType);
                     BLangVariableReference joinInputFunc = addInputFunction(block, joinClause);
                     addStreamFunction(block, joinPipeline, joinInputFunc);
-                    BLangVariableReference joinFunc = addJoinFunction(block, joinPipeline);
-                    addStreamFunction(block, initPipeline, joinFunc);
+                    List<BLangExpression> joinKeys = getHashJoinKeys(clauses, i);
+                    if (joinKeys.isEmpty()) {
+                        BLangVariableReference joinFunc = addJoinFunction(block, joinPipeline);
+                        addStreamFunction(block, initPipeline, joinFunc);
+                        break;
+                    }
+                    BLangVariableReference hashJoinFunc = addHashJoinFunction(block, joinPipeline,
+                            joinKeys.get(0), joinKeys.get(1));
+                    addStreamFunction(block, initPipeline, hashJoinFunc);
+                    // The on clause is evaluated by the hash join.
+                    hashJoinOnClause = clauses.get(i + 1);
                     break;
                 case LET_CLAUSE:
                     BLangVariableReference letFunc = addLetFunction(block, (BLangLetClause) clause);
@@ -330,6 +355,9 @@ public class QueryDesugar extends BLangNodeVisitor {
                     addStreamFunction(block, initPipeline, whereFunc);
                     break;
                 case ON:
+                    if (clause == hashJoinOnClause) {
+                        break;
+                    }
                     BLangVariableReference onFunc = addFilterFunction(block, (BLangOnClause) clause);
                     addStreamFunction(block, initPipeline, onFunc);
                     break;
@@ -351,6 +379,9 @@ public class QueryDesugar extends BLangNodeVisitor {
                     break;
             }
         }
+        if (fuseQueryPipelines && !mayYield && isFusible(clauses)) {
+            addFuseStreamFunctions(block, initPipeline);
+        }
         return addGetStreamFromPipeline(block, initPipeline);
     }
 
@@ -474,6 +505,31 @@ public class QueryDesugar extends BLangNodeVisitor {
                 Lists.of(joinPipeline), joinPipeline.pos);
     }
 
+    /**
+     * Desugar joinClauses having an equi-join onClause to below and return a reference to created hash join
+     * _StreamFunction.
+     * _StreamFunction joinFunc = createHashJoinFunction(joinPipeline,
+     *      function(_Frame frame) returns any|error? {
+     *          return person.id;
+     *      },
+     *      function(_Frame frame) returns any|error? {
+     *          return dept.id;
+     *      });
+     *
+     * @param blockStmt    parent block to write to.
+     * @param joinPipeline previously created _StreamPipeline reference to be joined.
+     * @param lhsKeyExpr   join key expression of the frames of the previous clauses.
+     * @param rhsKeyExpr   join key expression of the frames of the joined pipeline.
+     * @return variableReference to created hash join _StreamFunction.
+     */
+    BLangVariableReference addHashJoinFunction(BLangBlockStmt blockStmt, BLangVariableReference joinPipeline,
+                                               BLangExpression lhsKeyExpr, BLangExpression rhsKeyExpr) {
+        BLangLambdaFunction lhsKeyLambda = createKeyLambda(lhsKeyExpr.pos, lhsKeyExpr);
+        BLangLambdaFunction rhsKeyLambda = createKeyLambda(rhsKeyExpr.pos, rhsKeyExpr);
+        return getStreamFunctionVariableRef(blockStmt, QUERY_CREATE_HASH_JOIN_FUNCTION,
+                Lists.of(joinPipeline, lhsKeyLambda, rhsKeyLambda), joinPipeline.pos);
+    }
+
     /**
      * Desugar letClause to below and return a reference to created let _StreamFunction.
      * _StreamFunction ysLet = createLetFunction(function(_Frame frame) returns _Frame|error? {
@@ -631,6 +687,20 @@ public class QueryDesugar extends BLangNodeVisitor {
         stmt.expr = addStreamFunctionInvocation;
     }
 
+    /**
+     * Desugar to following invocation.
+     * query:fuseStreamFunctions(pipeline);
+     *
+     * @param blockStmt   parent block to write to.
+     * @param pipelineRef variableReference to pipeline.
+     */
+    void addFuseStreamFunctions(BLangBlockStmt blockStmt, BLangVariableReference pipelineRef) {
+        BLangInvocation fuseStreamFunctionsInvocation = createQueryLibInvocation(QUERY_FUSE_STREAM_FUNCTIONS,
+                Lists.of(pipelineRef), pipelineRef.pos);
+        BLangExpressionStmt stmt = ASTBuilderUtil.createExpressionStmt(pipelineRef.pos, blockStmt);
+        stmt.expr = fuseStreamFunctionsInvocation;
+    }
+
     /**
      * Desugar to following invocation.
      * stream<any|error, error?> result = xsPipeline.getStream();
@@ -701,6 +771,24 @@ public class QueryDesugar extends BLangNodeVisitor {
         return createLambdaFunction(pos, returnType, returnNode, true);
     }
 
+    /**
+     * Create and return a lambda `function(_Frame frame) returns any|error? { return keyExpr; }`.
+     *
+     * @param pos     of the lambda.
+     * @param keyExpr join key expression.
+     * @return created lambda function.
+     */
+    private BLangLambdaFunction createKeyLambda(DiagnosticPos pos, BLangExpression keyExpr) {
+        // returns any|error?
+        BLangUnionTypeNode returnType = getAnyErrorNilTypeNode();
+        BLangReturn returnNode = (BLangReturn) TreeBuilder.createReturnNode();
+        returnNode.expr = keyExpr;
+        returnNode.pos = pos;
+        BLangLambdaFunction lambda = createLambdaFunction(pos, returnType, returnNode, false);
+        lambda.accept(this);
+        return lambda;
+    }
+
     /**
      * Create and return a lambda `function(_Frame frame) returns boolean {...}`.
      *
@@ -882,6 +970,136 @@ public class QueryDesugar extends BLangNodeVisitor {
         }
     }
 
+    /**
+     * Return the join keys of the joinClause at the given index, if the joinClause can be evaluated as a hash join.
+     * i.e. the onClause is `lhsKey equals rhsKey`, where the `lhsKey` refers only to the variables of the previous
+     * clauses, the `rhsKey` refers only to the variables of the joinClause and both keys are of an integer, string
+     * or boolean type. The first key is evaluated against the frames of the previous clauses.
+     *
+     * @param clauses   list of query clauses.
+     * @param joinIndex index of the joinClause.
+     * @return join keys, or an empty list if a nested loop join is required.
+     */
+    private List<BLangExpression> getHashJoinKeys(List<BLangNode> clauses, int joinIndex) {
+        BLangJoinClause joinClause = (BLangJoinClause) clauses.get(joinIndex);
+        if (joinClause.isOuterJoin || joinIndex + 1 >= clauses.size()
+                || clauses.get(joinIndex + 1).getKind() != NodeKind.ON) {
+            return Collections.emptyList();
+        }
+        BLangExpression onExpr = ((BLangOnClause) clauses.get(joinIndex + 1)).expression;
+        if (onExpr.getKind() != NodeKind.BINARY_EXPR) {
+            return Collections.emptyList();
+        }
+        BLangBinaryExpr binaryExpr = (BLangBinaryExpr) onExpr;
+        if ((binaryExpr.opKind != OperatorKind.EQUALS && binaryExpr.opKind != OperatorKind.EQUAL)
+                || !isHashJoinKeyType(binaryExpr.lhsExpr.type) || !isHashJoinKeyType(binaryExpr.rhsExpr.type)) {
+            return Collections.emptyList();
+        }
+
+        Set<String> lhsRefs = new HashSet<>();
+        Set<String> rhsRefs = new HashSet<>();
+        if (!collectReferredNames(binaryExpr.lhsExpr, lhsRefs) || !collectReferredNames(binaryExpr.rhsExpr, rhsRefs)) {
+            return Collections.emptyList();
+        }
+        Set<String> joinVars = new HashSet<>();
+        getIntroducedSymbols((BLangVariable) joinClause.variableDefinitionNode.getVariable())
+                .forEach(symbol -> joinVars.add(symbol.name.value));
+        Set<String> prevVars = new HashSet<>();
+        for (BLangNode clause : clauses.subList(0, joinIndex)) {
+            getIntroducedSymbols(clause).forEach(symbol -> prevVars.add(symbol.name.value));
+        }
+
+        if (Collections.disjoint(lhsRefs, joinVars) && Collections.disjoint(rhsRefs, prevVars)) {
+            return Lists.of(binaryExpr.lhsExpr, binaryExpr.rhsExpr);
+        } else if (Collections.disjoint(rhsRefs, joinVars) && Collections.disjoint(lhsRefs, prevVars)) {
+            return Lists.of(binaryExpr.rhsExpr, binaryExpr.lhsExpr);
+        }
+        return Collections.emptyList();
+    }
+
+    /**
+     * Check whether the stream functions of a query can be evaluated natively by a fused function, i.e. the query
+     * has a single from clause over a list or a table, followed only by let, where, select and limit clauses. The
+     * functions of such a query do not keep the frames. Streams and other iterables are not fused, since their
+     * iterators are Ballerina functions which may yield, and a fused function would call them synchronously.
+     *
+     * @param clauses list of query clauses.
+     * @return whether the stream functions can be fused.
+     */
+    private boolean isFusible(List<BLangNode> clauses) {
+        BType collectionType = ((BLangFromClause) clauses.get(0)).collection.type;
+        switch (collectionType.tag) {
+            case TypeTags.ARRAY:
+            case TypeTags.TUPLE:
+            case TypeTags.TABLE:
+                break;
+            default:
+                return false;
+        }
+        for (BLangNode clause : clauses.subList(1, clauses.size())) {
+            switch (clause.getKind()) {
+                case LET_CLAUSE:
+                case WHERE:
+                case SELECT:
+                case LIMIT:
+                case ON_CONFLICT:
+                    break;
+                default:
+                    return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean isHashJoinKeyType(BType type) {
+        // Values of these types are equal only if their string representations are equal.
+        return TypeTags.isIntegerTypeTag(type.tag) || TypeTags.isStringTypeTag(type.tag)
+                || type.tag == TypeTags.BOOLEAN;
+    }
+
+    /**
+     * Collect the names of the variables referred in a join key expression.
+     *
+     * @param expr  join key expression.
+     * @param names set to collect the names into.
+     * @return false if the expression is not supported as a join key of a hash join.
+     */
+    private boolean collectReferredNames(BLangExpression expr, Set<String> names) {
+        switch (expr.getKind()) {
+            case SIMPLE_VARIABLE_REF:
+                names.add(((BLangSimpleVarRef) expr).variableName.value);
+                return true;
+            case FIELD_BASED_ACCESS_EXPR:
+                return collectReferredNames(((BLangFieldBasedAccess) expr).expr, names);
+            case INDEX_BASED_ACCESS_EXPR:
+                BLangIndexBasedAccess indexAccessExpr = (BLangIndexBasedAccess) expr;
+                return collectReferredNames(indexAccessExpr.expr, names)
+                        && collectReferredNames(indexAccessExpr.indexExpr, names);
+            case GROUP_EXPR:
+                return collectReferredNames(((BLangGroupExpr) expr).expression, names);
+            case TYPE_CONVERSION_EXPR:
+                return collectReferredNames(((BLangTypeConversionExpr) expr).expr, names);
+            case LITERAL:
+            case NUMERIC_LITERAL:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private List<BVarSymbol> getIntroducedSymbols(BLangNode clause) {
+        switch (clause.getKind()) {
+            case FROM:
+            case JOIN:
+                return getIntroducedSymbols((BLangVariable)
+                        ((BLangInputClause) clause).variableDefinitionNode.getVariable());
+            case LET_CLAUSE:
+                return getIntroducedSymbols((BLangLetClause) clause);
+            default:
+                return Collections.emptyList();
+        }
+    }
+
     private List<BVarSymbol> getIntroducedSymbols(BLangLetClause letClause) {
         List<BVarSymbol> symbols = new ArrayList<>();
         for (BLangLetVariable letVariable : letClause.letVarDeclarations) {
@@ -1110,6 +1328,11 @@ public class QueryDesugar extends BLangNodeVisitor {
 
     @Override
     public void visit(BLangInvocation invocationExpr) {
+        // Lang library functions yield only if they call a function value.
+        if (!invocationExpr.langLibInvocation || invocationExpr.requiredArgs.stream()
+                .anyMatch(arg -> arg.type.tag == TypeTags.INVOKABLE)) {
+            mayYield = true;
+        }
         List<BLangExpression> requiredArgs = invocationExpr.requiredArgs;
         if (invocationExpr.langLibInvocation && !requiredArgs.isEmpty()) {
             requiredArgs = requiredArgs.subList(1, requiredArgs.size());
@@ -1238,12 +1461,14 @@ public class QueryDesugar extends BLangNodeVisitor {
 
     @Override
     public void visit(BLangTypeInit connectorInitExpr) {
+        mayYield = true;
         connectorInitExpr.argsExpr.forEach(arg -> arg.accept(this));
         connectorInitExpr.initInvocation.accept(this);
     }
 
     @Override
     public void visit(BLangInvocation.BLangActionInvocation actionInvocationExpr) {
+        mayYield = true;
         actionInvocationExpr.argExprs.forEach(arg -> arg.accept(this));
     }
 
@@ -1256,6 +1481,7 @@ public class QueryDesugar extends BLangNodeVisitor {
 
     @Override
     public void visit(BLangWaitExpr awaitExpr) {
+        mayYield = true;
         awaitExpr.exprList.forEach(expression -> expression.accept(this));
     }
 
@@ -1530,14 +1756,17 @@ public class QueryDesugar extends BLangNodeVisitor {
 
     @Override
     public void visit(BLangWorkerFlushExpr workerFlushExpr) {
+        mayYield = true;
     }
 
     @Override
     public void visit(BLangWorkerSyncSendExpr syncSendExpr) {
+        mayYield = true;
     }
 
     @Override
     public void visit(BLangWaitForAllExpr waitForAllExpr) {
+        mayYield = true;
         waitForAllExpr.keyValuePairs.forEach(pair -> pair.accept(this));
     }
 
@@ -1742,6 +1971,7 @@ public class QueryDesugar extends BLangNodeVisitor {
 
     @Override
     public void visit(BLangWorkerSend workerSendNode) {
+        mayYield = true;
         workerSendNode.expr.accept(this);
         if (workerSendNode.keyExpr != null) {
             workerSendNode.keyExpr.accept(this);
@@ -1750,6 +1980,7 @@ public class QueryDesugar extends BLangNodeVisitor {
 
     @Override
     public void visit(BLangWorkerReceive workerReceiveNode) {
+        mayYield = true;
         workerReceiveNode.sendExpression.accept(this);
         if (workerReceiveNode.keyExpr != null) {
             workerReceiveNode.keyExpr.accept(this);
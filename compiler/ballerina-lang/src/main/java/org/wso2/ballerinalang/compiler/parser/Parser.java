@@ -25,6 +25,7 @@ import io.ballerinalang.compiler.text.LineRange;
 import org.antlr.v4.runtime.ANTLRInputStream;
 import org.antlr.v4.runtime.CommonTokenStream;
 import org.antlr.v4.runtime.DefaultErrorStrategy;
+import org.ballerinalang.compiler.BLangCompilerException;
 import org.ballerinalang.compiler.CompilerOptionName;
 import org.ballerinalang.model.TreeBuilder;
 import org.ballerinalang.model.elements.Flag;
@@ -54,7 +55,11 @@ import java.io.IOException;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
 
 /**
  * This class is responsible for parsing Ballerina source files.
@@ -97,6 +102,7 @@ public class Parser {
         PackageID pkgId = pkgSource.getPackageId();
         BLangPackage pkgNode = (BLangPackage) TreeBuilder.createPackageNode();
         this.pkgCache.put(pkgId, pkgNode);
+        Map<String, byte[]> sources = new TreeMap<>();
 
         for (CompilerInput sourceInput : pkgSource.getPackageSourceEntries()) {
             BDiagnosticSource diagnosticSource = getDiagnosticSource(sourceInput, pkgId);
@@ -114,8 +120,10 @@ public class Parser {
                 );
             } else {
                 pkgNode.addCompilationUnit(generateCompilationUnitNew(sourceInput, pkgId, diagnosticSource));
+                sources.put(sourceInput.getEntryName(), sourceInput.getCode());
             }
         }
+        pkgNode.sourceDigest = getSourceDigest(pkgId, sources);
 
         pkgNode.pos = new DiagnosticPos(new BDiagnosticSource(pkgId, pkgSource.getName()), 1, 1, 1, 1);
         pkgNode.repos = pkgSource.getRepoHierarchy();
@@ -126,21 +134,26 @@ public class Parser {
                                                            BDiagnosticSource diagnosticSource) {
         String entryName = sourceEntry.getEntryName();
         BLangCompilationUnit compilationUnit;
-        SyntaxTree tree = sourceEntry.getTree();
-        reportSyntaxDiagnostics(diagnosticSource, tree);
 
         //TODO: Get hash and length from tree
         byte[] code = sourceEntry.getCode();
         int hash = getHash(code);
         int length = code.length;
 
+        // Only the compilation units without syntax errors are cached, hence the source entry of a cached compilation
+        // unit need not be parsed again.
         compilationUnit = parserCache.get(packageID, entryName, hash, length);
         if (compilationUnit != null) {
             return compilationUnit;
         }
 
+        SyntaxTree tree = sourceEntry.getTree();
+        reportSyntaxDiagnostics(diagnosticSource, tree);
         BLangNodeTransformer bLangNodeTransformer = new BLangNodeTransformer(this.context, diagnosticSource);
         compilationUnit = (BLangCompilationUnit) bLangNodeTransformer.accept(tree.rootNode()).get(0);
+        if (tree.hasDiagnostics()) {
+            return compilationUnit;
+        }
         parserCache.put(packageID, entryName, hash, length, compilationUnit);
         // Node cloner will run for valid ASTs.
         // This will verify, any modification done to the AST will get handled properly.
@@ -152,6 +165,7 @@ public class Parser {
         PackageID pkgId = pkgSource.getPackageId();
         BLangPackage pkgNode = (BLangPackage) TreeBuilder.createPackageNode();
         this.pkgCache.put(pkgId, pkgNode);
+        Map<String, byte[]> sources = new TreeMap<>();
         for (CompilerInput sourceInput: pkgSource.getPackageSourceEntries()) {
             if (ProjectDirs.isTestSource(((FileSystemSourceInput) sourceInput).getPath(),
                     sourceRootPath , pkgId.getName().value)) {
@@ -165,8 +179,10 @@ public class Parser {
                 pkgNode.getTestablePkg().addCompilationUnit(generateCompilationUnit(sourceInput, pkgId));
             } else {
                 pkgNode.addCompilationUnit(generateCompilationUnit(sourceInput, pkgId));
+                sources.put(sourceInput.getEntryName(), sourceInput.getCode());
             }
         }
+        pkgNode.sourceDigest = getSourceDigest(pkgId, sources);
         pkgNode.pos = new DiagnosticPos(new BDiagnosticSource(pkgId,
                 pkgSource.getName()), 1, 1, 1, 1);
         pkgNode.repos = pkgSource.getRepoHierarchy();
@@ -256,6 +272,20 @@ public class Parser {
         return customErrorStrategy;
     }
 
+    private static byte[] getSourceDigest(PackageID packageID, Map<String, byte[]> sources) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new BLangCompilerException("error computing the digest of the sources of '" + packageID + "'", e);
+        }
+        for (Map.Entry<String, byte[]> source : sources.entrySet()) {
+            digest.update(source.getKey().getBytes(StandardCharsets.UTF_8));
+            digest.update(source.getValue());
+        }
+        return digest.digest();
+    }
+
     private static int getHash(byte[] code) {
         // Assuming hash collision is unlikely in a modified source.
         // Additionally code.Length is considered to avoid hash collision.
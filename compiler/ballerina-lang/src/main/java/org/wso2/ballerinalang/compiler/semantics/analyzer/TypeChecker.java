@@ -262,6 +262,7 @@ public class TypeChecker extends BLangNodeVisitor {
             add("setLength");
             add("reverse");
             add("sort");
+            add("sortBy");
             add("pop");
             add("push");
             add("shift");
@@ -75,6 +75,8 @@ public class BLangPackage extends BLangNode implements PackageNode {
     public BPackageSymbol symbol;
     public Set<Flag> flagSet;
     public byte[] jarBinaryContent;
+    // digest of the sources of the module, excluding the test sources
+    public byte[] sourceDigest;
 
     // TODO Revisit these instance variables
     public BDiagnosticCollector diagCollector;
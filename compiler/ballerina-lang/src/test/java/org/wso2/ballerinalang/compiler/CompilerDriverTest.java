@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.ballerinalang.compiler;
+
+import org.ballerinalang.compiler.CompilerPhase;
+import org.ballerinalang.model.elements.PackageID;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.BPackageSymbol;
+import org.wso2.ballerinalang.compiler.tree.BLangIdentifier;
+import org.wso2.ballerinalang.compiler.tree.BLangImportPackage;
+import org.wso2.ballerinalang.compiler.tree.BLangPackage;
+import org.wso2.ballerinalang.compiler.tree.BLangTestablePackage;
+import org.wso2.ballerinalang.compiler.util.CompilerContext;
+import org.wso2.ballerinalang.compiler.util.Name;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Tests for the order in which the {@link CompilerDriver} compiles modules.
+ *
+ * @since 2.0.0
+ */
+public class CompilerDriverTest {
+
+    private PackageCache pkgCache;
+
+    @BeforeMethod
+    public void init() {
+        pkgCache = PackageCache.getInstance(new CompilerContext());
+    }
+
+    @Test(description = "Modules are compiled after their imports, and modules of the same depth by their IDs")
+    public void testCompilationOrder() {
+        BLangPackage a = createModule("a");
+        BLangPackage b = createModule("b");
+        BLangPackage c = createModule("c", a);
+        BLangPackage d = createModule("d", b, c);
+        BLangPackage app = createModule("app", d, c, b);
+
+        Assert.assertEquals(getCompilationOrder(app, false), Arrays.asList(a, b, c, d, app));
+        Assert.assertEquals(getCompilationOrder(c, false), Arrays.asList(a, c));
+    }
+
+    @Test(description = "Modules are grouped by their depth, so that the modules of a group don't import each other")
+    public void testCompilationLevels() {
+        BLangPackage a = createModule("a");
+        BLangPackage b = createModule("b");
+        BLangPackage c = createModule("c", a);
+        BLangPackage d = createModule("d", a, b);
+        BLangPackage app = createModule("app", d, c, b);
+
+        Assert.assertEquals(getCompilationLevels(app, false), Arrays.asList(Arrays.asList(a, b), Arrays.asList(c, d),
+                Collections.singletonList(app)));
+    }
+
+    @Test(description = "The order doesn't depend on the order of the imports")
+    public void testCompilationOrderOfSameDepth() {
+        BLangPackage z = createModule("z");
+        BLangPackage y = createModule("y");
+        BLangPackage x = createModule("x");
+        BLangPackage app = createModule("app", z, x, y);
+        BLangPackage reversedApp = createModule("reversed", y, x, z);
+
+        Assert.assertEquals(getCompilationOrder(app, false), Arrays.asList(x, y, z, app));
+        Assert.assertEquals(getCompilationOrder(reversedApp, false), Arrays.asList(x, y, z, reversedApp));
+    }
+
+    @Test(description = "Modules which are loaded from BALOs or already type checked are not compiled again")
+    public void testCompiledModulesAreSkipped() {
+        BLangPackage compiled = createModule("compiled");
+        compiled.completedPhases.add(CompilerPhase.TYPE_CHECK);
+        BLangPackage a = createModule("a", compiled);
+        BLangPackage app = createModule("app", a);
+        BLangImportPackage baloImport = createImport(createPackageID("balo"));
+        app.imports.add(baloImport);
+
+        Assert.assertEquals(getCompilationOrder(app, false), Arrays.asList(a, app));
+    }
+
+    @Test(description = "The imports of the tests are compiled only if the tests are compiled")
+    public void testTestImports() {
+        BLangPackage a = createModule("a");
+        BLangPackage testUtils = createModule("testutils", a);
+        BLangPackage app = createModule("app", a);
+        BLangTestablePackage testablePkg = new BLangTestablePackage();
+        testablePkg.imports.add(createImport(testUtils.packageID));
+        app.addTestablePkg(testablePkg);
+
+        Assert.assertEquals(getCompilationOrder(app, false), Arrays.asList(a, app));
+        Assert.assertEquals(getCompilationOrder(app, true), Arrays.asList(a, testUtils, app));
+    }
+
+    @Test(description = "Cyclic imports don't prevent the order from being computed")
+    public void testCyclicImports() {
+        BLangPackage a = createModule("a");
+        BLangPackage b = createModule("b", a);
+        a.imports.add(createImport(b.packageID));
+        BLangPackage app = createModule("app", b);
+
+        List<BLangPackage> order = getCompilationOrder(app, false);
+        Assert.assertEquals(order.size(), 3);
+        Assert.assertEquals(order.get(2), app);
+    }
+
+    private List<BLangPackage> getCompilationOrder(BLangPackage pkgNode, boolean withTestImports) {
+        List<BLangPackage> order = new ArrayList<>();
+        getCompilationLevels(pkgNode, withTestImports).forEach(order::addAll);
+        return order;
+    }
+
+    private List<List<BLangPackage>> getCompilationLevels(BLangPackage pkgNode, boolean withTestImports) {
+        return CompilerDriver.getCompilationLevels(new BPackageSymbol(pkgNode.packageID, null), pkgCache,
+                withTestImports);
+    }
+
+    private BLangPackage createModule(String name, BLangPackage... imports) {
+        BLangPackage pkgNode = new BLangPackage();
+        for (BLangPackage importedPkgNode : imports) {
+            pkgNode.imports.add(createImport(importedPkgNode.packageID));
+        }
+        pkgCache.put(createPackageID(name), pkgNode);
+        return pkgNode;
+    }
+
+    private static BLangImportPackage createImport(PackageID pkgID) {
+        BLangImportPackage importPkgNode = new BLangImportPackage();
+        importPkgNode.pkgNameComps = Collections.singletonList(createIdentifier(pkgID.name.value));
+        importPkgNode.version = createIdentifier(pkgID.version.value);
+        importPkgNode.alias = createIdentifier(pkgID.name.value);
+        importPkgNode.symbol = new BPackageSymbol(pkgID, null);
+        return importPkgNode;
+    }
+
+    private static BLangIdentifier createIdentifier(String value) {
+        BLangIdentifier identifier = new BLangIdentifier();
+        identifier.setValue(value);
+        return identifier;
+    }
+
+    private static PackageID createPackageID(String name) {
+        return new PackageID(new Name("test"), new Name(name), new Name("0.1.0"));
+    }
+}
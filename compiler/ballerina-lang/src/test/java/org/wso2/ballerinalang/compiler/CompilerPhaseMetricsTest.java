@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.ballerinalang.compiler;
+
+import org.ballerinalang.compiler.CompilerPhase;
+import org.ballerinalang.model.elements.PackageID;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.wso2.ballerinalang.compiler.util.CompilerContext;
+import org.wso2.ballerinalang.compiler.util.Name;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.io.UnsupportedEncodingException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tests for the {@link CompilerPhaseMetrics} class.
+ *
+ * @since 2.0.0
+ */
+public class CompilerPhaseMetricsTest {
+
+    private static final PackageID FIRST = new PackageID(new Name("test"), new Name("first"), new Name("0.1.0"));
+    private static final PackageID SECOND = new PackageID(new Name("test"), new Name("second"), new Name("0.1.0"));
+
+    @Test(description = "Metrics are shared by the compilation of a context")
+    public void testInstancePerContext() {
+        CompilerContext context = new CompilerContext();
+        CompilerPhaseMetrics phaseMetrics = CompilerPhaseMetrics.getInstance(context);
+        Assert.assertSame(CompilerPhaseMetrics.getInstance(context), phaseMetrics);
+        Assert.assertNotSame(CompilerPhaseMetrics.getInstance(new CompilerContext()), phaseMetrics);
+    }
+
+    @Test(description = "The times of a phase are summed up per module")
+    public void testRecord() {
+        CompilerPhaseMetrics phaseMetrics = CompilerPhaseMetrics.getInstance(new CompilerContext());
+        phaseMetrics.record(FIRST, CompilerPhase.TYPE_CHECK, 10);
+        phaseMetrics.record(FIRST, CompilerPhase.DESUGAR, 20);
+        phaseMetrics.record(FIRST, CompilerPhase.TYPE_CHECK, 5);
+        phaseMetrics.record(SECOND, CompilerPhase.TYPE_CHECK, 7);
+
+        Assert.assertEquals(phaseMetrics.getPhaseTimes(FIRST).size(), 2);
+        Assert.assertEquals(phaseMetrics.getPhaseTimes(FIRST).get(CompilerPhase.TYPE_CHECK), Long.valueOf(15));
+        Assert.assertEquals(phaseMetrics.getPhaseTimes(FIRST).get(CompilerPhase.DESUGAR), Long.valueOf(20));
+        Assert.assertEquals(phaseMetrics.getPhaseTimes(SECOND).get(CompilerPhase.TYPE_CHECK), Long.valueOf(7));
+        Assert.assertTrue(phaseMetrics.getPhaseTimes(
+                new PackageID(new Name("test"), new Name("third"), new Name("0.1.0"))).isEmpty());
+    }
+
+    @Test(description = "Modules are printed in the order they are compiled, and cleared once printed")
+    public void testPrint() throws UnsupportedEncodingException {
+        CompilerPhaseMetrics phaseMetrics = CompilerPhaseMetrics.getInstance(new CompilerContext());
+        phaseMetrics.record(SECOND, CompilerPhase.TYPE_CHECK, TimeUnit.MILLISECONDS.toNanos(3));
+        phaseMetrics.record(SECOND, CompilerPhase.CODE_GEN, TimeUnit.MILLISECONDS.toNanos(4));
+        phaseMetrics.record(FIRST, CompilerPhase.TYPE_CHECK, TimeUnit.MILLISECONDS.toNanos(2));
+
+        Assert.assertEquals(print(phaseMetrics), "Compiler phase times\n" +
+                "\t" + SECOND + " - 7ms, " + CompilerPhase.TYPE_CHECK + ": 3ms, " + CompilerPhase.CODE_GEN + ": 4ms\n" +
+                "\t" + FIRST + " - 2ms, " + CompilerPhase.TYPE_CHECK + ": 2ms\n");
+        Assert.assertTrue(phaseMetrics.getPhaseTimes(FIRST).isEmpty());
+        Assert.assertEquals(print(phaseMetrics), "");
+    }
+
+    private static String print(CompilerPhaseMetrics phaseMetrics) throws UnsupportedEncodingException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        PrintStream printStream = new PrintStream(out, true, StandardCharsets.UTF_8.name());
+        phaseMetrics.print(printStream);
+        return out.toString(StandardCharsets.UTF_8.name()).replace(System.lineSeparator(), "\n");
+    }
+}
@@ -155,11 +155,27 @@ public function reverse(Type[] arr) returns Type[] = external;
 # Sorts an array using a comparator function.
 # The comparator function must return a value less than, equal to or greater than zero
 # according as its first argument is to be ordered before, equal to or after its second argument.
+# If the comparator function is not given, an array of ints, floats or strings is sorted in ascending order,
+# where floats are ordered with -0.0 before 0.0 and NaN last, and strings by their code points.
+# Members for which the comparator function returns zero keep their relative order.
 #
 # + arr - the array to be sorted
 # + func - comparator function
+# + parallel - whether to use multiple threads to sort a large array, when `func` is not given
 # + return - `arr` with its members sorted
-public function sort(Type[] arr, function(Type val1, Type val2) returns int func) returns Type[] = external;
+public function sort(Type[] arr, (function(Type val1, Type val2) returns int)? func = (), boolean parallel = false)
+        returns Type[] = external;
+
+# Sorts an array in ascending order of a key computed for each member.
+# The key function is called once for each member, and the keys are ordered as the members of
+# an array sorted without a comparator function by `sort`. Members with equal keys keep their relative order.
+#
+# + arr - the array to be sorted
+# + key - a function that returns the key of a member; it must return keys of the same basic type for all members
+# + parallel - whether to use multiple threads to sort a large array by the computed keys
+# + return - `arr` with its members sorted
+public function sortBy(Type[] arr, function(Type val) returns int|float|string key, boolean parallel = false)
+        returns Type[] = external;
 
 // Stack-like methods (JavaScript, Perl)
 // panic on fixed-length array
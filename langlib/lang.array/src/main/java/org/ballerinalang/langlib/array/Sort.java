@@ -19,7 +19,6 @@
 package org.ballerinalang.langlib.array;
 
 import org.ballerinalang.jvm.scheduling.Strand;
-import org.ballerinalang.jvm.types.BArrayType;
 import org.ballerinalang.jvm.values.ArrayValue;
 import org.ballerinalang.jvm.values.ArrayValueImpl;
 import org.ballerinalang.jvm.values.FPValue;
@@ -29,30 +28,51 @@ import org.ballerinalang.natives.annotations.BallerinaFunction;
 import org.ballerinalang.natives.annotations.ReturnType;
 
 import static org.ballerinalang.jvm.values.utils.ArrayUtils.checkIsArrayOnlyOperation;
+import static org.ballerinalang.jvm.values.utils.ArrayUtils.createOpNotSupportedError;
 import static org.ballerinalang.util.BLangCompilerConstants.ARRAY_VERSION;
 
 /**
- * Native implementation of lang.array:sort((any|error)[], function).
+ * Native implementation of lang.array:sort((any|error)[], function, boolean).
  *
  * @since 1.0
  */
 @BallerinaFunction(
         orgName = "ballerina", packageName = "lang.array", version = ARRAY_VERSION, functionName = "sort",
-        args = {@Argument(name = "arr", type = TypeKind.ARRAY), @Argument(name = "func", type = TypeKind.FUNCTION)},
+        args = {@Argument(name = "arr", type = TypeKind.ARRAY), @Argument(name = "func", type = TypeKind.UNION),
+                @Argument(name = "parallel", type = TypeKind.BOOLEAN)},
         returnType = {@ReturnType(type = TypeKind.ARRAY)},
         isPublic = true
 )
 public class Sort {
 
-    public static ArrayValue sort(Strand strand, ArrayValue arr, FPValue<Object, Long> func) {
+    @SuppressWarnings("unchecked")
+    public static ArrayValue sort(Strand strand, ArrayValue arr, Object func, boolean parallel) {
         checkIsArrayOnlyOperation(arr.getType(), "sort()");
-        ArrayValue aux = new ArrayValueImpl((BArrayType) arr.getType());
-        mergesort(arr, aux, 0, arr.size() - 1, strand, func);
+        if (func == null) {
+            if (!((ArrayValueImpl) arr).sortMembers(parallel)) {
+                throw createOpNotSupportedError(arr.getType(), "sort() without a comparator function");
+            }
+            return arr;
+        }
+
+        // The members are sorted out of the array, so that each of them is read and written once, instead of once
+        // per merge.
+        int size = arr.size();
+        Object[] values = new Object[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = arr.get(i);
+        }
+        // The comparator is called synchronously, hence the same arguments array is used for all the calls.
+        Object[] args = new Object[]{strand, null, true, null, true};
+        mergesort(values, new Object[size], 0, size - 1, args, (FPValue<Object, Long>) func);
+        for (int i = 0; i < size; i++) {
+            arr.add(i, values[i]);
+        }
         return arr;
     }
 
     // Adapted from https://algs4.cs.princeton.edu/22mergesort/Merge.java.html
-    private static void mergesort(ArrayValue input, ArrayValue aux, int lo, int hi, Strand strand,
+    private static void mergesort(Object[] input, Object[] aux, int lo, int hi, Object[] args,
                                   FPValue<Object, Long> comparator) {
         if (hi <= lo) {
             return;
@@ -60,31 +80,36 @@ public class Sort {
 
         int mid = lo + (hi - lo) / 2;
 
-        mergesort(input, aux, lo, mid, strand, comparator);
-        mergesort(input, aux, mid + 1, hi, strand, comparator);
+        mergesort(input, aux, lo, mid, args, comparator);
+        mergesort(input, aux, mid + 1, hi, args, comparator);
 
-        merge(input, aux, lo, mid, hi, strand, comparator);
+        // The halves are already in order, as when sorting a sorted array.
+        if (compare(input[mid + 1], input[mid], args, comparator) >= 0) {
+            return;
+        }
+        merge(input, aux, lo, mid, hi, args, comparator);
     }
 
-    private static void merge(ArrayValue input, ArrayValue aux, int lo, int mid, int hi, Strand strand,
+    private static void merge(Object[] input, Object[] aux, int lo, int mid, int hi, Object[] args,
                               FPValue<Object, Long> comparator) {
-        int elemTypeTag = input.getElementType().getTag();
-
-        for (int i = lo; i <= hi; i++) {
-            aux.add(i, input.get(i));
-        }
+        System.arraycopy(input, lo, aux, lo, hi - lo + 1);
 
         for (int i = lo, j = mid + 1, k = lo; k <= hi; k++) {
             if (i > mid) {
-                input.add(k, aux.get(j++));
+                input[k] = aux[j++];
             } else if (j > hi) {
-                input.add(k, aux.get(i++));
-            } else if (comparator.call(new Object[]{strand, aux.get(j), true, aux.get(i), true}) < 0) {
-                input.add(k, aux.get(j++));
+                input[k] = aux[i++];
+            } else if (compare(aux[j], aux[i], args, comparator) < 0) {
+                input[k] = aux[j++];
             } else {
-                input.add(k, aux.get(i++));
+                input[k] = aux[i++];
             }
         }
     }
 
+    private static long compare(Object val1, Object val2, Object[] args, FPValue<Object, Long> comparator) {
+        args[1] = val1;
+        args[3] = val2;
+        return comparator.call(args);
+    }
 }
@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.langlib.array;
+
+import org.ballerinalang.jvm.BallerinaErrors;
+import org.ballerinalang.jvm.TypeChecker;
+import org.ballerinalang.jvm.scheduling.Strand;
+import org.ballerinalang.jvm.values.ArrayValue;
+import org.ballerinalang.jvm.values.FPValue;
+import org.ballerinalang.jvm.values.api.BString;
+import org.ballerinalang.model.types.TypeKind;
+import org.ballerinalang.natives.annotations.Argument;
+import org.ballerinalang.natives.annotations.BallerinaFunction;
+import org.ballerinalang.natives.annotations.ReturnType;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+import static java.lang.String.format;
+import static org.ballerinalang.jvm.StringUtils.compareCodePoints;
+import static org.ballerinalang.jvm.util.BLangConstants.ARRAY_LANG_LIB;
+import static org.ballerinalang.jvm.util.exceptions.BallerinaErrorReasons.OPERATION_NOT_SUPPORTED_IDENTIFIER;
+import static org.ballerinalang.jvm.util.exceptions.BallerinaErrorReasons.getModulePrefixedReason;
+import static org.ballerinalang.jvm.values.utils.ArrayUtils.checkIsArrayOnlyOperation;
+import static org.ballerinalang.util.BLangCompilerConstants.ARRAY_VERSION;
+
+/**
+ * Native implementation of lang.array:sortBy((any|error)[], function, boolean).
+ * <p>
+ * The key function is called once for each member, and the indexes of the members are then sorted by the keys.
+ *
+ * @since 2.0.0
+ */
+@BallerinaFunction(
+        orgName = "ballerina", packageName = "lang.array", version = ARRAY_VERSION, functionName = "sortBy",
+        args = {@Argument(name = "arr", type = TypeKind.ARRAY), @Argument(name = "key", type = TypeKind.FUNCTION),
+                @Argument(name = "parallel", type = TypeKind.BOOLEAN)},
+        returnType = {@ReturnType(type = TypeKind.ARRAY)},
+        isPublic = true
+)
+public class SortBy {
+
+    public static ArrayValue sortBy(Strand strand, ArrayValue arr, FPValue<Object, Object> key, boolean parallel) {
+        checkIsArrayOnlyOperation(arr.getType(), "sortBy()");
+        int size = arr.size();
+        Object[] values = new Object[size];
+        Object[] keys = new Object[size];
+        // The key function is called synchronously, as the comparator function of sort().
+        for (int i = 0; i < size; i++) {
+            values[i] = arr.get(i);
+            keys[i] = key.call(new Object[]{strand, values[i], true});
+        }
+        if (size == 0) {
+            return arr;
+        }
+
+        Integer[] order = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        // Both sorts of object arrays are stable merge sorts.
+        Comparator<Integer> comparator = getKeyComparator(keys);
+        if (parallel) {
+            Arrays.parallelSort(order, comparator);
+        } else {
+            Arrays.sort(order, comparator);
+        }
+
+        for (int i = 0; i < size; i++) {
+            arr.add(i, values[order[i]]);
+        }
+        return arr;
+    }
+
+    private static Comparator<Integer> getKeyComparator(Object[] keys) {
+        Object firstKey = keys[0];
+        if (firstKey instanceof Long) {
+            long[] intKeys = new long[keys.length];
+            for (int i = 0; i < keys.length; i++) {
+                intKeys[i] = (Long) checkKeyType(firstKey, keys[i]);
+            }
+            return (i, j) -> Long.compare(intKeys[i], intKeys[j]);
+        }
+        if (firstKey instanceof Double) {
+            double[] floatKeys = new double[keys.length];
+            for (int i = 0; i < keys.length; i++) {
+                floatKeys[i] = (Double) checkKeyType(firstKey, keys[i]);
+            }
+            return (i, j) -> Double.compare(floatKeys[i], floatKeys[j]);
+        }
+        String[] stringKeys = new String[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            stringKeys[i] = ((BString) checkKeyType(firstKey, keys[i])).getValue();
+        }
+        return (i, j) -> compareCodePoints(stringKeys[i], stringKeys[j]);
+    }
+
+    private static Object checkKeyType(Object firstKey, Object key) {
+        if (key.getClass() != firstKey.getClass() && !(key instanceof BString && firstKey instanceof BString)) {
+            throw BallerinaErrors.createError(getModulePrefixedReason(ARRAY_LANG_LIB,
+                                                                      OPERATION_NOT_SUPPORTED_IDENTIFIER),
+                                              format("sortBy() keys of different types '%s' and '%s'",
+                                                     TypeChecker.getType(firstKey), TypeChecker.getType(key)));
+        }
+        return key;
+    }
+}
@@ -42,6 +42,13 @@ public function createJoinFunction(_StreamPipeline joinedPipeline)
     return new _JoinFunction(joinedPipeline);
 }
 
+public function createHashJoinFunction(_StreamPipeline joinedPipeline,
+        function(_Frame _frame) returns any|error? lhsKeyFunc,
+        function(_Frame _frame) returns any|error? rhsKeyFunc)
+        returns _StreamFunction {
+    return new _HashJoinFunction(joinedPipeline, lhsKeyFunc, rhsKeyFunc);
+}
+
 public function createFilterFunction(function(_Frame _frame) returns boolean filterFunc)
         returns _StreamFunction {
     return new _FilterFunction(filterFunc);
@@ -64,6 +71,10 @@ public function addStreamFunction(@tainted _StreamPipeline pipeline, @tainted _S
     pipeline.addStreamFunction(streamFunction);
 }
 
+public function fuseStreamFunctions(@tainted _StreamPipeline pipeline) {
+    pipeline.fuseStreamFunctions();
+}
+
 public function getStreamFromPipeline(_StreamPipeline pipeline) returns stream<Type, error?> {
     return pipeline.getStream();
 }
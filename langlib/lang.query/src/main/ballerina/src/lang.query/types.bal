@@ -79,6 +79,11 @@ public type _StreamPipeline object {
         self.streamFunction = streamFunction;
     }
 
+    public function fuseStreamFunctions() {
+        _StreamFunction existingFunc = self.streamFunction;
+        self.streamFunction = new _FusedFunction(existingFunc);
+    }
+
     public function getStream() returns stream<Type, error?> {
         object {
             public _StreamPipeline pipeline;
@@ -361,6 +366,139 @@ public type _JoinFunction object {
     }
 };
 
+public type _HashJoinFunction object {
+    *_StreamFunction;
+
+    _StreamPipeline pipelineToJoin;
+    public function(_Frame _frame) returns any|error? lhsKeyFunc;
+    public function(_Frame _frame) returns any|error? rhsKeyFunc;
+    map<_IndexedFrame[]>? index;
+    _Frame|error? currentFrame;
+    _Frame[] matchingFrames;
+    int matchIndex;
+
+    public function init(_StreamPipeline pipelineToJoin,
+            function(_Frame _frame) returns any|error? lhsKeyFunc,
+            function(_Frame _frame) returns any|error? rhsKeyFunc) {
+        self.pipelineToJoin = pipelineToJoin;
+        self.lhsKeyFunc = lhsKeyFunc;
+        self.rhsKeyFunc = rhsKeyFunc;
+        self.prevFunc = ();
+        self.index = ();
+        self.currentFrame = ();
+        self.matchingFrames = [];
+        self.matchIndex = 0;
+    }
+
+    # Desugared function to do;
+    # from var ... in listA join var ... in listB on lhsKey equals rhsKey
+    # The joined pipeline is consumed once and its frames are indexed by `rhsKey`,
+    # then each frame of the previous function is matched against the index using `lhsKey`.
+    # + return - merged two frames { ...frameB, ...frameA }
+    public function process() returns _Frame|error? {
+        map<_IndexedFrame[]>|error index = self._getIndex();
+        if (index is error) {
+            return index;
+        }
+        _Frame|error? cf = self.currentFrame;
+        if (cf is ()) {
+            cf = self._moveToNextFrame(index);
+        }
+        while (cf is _Frame) {
+            if (self.matchIndex < self.matchingFrames.length()) {
+                _Frame f = self.matchingFrames[self.matchIndex];
+                self.matchIndex += 1;
+                _Frame jf = {...f, ...cf};
+                return jf;
+            }
+            cf = self._moveToNextFrame(index);
+        }
+        return cf;
+    }
+
+    public function reset() {
+        // Reset the state of currentFrame, the index of the joined pipeline is reused.
+        self.currentFrame = ();
+        self.matchingFrames = [];
+        self.matchIndex = 0;
+        _StreamFunction? pf = self.prevFunc;
+        if (pf is _StreamFunction) {
+            pf.reset();
+        }
+    }
+
+    function _getIndex() returns map<_IndexedFrame[]>|error {
+        map<_IndexedFrame[]>? existingIndex = self.index;
+        if (existingIndex is map<_IndexedFrame[]>) {
+            return existingIndex;
+        }
+        map<_IndexedFrame[]> index = {};
+        _StreamPipeline j = self.pipelineToJoin;
+        function(_Frame _frame) returns any|error? rhsKeyFunc = self.rhsKeyFunc;
+        _Frame|error? f = j.next();
+        while (f is _Frame) {
+            any|error? rhsKey = rhsKeyFunc(f);
+            if (rhsKey is error) {
+                return rhsKey;
+            } else if (rhsKey is anydata) {
+                // The key is kept with the frame, so that it is not computed again for each match.
+                _IndexedFrame indexedFrame = {key: rhsKey, frame: f};
+                string key = rhsKey.toString();
+                _IndexedFrame[]? frames = index[key];
+                if (frames is _IndexedFrame[]) {
+                    frames.push(indexedFrame);
+                } else {
+                    index[key] = [indexedFrame];
+                }
+            }
+            f = j.next();
+        }
+        if (f is error) {
+            return f;
+        }
+        self.index = index;
+        return index;
+    }
+
+    function _moveToNextFrame(map<_IndexedFrame[]> index) returns _Frame|error? {
+        _StreamFunction pf = <_StreamFunction> self.prevFunc;
+        function(_Frame _frame) returns any|error? lhsKeyFunc = self.lhsKeyFunc;
+        _Frame|error? cf = pf.process();
+        self.currentFrame = cf;
+        self.matchingFrames = [];
+        self.matchIndex = 0;
+        if (cf is _Frame) {
+            any|error? lhsKey = lhsKeyFunc(cf);
+            if (lhsKey is error) {
+                return lhsKey;
+            } else if (lhsKey is anydata) {
+                _IndexedFrame[]? frames = index[lhsKey.toString()];
+                if (frames is _IndexedFrame[]) {
+                    self.matchingFrames = self._getMatchingFrames(lhsKey, frames);
+                }
+            }
+        }
+        return cf;
+    }
+
+    function _getMatchingFrames(anydata lhsKey, _IndexedFrame[] frames) returns _Frame[] {
+        // Frames of keys having the same string representation are kept in the same bucket.
+        _Frame[] matchingFrames = [];
+        foreach _IndexedFrame f in frames {
+            if (f.key == lhsKey) {
+                matchingFrames.push(f.frame);
+            }
+        }
+        return matchingFrames;
+    }
+};
+
+# A frame of the joined pipeline of a `_HashJoinFunction`, with its join key.
+type _IndexedFrame record {|
+    anydata key;
+    _Frame frame;
+|};
+
 public type _FilterFunction object {
     *_StreamFunction;
 
@@ -497,3 +635,28 @@ public type _LimitFunction object {
         }
     }
 };
+
+type _FusedFunction object {
+    *_StreamFunction;
+
+    # Desugared function to evaluate the input, let, filter, select and limit functions natively;
+    # i.e
+    #   from var person in personList
+    #   let int age = person.age
+    #   where age >= 70
+    #   select person
+    # each frame goes through all the functions in a single loop instead of a chain of `process()` calls,
+    # and the frame is reused for each member of a list or a table.
+    _StreamFunction streamFunction;
+    _Frame frame;
+
+    public function init(_StreamFunction streamFunction) {
+        self.streamFunction = streamFunction;
+        self.frame = {};
+        self.prevFunc = ();
+    }
+
+    public function process() returns _Frame|error? = external;
+
+    public function reset() = external;
+};
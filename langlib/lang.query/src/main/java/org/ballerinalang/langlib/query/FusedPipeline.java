@@ -0,0 +1,231 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.langlib.query;
+
+import org.ballerinalang.jvm.StringUtils;
+import org.ballerinalang.jvm.scheduling.Strand;
+import org.ballerinalang.jvm.util.exceptions.BallerinaException;
+import org.ballerinalang.jvm.values.ArrayValue;
+import org.ballerinalang.jvm.values.FPValue;
+import org.ballerinalang.jvm.values.IteratorValue;
+import org.ballerinalang.jvm.values.MapValue;
+import org.ballerinalang.jvm.values.ObjectValue;
+import org.ballerinalang.jvm.values.TableValue;
+import org.ballerinalang.jvm.values.api.BString;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The stream functions of a query pipeline compiled to be evaluated natively. The input, let, filter, select and
+ * limit functions are applied to each frame in a single loop. The pipeline starts with a list or a table, whose
+ * members are read natively, and the same frame is used for each member, as none of these functions keep the frame.
+ * Queries over streams and other iterables are not fused, since their iterators may yield.
+ *
+ * @since 2.0.0
+ */
+class FusedPipeline {
+
+    private static final BString STREAM_FUNCTION = StringUtils.fromString("streamFunction");
+    private static final BString FRAME = StringUtils.fromString("frame");
+    private static final BString PREV_FUNC = StringUtils.fromString("prevFunc");
+    private static final BString COLLECTION = StringUtils.fromString("collection");
+    private static final BString VALUE = StringUtils.fromString("value");
+    private static final BString INPUT_FUNC = StringUtils.fromString("inputFunc");
+    private static final BString LET_FUNC = StringUtils.fromString("letFunc");
+    private static final BString FILTER_FUNC = StringUtils.fromString("filterFunc");
+    private static final BString SELECT_FUNC = StringUtils.fromString("selectFunc");
+    private static final BString LIMIT = StringUtils.fromString("lmt");
+    // Returned by the stages for a frame which does not satisfy a filter function.
+    private static final Object FILTERED = new Object();
+
+    private final List<Stage> stages;
+    private final MapValue<BString, Object> frame;
+    private final ArrayValue list;
+    private final TableValue<?, ?> table;
+    private IteratorValue tableIterator;
+    private long index;
+
+    private FusedPipeline(List<Stage> stages, Object collection, MapValue<BString, Object> frame) {
+        this.stages = stages;
+        this.list = collection instanceof ArrayValue ? (ArrayValue) collection : null;
+        this.table = collection instanceof TableValue ? (TableValue<?, ?>) collection : null;
+        this.tableIterator = table != null ? table.getIterator() : null;
+        this.frame = frame;
+    }
+
+    /**
+     * Compile the stream functions of a fused function.
+     *
+     * @param fusedFunc the `_FusedFunction` object
+     * @return the compiled pipeline
+     */
+    @SuppressWarnings("unchecked")
+    static FusedPipeline compile(ObjectValue fusedFunc) {
+        List<Stage> stages = new ArrayList<>();
+        ObjectValue streamFunc = (ObjectValue) fusedFunc.get(STREAM_FUNCTION);
+        while (true) {
+            Stage stage = createStage(streamFunc);
+            if (stage == null) {
+                break;
+            }
+            stages.add(stage);
+            streamFunc = (ObjectValue) streamFunc.get(PREV_FUNC);
+        }
+        Collections.reverse(stages);
+        // The compiler fuses only the queries over lists and tables.
+        Object collection = isInitFunction(streamFunc) ? streamFunc.get(COLLECTION) : null;
+        if (!(collection instanceof ArrayValue) && !(collection instanceof TableValue)) {
+            throw new BallerinaException("query pipeline of '" + streamFunc.getType().getName() +
+                    "' cannot be fused");
+        }
+        return new FusedPipeline(stages, collection, (MapValue<BString, Object>) fusedFunc.get(FRAME));
+    }
+
+    private static Stage createStage(ObjectValue streamFunc) {
+        switch (streamFunc.getType().getName()) {
+            case "_InputFunction":
+                return new Stage(StageKind.FRAME, (FPValue<?, ?>) streamFunc.get(INPUT_FUNC), 0);
+            case "_LetFunction":
+                return new Stage(StageKind.FRAME, (FPValue<?, ?>) streamFunc.get(LET_FUNC), 0);
+            case "_SelectFunction":
+                return new Stage(StageKind.FRAME, (FPValue<?, ?>) streamFunc.get(SELECT_FUNC), 0);
+            case "_FilterFunction":
+                return new Stage(StageKind.FILTER, (FPValue<?, ?>) streamFunc.get(FILTER_FUNC), 0);
+            case "_LimitFunction":
+                return new Stage(StageKind.LIMIT, null, (long) streamFunc.get(LIMIT));
+            default:
+                return null;
+        }
+    }
+
+    private static boolean isInitFunction(ObjectValue streamFunc) {
+        return "_InitFunction".equals(streamFunc.getType().getName());
+    }
+
+    /**
+     * Return the next frame of the pipeline.
+     *
+     * @param strand current strand
+     * @return the next frame, an error or nil if there are no more frames
+     */
+    Object next(Strand strand) {
+        while (true) {
+            if (isLimitReached()) {
+                return null;
+            }
+            Object result = nextSourceFrame();
+            if (result instanceof MapValue) {
+                result = applyStages(strand, (MapValue<?, ?>) result);
+            }
+            if (result != FILTERED) {
+                return result;
+            }
+        }
+    }
+
+    /**
+     * Reset the pipeline to be evaluated from the first member of the collection.
+     *
+     * @param strand current strand
+     */
+    void reset(Strand strand) {
+        if (list != null) {
+            index = 0;
+        } else {
+            tableIterator = table.getIterator();
+        }
+    }
+
+    private boolean isLimitReached() {
+        for (Stage stage : stages) {
+            if (stage.kind == StageKind.LIMIT && stage.count >= stage.limit) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Object nextSourceFrame() {
+        if (list != null) {
+            if (index >= list.size()) {
+                return null;
+            }
+            frame.put(VALUE, list.get(index++));
+            return frame;
+        }
+        if (!tableIterator.hasNext()) {
+            return null;
+        }
+        // The iterator returns a [key, value] tuple.
+        frame.put(VALUE, ((ArrayValue) tableIterator.next()).get(1));
+        return frame;
+    }
+
+    private Object applyStages(Strand strand, MapValue<?, ?> currentFrame) {
+        Object result = currentFrame;
+        for (Stage stage : stages) {
+            switch (stage.kind) {
+                case FRAME:
+                    result = stage.func.call(new Object[]{strand, result, true});
+                    if (!(result instanceof MapValue)) {
+                        return result;
+                    }
+                    break;
+                case FILTER:
+                    if (!((Boolean) stage.func.call(new Object[]{strand, result, true}))) {
+                        return FILTERED;
+                    }
+                    break;
+                case LIMIT:
+                    // The limit is checked before reading the next frame.
+                    stage.count++;
+                    break;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Kinds of the stream functions evaluated natively.
+     */
+    private enum StageKind {
+        FRAME,
+        FILTER,
+        LIMIT
+    }
+
+    /**
+     * A stream function evaluated natively.
+     */
+    private static class Stage {
+        private final StageKind kind;
+        private final FPValue<Object[], Object> func;
+        private final long limit;
+        private long count;
+
+        @SuppressWarnings("unchecked")
+        Stage(StageKind kind, FPValue<?, ?> func, long limit) {
+            this.kind = kind;
+            this.func = (FPValue<Object[], Object>) func;
+            this.limit = limit;
+        }
+    }
+}
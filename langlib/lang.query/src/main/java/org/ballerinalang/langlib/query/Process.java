@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.langlib.query;
+
+import org.ballerinalang.jvm.scheduling.Strand;
+import org.ballerinalang.jvm.values.ObjectValue;
+import org.ballerinalang.model.types.TypeKind;
+import org.ballerinalang.natives.annotations.BallerinaFunction;
+import org.ballerinalang.natives.annotations.Receiver;
+import org.ballerinalang.natives.annotations.ReturnType;
+
+import static org.ballerinalang.util.BLangCompilerConstants.QUERY_VERSION;
+
+/**
+ * Native implementation of lang.query._FusedFunction:process().
+ *
+ * @since 2.0.0
+ */
+@BallerinaFunction(
+        orgName = "ballerina", packageName = "lang.query", version = QUERY_VERSION, functionName = "process",
+        receiver = @Receiver(type = TypeKind.OBJECT, structType = "_FusedFunction",
+                structPackage = "ballerina/lang.query"),
+        returnType = {@ReturnType(type = TypeKind.UNION)}
+)
+public class Process {
+
+    static final String PIPELINE = "&pipeline&";
+
+    public static Object process(Strand strand, ObjectValue fusedFunc) {
+        FusedPipeline pipeline = (FusedPipeline) fusedFunc.getNativeData(PIPELINE);
+        if (pipeline == null) {
+            pipeline = FusedPipeline.compile(fusedFunc);
+            fusedFunc.addNativeData(PIPELINE, pipeline);
+        }
+        return pipeline.next(strand);
+    }
+}
@@ -168,3 +168,35 @@ public function toArray(table<Type> t) returns Type[] = external;
 # XXX should it be 0, if the maximum used key value is < 0?
 # Provides similar functionality to auto-increment
 public function nextKey(table<any|error> key<int> t) returns int = external;
+
+# Adds an index on a field of the members of table `t`, so that the members can be looked up by the field
+# with `getByIndex` and `getByIndexRange` without iterating over the table.
+# A hash index supports lookups by equality, while a sorted index also supports lookups by a range of
+# int, float, decimal or string values. Only a `readonly` field, or a field of a `readonly` table, can be indexed.
+# It panics if the field cannot be indexed.
+#
+# + t - the table
+# + fieldName - the name of the field
+# + sorted - whether to keep the index sorted by the field value
+public function addIndex(table<Type> t, string fieldName, boolean sorted = false) = external;
+
+# Returns the members of table `t` whose indexed field is equal to a value, in the order of the members.
+# It panics if the field is not indexed.
+#
+# + t - the table
+# + fieldName - the name of an indexed field
+# + value - the value of the field
+# + return - a new list of the matching members
+public function getByIndex(table<Type> t, string fieldName, anydata value) returns Type[] = external;
+
+# Returns the members of table `t` whose sorted-indexed field is greater than or equal to `from`,
+# and less than `to`, ordered by the field value.
+# It panics if the field does not have a sorted index.
+#
+# + t - the table
+# + fieldName - the name of a field with a sorted index
+# + 'from - the lower bound of the field value, or `()` for no lower bound
+# + to - the upper bound of the field value, or `()` for no upper bound
+# + return - a new list of the matching members
+public function getByIndexRange(table<Type> t, string fieldName, int|float|decimal|string? 'from = (),
+                                int|float|decimal|string? to = ()) returns Type[] = external;
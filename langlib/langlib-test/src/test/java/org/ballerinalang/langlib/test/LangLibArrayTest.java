@@ -227,6 +227,32 @@ public class LangLibArrayTest {
         }
     }
 
+    @Test
+    public void testSortWithoutComparator() {
+        BRunUtil.invoke(compileResult, "testSortWithoutComparator");
+    }
+
+    @Test(expectedExceptions = BLangRuntimeException.class,
+            expectedExceptionsMessageRegExp = "error: \\{ballerina/lang.array\\}OperationNotSupported " +
+                    "message=sort\\(\\) without a comparator function not supported on type 'boolean\\[\\]'.*")
+    public void testSortWithoutComparatorOnUnsupportedType() {
+        BRunUtil.invoke(compileResult, "testSortWithoutComparatorOnUnsupportedType");
+        Assert.fail();
+    }
+
+    @Test
+    public void testSortBy() {
+        BRunUtil.invoke(compileResult, "testSortBy");
+    }
+
+    @Test(expectedExceptions = BLangRuntimeException.class,
+            expectedExceptionsMessageRegExp = "error: \\{ballerina/lang.array\\}OperationNotSupported " +
+                    "message=sortBy\\(\\) keys of different types 'int' and 'string'.*")
+    public void testSortByKeysOfDifferentTypes() {
+        BRunUtil.invoke(compileResult, "testSortByKeysOfDifferentTypes");
+        Assert.fail();
+    }
+
     @Test
     public void testReduce() {
         BValue[] returns = BRunUtil.invoke(compileResult, "testReduce");
@@ -424,4 +424,18 @@ public class LangLibTableTest {
         BValue[] returns = BRunUtil.invoke(compileResult, "testPutValidDataToKeylessTbl");
         Assert.assertTrue(((BBoolean) returns[0]).booleanValue());
     }
+
+    @Test
+    public void testIndexLookups() {
+        BValue[] returns = BRunUtil.invoke(compileResult, "testIndexLookups");
+        Assert.assertTrue(((BBoolean) returns[0]).booleanValue());
+    }
+
+    @Test(expectedExceptions = BLangRuntimeException.class,
+            expectedExceptionsMessageRegExp =
+                    ".*OperationNotSupported message=cannot index field 'copies' since it is not a read-only field.*")
+    public void testIndexOnMutableField() {
+        BRunUtil.invoke(compileResult, "testIndexOnMutableField");
+        Assert.fail();
+    }
 }
@@ -375,6 +375,68 @@ function testSort2() returns int[] {
     return sorted;
 }
 
+function testSortWithoutComparator() {
+    int[] ints = [98, 34, 44, -87, 13, 2, 1, 13];
+    int[] sortedInts = ints.sort();
+    assertValueEquality([-87, 1, 2, 13, 13, 34, 44, 98], sortedInts);
+    assertValueEquality(true, sortedInts === ints);
+
+    float[] floats = [2.5, 0.0, -1.0, -0.0, 10.25];
+    assertValueEquality([-1.0, -0.0, 0.0, 2.5, 10.25], floats.sort());
+
+    string[] strings = ["Mike", "Amy", "", "Zoe", "Amanda", "amy"];
+    assertValueEquality(["", "Amanda", "Amy", "Mike", "Zoe", "amy"], strings.sort());
+
+    int[] parallelSorted = [];
+    foreach int i in 0 ..< 100000 {
+        parallelSorted.push((i * 7919) % 100003);
+    }
+    _ = parallelSorted.sort(parallel = true);
+    foreach int i in 1 ..< parallelSorted.length() {
+        if (parallelSorted[i - 1] > parallelSorted[i]) {
+            panic error(ASSERTION_ERROR_REASON, message = "array is not sorted at index " + i.toString());
+        }
+    }
+}
+
+function testSortWithoutComparatorOnUnsupportedType() {
+    boolean[] arr = [true, false];
+    _ = arr.sort();
+}
+
+type Student record {|
+    string name;
+    int grade;
+    float score;
+|};
+
+function testSortBy() {
+    Student[] students = [{name: "Mike", grade: 10, score: 72.5}, {name: "Amy", grade: 9, score: 88.0},
+                          {name: "Zoe", grade: 10, score: 64.0}, {name: "Bob", grade: 9, score: 72.5}];
+    int count = 0;
+    Student[] sorted = students.sortBy(function (Student s) returns int {
+        count += 1;
+        return s.grade;
+    });
+    assertValueEquality(4, count);
+    assertValueEquality(true, sorted === students);
+    // students with the same grade keep their order
+    assertValueEquality(["Amy", "Bob", "Mike", "Zoe"], students.'map(s => s.name));
+
+    _ = students.sortBy(s => s.score, parallel = true);
+    assertValueEquality(["Zoe", "Bob", "Mike", "Amy"], students.'map(s => s.name));
+
+    _ = students.sortBy(s => s.name);
+    assertValueEquality(["Amy", "Bob", "Mike", "Zoe"], students.'map(s => s.name));
+}
+
+function testSortByKeysOfDifferentTypes() {
+    (int|string)[] arr = [1, "one"];
+    _ = arr.sortBy(function (int|string val) returns int|string {
+        return val;
+    });
+}
+
 function testPush() {
     testBooleanPush();
     testBytePush();
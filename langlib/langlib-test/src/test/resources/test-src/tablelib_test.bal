@@ -58,6 +58,13 @@ type Teacher record {|
    string lname;
 |};
 
+type Book record {|
+   readonly int isbn;
+   readonly string author;
+   readonly int year;
+   int copies;
+|};
+
 type PersonalTable table<Person> key(name);
 
 type EmployeeTable table<Employee> key(name);
@@ -688,3 +695,34 @@ function testPutValidDataToKeylessTbl() returns boolean {
     testPassed = testPassed && tableToList[2] == intern1;
     return testPassed;
 }
+
+function testIndexLookups() returns boolean {
+    table<Book> key(isbn) books = table [
+      { isbn: 1, author: "Tolkien", year: 1954, copies: 3 },
+      { isbn: 2, author: "Austen", year: 1813, copies: 1 },
+      { isbn: 3, author: "Tolkien", year: 1937, copies: 5 },
+      { isbn: 4, author: "Orwell", year: 1949, copies: 2 }
+    ];
+    books.addIndex("author");
+    books.addIndex("year", true);
+
+    Book[] tolkien = books.getByIndex("author", "Tolkien");
+    Book[] before1950 = books.getByIndexRange("year", 1900, 1950);
+    Book[] since1949 = books.getByIndexRange("year", 1949);
+    boolean testPassed = tolkien.length() == 2 && tolkien[0].isbn == 1 && tolkien[1].isbn == 3;
+    testPassed = testPassed && before1950.length() == 2 && before1950[0].isbn == 3 && before1950[1].isbn == 4;
+    testPassed = testPassed && since1949.length() == 2 && since1949[0].isbn == 4 && since1949[1].isbn == 1;
+
+    _ = books.remove(3);
+    books.add({ isbn: 5, author: "Tolkien", year: 1977, copies: 1 });
+    tolkien = books.getByIndex("author", "Tolkien");
+    testPassed = testPassed && tolkien.length() == 2 && tolkien[0].isbn == 1 && tolkien[1].isbn == 5;
+    return testPassed && books.getByIndex("author", "Austen")[0].year == 1813;
+}
+
+function testIndexOnMutableField() {
+    table<Book> key(isbn) books = table [
+      { isbn: 1, author: "Tolkien", year: 1954, copies: 3 }
+    ];
+    books.addIndex("copies");
+}
@@ -182,6 +182,7 @@ public class LSCompilerCache {
      */
     public static class Key {
         private final String sourceRoot;
+        private final String moduleName;
         private final String errorStrategy;
 
         private final String compilerPhase;
@@ -191,7 +192,20 @@ public class LSCompilerCache {
         private final String sourceDirectory;
 
         public Key(String sourceRoot, LSContext context) {
+            this(sourceRoot, "", context);
+        }
+
+        /**
+         * Creates the key of a single module of a project, so that the modules of a project (or the files outside
+         * modules in the same directory) are cached separately.
+         *
+         * @param sourceRoot source root
+         * @param moduleName module name or file name
+         * @param context    {@link LSContext}
+         */
+        public Key(String sourceRoot, String moduleName, LSContext context) {
             this.sourceRoot = sourceRoot;
+            this.moduleName = moduleName;
             CompilerContext compilerContext = context.get(DocumentServiceKeys.COMPILER_CONTEXT_KEY);
             CompilerOptions options = CompilerOptions.getInstance(compilerContext);
             this.compilerPhase = options.get(COMPILER_PHASE);
@@ -210,7 +224,7 @@ public class LSCompilerCache {
                 return false;
             }
             Key key = (Key) o;
-            return (key.sourceRoot.equals(sourceRoot)
+            return (key.sourceRoot.equals(sourceRoot) && key.moduleName.equals(moduleName)
                     && errorStrategy != null && errorStrategy.equals(key.errorStrategy)
                     && compilerPhase != null && compilerPhase.equals(key.compilerPhase)
                     && preserveWhitespace != null && preserveWhitespace.equals(key.preserveWhitespace)
@@ -222,16 +236,17 @@ public class LSCompilerCache {
         @Override
         public int hashCode() {
             return Arrays.hashCode(
-                    new String[]{sourceRoot, errorStrategy, compilerPhase, preserveWhitespace, testEnabled, skipTests,
-                            sourceDirectory});
+                    new String[]{sourceRoot, moduleName, errorStrategy, compilerPhase, preserveWhitespace, testEnabled,
+                            skipTests, sourceDirectory});
         }
 
         @Override
         public String toString() {
             return String.format(
-                    "sourceRoot %s, errorStrategy: %s, compilerPhase: %s, preserveWS: %s, testEnabled: %s, " +
-                            "skipTests: %s, sourceDirectory: %s",
+                    "sourceRoot %s, module: %s, errorStrategy: %s, compilerPhase: %s, preserveWS: %s, " +
+                            "testEnabled: %s, skipTests: %s, sourceDirectory: %s",
                     sourceRoot,
+                    moduleName,
                     errorStrategy != null ? errorStrategy.substring(errorStrategy.lastIndexOf(".") + 1) : "",
                     compilerPhase != null ? compilerPhase : "",
                     preserveWhitespace != null ? preserveWhitespace : "",
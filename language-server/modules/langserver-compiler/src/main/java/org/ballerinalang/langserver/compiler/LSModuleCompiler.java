@@ -201,7 +201,7 @@ public class LSModuleCompiler {
      */
     protected static BLangPackage compileSafe(Compiler compiler, String projectRoot, String pkgName, LSContext context)
             throws CompilationFailedException {
-        LSCompilerCache.Key key = new LSCompilerCache.Key(projectRoot, context);
+        LSCompilerCache.Key key = new LSCompilerCache.Key(projectRoot, pkgName, context);
         LSClientConfig config = LSClientConfigHolder.getInstance().getConfig();
         try {
             long startTime = 0L;
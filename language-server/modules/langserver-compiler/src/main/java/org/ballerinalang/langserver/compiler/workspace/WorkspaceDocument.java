@@ -34,16 +34,16 @@ public class WorkspaceDocument {
     /* Tracking code lenses sent to client, to make-use in compilation failures */
     private List<CodeLens> codeLenses;
     private Path path;
-    private String content;
+    private volatile String content;
     private String prunedContent;
     private boolean usePrunedSource;
     private LSDocumentIdentifier lsDocument;
-    private SyntaxTree tree;
+    // syntax tree of the content, which is parsed when it is first requested
+    private volatile SyntaxTree tree;
 
     public WorkspaceDocument(Path path, String content, boolean isTempFile) {
         this.path = path;
         this.content = content;
-        setTree(SyntaxTree.from(TextDocuments.from(this.content)));
         this.codeLenses = new ArrayList<>();
         this.usePrunedSource = false;
         lsDocument = isTempFile ? null : new LSDocumentIdentifierImpl(path.toUri().toString());
@@ -81,10 +81,11 @@ public class WorkspaceDocument {
         return content;
     }
 
-    public void setContent(String content) {
+    public synchronized void setContent(String content) {
         this.content = content;
-        // TODO: Fix this, each time creates a new tree
-        setTree(SyntaxTree.from(TextDocuments.from(this.content)));
+        // The tree is parsed when it is requested, since a document changes with each keystroke and only the last
+        // change is compiled
+        this.tree = null;
     }
 
     public void setPrunedContent(String prunedContent) {
@@ -96,10 +97,22 @@ public class WorkspaceDocument {
         if (this.usePrunedSource) {
             return SyntaxTree.from(TextDocuments.from(this.prunedContent));
         }
-        return this.tree;
+        SyntaxTree tree = this.tree;
+        if (tree != null) {
+            return tree;
+        }
+        String content = this.content;
+        tree = SyntaxTree.from(TextDocuments.from(content));
+        synchronized (this) {
+            // the tree is not kept if the content has changed while it was parsed
+            if (this.content == content) {
+                this.tree = tree;
+            }
+        }
+        return tree;
     }
 
-    public void setTree(SyntaxTree tree) {
+    public synchronized void setTree(SyntaxTree tree) {
         this.tree = tree;
     }
 
@@ -1,7 +1,6 @@
 package org.ballerinalang.langserver.compiler.workspace.repository;
 
 import io.ballerinalang.compiler.syntax.tree.SyntaxTree;
-import io.ballerinalang.compiler.text.TextDocument;
 import io.ballerinalang.compiler.text.TextDocuments;
 import org.ballerinalang.langserver.commons.workspace.WorkspaceDocumentException;
 import org.ballerinalang.langserver.commons.workspace.WorkspaceDocumentManager;
@@ -13,7 +12,7 @@ import org.ballerinalang.repository.fs.GeneralFSPackageRepository;
 import org.wso2.ballerinalang.compiler.packaging.RepoHierarchy;
 
 import java.io.IOException;
-import java.io.UnsupportedEncodingException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -161,19 +160,25 @@ public class WorkspacePackageRepository extends GeneralFSPackageRepository {
 
             private String name;
 
-            private byte[] code;
-            private final SyntaxTree tree;
+            private final byte[] code;
+            private final Path filePath;
+            private SyntaxTree tree;
 
             private WorkspaceCompilerInput(String name) {
                 this.name = name;
-                Path filePath = getResolvedPathFromPackagePath(basePath.resolve(pkgPath)).resolve(name);
+                this.filePath = getResolvedPathFromPackagePath(basePath.resolve(pkgPath)).resolve(name);
                 if (documentManager.isFileOpen(filePath)) {
+                    // The code is taken from the tree, so that both are of the same change of the document. The tree
+                    // of an open document is parsed once by the document for all the compilations till it is changed.
                     try {
-                        this.code = documentManager.getFileContent(filePath).getBytes("UTF-8");
-                    } catch (WorkspaceDocumentException | UnsupportedEncodingException e) {
+                        this.tree = documentManager.getTree(filePath);
+                    } catch (WorkspaceDocumentException e) {
                         throw new RuntimeException("Error in loading package source entry '" + filePath +
                                 "': " + e.getMessage(), e);
                     }
+                }
+                if (this.tree != null) {
+                    this.code = this.tree.textDocument().toString().getBytes(StandardCharsets.UTF_8);
                 } else {
                     try {
                         this.code = Files.readAllBytes(filePath);
@@ -182,8 +187,6 @@ public class WorkspacePackageRepository extends GeneralFSPackageRepository {
                                 "': " + e.getMessage(), e);
                     }
                 }
-                TextDocument textDocument = TextDocuments.from(new String(this.code));
-                this.tree = SyntaxTree.from(textDocument);
             }
 
             @Override
@@ -198,6 +201,11 @@ public class WorkspacePackageRepository extends GeneralFSPackageRepository {
 
             @Override
             public SyntaxTree getTree() {
+                // The tree of a closed file is parsed only if the compilation unit is not cached by the compiler
+                if (this.tree != null) {
+                    return this.tree;
+                }
+                this.tree = SyntaxTree.from(TextDocuments.from(new String(this.code, StandardCharsets.UTF_8)));
                 return this.tree;
             }
 
@@ -16,6 +16,7 @@
 
 package org.ballerinalang.langserver.compiler.workspace;
 
+import io.ballerinalang.compiler.syntax.tree.SyntaxTree;
 import org.testng.Assert;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
@@ -70,6 +71,31 @@ public class WorkspaceDocumentTest {
         document.setContent(INITIAL_CONTENT);
     }
 
+    @Test
+    public void testGetTreeAfterSetContent() {
+        String newContent = "function foo() {\n}\n";
+        document.setContent("function bar() {\n}\n");
+        document.setContent(newContent);
+        SyntaxTree tree = document.getTree();
+        Assert.assertEquals(tree.toSourceCode(), newContent);
+        Assert.assertSame(document.getTree(), tree);
+        document.setContent(INITIAL_CONTENT);
+    }
+
+    @Test
+    public void testTreeOfChangedContent() {
+        String oldContent = "function foo() {\n}\n";
+        String newContent = "function bar() {\n}\n";
+        document.setContent(oldContent);
+        SyntaxTree oldTree = document.getTree();
+        document.setContent(newContent);
+        SyntaxTree newTree = document.getTree();
+        Assert.assertNotSame(newTree, oldTree);
+        Assert.assertEquals(oldTree.textDocument().toString(), oldContent);
+        Assert.assertEquals(newTree.textDocument().toString(), newContent);
+        document.setContent(INITIAL_CONTENT);
+    }
+
     @Test
     public void testToString() {
         Assert.assertNotNull(document.toString());
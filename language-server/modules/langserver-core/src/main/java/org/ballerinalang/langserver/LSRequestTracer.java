@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://wso2.com) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ballerinalang.langserver;
+
+import org.ballerinalang.langserver.compiler.LSClientLogger;
+import org.ballerinalang.langserver.compiler.config.LSClientConfigHolder;
+import org.eclipse.lsp4j.jsonrpc.MessageConsumer;
+import org.eclipse.lsp4j.jsonrpc.RemoteEndpoint;
+import org.eclipse.lsp4j.jsonrpc.messages.Message;
+import org.eclipse.lsp4j.jsonrpc.messages.NotificationMessage;
+import org.eclipse.lsp4j.jsonrpc.messages.RequestMessage;
+import org.eclipse.lsp4j.jsonrpc.messages.ResponseMessage;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Traces the latency of the LSP requests and notifications handled by the language server, when the trace log is
+ * enabled. A request is traced from the time it is received till its response is sent, and a notification till its
+ * handler returns.
+ * <p>
+ * Use {@link #wrap(MessageConsumer)} as the message wrapper of the launcher.
+ *
+ * @since 2.0.0
+ */
+public class LSRequestTracer {
+
+    private static final LSRequestTracer INSTANCE = new LSRequestTracer();
+
+    // key - id of a request received from the client, value - the request
+    private final Map<String, TracedRequest> pendingRequests = new ConcurrentHashMap<>();
+
+    private LSRequestTracer() {
+    }
+
+    public static LSRequestTracer getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Wraps a message consumer of the launcher. The launcher wraps the consumer of the incoming messages, which is
+     * the remote endpoint, and the consumer of the outgoing messages.
+     *
+     * @param consumer message consumer
+     * @return message consumer tracing the messages
+     */
+    public MessageConsumer wrap(MessageConsumer consumer) {
+        if (consumer instanceof RemoteEndpoint) {
+            return message -> consumeIncoming(consumer, message);
+        }
+        return message -> consumeOutgoing(consumer, message);
+    }
+
+    private void consumeIncoming(MessageConsumer consumer, Message message) {
+        if (!isTraceEnabled()) {
+            consumer.consume(message);
+            return;
+        }
+        if (message instanceof RequestMessage) {
+            RequestMessage request = (RequestMessage) message;
+            pendingRequests.put(request.getId(), new TracedRequest(request.getMethod(), System.nanoTime()));
+            consumer.consume(message);
+        } else if (message instanceof NotificationMessage) {
+            // Notifications are handled by the thread reading the messages, hence the other messages wait for them.
+            long startTime = System.nanoTime();
+            consumer.consume(message);
+            LSClientLogger.logTrace("Notification '" + ((NotificationMessage) message).getMethod() +
+                    "' handled within " + getElapsedTime(startTime) + "ms");
+        } else {
+            consumer.consume(message);
+        }
+    }
+
+    private void consumeOutgoing(MessageConsumer consumer, Message message) {
+        consumer.consume(message);
+        if (!(message instanceof ResponseMessage) || pendingRequests.isEmpty()) {
+            return;
+        }
+        ResponseMessage response = (ResponseMessage) message;
+        TracedRequest request = pendingRequests.remove(response.getId());
+        if (request != null) {
+            String status = response.getError() != null ? "failed" : "completed";
+            LSClientLogger.logTrace("Request '" + request.method + "' {id: " + response.getId() + "} " + status +
+                    " within " + getElapsedTime(request.startTime) + "ms");
+        }
+    }
+
+    private static boolean isTraceEnabled() {
+        return LSClientConfigHolder.getInstance().getConfig().isTraceLogEnabled();
+    }
+
+    private static long getElapsedTime(long startTime) {
+        return TimeUnit.MILLISECONDS.convert(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Represents a request which is not responded yet.
+     */
+    private static class TracedRequest {
+        private final String method;
+        private final long startTime;
+
+        TracedRequest(String method, long startTime) {
+            this.method = method;
+            this.startTime = startTime;
+        }
+    }
+}
@@ -16,6 +16,7 @@
 package org.ballerinalang.langserver.launchers.stdio;
 
 import org.ballerinalang.langserver.BallerinaLanguageServer;
+import org.ballerinalang.langserver.LSRequestTracer;
 import org.ballerinalang.langserver.client.ExtendedLanguageClient;
 import org.eclipse.lsp4j.jsonrpc.Launcher;
 
@@ -40,8 +41,13 @@ public class Main {
     public static void startServer(InputStream in, OutputStream out)
             throws InterruptedException, ExecutionException {
         BallerinaLanguageServer server = new BallerinaLanguageServer();
-        Launcher<ExtendedLanguageClient> launcher = Launcher.createLauncher(server,
-                ExtendedLanguageClient.class, in, out);
+        Launcher<ExtendedLanguageClient> launcher = new Launcher.Builder<ExtendedLanguageClient>()
+                .setLocalService(server)
+                .setRemoteInterface(ExtendedLanguageClient.class)
+                .setInput(in)
+                .setOutput(out)
+                .wrapMessages(LSRequestTracer.getInstance()::wrap)
+                .create();
         ExtendedLanguageClient client = launcher.getRemoteProxy();
         server.connect(client);
         Future<?> startListening = launcher.startListening();
@@ -35,6 +35,19 @@ public type CacheConfig record {|
     int cleanupIntervalInSeconds?;
 |};
 
+# Represents the statistics of a `cache:Cache` object.
+#
+# + hitCount - Number of `get` operations, which returned a cached value
+# + missCount - Number of `get` operations, which did not find a valid cached value
+# + evictionCount - Number of entries evicted because the cache was full
+# + expirationCount - Number of expired entries removed from the cache
+public type CacheStats record {|
+    int hitCount;
+    int missCount;
+    int evictionCount;
+    int expirationCount;
+|};
+
 type CacheEntry record {|
     string key;
     any data;
@@ -46,8 +59,12 @@ boolean cleanupInProgress = false;
 
 // Cleanup service which cleans the cache entries periodically.
 service cleanupService = service {
-    //resource function onTrigger(map<Node> entries, LinkedList list, AbstractEvictionPolicy evictionPolicy) {
-    resource function onTrigger(Cache cache, LinkedList list, AbstractEvictionPolicy evictionPolicy) {
+    resource function onTrigger(Cache cache, LinkedList? list, AbstractEvictionPolicy evictionPolicy) {
+        if (list is ()) {
+            // The native cache engine removes the expired entries with a timer wheel without walking the cache.
+            externCleanUp(cache);
+            return;
+        }
         // This check will skip the processes triggered while the clean up in progress.
         if (!cleanupInProgress) {
             cleanupInProgress = true;
@@ -59,6 +76,10 @@ service cleanupService = service {
 
 # The `cache:Cache` object, which is used for all the cache-related operations. It is not recommended to insert `()`
 # as the value of the cache since it doesn't make any sense to cache a nil.
+#
+# With the `cache:LruEvictionPolicy` and `cache:TinyLfuEvictionPolicy` eviction policies, the entries are evicted and
+# expired natively, and reading from the cache does not lock. With any other eviction policy, the entries are evicted
+# by the policy based on a linked list.
 public type Cache object {
 
     *AbstractCache;
@@ -67,7 +88,8 @@ public type Cache object {
     private AbstractEvictionPolicy evictionPolicy;
     private float evictionFactor;
     private int defaultMaxAgeInSeconds;
-    private LinkedList list;
+    // `()` if the entries are evicted natively
+    private LinkedList? list = ();
 
     # Called when a new `cache:Cache` object is created.
     #
@@ -92,12 +114,12 @@ public type Cache object {
             panic prepareError("Default max age should be greater than 0 or -1 for indicate forever valid.");
         }
 
-        self.list = {
-            head: (),
-            tail: ()
-        };
-
-        externInit(self, self.capacity);
+        if (!externInit(self, self.capacity, self.evictionFactor, self.evictionPolicy)) {
+            self.list = {
+                head: (),
+                tail: ()
+            };
+        }
 
         int? cleanupIntervalInSeconds = cacheConfig?.cleanupIntervalInSeconds;
         if (cleanupIntervalInSeconds is int) {
@@ -130,20 +152,24 @@ public type Cache object {
             return prepareError("Unsupported cache value '()' for the key: " + key + ".",
                                 logLevel = LOG_LEVEL_DEBUG);
         }
+        // The `maxAgeInSeconds` property overrides the `defaultMaxAgeInSeconds` property.
+        int maxAge = maxAgeInSeconds > 0 ? maxAgeInSeconds : self.defaultMaxAgeInSeconds;
+        LinkedList? list = self.list;
+        if (list is ()) {
+            // The native cache engine evicts the entries if the cache is full.
+            externPut(self, key, value, maxAge);
+            return;
+        }
+
         // If the current cache is full (i.e. size = capacity), evict cache.
         if (self.size() == self.capacity) {
-            evict(self, self.list, self.evictionPolicy, self.capacity, self.evictionFactor);
+            evict(self, list, self.evictionPolicy, self.capacity, self.evictionFactor);
         }
 
-        // Calculate the `expTime` of the cache entry based on the `maxAgeInSeconds` property and
-        // `defaultMaxAgeInSeconds` property.
+        // Calculate the `expTime` of the cache entry based on the `maxAge`.
         int calculatedExpTime = -1;
-        if (maxAgeInSeconds != -1 && maxAgeInSeconds > 0) {
-            calculatedExpTime = time:nanoTime() + (maxAgeInSeconds * 1000 * 1000 * 1000);
-        } else {
-            if (self.defaultMaxAgeInSeconds != -1) {
-                calculatedExpTime = time:nanoTime() + (self.defaultMaxAgeInSeconds * 1000 * 1000 * 1000);
-            }
+        if (maxAge != -1) {
+            calculatedExpTime = time:nanoTime() + (maxAge * 1000 * 1000 * 1000);
         }
 
         CacheEntry entry = {
@@ -154,12 +180,12 @@ public type Cache object {
         Node newNode = { value: entry };
 
         if (self.hasKey(key)) {
-            Node oldNode = externGet(self, key);
-            self.evictionPolicy.replace(self.list, newNode, oldNode);
+            Node oldNode = <Node>externGet(self, key);
+            self.evictionPolicy.replace(list, newNode, oldNode);
         } else {
-            self.evictionPolicy.put(self.list, newNode);
+            self.evictionPolicy.put(list, newNode);
         }
-        externPut(self, key, newNode);
+        externPut(self, key, newNode, -1);
     }
 
     # Returns the cached value associated with the provided key.
@@ -168,24 +194,38 @@ public type Cache object {
     # + return - The cached value associated with the provided key or an `Error` if the provided cache key is not
     #            exisiting in the cache or any error occurred while retrieving the value from the cache.
     public function get(string key) returns any|Error {
-        if (!self.hasKey(key)) {
+        LinkedList? list = self.list;
+        if (list is ()) {
+            // The native cache engine returns `()` if the entry is expired and removes it. The key is checked before
+            // the entry is read, so that an expired entry is distinguished from an entry which is not available.
+            boolean hasKey = self.hasKey(key);
+            any data = externGet(self, key);
+            if (data is () && !hasKey) {
+                return prepareError("Cache entry from the given key: " + key + ", is not available.",
+                                    logLevel = LOG_LEVEL_DEBUG);
+            }
+            return data;
+        }
+
+        any value = externGet(self, key);
+        if (value is ()) {
             return prepareError("Cache entry from the given key: " + key + ", is not available.",
                                 logLevel = LOG_LEVEL_DEBUG);
         }
 
-        Node node = externGet(self, key);
+        Node node = <Node>value;
         CacheEntry entry = <CacheEntry>node.value;
 
         // Check whether the cache entry is already expired. Even though the cache cleaning task is configured
         // and runs in predefined intervals, sometimes the cache entry might not have been removed at this point
         // even though it is expired. So this check guarantees that the expired cache entries will not be returned.
         if (entry.expTime != -1 && entry.expTime < time:nanoTime()) {
-            self.evictionPolicy.remove(self.list, node);
+            self.evictionPolicy.remove(list, node);
             externRemove(self, key);
             return ();
         }
 
-        self.evictionPolicy.get(self.list, node);
+        self.evictionPolicy.get(list, node);
         return entry.data;
     }
 
@@ -200,8 +240,11 @@ public type Cache object {
                                 logLevel = LOG_LEVEL_DEBUG);
         }
 
-        Node node = externGet(self, key);
-        self.evictionPolicy.remove(self.list, node);
+        LinkedList? list = self.list;
+        if (list is LinkedList) {
+            Node node = <Node>externGet(self, key);
+            self.evictionPolicy.remove(list, node);
+        }
         externRemove(self, key);
     }
 
@@ -210,7 +253,10 @@ public type Cache object {
     # + return - `()` if successfully discarded all the values from the cache or an `Error` if any error occurred while
     # discarding all the values from the cache.
     public function invalidateAll() returns Error? {
-        self.evictionPolicy.clear(self.list);
+        LinkedList? list = self.list;
+        if (list is LinkedList) {
+            self.evictionPolicy.clear(list);
+        }
         externRemoveAll(self);
     }
 
@@ -243,6 +289,20 @@ public type Cache object {
     public function capacity() returns int {
         return self.capacity;
     }
+
+    # Returns the statistics of the cache. The statistics are only recorded with the `cache:LruEvictionPolicy` and
+    # `cache:TinyLfuEvictionPolicy` eviction policies, and are all zero with any other eviction policy.
+    #
+    # + return - The hit, miss, eviction, and expiration counts of the cache
+    public function stats() returns CacheStats {
+        int[] stats = externStats(self);
+        return {
+            hitCount: stats[0],
+            missCount: stats[1],
+            evictionCount: stats[2],
+            expirationCount: stats[3]
+        };
+    }
 };
 
 function evict(Cache cache, LinkedList list, AbstractEvictionPolicy evictionPolicy, int capacity, float evictionFactor) {
@@ -264,9 +324,8 @@ function cleanup(Cache cache, LinkedList list, AbstractEvictionPolicy evictionPo
     if (externSize(cache) == 0) {
         return;
     }
-    //foreach Node node in entries {
     foreach string key in externKeys(cache) {
-        Node node = externGet(cache, key);
+        Node node = <Node>externGet(cache, key);
         CacheEntry entry = <CacheEntry>node.value;
         if (entry.expTime != -1 && entry.expTime < time:nanoTime()) {
             evictionPolicy.remove(list, node);
@@ -278,15 +337,16 @@ function cleanup(Cache cache, LinkedList list, AbstractEvictionPolicy evictionPo
     }
 }
 
-function externInit(Cache cache, int capacity) = @java:Method {
+function externInit(Cache cache, int capacity, float evictionFactor, AbstractEvictionPolicy evictionPolicy)
+        returns boolean = @java:Method {
     class: "org.ballerinalang.stdlib.cache.nativeimpl.Cache"
 } external;
 
-function externPut(Cache cache, string key, Node value) = @java:Method {
+function externPut(Cache cache, string key, any value, int maxAgeInSeconds) = @java:Method {
     class: "org.ballerinalang.stdlib.cache.nativeimpl.Cache"
 } external;
 
-function externGet(Cache cache, string key) returns Node = @java:Method {
+function externGet(Cache cache, string key) returns any = @java:Method {
     class: "org.ballerinalang.stdlib.cache.nativeimpl.Cache"
 } external;
 
@@ -309,3 +369,11 @@ function externKeys(Cache cache) returns string[] = @java:Method {
 function externSize(Cache cache) returns int = @java:Method {
     class: "org.ballerinalang.stdlib.cache.nativeimpl.Cache"
 } external;
+
+function externCleanUp(Cache cache) = @java:Method {
+    class: "org.ballerinalang.stdlib.cache.nativeimpl.Cache"
+} external;
+
+function externStats(Cache cache) returns int[] = @java:Method {
+    class: "org.ballerinalang.stdlib.cache.nativeimpl.Cache"
+} external;
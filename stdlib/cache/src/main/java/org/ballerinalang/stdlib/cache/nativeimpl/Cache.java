@@ -15,18 +15,22 @@
  * specific language governing permissions and limitations
  * under the License.
  */
-
 package org.ballerinalang.stdlib.cache.nativeimpl;
 
+import org.ballerinalang.jvm.types.BPackage;
+import org.ballerinalang.jvm.types.BType;
 import org.ballerinalang.jvm.values.ArrayValueImpl;
-import org.ballerinalang.jvm.values.MapValue;
 import org.ballerinalang.jvm.values.ObjectValue;
 import org.ballerinalang.jvm.values.api.BString;
+import org.ballerinalang.stdlib.cache.nativeimpl.engine.CacheEngine;
+import org.ballerinalang.stdlib.cache.nativeimpl.engine.CacheEngine.EvictionPolicy;
 
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 /**
- * Ballerina function to cache with java.util.concurrent.ConcurrentHashMap.
+ * Ballerina function to cache with a {@link CacheEngine}. The engine evicts entries with the built-in eviction
+ * policies of the module, and only holds the entries if the cache uses a custom eviction policy.
  *
  * @since 2.0.0
  */
@@ -34,50 +38,77 @@ public class Cache {
 
     public static final String CACHE_MAP = "CACHE_MAP";
 
-    public static void externInit(ObjectValue cache, int capacity) {
-        ConcurrentHashMap<BString, MapValue<BString, Object>> map = new ConcurrentHashMap<>(capacity);
-        cache.addNativeData(CACHE_MAP, map);
+    private static final String LRU_EVICTION_POLICY = "LruEvictionPolicy";
+    private static final String TINY_LFU_EVICTION_POLICY = "TinyLfuEvictionPolicy";
+
+    public static boolean externInit(ObjectValue cache, long capacity, double evictionFactor,
+                                     ObjectValue evictionPolicy) {
+        EvictionPolicy policy = getEvictionPolicy(evictionPolicy);
+        // rounded to the nearest integer, as the <int> conversion of the eviction count in Ballerina did
+        CacheEngine<BString, Object> engine =
+                new CacheEngine<>((int) capacity, (int) Math.rint(capacity * evictionFactor), policy,
+                        policy != EvictionPolicy.NONE);
+        cache.addNativeData(CACHE_MAP, engine);
+        return policy != EvictionPolicy.NONE;
     }
 
-    public static void externPut(ObjectValue cache, BString key, MapValue<BString, Object> value) {
-        ConcurrentHashMap<BString, MapValue<BString, Object>> map =
-                (ConcurrentHashMap<BString, MapValue<BString, Object>>) cache.getNativeData(CACHE_MAP);
-        map.put(key, value);
+    public static void externPut(ObjectValue cache, BString key, Object value, long maxAgeInSeconds) {
+        getEngine(cache).put(key, value, maxAgeInSeconds > 0 ? TimeUnit.SECONDS.toNanos(maxAgeInSeconds) : -1);
     }
 
-    public static MapValue<BString, Object> externGet(ObjectValue cache, BString key) {
-        ConcurrentHashMap<BString, MapValue<BString, Object>> map =
-                (ConcurrentHashMap<BString, MapValue<BString, Object>>) cache.getNativeData(CACHE_MAP);
-        return map.get(key);
+    public static Object externGet(ObjectValue cache, BString key) {
+        return getEngine(cache).get(key);
     }
 
     public static void externRemove(ObjectValue cache, BString key) {
-        ConcurrentHashMap<BString, MapValue<BString, Object>> map =
-                (ConcurrentHashMap<BString, MapValue<BString, Object>>) cache.getNativeData(CACHE_MAP);
-        map.remove(key);
+        getEngine(cache).remove(key);
     }
 
     public static void externRemoveAll(ObjectValue cache) {
-        ConcurrentHashMap<BString, MapValue<BString, Object>> map =
-                (ConcurrentHashMap<BString, MapValue<BString, Object>>) cache.getNativeData(CACHE_MAP);
-        map.clear();
+        getEngine(cache).clear();
     }
 
     public static boolean externHasKey(ObjectValue cache, BString key) {
-        ConcurrentHashMap<BString, MapValue<BString, Object>> map =
-                (ConcurrentHashMap<BString, MapValue<BString, Object>>) cache.getNativeData(CACHE_MAP);
-        return map.containsKey(key);
+        return getEngine(cache).containsKey(key);
     }
 
     public static ArrayValueImpl externKeys(ObjectValue cache) {
-        ConcurrentHashMap<BString, MapValue<BString, Object>> map =
-                (ConcurrentHashMap<BString, MapValue<BString, Object>>) cache.getNativeData(CACHE_MAP);
-        return new ArrayValueImpl(map.keySet().toArray(new BString[0]));
+        List<BString> keys = getEngine(cache).keys();
+        return new ArrayValueImpl(keys.toArray(new BString[0]));
     }
 
     public static int externSize(ObjectValue cache) {
-        ConcurrentHashMap<BString, MapValue<BString, Object>> map =
-                (ConcurrentHashMap<BString, MapValue<BString, Object>>) cache.getNativeData(CACHE_MAP);
-        return map.size();
+        return getEngine(cache).size();
+    }
+
+    public static void externCleanUp(ObjectValue cache) {
+        getEngine(cache).cleanUp();
+    }
+
+    public static ArrayValueImpl externStats(ObjectValue cache) {
+        CacheEngine<BString, Object> engine = getEngine(cache);
+        return new ArrayValueImpl(new long[]{engine.getHitCount(), engine.getMissCount(), engine.getEvictionCount(),
+                engine.getExpirationCount()});
+    }
+
+    @SuppressWarnings("unchecked")
+    private static CacheEngine<BString, Object> getEngine(ObjectValue cache) {
+        return (CacheEngine<BString, Object>) cache.getNativeData(CACHE_MAP);
+    }
+
+    private static EvictionPolicy getEvictionPolicy(ObjectValue evictionPolicy) {
+        BType type = evictionPolicy.getType();
+        BPackage pkg = type.getPackage();
+        if (pkg == null || !"ballerina".equals(pkg.getOrg()) || !"cache".equals(pkg.getName())) {
+            return EvictionPolicy.NONE;
+        }
+        switch (type.getName()) {
+            case LRU_EVICTION_POLICY:
+                return EvictionPolicy.LRU;
+            case TINY_LFU_EVICTION_POLICY:
+                return EvictionPolicy.TINY_LFU;
+            default:
+                return EvictionPolicy.NONE;
+        }
     }
 }
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.stdlib.cache.nativeimpl.engine;
+
+/**
+ * Doubly linked queue of cache entries in the order of their last access, from the least recently used entry to the
+ * most recently used entry. The links are held by the entries, so that entries are moved without allocating.
+ *
+ * @param <K> type of the key
+ * @param <V> type of the value
+ * @since 2.0.0
+ */
+final class AccessOrderQueue<K, V> {
+
+    private final Node<K, V> sentinel = new Node<>(null, null, Node.NO_EXPIRY);
+    private int size;
+
+    AccessOrderQueue() {
+        sentinel.prev = sentinel;
+        sentinel.next = sentinel;
+    }
+
+    Node<K, V> first() {
+        Node<K, V> first = sentinel.next;
+        return first == sentinel ? null : first;
+    }
+
+    int size() {
+        return size;
+    }
+
+    void addLast(Node<K, V> node) {
+        Node<K, V> last = sentinel.prev;
+        node.prev = last;
+        node.next = sentinel;
+        last.next = node;
+        sentinel.prev = node;
+        size++;
+    }
+
+    void remove(Node<K, V> node) {
+        node.prev.next = node.next;
+        node.next.prev = node.prev;
+        node.prev = null;
+        node.next = null;
+        size--;
+    }
+
+    void moveToLast(Node<K, V> node) {
+        if (sentinel.prev != node) {
+            remove(node);
+            addLast(node);
+        }
+    }
+
+    void clear() {
+        sentinel.prev = sentinel;
+        sentinel.next = sentinel;
+        size = 0;
+    }
+}
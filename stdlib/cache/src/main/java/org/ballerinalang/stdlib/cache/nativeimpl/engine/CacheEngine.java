@@ -0,0 +1,440 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.stdlib.cache.nativeimpl.engine;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * Bounded cache of entries, which may expire after a given time.
+ * <p>
+ * Entries are held in a {@link ConcurrentHashMap}, so that reads do not lock. A read records the access of the entry
+ * in a {@link ReadBuffer}, and the accesses are applied to the eviction policy in batches under the eviction lock,
+ * which is also taken by writes. Expired entries are never returned, and are removed by a {@link TimerWheel} when the
+ * cache is written to or cleaned up.
+ * <p>
+ * Once the cache is full, adding an entry evicts a given number of entries, which are picked by the
+ * {@link EvictionPolicy} of the cache. The cache records the number of hits, misses, evictions and expirations.
+ *
+ * @param <K> type of the key
+ * @param <V> type of the value
+ * @since 2.0.0
+ */
+public final class CacheEngine<K, V> {
+
+    private final ConcurrentHashMap<K, Node<K, V>> data;
+    private final int capacity;
+    private final int evictionsPerPut;
+    private final EvictionPolicy evictionPolicy;
+    private final boolean recordStats;
+    private final LongSupplier ticker;
+    private final long startTime;
+
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    private final ReadBuffer<K, V> readBuffer = new ReadBuffer<>();
+    private final TimerWheel<K, V> timerWheel = new TimerWheel<>(0);
+
+    // guarded by the eviction lock
+    private final AccessOrderQueue<K, V> window = new AccessOrderQueue<>();
+    private final AccessOrderQueue<K, V> probation = new AccessOrderQueue<>();
+    private final AccessOrderQueue<K, V> protectedQueue = new AccessOrderQueue<>();
+    private final FrequencySketch sketch;
+    private final int windowCapacity;
+    private final int protectedCapacity;
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+    private final LongAdder expirationCount = new LongAdder();
+
+    /**
+     * Create a cache.
+     *
+     * @param capacity       maximum number of entries of the cache
+     * @param evictionCount  number of entries evicted when an entry is added to a full cache, at least one so that
+     *                       the cache never grows beyond its capacity, even if the eviction factor of a small cache
+     *                       rounds the count down to zero
+     * @param evictionPolicy policy which picks the entries to be evicted
+     * @param recordStats    true to record the number of hits and misses
+     */
+    public CacheEngine(int capacity, int evictionCount, EvictionPolicy evictionPolicy, boolean recordStats) {
+        this(capacity, evictionCount, evictionPolicy, recordStats, System::nanoTime);
+    }
+
+    CacheEngine(int capacity, int evictionCount, EvictionPolicy evictionPolicy, boolean recordStats,
+                LongSupplier ticker) {
+        this.data = new ConcurrentHashMap<>(capacity);
+        this.capacity = capacity;
+        this.evictionsPerPut = Math.max(1, evictionCount);
+        this.evictionPolicy = evictionPolicy;
+        this.recordStats = recordStats;
+        this.ticker = ticker;
+        this.startTime = ticker.getAsLong();
+        this.windowCapacity = Math.max(1, capacity / 100);
+        this.protectedCapacity = (int) ((capacity - windowCapacity) * 0.8);
+        this.sketch = evictionPolicy == EvictionPolicy.TINY_LFU ? new FrequencySketch(capacity) : null;
+    }
+
+    /**
+     * Get the value of a key, without locking.
+     *
+     * @param key key of the entry
+     * @return value of the key, or null if there is no entry for the key or if the entry has expired
+     */
+    public V get(K key) {
+        Node<K, V> node = data.get(key);
+        if (node == null) {
+            recordMiss();
+            return null;
+        }
+        if (node.isExpired(now())) {
+            recordMiss();
+            expire(node);
+            return null;
+        }
+
+        if (recordStats) {
+            hitCount.increment();
+        }
+        if (evictionPolicy != EvictionPolicy.NONE && readBuffer.offer(node) == ReadBuffer.FULL) {
+            tryMaintenance();
+        }
+        return node.value;
+    }
+
+    /**
+     * Add an entry to the cache, or replace the value of an entry. Adding an entry to a full cache evicts entries.
+     *
+     * @param key        key of the entry
+     * @param value      value of the entry
+     * @param timeToLive time in nanoseconds for which the entry is valid, or zero or less if the entry does not expire
+     */
+    public void put(K key, V value, long timeToLive) {
+        long now = now();
+        long expiresAt = timeToLive > 0 ? now + timeToLive : Node.NO_EXPIRY;
+        evictionLock.lock();
+        try {
+            maintenance(now);
+            Node<K, V> node = data.get(key);
+            if (node != null) {
+                node.value = value;
+                timerWheel.deschedule(node);
+                node.expiresAt = expiresAt;
+                schedule(node);
+                onAccess(node);
+                return;
+            }
+
+            if (evictionPolicy != EvictionPolicy.NONE && data.size() >= capacity) {
+                evict();
+            }
+            node = new Node<>(key, value, expiresAt);
+            data.put(key, node);
+            onAdd(node);
+            schedule(node);
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * Remove the entry of a key.
+     *
+     * @param key key of the entry
+     * @return value of the removed entry, or null if there was no entry for the key
+     */
+    public V remove(K key) {
+        evictionLock.lock();
+        try {
+            Node<K, V> node = data.remove(key);
+            if (node == null) {
+                return null;
+            }
+            discard(node);
+            return node.value;
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * Remove all the entries.
+     */
+    public void clear() {
+        evictionLock.lock();
+        try {
+            readBuffer.drainTo(node -> { });
+            for (Node<K, V> node : data.values()) {
+                node.queue = Node.DEAD;
+            }
+            data.clear();
+            window.clear();
+            probation.clear();
+            protectedQueue.clear();
+            timerWheel.clear();
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * Check whether there is an entry for a key, which may have expired but has not been removed yet.
+     *
+     * @param key key of the entry
+     * @return true if there is an entry for the key
+     */
+    public boolean containsKey(K key) {
+        return data.containsKey(key);
+    }
+
+    /**
+     * Get the keys of the entries, which include the expired entries that have not been removed yet.
+     *
+     * @return keys of the cache
+     */
+    public List<K> keys() {
+        return new ArrayList<>(data.keySet());
+    }
+
+    /**
+     * Get the number of entries, which includes the expired entries that have not been removed yet.
+     *
+     * @return size of the cache
+     */
+    public int size() {
+        return data.size();
+    }
+
+    /**
+     * Apply the recorded reads to the eviction policy and remove the expired entries.
+     */
+    public void cleanUp() {
+        evictionLock.lock();
+        try {
+            maintenance(now());
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+
+    public long getExpirationCount() {
+        return expirationCount.sum();
+    }
+
+    private void recordMiss() {
+        if (recordStats) {
+            missCount.increment();
+        }
+    }
+
+    private long now() {
+        return ticker.getAsLong() - startTime;
+    }
+
+    private void tryMaintenance() {
+        if (evictionLock.tryLock()) {
+            try {
+                maintenance(now());
+            } finally {
+                evictionLock.unlock();
+            }
+        }
+    }
+
+    private void maintenance(long now) {
+        readBuffer.drainTo(this::onAccess);
+        timerWheel.advance(now, this::onExpiry);
+    }
+
+    private void expire(Node<K, V> node) {
+        evictionLock.lock();
+        try {
+            // the entry may have been replaced with a new expiry time since it was read
+            if (node.isAlive() && node.isExpired(now())) {
+                onExpiry(node);
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private void onExpiry(Node<K, V> node) {
+        if (data.remove(node.key, node)) {
+            discard(node);
+            expirationCount.increment();
+        }
+    }
+
+    private void schedule(Node<K, V> node) {
+        if (node.expiresAt != Node.NO_EXPIRY) {
+            timerWheel.schedule(node);
+        }
+    }
+
+    private void onAdd(Node<K, V> node) {
+        switch (evictionPolicy) {
+            case LRU:
+                node.queue = Node.PROBATION;
+                probation.addLast(node);
+                break;
+            case TINY_LFU:
+                sketch.increment(node.hash);
+                node.queue = Node.WINDOW;
+                window.addLast(node);
+                while (window.size() > windowCapacity) {
+                    Node<K, V> first = window.first();
+                    window.remove(first);
+                    first.queue = Node.PROBATION;
+                    probation.addLast(first);
+                }
+                break;
+            default:
+                break;
+        }
+    }
+
+    private void onAccess(Node<K, V> node) {
+        if (!node.isAlive() || evictionPolicy == EvictionPolicy.NONE) {
+            return;
+        }
+        if (sketch != null) {
+            sketch.increment(node.hash);
+        }
+        switch (node.queue) {
+            case Node.WINDOW:
+                window.moveToLast(node);
+                break;
+            case Node.PROBATION:
+                if (evictionPolicy == EvictionPolicy.TINY_LFU) {
+                    promote(node);
+                } else {
+                    probation.moveToLast(node);
+                }
+                break;
+            default:
+                protectedQueue.moveToLast(node);
+                break;
+        }
+    }
+
+    private void promote(Node<K, V> node) {
+        probation.remove(node);
+        node.queue = Node.PROTECTED;
+        protectedQueue.addLast(node);
+        while (protectedQueue.size() > protectedCapacity) {
+            Node<K, V> first = protectedQueue.first();
+            protectedQueue.remove(first);
+            first.queue = Node.PROBATION;
+            probation.addLast(first);
+        }
+    }
+
+    private void evict() {
+        for (int i = 0; i < evictionsPerPut; i++) {
+            Node<K, V> victim = evictionPolicy == EvictionPolicy.TINY_LFU ? selectTinyLfuVictim() : probation.first();
+            if (victim == null) {
+                return;
+            }
+            data.remove(victim.key, victim);
+            discard(victim);
+            evictionCount.increment();
+        }
+    }
+
+    /**
+     * Select the entry to be evicted by the W-TinyLFU policy. The least recently used entry of the admission window
+     * is admitted to the main space only if it is more popular than the entry that the main space would evict.
+     *
+     * @return entry to be evicted
+     */
+    private Node<K, V> selectTinyLfuVictim() {
+        Node<K, V> candidate = window.size() >= windowCapacity ? window.first() : null;
+        Node<K, V> victim = probation.first();
+        if (victim == null) {
+            victim = protectedQueue.first();
+        }
+        if (victim == null) {
+            return window.first();
+        }
+        if (candidate == null || sketch.frequency(candidate.hash) <= sketch.frequency(victim.hash)) {
+            return candidate == null ? victim : candidate;
+        }
+        window.remove(candidate);
+        candidate.queue = Node.PROBATION;
+        probation.addLast(candidate);
+        return victim;
+    }
+
+    private void discard(Node<K, V> node) {
+        switch (node.queue) {
+            case Node.WINDOW:
+                if (node.prev != null) {
+                    window.remove(node);
+                }
+                break;
+            case Node.PROBATION:
+                probation.remove(node);
+                break;
+            case Node.PROTECTED:
+                protectedQueue.remove(node);
+                break;
+            default:
+                break;
+        }
+        timerWheel.deschedule(node);
+        node.queue = Node.DEAD;
+    }
+
+    /**
+     * Policies which pick the entries to be evicted from a full cache.
+     */
+    public enum EvictionPolicy {
+
+        /**
+         * Evicts the least recently used entries.
+         */
+        LRU,
+
+        /**
+         * Window TinyLFU, which evicts the least recently used entries of a small admission window and of a main
+         * space, and admits entries from the window to the main space by their estimated frequency of use.
+         */
+        TINY_LFU,
+
+        /**
+         * Never evicts entries, leaving the eviction to the user of the cache.
+         */
+        NONE
+    }
+}
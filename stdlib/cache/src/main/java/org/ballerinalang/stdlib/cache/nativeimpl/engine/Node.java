@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.stdlib.cache.nativeimpl.engine;
+
+/**
+ * Entry of a {@link CacheEngine}. The value and the expiry time are read without locking, while the links of the
+ * access order queues and of the timer wheel are only used under the eviction lock of the cache.
+ *
+ * @param <K> type of the key
+ * @param <V> type of the value
+ * @since 2.0.0
+ */
+final class Node<K, V> {
+
+    static final long NO_EXPIRY = Long.MIN_VALUE;
+
+    static final int WINDOW = 0;
+    static final int PROBATION = 1;
+    static final int PROTECTED = 2;
+    static final int DEAD = 3;
+
+    final K key;
+    final int hash;
+    volatile V value;
+    volatile long expiresAt;
+
+    // guarded by the eviction lock
+    int queue;
+    Node<K, V> prev;
+    Node<K, V> next;
+    Node<K, V> timerPrev;
+    Node<K, V> timerNext;
+
+    Node(K key, V value, long expiresAt) {
+        this.key = key;
+        this.hash = key == null ? 0 : key.hashCode();
+        this.value = value;
+        this.expiresAt = expiresAt;
+    }
+
+    boolean isExpired(long now) {
+        long time = expiresAt;
+        return time != NO_EXPIRY && now - time >= 0;
+    }
+
+    boolean isAlive() {
+        return queue != DEAD;
+    }
+}
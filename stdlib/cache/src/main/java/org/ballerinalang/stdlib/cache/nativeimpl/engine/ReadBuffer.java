@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.stdlib.cache.nativeimpl.engine;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * Striped, bounded and lossy buffer of the entries that were read from a cache, so that reads record their accesses
+ * without taking the eviction lock. Threads add to the stripe picked by their id, and the buffer is drained into the
+ * eviction policy under the eviction lock. An access is dropped if its stripe is full or contended, which only makes
+ * the recency and frequency information of the eviction policy slightly less accurate.
+ *
+ * @param <K> type of the key
+ * @param <V> type of the value
+ * @since 2.0.0
+ */
+final class ReadBuffer<K, V> {
+
+    static final int SUCCESS = 0;
+    static final int FULL = 1;
+    static final int FAILED = 2;
+
+    private static final int STRIPE_SIZE = 16;
+    private static final int STRIPE_MASK = STRIPE_SIZE - 1;
+    private static final int MAX_STRIPES =
+            Integer.highestOneBit(Math.min(Runtime.getRuntime().availableProcessors(), 16) * 2 - 1);
+
+    private final Stripe<K, V>[] stripes;
+
+    @SuppressWarnings("unchecked")
+    ReadBuffer() {
+        stripes = new Stripe[MAX_STRIPES];
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i] = new Stripe<>();
+        }
+    }
+
+    /**
+     * Record the access of an entry.
+     *
+     * @param node entry which was read
+     * @return {@link #SUCCESS} if the access was recorded, {@link #FULL} if the stripe is full and has to be drained
+     * or {@link #FAILED} if the access was dropped due to contention
+     */
+    int offer(Node<K, V> node) {
+        long id = Thread.currentThread().getId();
+        Stripe<K, V> stripe = stripes[(int) (id ^ (id >>> 16)) & (stripes.length - 1)];
+        long head = stripe.readCounter;
+        long tail = stripe.writeCounter.get();
+        if (tail - head >= STRIPE_SIZE) {
+            return FULL;
+        }
+        if (stripe.writeCounter.compareAndSet(tail, tail + 1)) {
+            stripe.buffer.lazySet((int) (tail & STRIPE_MASK), node);
+            return SUCCESS;
+        }
+        return FAILED;
+    }
+
+    /**
+     * Pass the recorded accesses to the given consumer. This is called under the eviction lock.
+     *
+     * @param consumer consumer of the entries which were read
+     */
+    void drainTo(Consumer<Node<K, V>> consumer) {
+        for (Stripe<K, V> stripe : stripes) {
+            long head = stripe.readCounter;
+            long tail = stripe.writeCounter.get();
+            for (; head != tail; head++) {
+                int index = (int) (head & STRIPE_MASK);
+                Node<K, V> node = stripe.buffer.get(index);
+                if (node == null) {
+                    // the access has been claimed but not yet published
+                    break;
+                }
+                stripe.buffer.lazySet(index, null);
+                consumer.accept(node);
+            }
+            stripe.readCounter = head;
+        }
+    }
+
+    /**
+     * Stripe of the buffer, which is a ring of entries.
+     */
+    private static final class Stripe<K, V> {
+
+        private final AtomicReferenceArray<Node<K, V>> buffer = new AtomicReferenceArray<>(STRIPE_SIZE);
+        private final AtomicLong writeCounter = new AtomicLong();
+        private volatile long readCounter;
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.stdlib.cache.nativeimpl.engine;
+
+import java.util.function.Consumer;
+
+/**
+ * Hierarchical timer wheel, which expires cache entries in time proportional to the number of expired entries rather
+ * than to the size of the cache. Each wheel is an array of buckets of entries which expire within the span of the
+ * bucket. The spans of the wheels are powers of two of about one second, one minute, one hour, one day and six days,
+ * so that the bucket of a time is found with shifts. When the wheel is advanced, the entries of the buckets that were
+ * passed are either expired or moved down to the wheel with the span that matches the time left to their expiry.
+ * <p>
+ * This class is not thread safe, and is only used under the eviction lock of the cache. Times are in nanoseconds,
+ * relative to the creation of the cache so that they are never negative.
+ *
+ * @param <K> type of the key
+ * @param <V> type of the value
+ * @since 2.0.0
+ */
+final class TimerWheel<K, V> {
+
+    private static final int[] BUCKETS = {64, 64, 32, 4, 1};
+    private static final long[] SPANS = {
+            1L << 30, // 1.07s
+            1L << 36, // 1.14m
+            1L << 42, // 1.22h
+            1L << 47, // 1.63d
+            1L << 49, // 6.5d
+            1L << 49  // 6.5d
+    };
+    private static final int[] SHIFT = {
+            Long.numberOfTrailingZeros(SPANS[0]),
+            Long.numberOfTrailingZeros(SPANS[1]),
+            Long.numberOfTrailingZeros(SPANS[2]),
+            Long.numberOfTrailingZeros(SPANS[3]),
+            Long.numberOfTrailingZeros(SPANS[4])
+    };
+
+    private final Node<K, V>[][] wheel;
+    private long time;
+
+    @SuppressWarnings("unchecked")
+    TimerWheel(long time) {
+        this.time = time;
+        this.wheel = new Node[BUCKETS.length][];
+        for (int i = 0; i < BUCKETS.length; i++) {
+            wheel[i] = new Node[BUCKETS[i]];
+            for (int j = 0; j < BUCKETS[i]; j++) {
+                Node<K, V> sentinel = new Node<>(null, null, Node.NO_EXPIRY);
+                sentinel.timerPrev = sentinel;
+                sentinel.timerNext = sentinel;
+                wheel[i][j] = sentinel;
+            }
+        }
+    }
+
+    /**
+     * Advance the wheel to the given time, passing the entries which have expired to the given consumer.
+     *
+     * @param currentTime current time
+     * @param expired     consumer of the expired entries
+     */
+    void advance(long currentTime, Consumer<Node<K, V>> expired) {
+        long previousTime = time;
+        time = currentTime;
+        for (int i = 0; i < SHIFT.length; i++) {
+            long previousTicks = previousTime >>> SHIFT[i];
+            long currentTicks = currentTime >>> SHIFT[i];
+            if (currentTicks - previousTicks <= 0) {
+                break;
+            }
+            expire(i, previousTicks, currentTicks, expired);
+        }
+    }
+
+    /**
+     * Add an entry, which has an expiry time, to the bucket of its expiry time.
+     *
+     * @param node entry to be added
+     */
+    void schedule(Node<K, V> node) {
+        Node<K, V> sentinel = findBucket(node.expiresAt);
+        Node<K, V> last = sentinel.timerPrev;
+        node.timerPrev = last;
+        node.timerNext = sentinel;
+        last.timerNext = node;
+        sentinel.timerPrev = node;
+    }
+
+    /**
+     * Remove an entry from its bucket, if it was scheduled.
+     *
+     * @param node entry to be removed
+     */
+    void deschedule(Node<K, V> node) {
+        if (node.timerNext != null) {
+            node.timerNext.timerPrev = node.timerPrev;
+            node.timerPrev.timerNext = node.timerNext;
+            node.timerPrev = null;
+            node.timerNext = null;
+        }
+    }
+
+    /**
+     * Remove all the entries from the wheel.
+     */
+    void clear() {
+        for (Node<K, V>[] buckets : wheel) {
+            for (Node<K, V> sentinel : buckets) {
+                sentinel.timerPrev = sentinel;
+                sentinel.timerNext = sentinel;
+            }
+        }
+    }
+
+    private void expire(int index, long previousTicks, long currentTicks, Consumer<Node<K, V>> expired) {
+        Node<K, V>[] buckets = wheel[index];
+        int mask = buckets.length - 1;
+        int steps = (int) Math.min(1 + currentTicks - previousTicks, buckets.length);
+        int start = (int) (previousTicks & mask);
+        int end = start + steps;
+        for (int i = start; i < end; i++) {
+            Node<K, V> sentinel = buckets[i & mask];
+            Node<K, V> node = sentinel.timerNext;
+            sentinel.timerPrev = sentinel;
+            sentinel.timerNext = sentinel;
+            while (node != sentinel) {
+                Node<K, V> next = node.timerNext;
+                node.timerPrev = null;
+                node.timerNext = null;
+                if (node.expiresAt - time > 0) {
+                    schedule(node);
+                } else {
+                    expired.accept(node);
+                }
+                node = next;
+            }
+        }
+    }
+
+    private Node<K, V> findBucket(long expiresAt) {
+        long duration = expiresAt - time;
+        int last = wheel.length - 1;
+        for (int i = 0; i < last; i++) {
+            if (duration < SPANS[i + 1]) {
+                long ticks = expiresAt >>> SHIFT[i];
+                return wheel[i][(int) (ticks & (wheel[i].length - 1))];
+            }
+        }
+        return wheel[last][0];
+    }
+}
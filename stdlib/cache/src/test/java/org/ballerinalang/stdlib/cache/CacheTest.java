@@ -226,6 +226,37 @@ public class CacheTest {
         Assert.assertEquals(((BInteger) returns[1]).intValue(), expected.length);
     }
 
+    @Test
+    public void testCacheEvictionWithTinyLfuPolicy() {
+        BValue[] returns = BRunUtil.invoke(compileResult, "testCacheEvictionWithTinyLfuPolicy");
+        Assert.assertTrue(returns[0] instanceof BValueArray);
+        Assert.assertTrue(returns[1] instanceof BInteger);
+        // the least recently used entry of the admission window is not admitted, as it is not more popular than the
+        // least recently used entry of the main space
+        String[] expected = new String[]{"A", "C", "D", "E", "F", "G", "H", "I", "K"};
+        String[] actual = removeEmptyValues(((BValueArray) returns[0]).getStringArray());
+        Assert.assertTrue(Arrays.equals(actual, expected));
+        Assert.assertEquals(((BInteger) returns[1]).intValue(), expected.length);
+    }
+
+    @Test
+    public void testCacheEvictionWithCustomPolicy() {
+        BValue[] returns = BRunUtil.invoke(compileResult, "testCacheEvictionWithCustomPolicy");
+        Assert.assertTrue(returns[0] instanceof BValueArray);
+        Assert.assertTrue(returns[1] instanceof BInteger);
+        String[] expected = new String[]{"A", "C", "D", "E", "F"};
+        String[] actual = removeEmptyValues(((BValueArray) returns[0]).getStringArray());
+        Assert.assertTrue(Arrays.equals(actual, expected));
+        Assert.assertEquals(((BInteger) returns[1]).intValue(), expected.length);
+    }
+
+    @Test
+    public void testStats() {
+        BValue[] returns = BRunUtil.invoke(compileResult, "testStats");
+        Assert.assertTrue(returns[0] instanceof BValueArray);
+        Assert.assertEquals(((BValueArray) returns[0]).getIntArray(), new long[]{2, 1, 1, 0});
+    }
+
     @Test(enabled = false)
     public void testCacheEvictionWithTimer1() {
         BValue[] args = new BValue[0];
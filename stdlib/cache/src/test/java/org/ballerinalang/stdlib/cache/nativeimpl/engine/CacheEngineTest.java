@@ -0,0 +1,211 @@
+/*
+ *   Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.cache.nativeimpl.engine;
+
+import org.ballerinalang.stdlib.cache.nativeimpl.engine.CacheEngine.EvictionPolicy;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Test cases for the eviction, expiry and statistics of {@link CacheEngine}.
+ */
+public class CacheEngineTest {
+
+    @Test
+    public void testLruEviction() {
+        CacheEngine<String, Integer> cache = new CacheEngine<>(10, 2, EvictionPolicy.LRU, true);
+        for (int i = 0; i < 10; i++) {
+            cache.put("key" + i, i, -1);
+        }
+        Assert.assertEquals(cache.get("key0"), Integer.valueOf(0));
+        cache.put("key10", 10, -1);
+
+        Assert.assertEquals(cache.size(), 9);
+        Assert.assertTrue(cache.containsKey("key0"));
+        Assert.assertFalse(cache.containsKey("key1"));
+        Assert.assertFalse(cache.containsKey("key2"));
+        Assert.assertTrue(cache.containsKey("key3"));
+        Assert.assertEquals(cache.getEvictionCount(), 2);
+    }
+
+    @Test
+    public void testEvictionCountRoundedDownToZero() {
+        // a cache of 1 entry with an eviction factor of 0.25 evicts no entries by the factor alone
+        CacheEngine<String, Integer> cache = new CacheEngine<>(1, 0, EvictionPolicy.LRU, true);
+        cache.put("key0", 0, -1);
+        cache.put("key1", 1, -1);
+
+        Assert.assertEquals(cache.size(), 1);
+        Assert.assertTrue(cache.containsKey("key1"));
+        Assert.assertEquals(cache.getEvictionCount(), 1);
+    }
+
+    @Test
+    public void testTinyLfuKeepsPopularEntries() {
+        int capacity = 100;
+        CacheEngine<Integer, Integer> cache = new CacheEngine<>(capacity, 1, EvictionPolicy.TINY_LFU, true);
+        for (int i = 0; i < capacity; i++) {
+            cache.put(i, i, -1);
+        }
+        for (int round = 0; round < 5; round++) {
+            for (int i = 0; i < capacity / 2; i++) {
+                Assert.assertEquals(cache.get(i), Integer.valueOf(i));
+            }
+        }
+        // scan through many entries which are used only once
+        for (int i = capacity; i < capacity * 20; i++) {
+            cache.put(i, i, -1);
+        }
+
+        int popular = 0;
+        for (int i = 0; i < capacity / 2; i++) {
+            if (cache.containsKey(i)) {
+                popular++;
+            }
+        }
+        Assert.assertEquals(popular, capacity / 2);
+        Assert.assertEquals(cache.size(), capacity);
+        Assert.assertEquals(cache.getEvictionCount(), capacity * 19);
+    }
+
+    @Test
+    public void testLruEvictsPopularEntriesOnScan() {
+        int capacity = 100;
+        CacheEngine<Integer, Integer> cache = new CacheEngine<>(capacity, 1, EvictionPolicy.LRU, true);
+        for (int i = 0; i < capacity; i++) {
+            cache.put(i, i, -1);
+            cache.get(i);
+        }
+        for (int i = capacity; i < capacity * 2; i++) {
+            cache.put(i, i, -1);
+        }
+        for (int i = 0; i < capacity; i++) {
+            Assert.assertFalse(cache.containsKey(i));
+        }
+    }
+
+    @Test
+    public void testExpiry() {
+        AtomicLong time = new AtomicLong(TimeUnit.DAYS.toNanos(3));
+        CacheEngine<String, String> cache =
+                new CacheEngine<>(10, 1, EvictionPolicy.LRU, true, time::get);
+        cache.put("short", "1", TimeUnit.SECONDS.toNanos(1));
+        cache.put("long", "2", TimeUnit.HOURS.toNanos(2));
+        cache.put("forever", "3", -1);
+        cache.put("replaced", "4", TimeUnit.SECONDS.toNanos(1));
+        cache.put("replaced", "5", TimeUnit.DAYS.toNanos(2));
+
+        time.addAndGet(TimeUnit.SECONDS.toNanos(5));
+        Assert.assertNull(cache.get("short"));
+        Assert.assertFalse(cache.containsKey("short"));
+        Assert.assertEquals(cache.get("long"), "2");
+
+        time.addAndGet(TimeUnit.HOURS.toNanos(3));
+        cache.cleanUp();
+        Assert.assertEquals(cache.size(), 2);
+        Assert.assertFalse(cache.containsKey("long"));
+        Assert.assertEquals(cache.get("replaced"), "5");
+
+        time.addAndGet(TimeUnit.DAYS.toNanos(2));
+        cache.cleanUp();
+        Assert.assertEquals(cache.keys(), Collections.singletonList("forever"));
+        Assert.assertEquals(cache.getExpirationCount(), 3);
+        Assert.assertEquals(cache.getEvictionCount(), 0);
+    }
+
+    @Test
+    public void testStats() {
+        CacheEngine<String, String> cache = new CacheEngine<>(10, 1, EvictionPolicy.TINY_LFU, true);
+        cache.put("a", "1", -1);
+        cache.get("a");
+        cache.get("a");
+        cache.get("b");
+        Assert.assertEquals(cache.getHitCount(), 2);
+        Assert.assertEquals(cache.getMissCount(), 1);
+
+        CacheEngine<String, String> unrecorded = new CacheEngine<>(10, 1, EvictionPolicy.NONE, false);
+        for (int i = 0; i < 20; i++) {
+            unrecorded.put("key" + i, "value", -1);
+        }
+        unrecorded.get("key0");
+        unrecorded.get("missing");
+        Assert.assertEquals(unrecorded.size(), 20);
+        Assert.assertEquals(unrecorded.getHitCount(), 0);
+        Assert.assertEquals(unrecorded.getMissCount(), 0);
+    }
+
+    @Test
+    public void testRemoveAndClear() {
+        CacheEngine<String, String> cache = new CacheEngine<>(4, 1, EvictionPolicy.TINY_LFU, true);
+        cache.put("a", "1", TimeUnit.MINUTES.toNanos(1));
+        cache.put("b", "2", -1);
+        cache.get("a");
+        Assert.assertEquals(cache.remove("a"), "1");
+        Assert.assertNull(cache.remove("a"));
+        cache.clear();
+        Assert.assertEquals(cache.size(), 0);
+        for (int i = 0; i < 10; i++) {
+            cache.put("key" + i, "value", -1);
+        }
+        Assert.assertEquals(cache.size(), 4);
+    }
+
+    @Test
+    public void testConcurrentReadsAndWrites() throws Exception {
+        int capacity = 500;
+        CacheEngine<Integer, Integer> cache = new CacheEngine<>(capacity, 50, EvictionPolicy.TINY_LFU, true);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                int seed = t;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 20000; i++) {
+                        int key = (i * 31 + seed) % 2000;
+                        Integer value = cache.get(key);
+                        if (value == null) {
+                            cache.put(key, key, -1);
+                        } else {
+                            Assert.assertEquals(value.intValue(), key);
+                        }
+                        if (i % 1000 == 0) {
+                            cache.remove(key);
+                        }
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        Assert.assertTrue(cache.size() <= capacity);
+        Assert.assertEquals(cache.getHitCount() + cache.getMissCount(), 8 * 20000);
+    }
+}
@@ -293,3 +293,95 @@ function testCreateCacheWithNegativeDefaultMaxAge() {
     };
     cache:Cache c = new(config);
 }
+
+function testCacheEvictionWithTinyLfuPolicy() returns [string[], int] {
+    cache:TinyLfuEvictionPolicy tinyLfuEvictionPolicy = new;
+    cache:CacheConfig config = {
+        capacity: 10,
+        evictionPolicy: tinyLfuEvictionPolicy,
+        evictionFactor: 0.2
+    };
+    cache:Cache cache = new(config);
+    checkpanic cache.put("A", "1");
+    checkpanic cache.put("B", "2");
+    checkpanic cache.put("C", "3");
+    checkpanic cache.put("D", "4");
+    checkpanic cache.put("E", "5");
+    checkpanic cache.put("F", "6");
+    checkpanic cache.put("G", "7");
+    checkpanic cache.put("H", "8");
+    checkpanic cache.put("I", "9");
+    checkpanic cache.put("J", "10");
+    any|cache:Error x = cache.get("A");
+    checkpanic cache.put("K", "11");
+    return [cache.keys(), cache.size()];
+}
+
+type MruEvictionPolicy object {
+
+    *cache:AbstractEvictionPolicy;
+
+    public function get(cache:LinkedList list, cache:Node node) {
+        cache:remove(list, node);
+        cache:addFirst(list, node);
+    }
+
+    public function put(cache:LinkedList list, cache:Node node) {
+        cache:addFirst(list, node);
+    }
+
+    public function remove(cache:LinkedList list, cache:Node node) {
+        cache:remove(list, node);
+    }
+
+    public function replace(cache:LinkedList list, cache:Node newNode, cache:Node oldNode) {
+        cache:remove(list, oldNode);
+        cache:addFirst(list, newNode);
+    }
+
+    public function clear(cache:LinkedList list) {
+        cache:clear(list);
+    }
+
+    public function evict(cache:LinkedList list) returns cache:Node? {
+        cache:Node? head = list.head;
+        if (head is cache:Node) {
+            cache:remove(list, head);
+        }
+        return head;
+    }
+};
+
+function testCacheEvictionWithCustomPolicy() returns [string[], int] {
+    MruEvictionPolicy mruEvictionPolicy = new;
+    cache:CacheConfig config = {
+        capacity: 5,
+        evictionPolicy: mruEvictionPolicy,
+        evictionFactor: 0.2
+    };
+    cache:Cache cache = new(config);
+    checkpanic cache.put("A", "1");
+    checkpanic cache.put("B", "2");
+    checkpanic cache.put("C", "3");
+    checkpanic cache.put("D", "4");
+    checkpanic cache.put("E", "5");
+    any|cache:Error x = cache.get("B");
+    checkpanic cache.put("F", "6");
+    return [cache.keys(), cache.size()];
+}
+
+function testStats() returns int[] {
+    cache:CacheConfig config = {
+        capacity: 2,
+        evictionFactor: 0.5
+    };
+    cache:Cache cache = new(config);
+    checkpanic cache.put("A", "1");
+    checkpanic cache.put("B", "2");
+    any|cache:Error x = cache.get("A");
+    x = cache.get("A");
+    x = cache.get("C");
+    checkpanic cache.put("C", "3");
+    cache:CacheStats stats = cache.stats();
+    return [stats.hitCount, stats.missCount, stats.evictionCount, stats.expirationCount];
+}
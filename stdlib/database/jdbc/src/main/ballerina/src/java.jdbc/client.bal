@@ -76,7 +76,8 @@ public type Client client object {
     }
 
     # Executes a batch of parameterised DDL or DML sql query provided by the user,
-    # and returns the summary of the execution.
+    # and returns the summary of the execution. Consecutive queries with the same SQL text are sent to the database
+    # together, in batches of at most `Options.batchSize` commands.
     #
     # + sqlQueries - The DDL or DML query such as INSERT, DELETE, UPDATE, etc as `ParameterizedQuery` with an array
     #                of values passed in.
@@ -108,9 +109,15 @@ public type Client client object {
 # Provides a set of configuration related to database.
 # + datasourceName - The driver class name to be used to get the connection
 # + properties - the properties of the database which should be applied when getting the connection
+# + fetchSize - The number of rows fetched from the database at a time when iterating the result of a query.
+#               `0` uses the default fetch size of the driver, and a negative value is an error
+# + batchSize - The maximum number of commands sent to the database at a time by `batchExecute`, which must be
+#               greater than `0`
 public type Options record {|
     string? datasourceName = ();
     map<anydata>? properties = ();
+    int fetchSize = 0;
+    int batchSize = 1000;
 |};
 
 # Provides a set of configurations for the JDBC Client to be passed internally within the module.
@@ -27,6 +27,9 @@ import org.ballerinalang.sql.utils.ErrorGenerator;
 import java.util.Locale;
 import java.util.Properties;
 
+import static org.ballerinalang.sql.Constants.DEFAULT_BATCH_SIZE;
+import static org.ballerinalang.sql.Constants.DEFAULT_FETCH_SIZE;
+
 /**
  * This class will include the native method implementation for the JDBC client.
  *
@@ -48,7 +51,11 @@ public class NativeImpl {
         MapValue properties = null;
         String datasourceName = null;
         Properties poolProperties = null;
+        int fetchSize = DEFAULT_FETCH_SIZE;
+        int batchSize = DEFAULT_BATCH_SIZE;
         if (options != null) {
+            fetchSize = options.getIntValue(Constants.ClientConfiguration.FETCH_SIZE).intValue();
+            batchSize = options.getIntValue(Constants.ClientConfiguration.BATCH_SIZE).intValue();
             properties = options.getMapValue(Constants.ClientConfiguration.PROPERTIES);
             BString dataSourceNamVal = options.getStringValue(Constants.ClientConfiguration.DATASOURCE_NAME);
             datasourceName = dataSourceNamVal == null ? null : dataSourceNamVal.getValue();
@@ -72,7 +79,7 @@ public class NativeImpl {
                 .setOptions(properties)
                 .setPoolProperties(poolProperties)
                 .setConnectionPool(connectionPool, globalPool);
-        return ClientUtils.createClient(client, sqlDatasourceParams);
+        return ClientUtils.createClient(client, sqlDatasourceParams, fetchSize, batchSize);
     }
 
     // Unable to perform a complete validation since URL differs based on the database.
@@ -19,6 +19,7 @@ package org.ballerinalang.jdbc.batchexecute;
 
 import org.ballerinalang.jdbc.utils.SQLDBUtils;
 import org.ballerinalang.model.values.BError;
+import org.ballerinalang.model.values.BInteger;
 import org.ballerinalang.model.values.BMap;
 import org.ballerinalang.model.values.BString;
 import org.ballerinalang.model.values.BValue;
@@ -28,12 +29,15 @@ import org.ballerinalang.sql.Constants;
 import org.ballerinalang.test.util.BCompileUtil;
 import org.ballerinalang.test.util.BRunUtil;
 import org.ballerinalang.test.util.CompileResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.testng.Assert;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
 
 import java.io.File;
 import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
 
 import static org.ballerinalang.sql.Constants.ErrorRecordFields.EXECUTION_RESULTS;
 
@@ -41,6 +45,8 @@ import static org.ballerinalang.sql.Constants.ErrorRecordFields.EXECUTION_RESULT
  * This test class verifies the behaviour of the batch execute.
  */
 public class BatchExecuteTest {
+    private static final Logger log = LoggerFactory.getLogger(BatchExecuteTest.class);
+    private static final int BULK_ROW_COUNT = 20000;
     private CompileResult result;
     private static final String DB_NAME = "TEST_SQL_BATCH_EXECUTE";
     private static final String JDBC_URL = "jdbc:h2:file:" + SQLDBUtils.DB_DIR + DB_NAME;
@@ -84,6 +90,66 @@ public class BatchExecuteTest {
         Assert.assertEquals(result.get(Constants.AFFECTED_ROW_COUNT_FIELD).intValue(), -3);
     }
 
+    @Test
+    public void testInsertAndUpdateMixedTable() {
+        BValue[] returns = BRunUtil.invokeFunction(result, "insertAndUpdateMixedTable", args);
+        SQLDBUtils.assertNotError(returns[0]);
+        Object[] results = ((BValueArray) returns[0]).getValues();
+        int[] affectedRow = new int[]{1, 1, 1, 2, 1, 1};
+        Assert.assertEquals(returns[0].size(), affectedRow.length);
+        for (int i = 0; i < affectedRow.length; i++) {
+            BMap<String, BValueType> result = (BMap<String, BValueType>) results[i];
+            Assert.assertEquals(result.get(Constants.AFFECTED_ROW_COUNT_FIELD).intValue(), affectedRow[i]);
+        }
+        // the inserts are run in the order of the queries, even though the statements are batched by the SQL
+        int[] insertIndexes = new int[]{0, 1, 2, 4};
+        for (int i = 0; i < insertIndexes.length; i++) {
+            BMap<String, BValueType> result = (BMap<String, BValueType>) results[insertIndexes[i]];
+            Assert.assertEquals(result.get(Constants.LAST_INSERTED_ID_FIELD).intValue(), i + 1);
+        }
+    }
+
+    @Test
+    public void testBatchInsertAndStreamBulkTable() {
+        BValue[] insertArgs = {args[0], args[1], args[2], new BInteger(BULK_ROW_COUNT), new BInteger(500)};
+        long startTime = System.nanoTime();
+        BValue[] returns = BRunUtil.invokeFunction(result, "batchInsertIntoBulkTable", insertArgs);
+        long insertTime = System.nanoTime() - startTime;
+        SQLDBUtils.assertNotError(returns[0]);
+        Assert.assertEquals(((BInteger) returns[0]).intValue(), BULK_ROW_COUNT);
+
+        BValue[] queryArgs = {args[0], args[1], args[2], new BInteger(1000)};
+        startTime = System.nanoTime();
+        returns = BRunUtil.invokeFunction(result, "queryBulkTable", queryArgs);
+        long queryTime = System.nanoTime() - startTime;
+        SQLDBUtils.assertNotError(returns[0]);
+        Assert.assertEquals(((BInteger) returns[0]).intValue(), BULK_ROW_COUNT);
+
+        log.info("Inserted {} rows/second with batch execute and read {} rows/second with query",
+                getRowsPerSecond(insertTime), getRowsPerSecond(queryTime));
+    }
+
+    @Test
+    public void testInvalidSizes() {
+        BValue[] validArgs = {args[0], args[1], args[2], new BInteger(0), new BInteger(1)};
+        BValue[] returns = BRunUtil.invokeFunction(result, "createClientWithSizes", validArgs);
+        Assert.assertNull(returns[0]);
+
+        BValue[] fetchSizeArgs = {args[0], args[1], args[2], new BInteger(-1), new BInteger(1000)};
+        returns = BRunUtil.invokeFunction(result, "createClientWithSizes", fetchSizeArgs);
+        Assert.assertTrue(returns[0] instanceof BError);
+        Assert.assertEquals(((BError) returns[0]).getMessage(), "Fetch size must not be negative, but found -1");
+
+        BValue[] batchSizeArgs = {args[0], args[1], args[2], new BInteger(0), new BInteger(0)};
+        returns = BRunUtil.invokeFunction(result, "createClientWithSizes", batchSizeArgs);
+        Assert.assertTrue(returns[0] instanceof BError);
+        Assert.assertEquals(((BError) returns[0]).getMessage(), "Batch size must be greater than 0, but found 0");
+    }
+
+    private static long getRowsPerSecond(long nanos) {
+        return BULK_ROW_COUNT * TimeUnit.SECONDS.toNanos(1) / Math.max(nanos, 1);
+    }
+
     private void validateResult(BValue[] returns, int[] rowCount, int[] lastId) {
         SQLDBUtils.assertNotError(returns[0]);
         Assert.assertTrue(returns[0] instanceof BValueArray);
@@ -13,3 +13,17 @@ INSERT INTO DataTable (int_type, long_type, float_type)
 INSERT INTO DataTable (int_type, long_type, float_type)
   VALUES(2, 9372036854774807, 124.34);
 /
+
+CREATE TABLE IF NOT EXISTS MixedTable(
+  id INT IDENTITY,
+  int_type     INTEGER,
+  PRIMARY KEY (id)
+);
+/
+
+CREATE TABLE IF NOT EXISTS BulkTable(
+  row_id       INTEGER,
+  string_type  VARCHAR(50),
+  PRIMARY KEY (row_id)
+);
+/
@@ -47,6 +47,59 @@ function insertIntoDataTableFailure(string url, string user, string password) re
     return batchExecuteQueryMockClient(url, user, password, sqlQueries);
 }
 
+function insertAndUpdateMixedTable(string url, string user, string password)
+returns sql:ExecutionResult[]|sql:Error? {
+    int[] values = [1, 2, 3, 4];
+    sql:ParameterizedQuery[] sqlQueries = [
+        `INSERT INTO MixedTable (int_type) VALUES (${values[0]})`,
+        `INSERT INTO MixedTable (int_type) VALUES (${values[1]})`,
+        `INSERT INTO MixedTable (int_type) VALUES (${values[2]})`,
+        `UPDATE MixedTable SET int_type = int_type + 10 WHERE int_type < ${values[2]}`,
+        `INSERT INTO MixedTable (int_type) VALUES (${values[3]})`,
+        `UPDATE MixedTable SET int_type = int_type + 10 WHERE int_type < ${values[3]}`
+    ];
+    jdbc:Client dbClient = check new (url = url, user = user, password = password, options = {batchSize: 2});
+    sql:ExecutionResult[]? result = check dbClient->batchExecute(sqlQueries);
+    check dbClient.close();
+    return result;
+}
+
+function batchInsertIntoBulkTable(string url, string user, string password, int rowCount, int batchSize)
+returns int|sql:Error {
+    sql:ParameterizedQuery[] sqlQueries = [];
+    foreach int rowId in 1 ... rowCount {
+        string stringType = "row" + rowId.toString();
+        sqlQueries.push(`INSERT INTO BulkTable (row_id, string_type) VALUES (${rowId}, ${stringType})`);
+    }
+    jdbc:Client dbClient = check new (url = url, user = user, password = password,
+        options = {batchSize: batchSize});
+    sql:ExecutionResult[] result = check dbClient->batchExecute(sqlQueries);
+    check dbClient.close();
+    return result.length();
+}
+
+function queryBulkTable(string url, string user, string password, int fetchSize) returns int|error {
+    jdbc:Client dbClient = check new (url = url, user = user, password = password,
+        options = {fetchSize: fetchSize});
+    stream<record{}, error> streamData = dbClient->query("SELECT row_id, string_type FROM BulkTable");
+    int count = 0;
+    error? e = streamData.forEach(function (record {} row) {
+        count += 1;
+    });
+    check dbClient.close();
+    if (e is error) {
+        return e;
+    }
+    return count;
+}
+
+function createClientWithSizes(string url, string user, string password, int fetchSize, int batchSize)
+returns sql:Error? {
+    jdbc:Client dbClient = check new (url = url, user = user, password = password,
+        options = {fetchSize: fetchSize, batchSize: batchSize});
+    check dbClient.close();
+}
+
 function batchExecuteQueryMockClient(string jdbcURL, string user, string password, sql:ParameterizedQuery[] sqlQueries)
 returns sql:ExecutionResult[]|sql:Error? {
     jdbc:Client dbClient = check new (url = jdbcURL, user = user, password = password);
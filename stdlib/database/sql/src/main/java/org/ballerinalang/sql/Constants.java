@@ -33,6 +33,11 @@ public final class Constants {
     public static final BPackage SQL_PACKAGE_ID = new BPackage("ballerina", "sql", "0.5.0");
     public static final String DATABASE_CLIENT = "Client";
     public static final String SQL_CONNECTOR_TRANSACTION_ID = "sql-transaction-id";
+    public static final String FETCH_SIZE_NATIVE_DATA_FIELD = "FetchSize";
+    public static final String BATCH_SIZE_NATIVE_DATA_FIELD = "BatchSize";
+    // a fetch size of zero leaves the number of rows fetched at a time to the driver
+    public static final int DEFAULT_FETCH_SIZE = 0;
+    public static final int DEFAULT_BATCH_SIZE = 1000;
 
     public static final String BATCH_EXECUTE_ERROR_DETAIL = "BatchExecuteErrorDetail";
     public static final String BATCH_EXECUTE_ERROR = "BatchExecuteError";
@@ -39,10 +39,33 @@ public class ClientUtils {
     }
 
     public static Object createClient(ObjectValue client, SQLDatasource.SQLDatasourceParams sqlDatasourceParams) {
+        return createClient(client, sqlDatasourceParams, Constants.DEFAULT_FETCH_SIZE, Constants.DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Create a client with the given number of rows to be fetched at a time by queries, and the maximum number of
+     * commands to be sent to the database at a time by batch executions.
+     *
+     * @param client              client object
+     * @param sqlDatasourceParams datasource parameters
+     * @param fetchSize           fetch size of query result sets, or zero to use the default fetch size of the driver
+     * @param batchSize           maximum number of commands of a batch
+     * @return error if the client could not be created, or null
+     */
+    public static Object createClient(ObjectValue client, SQLDatasource.SQLDatasourceParams sqlDatasourceParams,
+                                      int fetchSize, int batchSize) {
+        if (fetchSize < 0) {
+            return ErrorGenerator.getSQLApplicationError("Fetch size must not be negative, but found " + fetchSize);
+        }
+        if (batchSize <= 0) {
+            return ErrorGenerator.getSQLApplicationError("Batch size must be greater than 0, but found " + batchSize);
+        }
         try {
             SQLDatasource sqlDatasource = SQLDatasource.retrieveDatasource(sqlDatasourceParams);
             client.addNativeData(Constants.DATABASE_CLIENT, sqlDatasource);
             client.addNativeData(Constants.SQL_CONNECTOR_TRANSACTION_ID, UUID.randomUUID().toString());
+            client.addNativeData(Constants.FETCH_SIZE_NATIVE_DATA_FIELD, fetchSize);
+            client.addNativeData(Constants.BATCH_SIZE_NATIVE_DATA_FIELD, batchSize);
             return null;
         } catch (ErrorValue errorValue) {
             return errorValue;
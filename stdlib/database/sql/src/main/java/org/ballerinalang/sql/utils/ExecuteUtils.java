@@ -105,65 +105,74 @@ public class ExecuteUtils {
         }
     }
 
+    /**
+     * Execute a batch of parameterized queries. Consecutive queries with the same SQL text are added to the batch of
+     * one prepared statement, which is executed once the batch size of the client is reached, or once the SQL text
+     * changes. A prepared statement is created once for each distinct SQL text, and the queries are executed in the
+     * given order.
+     *
+     * @param client          client object
+     * @param paramSQLStrings array of parameterized queries
+     * @return array of the results of the queries, or an error
+     */
     public static Object nativeBatchExecute(ObjectValue client, ArrayValue paramSQLStrings) {
         Object dbClient = client.getNativeData(Constants.DATABASE_CLIENT);
         if (dbClient != null) {
             SQLDatasource sqlDatasource = (SQLDatasource) dbClient;
             Connection connection = null;
-            PreparedStatement statement = null;
+            Map<String, PreparedStatement> statements = new HashMap<>();
             ResultSet resultSet = null;
             Strand strand = Scheduler.getStrand();
             String sqlQuery = null;
-            List<AbstractObjectValue> parameters = new ArrayList<>();
             List<MapValue<BString, Object>> executionResults = new ArrayList<>();
             try {
-                Object[] paramSQLObjects = paramSQLStrings.getValues();
-                AbstractObjectValue parameterizedQuery = (AbstractObjectValue) paramSQLObjects[0];
-                sqlQuery = Utils.getSqlQuery(parameterizedQuery);
-                parameters.add(parameterizedQuery);
-                for (int i = 1; i < paramSQLStrings.size(); i++) {
-                    parameterizedQuery = (AbstractObjectValue) paramSQLObjects[i];
-                    String paramSQLQuery = Utils.getSqlQuery(parameterizedQuery);
-
-                    if (sqlQuery.equals(paramSQLQuery)) {
-                        parameters.add(parameterizedQuery);
-                    } else {
-                        return ErrorGenerator.getSQLApplicationError("Batch Execute cannot contain different SQL " +
-                                "commands. These has to be executed in different function calls");
-                    }
+                int size = paramSQLStrings.size();
+                AbstractObjectValue[] parameters = new AbstractObjectValue[size];
+                String[] sqlQueries = new String[size];
+                for (int i = 0; i < size; i++) {
+                    parameters[i] = (AbstractObjectValue) paramSQLStrings.getRefValue(i);
+                    sqlQueries[i] = Utils.getSqlQuery(parameters[i]);
                 }
+                int batchSize = getBatchSize(client);
                 connection = SQLDatasourceUtils.getConnection(strand, client, sqlDatasource);
-                statement = connection.prepareStatement(sqlQuery, Statement.RETURN_GENERATED_KEYS);
-                for (AbstractObjectValue param : parameters) {
-                    Utils.setParams(connection, statement, param);
-                    statement.addBatch();
-                }
-                int[] counts = statement.executeBatch();
+                int start = 0;
+                while (start < size) {
+                    sqlQuery = sqlQueries[start];
+                    PreparedStatement statement = statements.get(sqlQuery);
+                    if (statement == null) {
+                        statement = connection.prepareStatement(sqlQuery, Statement.RETURN_GENERATED_KEYS);
+                        statements.put(sqlQuery, statement);
+                    }
+                    int end = start;
+                    while (end < size && end - start < batchSize && sqlQuery.equals(sqlQueries[end])) {
+                        Utils.setParams(connection, statement, parameters[end]);
+                        statement.addBatch();
+                        end++;
+                    }
+                    int[] counts = statement.executeBatch();
 
-                if (!isDdlStatement(sqlQuery)) {
-                    resultSet = statement.getGeneratedKeys();
-                }
-                for (int count : counts) {
-                    Map<String, Object> resultField = new HashMap<>();
-                    resultField.put(Constants.AFFECTED_ROW_COUNT_FIELD, count);
-                    Object lastInsertedId = null;
-                    if (resultSet != null && resultSet.next()) {
-                        lastInsertedId = getGeneratedKeys(resultSet);
+                    if (!isDdlStatement(sqlQuery)) {
+                        resultSet = statement.getGeneratedKeys();
+                    }
+                    for (int count : counts) {
+                        Object lastInsertedId = null;
+                        if (resultSet != null && resultSet.next()) {
+                            lastInsertedId = getGeneratedKeys(resultSet);
+                        }
+                        executionResults.add(createExecutionResult(count, lastInsertedId));
+                    }
+                    if (resultSet != null) {
+                        resultSet.close();
+                        resultSet = null;
                     }
-                    resultField.put(Constants.LAST_INSERTED_ID_FIELD, lastInsertedId);
-                    executionResults.add(BallerinaValues.createRecordValue(Constants.SQL_PACKAGE_ID,
-                            Constants.EXECUTION_RESULT_RECORD, resultField));
+                    start = end;
                 }
                 return BValueCreator.createArrayValue(executionResults.toArray(), new BArrayType(
                         new BRecordType(Constants.EXECUTION_RESULT_RECORD, Constants.SQL_PACKAGE_ID, 0, false, 0)));
             } catch (BatchUpdateException e) {
                 int[] updateCounts = e.getUpdateCounts();
                 for (int count : updateCounts) {
-                    Map<String, Object> resultField = new HashMap<>();
-                    resultField.put(Constants.AFFECTED_ROW_COUNT_FIELD, count);
-                    resultField.put(Constants.LAST_INSERTED_ID_FIELD, null);
-                    executionResults.add(BallerinaValues.createRecordValue(Constants.SQL_PACKAGE_ID,
-                            Constants.EXECUTION_RESULT_RECORD, resultField));
+                    executionResults.add(createExecutionResult(count, null));
                 }
                 return ErrorGenerator.getSQLBatchExecuteError(e, executionResults,
                         "Error while executing batch command starting with: '" + sqlQuery + "'.");
@@ -174,7 +183,13 @@ public class ExecuteUtils {
                 return ErrorGenerator.getSQLApplicationError("Error while executing sql query: "
                         + e.getMessage());
             } finally {
-                Utils.closeResources(strand, resultSet, statement, connection);
+                for (PreparedStatement statement : statements.values()) {
+                    try {
+                        statement.close();
+                    } catch (SQLException ignored) {
+                    }
+                }
+                Utils.closeResources(strand, resultSet, null, connection);
             }
         } else {
             return ErrorGenerator.getSQLApplicationError(
@@ -182,6 +197,19 @@ public class ExecuteUtils {
         }
     }
 
+    private static int getBatchSize(ObjectValue client) {
+        Object batchSize = client.getNativeData(Constants.BATCH_SIZE_NATIVE_DATA_FIELD);
+        return batchSize == null ? Constants.DEFAULT_BATCH_SIZE : (Integer) batchSize;
+    }
+
+    private static MapValue<BString, Object> createExecutionResult(int count, Object lastInsertedId) {
+        Map<String, Object> resultField = new HashMap<>();
+        resultField.put(Constants.AFFECTED_ROW_COUNT_FIELD, count);
+        resultField.put(Constants.LAST_INSERTED_ID_FIELD, lastInsertedId);
+        return BallerinaValues.createRecordValue(Constants.SQL_PACKAGE_ID, Constants.EXECUTION_RESULT_RECORD,
+                resultField);
+    }
+
     private static Object getGeneratedKeys(ResultSet rs) throws SQLException {
         ResultSetMetaData metaData = rs.getMetaData();
         int columnCount = metaData.getColumnCount();
@@ -80,7 +80,13 @@ public class QueryUtils {
                     sqlQuery = Utils.getSqlQuery((AbstractObjectValue) paramSQLString);
                 }
                 connection = SQLDatasourceUtils.getConnection(strand, client, sqlDatasource);
-                statement = connection.prepareStatement(sqlQuery);
+                // the result set is only read forward by the record iterator, so that drivers are able to stream it
+                statement = connection.prepareStatement(sqlQuery, ResultSet.TYPE_FORWARD_ONLY,
+                        ResultSet.CONCUR_READ_ONLY);
+                int fetchSize = getFetchSize(client);
+                if (fetchSize != Constants.DEFAULT_FETCH_SIZE) {
+                    statement.setFetchSize(fetchSize);
+                }
                 if (paramSQLString instanceof AbstractObjectValue) {
                     Utils.setParams(connection, statement, (AbstractObjectValue) paramSQLString);
                 }
@@ -135,6 +141,11 @@ public class QueryUtils {
         }
     }
 
+    private static int getFetchSize(ObjectValue client) {
+        Object fetchSize = client.getNativeData(Constants.FETCH_SIZE_NATIVE_DATA_FIELD);
+        return fetchSize == null ? Constants.DEFAULT_FETCH_SIZE : (Integer) fetchSize;
+    }
+
     private static StreamValue getErrorStream(Object recordType, ErrorValue errorValue) {
         if (recordType == null) {
             return new StreamValue(new BStreamType(getDefaultStreamConstraint()), createRecordIterator(errorValue));
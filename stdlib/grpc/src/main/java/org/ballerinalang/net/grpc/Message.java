@@ -35,8 +35,8 @@ import org.ballerinalang.jvm.values.api.BValueCreator;
 import org.ballerinalang.jvm.values.utils.StringUtils;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 
 /**
  * Generic Proto3 Message.
@@ -53,7 +53,9 @@ public class Message {
     private int memoizedSize = -1;
     private HttpHeaders headers;
     private Object bMessage = null;
-    private Descriptors.Descriptor descriptor = null;
+    private MessageCodec codec = null;
+    // nested messages created while computing the serialized size, which are written in the same order
+    private List<Message> nestedMessages = null;
 
     private static final BArrayType stringArrayType = new BArrayType(BTypes.typeString);
     private static final BArrayType booleanArrayType = new BArrayType(BTypes.typeBoolean);
@@ -66,13 +68,17 @@ public class Message {
     public Message(String messageName, Object bMessage) {
         this.messageName = messageName;
         this.bMessage = bMessage;
-        this.descriptor = MessageRegistry.getInstance().getMessageDescriptor(messageName);
+        this.codec = MessageRegistry.getInstance().getMessageCodec(messageName);
     }
 
     public Message(Descriptors.Descriptor descriptor, Object bMessage) {
-        this.descriptor = descriptor;
+        this(MessageCodec.getInstance(descriptor), bMessage);
+    }
+
+    Message(MessageCodec codec, Object bMessage) {
+        this.codec = codec;
         this.bMessage = bMessage;
-        this.messageName = descriptor.getName();
+        this.messageName = codec.getMessageName();
     }
 
     private Message(String messageName) {
@@ -104,13 +110,10 @@ public class Message {
         this.isError = true;
     }
 
-    public Message(
-            String messageName,
-            BType bType,
-            com.google.protobuf.CodedInputStream input,
-            Map<Integer, Descriptors.FieldDescriptor> fieldDescriptors)
-            throws IOException {
-        this(messageName);
+    Message(MessageParser parser, com.google.protobuf.CodedInputStream input) throws IOException {
+        this(parser.getMessageName());
+        this.codec = parser.getCodec();
+        BType bType = parser.getBType();
 
         if (bType instanceof BUnionType && ((BUnionType) bType).isNullable()) {
             List<BType> memberTypes = ((BUnionType) bType).getMemberTypes();
@@ -135,22 +138,19 @@ public class Message {
 
         if (input == null) {
             if (bMapValue != null) {
-                for (Map.Entry<Integer, Descriptors.FieldDescriptor> entry : fieldDescriptors.entrySet()) {
-                    BString bFieldName = org.ballerinalang.jvm.StringUtils.fromString(entry.getValue().getName());
-                    if (entry.getValue().getType().toProto().getNumber() ==
-                            DescriptorProtos.FieldDescriptorProto.Type.TYPE_MESSAGE_VALUE &&
-                            !entry.getValue().isRepeated()) {
-                        bMapValue.put(bFieldName, null);
-                    } else if (entry.getValue().getType().toProto().getNumber() ==
-                            DescriptorProtos.FieldDescriptorProto.Type.TYPE_ENUM_VALUE) {
-                        bMapValue.put(bFieldName, org.ballerinalang.jvm.StringUtils
-                                .fromString(entry.getValue().getEnumType().findValueByNumber(0).toString()));
+                for (MessageCodec.Field field : codec.getFields()) {
+                    if (field.getType() == DescriptorProtos.FieldDescriptorProto.Type.TYPE_MESSAGE_VALUE &&
+                            !field.isRepeated()) {
+                        bMapValue.put(field.getName(), null);
+                    } else if (field.getType() == DescriptorProtos.FieldDescriptorProto.Type.TYPE_ENUM_VALUE) {
+                        bMapValue.put(field.getName(), org.ballerinalang.jvm.StringUtils.fromString(
+                                field.getFieldDescriptor().getEnumType().findValueByNumber(0).toString()));
                     }
                 }
             } else {
-                // Here fieldDescriptors map size should be one. Because the value can assign to one scalar field.
-                for (Map.Entry<Integer, Descriptors.FieldDescriptor> entry : fieldDescriptors.entrySet()) {
-                    switch (entry.getValue().getType().toProto().getNumber()) {
+                // Here the message should have one field. Because the value can assign to one scalar field.
+                for (MessageCodec.Field field : codec.getFields()) {
+                    switch (field.getType()) {
                         case DescriptorProtos.FieldDescriptorProto.Type.TYPE_DOUBLE_VALUE:
                         case DescriptorProtos.FieldDescriptorProto.Type.TYPE_FLOAT_VALUE: {
                             bMessage = (double) 0;
@@ -175,7 +175,7 @@ public class Message {
                         default: {
                             throw Status.Code.INTERNAL.toStatus().withDescription("Error while decoding request " +
                                     "message. Field type is not supported : " +
-                                    entry.getValue().getType()).asRuntimeException();
+                                    field.getFieldDescriptor().getType()).asRuntimeException();
                         }
                     }
                 }
@@ -185,15 +185,16 @@ public class Message {
         boolean done = false;
         while (!done) {
             int tag = input.readTag();
+            MessageCodec.Field field = codec.getField(tag);
             if (tag == 0) {
                 done = true;
-            } else if (fieldDescriptors.containsKey(tag)) {
-                Descriptors.FieldDescriptor fieldDescriptor = fieldDescriptors.get(tag);
-                BString bFieldName = org.ballerinalang.jvm.StringUtils.fromString(fieldDescriptor.getName());
-                switch (fieldDescriptor.getType().toProto().getNumber()) {
+            } else if (field != null) {
+                Descriptors.FieldDescriptor fieldDescriptor = field.getFieldDescriptor();
+                BString bFieldName = field.getName();
+                switch (field.getType()) {
                     case DescriptorProtos.FieldDescriptorProto.Type.TYPE_DOUBLE_VALUE: {
                         if (bMapValue != null) {
-                            if (fieldDescriptor.isRepeated()) {
+                            if (field.isRepeated()) {
                                 ArrayValue floatArray = (ArrayValue) BValueCreator.createArrayValue(floatArrayType);
                                 if (bMapValue.containsKey(bFieldName)) {
                                     floatArray = (ArrayValue) bMapValue.get(bFieldName);
@@ -201,8 +202,8 @@ public class Message {
                                     bMapValue.put(bFieldName, floatArray);
                                 }
                                 floatArray.add(floatArray.size(), input.readDouble());
-                            } else if (fieldDescriptor.getContainingOneof() != null) {
-                                updateBMapValue(bMapValue, fieldDescriptor, input.readDouble());
+                            } else if (field.isOneof()) {
+                                updateBMapValue(bMapValue, field, input.readDouble());
                             } else {
                                 bMapValue.put(bFieldName, input.readDouble());
                             }
@@ -213,7 +214,7 @@ public class Message {
                     }
                     case DescriptorProtos.FieldDescriptorProto.Type.TYPE_FLOAT_VALUE: {
                         if (bMapValue != null) {
-                            if (fieldDescriptor.isRepeated()) {
+                            if (field.isRepeated()) {
                                 ArrayValue floatArray = (ArrayValue) BValueCreator.createArrayValue(floatArrayType);
                                 if (bMapValue.containsKey(bFieldName)) {
                                     floatArray = (ArrayValue) bMapValue.get(bFieldName);
@@ -222,9 +223,9 @@ public class Message {
                                 }
                                 floatArray.add(floatArray.size(),
                                         Double.parseDouble(String.valueOf(input.readFloat())));
-                            } else if (fieldDescriptor.getContainingOneof() != null) {
+                            } else if (field.isOneof()) {
                                 double bValue = Double.parseDouble(String.valueOf(input.readFloat()));
-                                updateBMapValue(bMapValue, fieldDescriptor, bValue);
+                                updateBMapValue(bMapValue, field, bValue);
                             } else {
                                 bMapValue.put(bFieldName, Double.parseDouble(String.valueOf(input.readFloat())));
                             }
@@ -235,7 +236,7 @@ public class Message {
                     }
                     case DescriptorProtos.FieldDescriptorProto.Type.TYPE_INT64_VALUE: {
                         if (bMapValue != null) {
-                            if (fieldDescriptor.isRepeated()) {
+                            if (field.isRepeated()) {
                                 ArrayValue intArray = (ArrayValue) BValueCreator.createArrayValue(intArrayType);
                                 if (bMapValue.containsKey(bFieldName)) {
                                     intArray = (ArrayValue) bMapValue.get(bFieldName);
@@ -243,8 +244,8 @@ public class Message {
                                     bMapValue.put(bFieldName, intArray);
                                 }
                                 intArray.add(intArray.size(), input.readInt64());
-                            } else if (fieldDescriptor.getContainingOneof() != null) {
-                                updateBMapValue(bMapValue, fieldDescriptor, input.readInt64());
+                            } else if (field.isOneof()) {
+                                updateBMapValue(bMapValue, field, input.readInt64());
                             } else {
                                 bMapValue.put(bFieldName, input.readInt64());
                             }
@@ -255,7 +256,7 @@ public class Message {
                     }
                     case DescriptorProtos.FieldDescriptorProto.Type.TYPE_UINT64_VALUE: {
                         if (bMapValue != null) {
-                            if (fieldDescriptor.isRepeated()) {
+                            if (field.isRepeated()) {
                                 ArrayValue intArray = (ArrayValue) BValueCreator.createArrayValue(intArrayType);
                                 if (bMapValue.containsKey(bFieldName)) {
                                     intArray = (ArrayValue) bMapValue.get(bFieldName);
@@ -263,8 +264,8 @@ public class Message {
                                     bMapValue.put(bFieldName, intArray);
                                 }
                                 intArray.add(intArray.size(), input.readUInt64());
-                            } else if (fieldDescriptor.getContainingOneof() != null) {
-                                updateBMapValue(bMapValue, fieldDescriptor, input.readUInt64());
+                            } else if (field.isOneof()) {
+                                updateBMapValue(bMapValue, field, input.readUInt64());
                             } else {
                                 bMapValue.put(bFieldName, input.readUInt64());
                             }
@@ -275,7 +276,7 @@ public class Message {
                     }
                     case DescriptorProtos.FieldDescriptorProto.Type.TYPE_INT32_VALUE: {
                         if (bMapValue != null) {
-                            if (fieldDescriptor.isRepeated()) {
+                            if (field.isRepeated()) {
                                 ArrayValue intArray = (ArrayValue) BValueCreator.createArrayValue(intArrayType);
                                 if (bMapValue.containsKey(bFieldName)) {
                                     intArray = (ArrayValue) bMapValue.get(bFieldName);
@@ -283,8 +284,8 @@ public class Message {
                                     bMapValue.put(bFieldName, intArray);
                                 }
                                 intArray.add(intArray.size(), input.readInt32());
-                            } else if (fieldDescriptor.getContainingOneof() != null) {
-                                updateBMapValue(bMapValue, fieldDescriptor, input.readInt32());
+                            } else if (field.isOneof()) {
+                                updateBMapValue(bMapValue, field, input.readInt32());
                             } else {
                                 bMapValue.put(bFieldName, input.readInt32());
                             }
@@ -295,7 +296,7 @@ public class Message {
                     }
                     case DescriptorProtos.FieldDescriptorProto.Type.TYPE_FIXED64_VALUE: {
                         if (bMapValue != null) {
-                            if (fieldDescriptor.isRepeated()) {
+                            if (field.isRepeated()) {
                                 ArrayValue intArray = (ArrayValue) BValueCreator.createArrayValue(intArrayType);
                                 if (bMapValue.containsKey(bFieldName)) {
                                     intArray = (ArrayValue) bMapValue.get(bFieldName);
@@ -303,8 +304,8 @@ public class Message {
                                     bMapValue.put(bFieldName, intArray);
                                 }
                                 intArray.add(intArray.size(), input.readFixed64());
-                            } else if (fieldDescriptor.getContainingOneof() != null) {
-                                updateBMapValue(bMapValue, fieldDescriptor, input.readFixed64());
+                            } else if (field.isOneof()) {
+                                updateBMapValue(bMapValue, field, input.readFixed64());
                             } else {
                                 bMapValue.put(bFieldName, input.readFixed64());
                             }
@@ -315,7 +316,7 @@ public class Message {
                     }
                     case DescriptorProtos.FieldDescriptorProto.Type.TYPE_FIXED32_VALUE: {
                         if (bMapValue != null) {
-                            if (fieldDescriptor.isRepeated()) {
+                            if (field.isRepeated()) {
                                 ArrayValue intArray = (ArrayValue) BValueCreator.createArrayValue(intArrayType);
                                 if (bMapValue.containsKey(bFieldName)) {
                                     intArray = (ArrayValue) bMapValue.get(bFieldName);
@@ -323,8 +324,8 @@ public class Message {
                                     bMapValue.put(bFieldName, intArray);
                                 }
                                 intArray.add(intArray.size(), input.readFixed32());
-                            } else if (fieldDescriptor.getContainingOneof() != null) {
-                                updateBMapValue(bMapValue, fieldDescriptor, input.readFixed32());
+                            } else if (field.isOneof()) {
+                                updateBMapValue(bMapValue, field, input.readFixed32());
                             } else {
                                 bMapValue.put(bFieldName, input.readFixed32());
                             }
@@ -335,7 +336,7 @@ public class Message {
                     }
                     case DescriptorProtos.FieldDescriptorProto.Type.TYPE_BOOL_VALUE: {
                         if (bMapValue != null) {
-                            if (fieldDescriptor.isRepeated()) {
+                            if (field.isRepeated()) {
                                 ArrayValue booleanArray = (ArrayValue) BValueCreator.createArrayValue(booleanArrayType);
                                 if (bMapValue.containsKey(bFieldName)) {
                                     booleanArray = (ArrayValue) bMapValue.get(bFieldName);
@@ -343,8 +344,8 @@ public class Message {
                                     bMapValue.put(bFieldName, booleanArray);
                                 }
                                 booleanArray.add(booleanArray.size(), input.readBool());
-                            } else if (fieldDescriptor.getContainingOneof() != null) {
-                                updateBMapValue(bMapValue, fieldDescriptor, input.readBool());
+                            } else if (field.isOneof()) {
+                                updateBMapValue(bMapValue, field, input.readBool());
                             } else {
                                 bMapValue.put(bFieldName, input.readBool());
                             }
@@ -355,7 +356,7 @@ public class Message {
                     }
                     case DescriptorProtos.FieldDescriptorProto.Type.TYPE_STRING_VALUE: {
                         if (bMapValue != null) {
-                            if (fieldDescriptor.isRepeated()) {
+                            if (field.isRepeated()) {
                                 ArrayValue stringArray = (ArrayValue) BValueCreator.createArrayValue(stringArrayType);
                                 if (bMapValue.containsKey(bFieldName)) {
                                     stringArray = (ArrayValue) bMapValue.get(bFieldName);
@@ -365,8 +366,8 @@ public class Message {
                                 stringArray.add(stringArray.size(),
                                         org.ballerinalang.jvm.StringUtils.fromString(input.readStringRequireUtf8()));
                                 bMapValue.put(bFieldName, stringArray);
-                            } else if (fieldDescriptor.getContainingOneof() != null) {
-                                updateBMapValue(bMapValue, fieldDescriptor,
+                            } else if (field.isOneof()) {
+                                updateBMapValue(bMapValue, field,
                                         org.ballerinalang.jvm.StringUtils.fromString(input.readStringRequireUtf8()));
                             } else {
                                 bMapValue.put(bFieldName,
@@ -379,7 +380,7 @@ public class Message {
                     }
                     case DescriptorProtos.FieldDescriptorProto.Type.TYPE_ENUM_VALUE: {
                         if (bMapValue != null) {
-                            if (fieldDescriptor.isRepeated()) {
+                            if (field.isRepeated()) {
                                 ArrayValue stringArray = (ArrayValue) BValueCreator.createArrayValue(stringArrayType);
                                 if (bMapValue.containsKey(bFieldName)) {
                                     stringArray = (ArrayValue) bMapValue.get(bFieldName);
@@ -389,10 +390,10 @@ public class Message {
                                 stringArray.add(stringArray.size(), org.ballerinalang.jvm.StringUtils.fromString(
                                         fieldDescriptor.getEnumType().findValueByNumber(input.readEnum()).toString()));
                                 bMapValue.put(bFieldName, stringArray);
-                            } else if (fieldDescriptor.getContainingOneof() != null) {
+                            } else if (field.isOneof()) {
                                 String bValue = fieldDescriptor.getEnumType().findValueByNumber(input
                                         .readEnum()).toString();
-                                updateBMapValue(bMapValue, fieldDescriptor,
+                                updateBMapValue(bMapValue, field,
                                         org.ballerinalang.jvm.StringUtils.fromString(bValue));
                             } else {
                                 bMapValue.put(bFieldName, org.ballerinalang.jvm.StringUtils.fromString(
@@ -406,9 +407,9 @@ public class Message {
                     }
                     case DescriptorProtos.FieldDescriptorProto.Type.TYPE_BYTES_VALUE: {
                         if (bMapValue != null) {
-                             if (fieldDescriptor.getContainingOneof() != null) {
+                             if (field.isOneof()) {
                                 Object bValue = BValueCreator.createArrayValue(input.readByteArray());
-                                updateBMapValue(bMapValue, fieldDescriptor, bValue);
+                                updateBMapValue(bMapValue, field, bValue);
                              } else {
                                  bMapValue.put(bFieldName, BValueCreator.createArrayValue(input.readByteArray()));
                              }
@@ -426,28 +427,25 @@ public class Message {
                                     "message. record type is not supported : " +
                                     fieldDescriptor.getType()).asRuntimeException();
                         }
+                        MessageParser fieldParser = parser.getFieldParser(field, recordType);
                         if (bMapValue != null) {
-                            if (fieldDescriptor.isRepeated()) {
+                            if (field.isRepeated()) {
                                 ArrayValue structArray = bMapValue.get(bFieldName) != null ?
                                         (ArrayValue) bMapValue.get(bFieldName) : null;
-                                BType fieldType = recordType.getFields().get(bFieldName.getValue()).getFieldType();
                                 if (structArray == null || structArray.size() == 0) {
+                                    BType fieldType = parser.getFieldType(field, recordType);
                                     structArray = (ArrayValue) BValueCreator.createArrayValue((BArrayType) fieldType);
                                     bMapValue.put(bFieldName, structArray);
                                 }
-                                structArray.add(structArray.size(), readMessage(fieldDescriptor,
-                                        ((BArrayType) fieldType).getElementType(), input).bMessage);
-                            } else if (fieldDescriptor.getContainingOneof() != null) {
-                                BType fieldType = recordType.getFields().get(bFieldName.getValue()).getFieldType();
-                                Object bValue = readMessage(fieldDescriptor, fieldType, input).bMessage;
-                                updateBMapValue(bMapValue, fieldDescriptor, bValue);
+                                structArray.add(structArray.size(), readMessage(fieldParser, input).bMessage);
+                            } else if (field.isOneof()) {
+                                Object bValue = readMessage(fieldParser, input).bMessage;
+                                updateBMapValue(bMapValue, field, bValue);
                             } else {
-                                BType fieldType = recordType.getFields().get(bFieldName.getValue()).getFieldType();
-                                bMapValue.put(bFieldName, readMessage(fieldDescriptor, fieldType, input).bMessage);
+                                bMapValue.put(bFieldName, readMessage(fieldParser, input).bMessage);
                             }
                         } else {
-                            BType fieldType = recordType.getFields().get(bFieldName.getValue()).getFieldType();
-                            bMessage = readMessage(fieldDescriptor, fieldType, input).bMessage;
+                            bMessage = readMessage(fieldParser, input).bMessage;
                         }
                         break;
                     }
@@ -460,16 +458,20 @@ public class Message {
         }
     }
 
-    private void updateBMapValue(BMap<BString, Object> bMapValue,
-                                 Descriptors.FieldDescriptor fieldDescriptor, Object bValue) {
-        bMapValue.put(org.ballerinalang.jvm.StringUtils.fromString(fieldDescriptor.getName()), bValue);
+    private void updateBMapValue(BMap<BString, Object> bMapValue, MessageCodec.Field field, Object bValue) {
+        bMapValue.put(field.getName(), bValue);
     }
 
     public com.google.protobuf.Descriptors.Descriptor getDescriptor() {
-        if (descriptor != null) {
-            return descriptor;
+        MessageCodec messageCodec = getCodec();
+        return messageCodec != null ? messageCodec.getDescriptor() : null;
+    }
+
+    private MessageCodec getCodec() {
+        if (codec == null && messageName != null) {
+            codec = MessageRegistry.getInstance().getMessageCodec(messageName);
         }
-        return MessageRegistry.getInstance().getMessageDescriptor(messageName);
+        return codec;
     }
 
     @SuppressWarnings("unchecked")
@@ -478,8 +480,8 @@ public class Message {
         if (bMessage == null) {
             return;
         }
-        Descriptors.Descriptor messageDescriptor = getDescriptor();
-        if (messageDescriptor == null) {
+        MessageCodec messageCodec = getCodec();
+        if (messageCodec == null) {
             throw Status.Code.INTERNAL.toStatus()
                     .withDescription("Error while processing the message, Couldn't find message descriptor for " +
                             "message name: " + messageName)
@@ -490,22 +492,24 @@ public class Message {
         if (bMessage instanceof MapValue) {
             bMapValue = (MapValue<BString, Object>) bMessage;
         }
-        for (Descriptors.FieldDescriptor fieldDescriptor : messageDescriptor.getFields()) {
-            BString bFieldName = org.ballerinalang.jvm.StringUtils.fromString(fieldDescriptor.getName());
-            switch (fieldDescriptor.getType().toProto().getNumber()) {
+        int nestedMessageIndex = 0;
+        for (MessageCodec.Field field : messageCodec.getFields()) {
+            Descriptors.FieldDescriptor fieldDescriptor = field.getFieldDescriptor();
+            BString bFieldName = field.getName();
+            switch (field.getType()) {
                 case DescriptorProtos.FieldDescriptorProto.Type.TYPE_DOUBLE_VALUE: {
                     if (bMapValue != null && bMapValue.containsKey(bFieldName)) {
                         Object bValue = bMapValue.get(bFieldName);
                         if (bValue instanceof ArrayValue) {
                             ArrayValue valueArray = (ArrayValue) bValue;
                             for (int i = 0; i < valueArray.size(); i++) {
-                                output.writeDouble(fieldDescriptor.getNumber(), valueArray.getFloat(i));
+                                output.writeDouble(field.getNumber(), valueArray.getFloat(i));
                             }
                         } else {
-                            output.writeDouble(fieldDescriptor.getNumber(), (Double) bValue);
+                            output.writeDouble(field.getNumber(), (Double) bValue);
                         }
                     } else if (bMessage instanceof Double) {
-                        output.writeDouble(fieldDescriptor.getNumber(), (Double) bMessage);
+                        output.writeDouble(field.getNumber(), (Double) bMessage);
                     }
                     break;
                 }
@@ -515,14 +519,14 @@ public class Message {
                         if (bValue instanceof ArrayValue) {
                             ArrayValue valueArray = (ArrayValue) bValue;
                             for (int i = 0; i < valueArray.size(); i++) {
-                                output.writeFloat(fieldDescriptor.getNumber(), Float.parseFloat(String.valueOf
+                                output.writeFloat(field.getNumber(), Float.parseFloat(String.valueOf
                                         (valueArray.getFloat(i))));
                             }
                         } else {
-                            output.writeFloat(fieldDescriptor.getNumber(), Float.parseFloat(String.valueOf(bValue)));
+                            output.writeFloat(field.getNumber(), Float.parseFloat(String.valueOf(bValue)));
                         }
                     } else if (bMessage instanceof Double) {
-                        output.writeFloat(fieldDescriptor.getNumber(), Float.parseFloat(String.valueOf
+                        output.writeFloat(field.getNumber(), Float.parseFloat(String.valueOf
                                 (bMessage)));
                     }
                     break;
@@ -533,13 +537,13 @@ public class Message {
                         if (bValue instanceof ArrayValue) {
                             ArrayValue valueArray = (ArrayValue) bValue;
                             for (int i = 0; i < valueArray.size(); i++) {
-                                output.writeInt64(fieldDescriptor.getNumber(), valueArray.getInt(i));
+                                output.writeInt64(field.getNumber(), valueArray.getInt(i));
                             }
                         } else {
-                            output.writeInt64(fieldDescriptor.getNumber(), (long) bValue);
+                            output.writeInt64(field.getNumber(), (long) bValue);
                         }
                     } else if (bMessage instanceof Long) {
-                        output.writeInt64(fieldDescriptor.getNumber(), (long) bMessage);
+                        output.writeInt64(field.getNumber(), (long) bMessage);
                     }
                     break;
                 }
@@ -549,13 +553,13 @@ public class Message {
                         if (bValue instanceof ArrayValue) {
                             ArrayValue valueArray = (ArrayValue) bValue;
                             for (int i = 0; i < valueArray.size(); i++) {
-                                output.writeUInt64(fieldDescriptor.getNumber(), valueArray.getInt(i));
+                                output.writeUInt64(field.getNumber(), valueArray.getInt(i));
                             }
                         } else {
-                            output.writeUInt64(fieldDescriptor.getNumber(), (long) bValue);
+                            output.writeUInt64(field.getNumber(), (long) bValue);
                         }
                     } else if (bMessage instanceof Long) {
-                        output.writeUInt64(fieldDescriptor.getNumber(), (long) bMessage);
+                        output.writeUInt64(field.getNumber(), (long) bMessage);
                     }
                     break;
                 }
@@ -565,14 +569,14 @@ public class Message {
                         if (bValue instanceof ArrayValue) {
                             ArrayValue valueArray = (ArrayValue) bValue;
                             for (int i = 0; i < valueArray.size(); i++) {
-                                output.writeInt32(fieldDescriptor.getNumber(),
+                                output.writeInt32(field.getNumber(),
                                                   getIntValue(valueArray.getInt(i)));
                             }
                         } else {
-                            output.writeInt32(fieldDescriptor.getNumber(), getIntValue(bValue));
+                            output.writeInt32(field.getNumber(), getIntValue(bValue));
                         }
                     } else if (bMessage instanceof Long) {
-                        output.writeInt32(fieldDescriptor.getNumber(), getIntValue(bMessage));
+                        output.writeInt32(field.getNumber(), getIntValue(bMessage));
                     }
                     break;
                 }
@@ -582,13 +586,13 @@ public class Message {
                         if (bValue instanceof ArrayValue) {
                             ArrayValue valueArray = (ArrayValue) bValue;
                             for (int i = 0; i < valueArray.size(); i++) {
-                                output.writeFixed64(fieldDescriptor.getNumber(), valueArray.getInt(i));
+                                output.writeFixed64(field.getNumber(), valueArray.getInt(i));
                             }
                         } else {
-                            output.writeFixed64(fieldDescriptor.getNumber(), (long) bValue);
+                            output.writeFixed64(field.getNumber(), (long) bValue);
                         }
                     } else if (bMessage instanceof Long) {
-                        output.writeFixed64(fieldDescriptor.getNumber(), (long) bMessage);
+                        output.writeFixed64(field.getNumber(), (long) bMessage);
                     }
                     break;
                 }
@@ -598,14 +602,14 @@ public class Message {
                         if (bValue instanceof ArrayValue) {
                             ArrayValue valueArray = (ArrayValue) bValue;
                             for (int i = 0; i < valueArray.size(); i++) {
-                                output.writeFixed32(fieldDescriptor.getNumber(),
+                                output.writeFixed32(field.getNumber(),
                                                     getIntValue(valueArray.getInt(i)));
                             }
                         } else {
-                            output.writeFixed32(fieldDescriptor.getNumber(), getIntValue(bValue));
+                            output.writeFixed32(field.getNumber(), getIntValue(bValue));
                         }
                     } else if (bMessage instanceof Long) {
-                        output.writeFixed32(fieldDescriptor.getNumber(), getIntValue(bMessage));
+                        output.writeFixed32(field.getNumber(), getIntValue(bMessage));
                     }
                     break;
                 }
@@ -615,13 +619,13 @@ public class Message {
                         if (bValue instanceof ArrayValue) {
                             ArrayValue valueArray = (ArrayValue) bValue;
                             for (int i = 0; i < valueArray.size(); i++) {
-                                output.writeBool(fieldDescriptor.getNumber(), valueArray.getBoolean(i));
+                                output.writeBool(field.getNumber(), valueArray.getBoolean(i));
                             }
                         } else {
-                            output.writeBool(fieldDescriptor.getNumber(), ((boolean) bValue));
+                            output.writeBool(field.getNumber(), ((boolean) bValue));
                         }
                     } else if (bMessage instanceof Boolean) {
-                        output.writeBool(fieldDescriptor.getNumber(), (boolean) bMessage);
+                        output.writeBool(field.getNumber(), (boolean) bMessage);
                     }
                     break;
                 }
@@ -631,14 +635,14 @@ public class Message {
                         if (bValue instanceof ArrayValue) {
                             ArrayValue valueArray = (ArrayValue) bValue;
                             for (int i = 0; i < valueArray.size(); i++) {
-                                output.writeString(fieldDescriptor.getNumber(), valueArray.getBString(i).getValue());
+                                output.writeString(field.getNumber(), valueArray.getBString(i).getValue());
                             }
                         } else {
-                            output.writeString(fieldDescriptor.getNumber(), ((BString) bValue).getValue());
+                            output.writeString(field.getNumber(), ((BString) bValue).getValue());
                         }
                     } else if (bMessage instanceof BString
                             && !fieldDescriptor.getFullName().equals(GOOGLE_PROTOBUF_ANY_TYPE_URL)) {
-                        output.writeString(fieldDescriptor.getNumber(), ((BString) bMessage).getValue());
+                        output.writeString(field.getNumber(), ((BString) bMessage).getValue());
                     }
                     break;
                 }
@@ -649,15 +653,15 @@ public class Message {
                                 && !fieldDescriptor.getMessageType().getFullName().equals(GOOGLE_PROTOBUF_ANY_VALUE)) {
                             ArrayValue valueArray = (ArrayValue) bValue;
                             for (int i = 0; i < valueArray.size(); i++) {
-                                Message message = new Message(fieldDescriptor.getMessageType(),
-                                                              valueArray.getRefValue(i));
-                                output.writeTag(fieldDescriptor.getNumber(), WireFormat.WIRETYPE_LENGTH_DELIMITED);
+                                Message message = getNestedMessage(nestedMessageIndex++, field,
+                                                                   valueArray.getRefValue(i));
+                                output.writeTag(field.getNumber(), WireFormat.WIRETYPE_LENGTH_DELIMITED);
                                 output.writeUInt32NoTag(message.getSerializedSize());
                                 message.writeTo(output);
                             }
                         } else {
-                            Message message = new Message(fieldDescriptor.getMessageType(), bValue);
-                            output.writeTag(fieldDescriptor.getNumber(), WireFormat.WIRETYPE_LENGTH_DELIMITED);
+                            Message message = getNestedMessage(nestedMessageIndex++, field, bValue);
+                            output.writeTag(field.getNumber(), WireFormat.WIRETYPE_LENGTH_DELIMITED);
                             output.writeUInt32NoTag(message.getSerializedSize());
                             message.writeTo(output);
                         }
@@ -667,7 +671,7 @@ public class Message {
                 case DescriptorProtos.FieldDescriptorProto.Type.TYPE_ENUM_VALUE: {
                     if (bMapValue != null && bMapValue.containsKey(bFieldName)) {
                         Object bValue = bMapValue.get(bFieldName);
-                        output.writeEnum(fieldDescriptor.getNumber(), fieldDescriptor.getEnumType()
+                        output.writeEnum(field.getNumber(), fieldDescriptor.getEnumType()
                                 .findValueByName(((BString) bValue).getValue()).getNumber());
                     }
                     break;
@@ -677,11 +681,11 @@ public class Message {
                         Object bValue = bMapValue.get(bFieldName);
                         if (bValue instanceof ArrayValue) {
                             ArrayValue valueArray = (ArrayValue) bValue;
-                            output.writeByteArray(fieldDescriptor.getNumber(), valueArray.getBytes());
+                            output.writeByteArray(field.getNumber(), valueArray.getBytes());
                         }
                     } else if (bMessage instanceof ArrayValue) {
                         ArrayValue valueArray = (ArrayValue) bMessage;
-                        output.writeByteArray(fieldDescriptor.getNumber(), valueArray.getBytes());
+                        output.writeByteArray(field.getNumber(), valueArray.getBytes());
                     }
                     break;
                 }
@@ -704,8 +708,8 @@ public class Message {
             memoizedSize = size;
             return size;
         }
-        Descriptors.Descriptor messageDescriptor = getDescriptor();
-        if (messageDescriptor == null) {
+        MessageCodec messageCodec = getCodec();
+        if (messageCodec == null) {
             throw Status.Code.INTERNAL.toStatus()
                     .withDescription("Error while processing the message, Couldn't find message descriptor for " +
                             "message name: " + messageName)
@@ -716,9 +720,10 @@ public class Message {
             bMapValue = (MapValue<BString, Object>) bMessage;
         }
 
-        for (Descriptors.FieldDescriptor fieldDescriptor : messageDescriptor.getFields()) {
-            BString bFieldName = org.ballerinalang.jvm.StringUtils.fromString(fieldDescriptor.getName());
-            switch (fieldDescriptor.getType().toProto().getNumber()) {
+        for (MessageCodec.Field field : messageCodec.getFields()) {
+            Descriptors.FieldDescriptor fieldDescriptor = field.getFieldDescriptor();
+            BString bFieldName = field.getName();
+            switch (field.getType()) {
                 case DescriptorProtos.FieldDescriptorProto.Type.TYPE_DOUBLE_VALUE: {
                     if (bMapValue != null && bMapValue.containsKey(bFieldName)) {
                         Object bValue = bMapValue.get(bFieldName);
@@ -726,14 +731,14 @@ public class Message {
                             ArrayValue valueArray = (ArrayValue) bValue;
                             for (int i = 0; i < valueArray.size(); i++) {
                                 size += com.google.protobuf.CodedOutputStream.computeDoubleSize(
-                                        fieldDescriptor.getNumber(), valueArray.getFloat(i));
+                                        field.getNumber(), valueArray.getFloat(i));
                             }
                         } else {
-                            size += com.google.protobuf.CodedOutputStream.computeDoubleSize(fieldDescriptor.getNumber(),
+                            size += com.google.protobuf.CodedOutputStream.computeDoubleSize(field.getNumber(),
                                                                                             (double) bValue);
                         }
                     } else if (bMessage instanceof Double) {
-                        size += com.google.protobuf.CodedOutputStream.computeDoubleSize(fieldDescriptor.getNumber(),
+                        size += com.google.protobuf.CodedOutputStream.computeDoubleSize(field.getNumber(),
                                 ((double) bMessage));
                     }
                     break;
@@ -745,15 +750,15 @@ public class Message {
                             ArrayValue valueArray = (ArrayValue) bValue;
                             for (int i = 0; i < valueArray.size(); i++) {
                                 size += com.google.protobuf.CodedOutputStream.computeFloatSize(
-                                        fieldDescriptor.getNumber(),
+                                        field.getNumber(),
                                         Float.parseFloat(String.valueOf(valueArray.getFloat(i))));
                             }
                         } else {
                             size += com.google.protobuf.CodedOutputStream.computeFloatSize(
-                                    fieldDescriptor.getNumber(), Float.parseFloat(String.valueOf(bValue)));
+                                    field.getNumber(), Float.parseFloat(String.valueOf(bValue)));
                         }
                     } else if (bMessage instanceof Double) {
-                        size += com.google.protobuf.CodedOutputStream.computeFloatSize(fieldDescriptor
+                        size += com.google.protobuf.CodedOutputStream.computeFloatSize(field
                                 .getNumber(), Float.parseFloat(String.valueOf(bMessage)));
                     }
                     break;
@@ -765,14 +770,14 @@ public class Message {
                             ArrayValue valueArray = (ArrayValue) bValue;
                             for (int i = 0; i < valueArray.size(); i++) {
                                 size += com.google.protobuf.CodedOutputStream.computeInt64Size(
-                                        fieldDescriptor.getNumber(), valueArray.getInt(i));
+                                        field.getNumber(), valueArray.getInt(i));
                             }
                         } else {
                             size += com.google.protobuf.CodedOutputStream.computeInt64Size(
-                                    fieldDescriptor.getNumber(), (long) bValue);
+                                    field.getNumber(), (long) bValue);
                         }
                     } else if (bMessage instanceof Long) {
-                        size += com.google.protobuf.CodedOutputStream.computeInt64Size(fieldDescriptor
+                        size += com.google.protobuf.CodedOutputStream.computeInt64Size(field
                                 .getNumber(), (long) bMessage);
                     }
                     break;
@@ -784,14 +789,14 @@ public class Message {
                             ArrayValue valueArray = (ArrayValue) bValue;
                             for (int i = 0; i < valueArray.size(); i++) {
                                 size += com.google.protobuf.CodedOutputStream.computeUInt64Size(
-                                        fieldDescriptor.getNumber(), valueArray.getInt(i));
+                                        field.getNumber(), valueArray.getInt(i));
                             }
                         } else {
                             size += com.google.protobuf.CodedOutputStream.computeUInt64Size(
-                                    fieldDescriptor.getNumber(), (long) bValue);
+                                    field.getNumber(), (long) bValue);
                         }
                     } else if (bMessage instanceof Long) {
-                        size += com.google.protobuf.CodedOutputStream.computeUInt64Size(fieldDescriptor
+                        size += com.google.protobuf.CodedOutputStream.computeUInt64Size(field
                                 .getNumber(), (long) bMessage);
                     }
                     break;
@@ -803,14 +808,14 @@ public class Message {
                             ArrayValue valueArray = (ArrayValue) bValue;
                             for (int i = 0; i < valueArray.size(); i++) {
                                 size += com.google.protobuf.CodedOutputStream.computeInt32Size(
-                                        fieldDescriptor.getNumber(), getIntValue(valueArray.getInt(i)));
+                                        field.getNumber(), getIntValue(valueArray.getInt(i)));
                             }
                         } else {
                             size += com.google.protobuf.CodedOutputStream.computeInt32Size(
-                                    fieldDescriptor.getNumber(), getIntValue(bValue));
+                                    field.getNumber(), getIntValue(bValue));
                         }
                     } else if (bMessage instanceof Long) {
-                        size += com.google.protobuf.CodedOutputStream.computeInt32Size(fieldDescriptor
+                        size += com.google.protobuf.CodedOutputStream.computeInt32Size(field
                                 .getNumber(), getIntValue(bMessage));
                     }
                     break;
@@ -822,14 +827,14 @@ public class Message {
                             ArrayValue valueArray = (ArrayValue) bValue;
                             for (int i = 0; i < valueArray.size(); i++) {
                                 size += com.google.protobuf.CodedOutputStream.computeFixed64Size(
-                                        fieldDescriptor.getNumber(), valueArray.getInt(i));
+                                        field.getNumber(), valueArray.getInt(i));
                             }
                         } else {
                             size += com.google.protobuf.CodedOutputStream.computeFixed64Size(
-                                    fieldDescriptor.getNumber(), (long) bValue);
+                                    field.getNumber(), (long) bValue);
                         }
                     } else if (bMessage instanceof Long) {
-                        size += com.google.protobuf.CodedOutputStream.computeFixed64Size(fieldDescriptor
+                        size += com.google.protobuf.CodedOutputStream.computeFixed64Size(field
                                 .getNumber(), (long) bMessage);
                     }
                     break;
@@ -841,14 +846,14 @@ public class Message {
                             ArrayValue valueArray = (ArrayValue) bValue;
                             for (int i = 0; i < valueArray.size(); i++) {
                                 size += com.google.protobuf.CodedOutputStream.computeFixed32Size(
-                                        fieldDescriptor.getNumber(), getIntValue(valueArray.getInt(i)));
+                                        field.getNumber(), getIntValue(valueArray.getInt(i)));
                             }
                         } else {
                             size += com.google.protobuf.CodedOutputStream.computeFixed32Size(
-                                    fieldDescriptor.getNumber(), getIntValue(bValue));
+                                    field.getNumber(), getIntValue(bValue));
                         }
                     } else if (bMessage instanceof Long) {
-                        size += com.google.protobuf.CodedOutputStream.computeFixed32Size(fieldDescriptor
+                        size += com.google.protobuf.CodedOutputStream.computeFixed32Size(field
                                 .getNumber(), getIntValue(bMessage));
                     }
                     break;
@@ -860,14 +865,14 @@ public class Message {
                             ArrayValue valueArray = (ArrayValue) bValue;
                             for (int i = 0; i < valueArray.size(); i++) {
                                 size += com.google.protobuf.CodedOutputStream.computeBoolSize(
-                                        fieldDescriptor.getNumber(), valueArray.getBoolean(i));
+                                        field.getNumber(), valueArray.getBoolean(i));
                             }
                         } else {
                             size += com.google.protobuf.CodedOutputStream.computeBoolSize(
-                                    fieldDescriptor.getNumber(), (boolean) bValue);
+                                    field.getNumber(), (boolean) bValue);
                         }
                     } else if (bMessage instanceof Boolean) {
-                        size += com.google.protobuf.CodedOutputStream.computeBoolSize(fieldDescriptor
+                        size += com.google.protobuf.CodedOutputStream.computeBoolSize(field
                                 .getNumber(), (boolean) bMessage);
                     }
                     break;
@@ -878,15 +883,15 @@ public class Message {
                         if (bValue instanceof ArrayValue) {
                             ArrayValue valueArray = (ArrayValue) bValue;
                             for (int i = 0; i < valueArray.size(); i++) {
-                                size += CodedOutputStream.computeStringSize(fieldDescriptor.getNumber(), valueArray
+                                size += CodedOutputStream.computeStringSize(field.getNumber(), valueArray
                                         .getBString(i).getValue());
                             }
                         } else {
-                            size += CodedOutputStream.computeStringSize(fieldDescriptor.getNumber(),
+                            size += CodedOutputStream.computeStringSize(field.getNumber(),
                                     ((BString) bValue).getValue());
                         }
                     } else if (bMessage instanceof BString) {
-                        size += CodedOutputStream.computeStringSize(fieldDescriptor.getNumber(),
+                        size += CodedOutputStream.computeStringSize(field.getNumber(),
                                 ((BString) bMessage).getValue());
                     }
                     break;
@@ -899,12 +904,12 @@ public class Message {
                             ArrayValue valueArray = (ArrayValue) bValue;
                             for (int i = 0; i < valueArray.size(); i++) {
                                 MapValue<BString, Object> value = (MapValue<BString, Object>) valueArray.getRefValue(i);
-                                Message message = new Message(fieldDescriptor.getMessageType(), value);
-                                size += computeMessageSize(fieldDescriptor, message);
+                                Message message = createNestedMessage(field, value);
+                                size += computeMessageSize(field, message);
                             }
                         } else {
-                            Message message = new Message(fieldDescriptor.getMessageType(), bValue);
-                            size += computeMessageSize(fieldDescriptor, message);
+                            Message message = createNestedMessage(field, bValue);
+                            size += computeMessageSize(field, message);
                         }
                     }
                     break;
@@ -914,7 +919,7 @@ public class Message {
                         Object bValue = bMapValue.get(bFieldName);
 
                         size += com.google.protobuf.CodedOutputStream.computeEnumSize(
-                                fieldDescriptor.getNumber(),
+                                field.getNumber(),
                                 fieldDescriptor.getEnumType().findValueByName(((BString) bValue).getValue())
                                         .getNumber());
                     }
@@ -926,12 +931,12 @@ public class Message {
                         if (bValue instanceof ArrayValue) {
                             ArrayValue valueArray = (ArrayValue) bValue;
                             size += com.google.protobuf.CodedOutputStream
-                                    .computeByteArraySize(fieldDescriptor.getNumber(), valueArray.getBytes());
+                                    .computeByteArraySize(field.getNumber(), valueArray.getBytes());
                         }
                     } else if (bMessage instanceof ArrayValue) {
                         ArrayValue valueArray = (ArrayValue) bMessage;
                         size += com.google.protobuf.CodedOutputStream
-                                .computeByteArraySize(fieldDescriptor.getNumber(), valueArray.getBytes());
+                                .computeByteArraySize(field.getNumber(), valueArray.getBytes());
                     }
                     break;
                 }
@@ -946,12 +951,32 @@ public class Message {
         return size;
     }
 
-    private int computeMessageSize(Descriptors.FieldDescriptor fieldDescriptor, Message message) {
-        return CodedOutputStream.computeTagSize(fieldDescriptor
+    private int computeMessageSize(MessageCodec.Field field, Message message) {
+        return CodedOutputStream.computeTagSize(field
                 .getNumber()) + CodedOutputStream.computeUInt32SizeNoTag
                 (message.getSerializedSize()) + message.getSerializedSize();
     }
 
+    private Message createNestedMessage(MessageCodec.Field field, Object bValue) {
+        Message message = new Message(field.getMessageCodec(), bValue);
+        if (nestedMessages == null) {
+            nestedMessages = new ArrayList<>();
+        }
+        nestedMessages.add(message);
+        return message;
+    }
+
+    /**
+     * Returns the nested message to be written, reusing the message created while computing the serialized size, so
+     * that the size of the nested message isn't computed again.
+     */
+    private Message getNestedMessage(int index, MessageCodec.Field field, Object bValue) {
+        if (nestedMessages != null && index < nestedMessages.size() && nestedMessages.get(index).bMessage == bValue) {
+            return nestedMessages.get(index);
+        }
+        return new Message(field.getMessageCodec(), bValue);
+    }
+
     public byte[] toByteArray() {
         try {
             final byte[] result = new byte[getSerializedSize()];
@@ -966,11 +991,10 @@ public class Message {
     }
 
 
-    private Message readMessage(final Descriptors.FieldDescriptor fieldDescriptor, final BType bType,
-                                final CodedInputStream in) throws IOException {
+    private Message readMessage(final MessageParser parser, final CodedInputStream in) throws IOException {
         int length = in.readRawVarint32();
         final int oldLimit = in.pushLimit(length);
-        Message result = new MessageParser(fieldDescriptor.getMessageType(), bType).parseFrom(in);
+        Message result = parser.parseFrom(in);
         in.popLimit(oldLimit);
         return result;
     }
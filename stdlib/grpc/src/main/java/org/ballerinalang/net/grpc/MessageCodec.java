@@ -0,0 +1,177 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.ballerinalang.net.grpc;
+
+import com.google.protobuf.Descriptors;
+import org.ballerinalang.jvm.StringUtils;
+import org.ballerinalang.jvm.values.api.BString;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Field layout of a proto message, compiled once per message descriptor.
+ * <p>
+ * {@link Message} encodes and decodes the messages by walking the precomputed fields of the codec, instead of
+ * deriving the field names, types and tags from the descriptor for every field of every message.
+ *
+ * @since 2.0.0
+ */
+class MessageCodec {
+
+    // Field tags up to this value are looked up from an array, the larger ones from a map.
+    private static final int MAX_INDEXED_TAG = 2048;
+
+    private static final Map<Descriptors.Descriptor, MessageCodec> codecs = new ConcurrentHashMap<>();
+
+    private final Descriptors.Descriptor descriptor;
+    private final Field[] fields;
+    private final Field[] fieldsByTag;
+    private final Map<Integer, Field> fieldsByLargeTag = new HashMap<>();
+
+    private MessageCodec(Descriptors.Descriptor descriptor) {
+        this.descriptor = descriptor;
+        List<Descriptors.FieldDescriptor> fieldDescriptors = descriptor.getFields();
+        this.fields = new Field[fieldDescriptors.size()];
+        int maxTag = 0;
+        for (int i = 0; i < fields.length; i++) {
+            fields[i] = new Field(i, fieldDescriptors.get(i));
+            if (fields[i].tag <= MAX_INDEXED_TAG) {
+                maxTag = Math.max(maxTag, fields[i].tag);
+            } else {
+                fieldsByLargeTag.put(fields[i].tag, fields[i]);
+            }
+        }
+        this.fieldsByTag = new Field[maxTag + 1];
+        for (Field field : fields) {
+            if (field.tag <= MAX_INDEXED_TAG) {
+                fieldsByTag[field.tag] = field;
+            }
+        }
+    }
+
+    /**
+     * Returns the codec of the message descriptor, compiling it if it is not compiled yet.
+     *
+     * @param descriptor message descriptor
+     * @return message codec
+     */
+    static MessageCodec getInstance(Descriptors.Descriptor descriptor) {
+        return codecs.computeIfAbsent(descriptor, MessageCodec::new);
+    }
+
+    Descriptors.Descriptor getDescriptor() {
+        return descriptor;
+    }
+
+    String getMessageName() {
+        return descriptor.getName();
+    }
+
+    /**
+     * Returns the fields of the message in the order they are declared.
+     *
+     * @return message fields
+     */
+    Field[] getFields() {
+        return fields;
+    }
+
+    /**
+     * Returns the field of the given tag, which is the field number followed by the wire type of the field.
+     *
+     * @param tag field tag read from the input stream
+     * @return message field, or null if the message doesn't have a field with the tag
+     */
+    Field getField(int tag) {
+        if (tag >= 0 && tag < fieldsByTag.length) {
+            return fieldsByTag[tag];
+        }
+        return fieldsByLargeTag.get(tag);
+    }
+
+    /**
+     * Precomputed details of a message field.
+     */
+    static final class Field {
+
+        private final int index;
+        private final Descriptors.FieldDescriptor fieldDescriptor;
+        private final BString name;
+        private final int number;
+        private final int tag;
+        private final int type;
+        private final boolean repeated;
+        private final boolean oneof;
+        private MessageCodec messageCodec;
+
+        private Field(int index, Descriptors.FieldDescriptor fieldDescriptor) {
+            this.index = index;
+            this.fieldDescriptor = fieldDescriptor;
+            this.name = StringUtils.fromString(fieldDescriptor.getName());
+            this.number = fieldDescriptor.getNumber();
+            this.tag = (number << 3) + MessageUtils.getFieldWireType(fieldDescriptor.getType());
+            this.type = fieldDescriptor.getType().toProto().getNumber();
+            this.repeated = fieldDescriptor.isRepeated();
+            this.oneof = fieldDescriptor.getContainingOneof() != null;
+        }
+
+        int getIndex() {
+            return index;
+        }
+
+        Descriptors.FieldDescriptor getFieldDescriptor() {
+            return fieldDescriptor;
+        }
+
+        BString getName() {
+            return name;
+        }
+
+        int getNumber() {
+            return number;
+        }
+
+        int getType() {
+            return type;
+        }
+
+        boolean isRepeated() {
+            return repeated;
+        }
+
+        boolean isOneof() {
+            return oneof;
+        }
+
+        /**
+         * Returns the codec of the message type of the field. The codec is resolved on first use, as the message
+         * types may refer to each other.
+         *
+         * @return message codec of the field type
+         */
+        MessageCodec getMessageCodec() {
+            MessageCodec codec = messageCodec;
+            if (codec == null) {
+                codec = MessageCodec.getInstance(fieldDescriptor.getMessageType());
+                messageCodec = codec;
+            }
+            return codec;
+        }
+    }
+}
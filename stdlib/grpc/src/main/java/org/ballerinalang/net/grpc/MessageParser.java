@@ -16,16 +16,17 @@
 package org.ballerinalang.net.grpc;
 
 import com.google.protobuf.CodedInputStream;
-import com.google.protobuf.Descriptors;
+import org.ballerinalang.jvm.types.BArrayType;
+import org.ballerinalang.jvm.types.BRecordType;
 import org.ballerinalang.jvm.types.BType;
 import org.ballerinalang.net.grpc.exception.StatusRuntimeException;
 
 import java.io.IOException;
-import java.util.HashMap;
-import java.util.Map;
 
 /**
  * Proto Message Parser.
+ * Binds the codec of a message to the ballerina type the message is parsed to. The types and the parsers of the
+ * record fields are resolved once per parser, on first use.
  *
  * @since 1.0.0
  */
@@ -33,19 +34,30 @@ public class MessageParser {
 
     private final String messageName;
     private final BType bType;
-    private final Map<Integer, Descriptors.FieldDescriptor> fieldDescriptors;
+    private final MessageCodec codec;
+    // index - index of the message field
+    private final BType[] fieldTypes;
+    private final MessageParser[] fieldParsers;
 
     public MessageParser(String messageName, BType bType) {
-        this.messageName = messageName;
-        this.bType = bType;
-        Descriptors.Descriptor messageDescriptor = MessageRegistry.getInstance().getMessageDescriptor(messageName);
-        this.fieldDescriptors = computeFieldTagValues(messageDescriptor);
+        this(messageName, bType, MessageRegistry.getInstance().getMessageCodec(messageName));
+    }
+
+    MessageParser(MessageCodec codec, BType bType) {
+        this(codec.getMessageName(), bType, codec);
     }
 
-    MessageParser(Descriptors.Descriptor descriptor, BType bType) {
-        this.messageName = descriptor.getName();
+    private MessageParser(String messageName, BType bType, MessageCodec codec) {
+        if (codec == null) {
+            throw MessageUtils.getConnectorError(new StatusRuntimeException(Status
+                    .fromCode(Status.Code.INTERNAL).withDescription("Couldn't find message descriptor for the " +
+                            "message name: " + messageName)));
+        }
+        this.messageName = messageName;
         this.bType = bType;
-        this.fieldDescriptors = computeFieldTagValues(descriptor);
+        this.codec = codec;
+        this.fieldTypes = new BType[codec.getFields().length];
+        this.fieldParsers = new MessageParser[codec.getFields().length];
     }
 
     /**
@@ -54,7 +66,7 @@ public class MessageParser {
      * @return Message object with bValue
      */
     Message parseFrom(CodedInputStream input) throws IOException {
-        return new Message(messageName, bType, input, fieldDescriptors);
+        return new Message(this, input);
     }
 
     /**
@@ -62,22 +74,54 @@ public class MessageParser {
      * @return message instance without bValue.
      */
     Message getDefaultInstance() throws IOException {
-        return new Message(messageName, bType, null, fieldDescriptors);
+        return new Message(this, null);
     }
 
-    private Map<Integer, Descriptors.FieldDescriptor> computeFieldTagValues(Descriptors.Descriptor messageDescriptor) {
-        if (messageDescriptor == null) {
-            throw MessageUtils.getConnectorError(new StatusRuntimeException(Status
-                    .fromCode(Status.Code.INTERNAL).withDescription("Couldn't find message descriptor for the " +
-                            "message name: " + messageName)));
+    String getMessageName() {
+        return messageName;
+    }
+
+    BType getBType() {
+        return bType;
+    }
+
+    MessageCodec getCodec() {
+        return codec;
+    }
+
+    /**
+     * Returns the type of the record field which the message field is parsed to.
+     *
+     * @param field      message field
+     * @param recordType record type of the message
+     * @return type of the record field
+     */
+    BType getFieldType(MessageCodec.Field field, BRecordType recordType) {
+        BType fieldType = fieldTypes[field.getIndex()];
+        if (fieldType == null) {
+            fieldType = recordType.getFields().get(field.getName().getValue()).getFieldType();
+            fieldTypes[field.getIndex()] = fieldType;
         }
-        Map<Integer, Descriptors.FieldDescriptor> fieldDescriptors = new HashMap<>();
-        for (Descriptors.FieldDescriptor fieldDescriptor : messageDescriptor.getFields()) {
-            Descriptors.FieldDescriptor.Type fieldType = fieldDescriptor.getType();
-            int number = fieldDescriptor.getNumber();
-            int byteCode = ((number << 3) + MessageUtils.getFieldWireType(fieldType));
-            fieldDescriptors.put(byteCode, fieldDescriptor);
+        return fieldType;
+    }
+
+    /**
+     * Returns the parser of a message field. The parser of a repeated field parses the elements of the field.
+     *
+     * @param field      message field
+     * @param recordType record type of the message
+     * @return parser of the message field
+     */
+    MessageParser getFieldParser(MessageCodec.Field field, BRecordType recordType) {
+        MessageParser fieldParser = fieldParsers[field.getIndex()];
+        if (fieldParser == null) {
+            BType fieldType = getFieldType(field, recordType);
+            if (field.isRepeated()) {
+                fieldType = ((BArrayType) fieldType).getElementType();
+            }
+            fieldParser = new MessageParser(field.getMessageCodec(), fieldType);
+            fieldParsers[field.getIndex()] = fieldParser;
         }
-        return fieldDescriptors;
+        return fieldParser;
     }
 }
@@ -18,18 +18,19 @@ package org.ballerinalang.net.grpc;
 import com.google.protobuf.Descriptors;
 
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Proto Message Registry.
- * Contains message descriptor against message name.
+ * Contains message descriptor and the compiled message codec against message name.
  *
  * @since 1.0.0
  */
 public class MessageRegistry {
 
-    private Map<String, Descriptors.Descriptor> messageDescriptors = new HashMap<>();
+    private Map<String, Descriptors.Descriptor> messageDescriptors = new ConcurrentHashMap<>();
+    private Map<String, MessageCodec> messageCodecs = new ConcurrentHashMap<>();
 
     private static volatile MessageRegistry messageRegistry = new MessageRegistry();
 
@@ -41,12 +42,17 @@ public class MessageRegistry {
 
     public void addMessageDescriptor(String messageName, Descriptors.Descriptor messageDescriptor) {
         messageDescriptors.put(messageName, messageDescriptor);
+        messageCodecs.put(messageName, MessageCodec.getInstance(messageDescriptor));
     }
 
     public Descriptors.Descriptor getMessageDescriptor(String messageName) {
         return messageDescriptors.get(messageName);
     }
 
+    MessageCodec getMessageCodec(String messageName) {
+        return messageCodecs.get(messageName);
+    }
+
     public Map<String, Descriptors.Descriptor> getMessageDescriptorMap() {
         return Collections.unmodifiableMap(messageDescriptors);
     }
@@ -0,0 +1,166 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ *
+ */
+
+package org.ballerinalang.net.http;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Immutable trie of the service base paths registered under a host. A request path is resolved to its most specific
+ * base path in a single pass over the path without creating any intermediate strings.
+ * <p>
+ * A base path matches a request path if both are equal ignoring case, or if the request path starts with the base path
+ * followed by a '/'. The longest matching base path is the most specific one. The index is rebuilt whenever the
+ * services of the host change.
+ *
+ * @since 2.0.0
+ */
+public class BasePathIndex {
+
+    public static final BasePathIndex EMPTY = new BasePathIndex(new ArrayList<>());
+
+    private final Node root;
+
+    private BasePathIndex(List<String> basePaths) {
+        MutableNode mutableRoot = new MutableNode();
+        for (String basePath : basePaths) {
+            MutableNode node = mutableRoot;
+            for (int i = 0; i < basePath.length(); i++) {
+                node = node.child(Character.toLowerCase(basePath.charAt(i)));
+            }
+            node.basePaths.add(basePath);
+        }
+        this.root = mutableRoot.freeze();
+    }
+
+    /**
+     * Builds an index for the given base paths.
+     *
+     * @param basePaths base paths of the services
+     * @return the index
+     */
+    public static BasePathIndex build(Collection<String> basePaths) {
+        return new BasePathIndex(new ArrayList<>(basePaths));
+    }
+
+    /**
+     * Finds the most specific base path for the given request path.
+     *
+     * @param requestPath raw path of the request
+     * @return the matching base path, or null if there is none
+     */
+    public String findMostSpecificBasePath(String requestPath) {
+        String candidate = null;
+        Node node = root;
+        int length = requestPath.length();
+        for (int i = 0; i < length; i++) {
+            char ch = requestPath.charAt(i);
+            if (ch == '/' && i > 0 && node.basePaths != null) {
+                // request path continues with a '/' after this prefix, hence it is under the base path
+                String basePath = findCaseSensitiveMatch(node.basePaths, requestPath, i);
+                if (basePath != null) {
+                    candidate = basePath;
+                }
+            }
+            node = node.child(Character.toLowerCase(ch));
+            if (node == null) {
+                return candidate;
+            }
+        }
+        if (node.basePaths != null) {
+            // request path is equal to the base path ignoring case
+            String basePath = findCaseSensitiveMatch(node.basePaths, requestPath, length);
+            return basePath != null ? basePath : node.basePaths[0];
+        }
+        return candidate;
+    }
+
+    private static String findCaseSensitiveMatch(String[] basePaths, String requestPath, int length) {
+        for (String basePath : basePaths) {
+            if (requestPath.regionMatches(0, basePath, 0, length)) {
+                return basePath;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Trie node keyed by lower case characters. Children are kept in parallel arrays sorted by their key.
+     */
+    private static class Node {
+
+        private final char[] keys;
+        private final Node[] children;
+        /**
+         * Base paths ending at this node, or null if none.
+         */
+        private final String[] basePaths;
+
+        private Node(char[] keys, Node[] children, String[] basePaths) {
+            this.keys = keys;
+            this.children = children;
+            this.basePaths = basePaths;
+        }
+
+        private Node child(char key) {
+            int index = Arrays.binarySearch(keys, key);
+            return index < 0 ? null : children[index];
+        }
+    }
+
+    /**
+     * Trie node used while building the index.
+     */
+    private static class MutableNode {
+
+        private final List<Character> keys = new ArrayList<>();
+        private final List<MutableNode> children = new ArrayList<>();
+        private final List<String> basePaths = new ArrayList<>();
+
+        private MutableNode child(char key) {
+            int index = keys.indexOf(key);
+            if (index >= 0) {
+                return children.get(index);
+            }
+            MutableNode child = new MutableNode();
+            keys.add(key);
+            children.add(child);
+            return child;
+        }
+
+        private Node freeze() {
+            Integer[] order = new Integer[keys.size()];
+            for (int i = 0; i < order.length; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, (i1, i2) -> Character.compare(keys.get(i1), keys.get(i2)));
+            char[] sortedKeys = new char[order.length];
+            Node[] sortedChildren = new Node[order.length];
+            for (int i = 0; i < order.length; i++) {
+                sortedKeys[i] = keys.get(order[i]);
+                sortedChildren[i] = children.get(order[i]).freeze();
+            }
+            String[] paths = basePaths.isEmpty() ? null : basePaths.toArray(new String[0]);
+            return new Node(sortedKeys, sortedChildren, paths);
+        }
+    }
+}
@@ -131,6 +131,7 @@ public class HTTPServicesRegistry {
             //basePath will get cached after registering service
             sortedServiceURIs.add(basePath);
             sortedServiceURIs.sort((basePath1, basePath2) -> basePath2.length() - basePath1.length());
+            servicesMapByHost.get(hostName).rebuildBasePathIndex();
             // Register the WebSocket upgrade service in the WebSocket registry
             registerWebSocketUpgradeService(httpService);
         }
@@ -164,20 +165,19 @@ public class HTTPServicesRegistry {
         return basePath;
     }
 
-    public String findTheMostSpecificBasePath(String requestURIPath, Map<String, HttpService> services,
-                                              List<String> sortedServiceURIs) {
-        for (Object key : sortedServiceURIs) {
-            if (!requestURIPath.toLowerCase().contains(key.toString().toLowerCase())) {
-                continue;
-            }
-            if (requestURIPath.length() <= key.toString().length()) {
-                return key.toString();
-            }
-            if (requestURIPath.startsWith(key.toString().concat("/"))) {
-                return key.toString();
-            }
+    /**
+     * Find the most specific base path for the given request path using the base path index of the host.
+     *
+     * @param requestURIPath    raw path of the request
+     * @param servicesMapHolder services registered under the host
+     * @return the most specific base path if exists else null
+     */
+    public String findTheMostSpecificBasePath(String requestURIPath, ServicesMapHolder servicesMapHolder) {
+        String basePath = servicesMapHolder.basePathIndex.findMostSpecificBasePath(requestURIPath);
+        if (basePath != null) {
+            return basePath;
         }
-        if (services.containsKey(HttpConstants.DEFAULT_BASE_PATH)) {
+        if (servicesMapHolder.servicesByBasePath.containsKey(HttpConstants.DEFAULT_BASE_PATH)) {
             return HttpConstants.DEFAULT_BASE_PATH;
         }
         return null;
@@ -192,16 +192,29 @@ public class HTTPServicesRegistry {
     }
 
     /**
-     * Holds both serviceByBasePath map and sorted Service basePath list.
+     * Holds the serviceByBasePath map, sorted Service basePath list and the base path index built from them.
      */
     protected class ServicesMapHolder {
         private Map<String, HttpService> servicesByBasePath;
         private List<String> sortedServiceURIs;
+        private volatile BasePathIndex basePathIndex = BasePathIndex.EMPTY;
 
         public ServicesMapHolder(Map<String, HttpService> servicesByBasePath, List<String> sortedServiceURIs) {
             this.servicesByBasePath = servicesByBasePath;
             this.sortedServiceURIs = sortedServiceURIs;
         }
+
+        public Map<String, HttpService> getServicesByBasePath() {
+            return servicesByBasePath;
+        }
+
+        /**
+         * Replaces the base path index with one built from the current base paths. Requests being dispatched keep
+         * using the previous index.
+         */
+        void rebuildBasePathIndex() {
+            basePathIndex = BasePathIndex.build(sortedServiceURIs);
+        }
     }
 
     /**
@@ -231,6 +244,7 @@ public class HTTPServicesRegistry {
                                            basePath));
             }
             sortedServiceURIs.sort((basePath1, basePath2) -> basePath2.length() - basePath1.length());
+            servicesMapHolder.rebuildBasePathIndex();
         }
     }
 }
@@ -39,7 +39,6 @@ import java.io.UnsupportedEncodingException;
 import java.net.URI;
 import java.net.URLDecoder;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 
 import static org.ballerinalang.net.http.HttpConstants.DEFAULT_HOST;
@@ -54,17 +53,16 @@ public class HttpDispatcher {
 
     public static HttpService findService(HTTPServicesRegistry servicesRegistry, HttpCarbonMessage inboundReqMsg) {
         try {
-            Map<String, HttpService> servicesOnInterface;
-            List<String> sortedServiceURIs;
+            HTTPServicesRegistry.ServicesMapHolder servicesMapHolder = null;
             String hostName = inboundReqMsg.getHeader(HttpHeaderNames.HOST.toString());
 
-            if (hostName != null && servicesRegistry.getServicesMapHolder(hostName) != null) {
-                servicesOnInterface = servicesRegistry.getServicesByHost(hostName);
-                sortedServiceURIs = servicesRegistry.getSortedServiceURIsByHost(hostName);
-            } else if (servicesRegistry.getServicesMapHolder(DEFAULT_HOST) != null) {
-                servicesOnInterface = servicesRegistry.getServicesByHost(DEFAULT_HOST);
-                sortedServiceURIs = servicesRegistry.getSortedServiceURIsByHost(DEFAULT_HOST);
-            } else {
+            if (hostName != null) {
+                servicesMapHolder = servicesRegistry.getServicesMapHolder(hostName);
+            }
+            if (servicesMapHolder == null) {
+                servicesMapHolder = servicesRegistry.getServicesMapHolder(DEFAULT_HOST);
+            }
+            if (servicesMapHolder == null) {
                 inboundReqMsg.setHttpStatusCode(404);
                 String localAddress = inboundReqMsg.getProperty(HttpConstants.LOCAL_ADDRESS).toString();
                 throw new BallerinaConnectorException("no service has registered for listener : " + localAddress);
@@ -81,7 +79,7 @@ public class HttpDispatcher {
             URI validatedUri = getValidatedURI(uriWithoutMatrixParams);
 
             String basePath = servicesRegistry.findTheMostSpecificBasePath(validatedUri.getRawPath(),
-                    servicesOnInterface, sortedServiceURIs);
+                                                                           servicesMapHolder);
 
             if (basePath == null) {
                 inboundReqMsg.setHttpStatusCode(404);
@@ -89,7 +87,7 @@ public class HttpDispatcher {
                         validatedUri.getRawPath());
             }
 
-            HttpService service = servicesOnInterface.get(basePath);
+            HttpService service = servicesMapHolder.getServicesByBasePath().get(basePath);
             setInboundReqProperties(inboundReqMsg, validatedUri, basePath);
             return service;
         } catch (Exception e) {
@@ -171,7 +169,7 @@ public class HttpDispatcher {
         MapValue pathParamOrder = HttpResource.getPathParamOrderMap(httpResource.getBalResource());
 
         for (Object paramName : pathParamOrder.getKeys()) {
-            String argumentValue = resourceArgumentValues.getMap().get(paramName.toString());
+            String argumentValue = resourceArgumentValues.getValue(paramName.toString());
             try {
                 argumentValue = URLDecoder.decode(argumentValue, "UTF-8");
             } catch (UnsupportedEncodingException e) {
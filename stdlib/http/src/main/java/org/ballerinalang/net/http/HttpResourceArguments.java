@@ -18,23 +18,141 @@
 
 package org.ballerinalang.net.http;
 
+import java.io.UnsupportedEncodingException;
+import java.net.URLDecoder;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 
 /**
  * This class holds the resource signature path parameters.
+ * <p>
+ * Path parameters matched by the compiled URI template are recorded as offsets into the request path, and a
+ * parameter value is only extracted and decoded when it is read with {@link #getValue(String)}, or when all the
+ * values are requested with {@link #getMap()}.
  *
  * @since 0.995.0
  */
 public class HttpResourceArguments {
 
-    private Map<String, String> resourceArgumentValues = new HashMap<>();
+    private static final String[][] NO_NAMES = new String[0][];
+    private static final int[] NO_OFFSETS = new int[0];
+
+    private Map<String, String> resourceArgumentValues;
+    private String path;
+    private String[][] pathParamNames = NO_NAMES;
+    private int[] pathParamOffsets = NO_OFFSETS;
+    private int pathParamCount;
+    private int extraPathInfoStart = -1;
 
     public HttpResourceArguments() {
-        resourceArgumentValues = new HashMap<>();
     }
 
+    /**
+     * Returns all the arguments. Path parameters recorded as offsets are decoded into the map on the first call, so
+     * the map should only be used once the matching is done.
+     *
+     * @return map of argument names to values
+     */
     public Map<String, String> getMap() {
+        if (resourceArgumentValues == null) {
+            resourceArgumentValues = new HashMap<>();
+            for (int i = 0; i < pathParamCount; i++) {
+                String value = getPathParamValue(i);
+                for (String name : pathParamNames[i]) {
+                    resourceArgumentValues.putIfAbsent(name, value);
+                }
+            }
+            if (extraPathInfoStart >= 0) {
+                resourceArgumentValues.put(HttpConstants.EXTRA_PATH_INFO, getExtraPathInfo());
+            }
+        }
         return resourceArgumentValues;
     }
+
+    /**
+     * Returns the value of a single argument, without extracting the values of the other arguments.
+     *
+     * @param name name of the argument
+     * @return value of the argument or null if there is no such argument
+     */
+    public String getValue(String name) {
+        if (resourceArgumentValues != null) {
+            return resourceArgumentValues.get(name);
+        }
+        if (HttpConstants.EXTRA_PATH_INFO.equals(name)) {
+            return extraPathInfoStart >= 0 ? getExtraPathInfo() : null;
+        }
+        for (int i = 0; i < pathParamCount; i++) {
+            for (String paramName : pathParamNames[i]) {
+                if (paramName.equals(name)) {
+                    return getPathParamValue(i);
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Sets the request path that the recorded offsets refer to.
+     *
+     * @param path request path
+     */
+    public void setPath(String path) {
+        this.path = path;
+    }
+
+    /**
+     * Records a path segment that is bound to the given path parameters.
+     *
+     * @param names names of the path parameters
+     * @param start index of the first character of the segment in the path
+     * @param end   index after the last character of the segment in the path
+     */
+    public void addPathParam(String[] names, int start, int end) {
+        if (pathParamCount == pathParamNames.length) {
+            int capacity = Math.max(4, pathParamCount * 2);
+            pathParamNames = Arrays.copyOf(pathParamNames, capacity);
+            pathParamOffsets = Arrays.copyOf(pathParamOffsets, capacity * 2);
+        }
+        pathParamNames[pathParamCount] = names;
+        pathParamOffsets[pathParamCount * 2] = start;
+        pathParamOffsets[pathParamCount * 2 + 1] = end;
+        pathParamCount++;
+    }
+
+    public int getPathParamCount() {
+        return pathParamCount;
+    }
+
+    /**
+     * Discards the path parameters recorded after the given number of parameters, when a match is backtracked.
+     *
+     * @param count number of path parameters to keep
+     */
+    public void setPathParamCount(int count) {
+        pathParamCount = count;
+    }
+
+    /**
+     * Records where the path matched by a wildcard starts, or -1 to clear it.
+     *
+     * @param start index of the first character of the extra path in the path
+     */
+    public void setExtraPathInfoStart(int start) {
+        extraPathInfoStart = start;
+    }
+
+    private String getPathParamValue(int index) {
+        String value = path.substring(pathParamOffsets[index * 2], pathParamOffsets[index * 2 + 1]);
+        try {
+            return URLDecoder.decode(value.replaceAll("\\+", "%2B"), "UTF-8");
+        } catch (UnsupportedEncodingException e) {
+            throw new RuntimeException("Error while encoding value: " + value, e);
+        }
+    }
+
+    private String getExtraPathInfo() {
+        return "/" + path.substring(extraPathInfoStart);
+    }
 }
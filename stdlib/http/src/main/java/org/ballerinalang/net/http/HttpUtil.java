@@ -661,10 +661,11 @@ public class HttpUtil {
                               org.ballerinalang.jvm.StringUtils.fromString(inboundRequestMsg.getHttpVersion()));
         HttpResourceArguments resourceArgValues = (HttpResourceArguments) inboundRequestMsg.getProperty(
                 HttpConstants.RESOURCE_ARGS);
-        if (resourceArgValues != null && resourceArgValues.getMap().get(HttpConstants.EXTRA_PATH_INFO) != null) {
-            inboundRequestObj.set(
-                    HttpConstants.REQUEST_EXTRA_PATH_INFO_FIELD, org.ballerinalang.jvm.StringUtils.fromString(
-                            resourceArgValues.getMap().get(HttpConstants.EXTRA_PATH_INFO)));
+        String extraPathInfo = resourceArgValues != null ?
+                resourceArgValues.getValue(HttpConstants.EXTRA_PATH_INFO) : null;
+        if (extraPathInfo != null) {
+            inboundRequestObj.set(HttpConstants.REQUEST_EXTRA_PATH_INFO_FIELD,
+                                  org.ballerinalang.jvm.StringUtils.fromString(extraPathInfo));
         }
     }
 
@@ -23,12 +23,17 @@ import org.ballerinalang.net.uri.parser.DataElement;
 import org.ballerinalang.net.uri.parser.DataElementFactory;
 import org.ballerinalang.net.uri.parser.DataReturnAgent;
 import org.ballerinalang.net.uri.parser.Node;
+import org.ballerinalang.net.uri.parser.SegmentTrie;
 import org.ballerinalang.net.uri.parser.URITemplateParser;
 
 import java.io.UnsupportedEncodingException;
 
 /**
  * Basic URI Template implementation.
+ * <p>
+ * Templates are parsed into a syntax tree, and are also compiled into a {@link SegmentTrie} that matches a path in
+ * a single walk over its segments. The syntax tree is used for all the paths once a template that cannot be
+ * compiled is added, and for paths with empty segments or a trailing slash.
  *
  * @param <DataType> Data type stored in the data element.
  * @param <InboundMsgType> Inbound message type for additional checks.
@@ -36,14 +41,37 @@ import java.io.UnsupportedEncodingException;
 public class URITemplate<DataType, InboundMsgType> {
 
     private Node<DataType, InboundMsgType> syntaxTree;
+    private SegmentTrie<DataType, InboundMsgType> segmentTrie;
 
     public URITemplate(Node<DataType, InboundMsgType> syntaxTree) {
+        this(syntaxTree, true);
+    }
+
+    /**
+     * Creates a URI template.
+     *
+     * @param syntaxTree root of the syntax tree
+     * @param compile    whether the templates should be compiled, or only be matched with the syntax tree
+     */
+    public URITemplate(Node<DataType, InboundMsgType> syntaxTree, boolean compile) {
         this.syntaxTree = syntaxTree;
+        if (compile) {
+            this.segmentTrie = new SegmentTrie<>(syntaxTree);
+        }
+    }
+
+    public boolean isCompiled() {
+        return segmentTrie != null;
     }
 
     public DataType matches(String uri, HttpResourceArguments variables, InboundMsgType inboundMsg) {
         DataReturnAgent<DataType> dataReturnAgent = new DataReturnAgent<>();
-        boolean isFound = syntaxTree.matchAll(uri, variables, 0, inboundMsg, dataReturnAgent);
+        boolean isFound;
+        if (segmentTrie != null && isCompilablePath(uri)) {
+            isFound = segmentTrie.match(uri, variables, inboundMsg, dataReturnAgent);
+        } else {
+            isFound = syntaxTree.matchAll(uri, variables, 0, inboundMsg, dataReturnAgent);
+        }
         if (isFound) {
             return dataReturnAgent.getData();
         }
@@ -60,6 +88,17 @@ public class URITemplate<DataType, InboundMsgType> {
 
         URITemplateParser<DataType, InboundMsgType> parser = new URITemplateParser<>(syntaxTree, elementCreator);
         parser.parse(uriTemplate, resource);
+        if (segmentTrie != null && !segmentTrie.add(uriTemplate, parser.getLeafNode())) {
+            segmentTrie = null;
+        }
+    }
+
+    private static boolean isCompilablePath(String uri) {
+        int length = uri.length();
+        if (length == 0 || uri.charAt(0) != '/') {
+            return false;
+        }
+        return length == 1 || (uri.charAt(length - 1) != '/' && !uri.contains("//"));
     }
 
     private String removeTheFirstAndLastBackSlash(String template) throws URITemplateException {
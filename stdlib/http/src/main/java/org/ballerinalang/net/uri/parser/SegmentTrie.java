@@ -0,0 +1,278 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.net.uri.parser;
+
+import org.ballerinalang.net.http.HttpResourceArguments;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Trie of the path segments of all the templates of a URI template, which matches a request path in a single walk
+ * over its segments. Literal segments are looked up in a hash table keyed by the characters of the segment in the
+ * path, and path parameters are recorded as offsets into the path in the {@link HttpResourceArguments}, so matching
+ * does not create substrings.
+ * <p>
+ * Only templates whose segments are literals, single path parameters such as {@code {id}}, or a trailing
+ * {@code *} can be compiled. The data elements of the trie are the ones of the syntax tree, so resources are
+ * selected and validated the same way as when the syntax tree is used.
+ *
+ * @param <DataType> Type of data which should be stored in the node.
+ * @param <InboundMsgType> Inbound message type for additional checks.
+ *
+ * @since 2.0.0
+ */
+public class SegmentTrie<DataType, InboundMsgType> {
+
+    private static final String WILDCARD = "*";
+
+    private final TrieNode<DataType, InboundMsgType> root = new TrieNode<>();
+
+    public SegmentTrie(Node<DataType, InboundMsgType> rootNode) {
+        root.dataElement = rootNode.getDataElement();
+    }
+
+    /**
+     * Adds a template which has been added to the syntax tree.
+     *
+     * @param template template without the leading and trailing slashes, or "/" for the root
+     * @param leafNode node of the syntax tree that holds the data of the template
+     * @return false if the template cannot be compiled, in which case the trie is left unchanged
+     */
+    public boolean add(String template, Node<DataType, InboundMsgType> leafNode) {
+        List<String> segments = new ArrayList<>();
+        for (String segment : template.split("/")) {
+            if (!segment.isEmpty()) {
+                segments.add(segment);
+            }
+        }
+        if (!isSupported(segments)) {
+            return false;
+        }
+
+        TrieNode<DataType, InboundMsgType> node = root;
+        for (String segment : segments) {
+            if (WILDCARD.equals(segment)) {
+                if (node.wildcard == null) {
+                    node.wildcard = new TrieNode<>();
+                }
+                node = node.wildcard;
+            } else if (segment.charAt(0) == '{') {
+                if (node.pathParam == null) {
+                    node.pathParam = new TrieNode<>();
+                }
+                node = node.pathParam;
+                node.addPathParamName(segment.substring(1, segment.length() - 1));
+            } else {
+                node = node.getOrAddLiteral(segment);
+            }
+        }
+        node.dataElement = leafNode.getDataElement();
+        return true;
+    }
+
+    /**
+     * Matches a path which starts with a slash, and has neither empty segments nor a trailing slash.
+     *
+     * @param path            request path
+     * @param variables       arguments to record the path parameters in
+     * @param inboundMsg      inbound message
+     * @param dataReturnAgent agent to return the data of the matching template
+     * @return true if a matching template is found
+     */
+    public boolean match(String path, HttpResourceArguments variables, InboundMsgType inboundMsg,
+                         DataReturnAgent<DataType> dataReturnAgent) {
+        variables.setPath(path);
+        if (path.length() == 1 && !root.dataElement.hasData()) {
+            // as with the syntax tree, requests to the root are dispatched to "/*" if there is no "/" resource
+            return matchWildcard(root, 0, variables, inboundMsg, dataReturnAgent);
+        }
+        return match(root, path, 1, variables, inboundMsg, dataReturnAgent);
+    }
+
+    private boolean match(TrieNode<DataType, InboundMsgType> node, String path, int start,
+                          HttpResourceArguments variables, InboundMsgType inboundMsg,
+                          DataReturnAgent<DataType> dataReturnAgent) {
+        if (start >= path.length()) {
+            return node.dataElement != null && node.dataElement.getData(inboundMsg, dataReturnAgent);
+        }
+        int end = path.indexOf('/', start);
+        if (end < 0) {
+            end = path.length();
+        }
+
+        TrieNode<DataType, InboundMsgType> literal = node.findLiteral(path, start, end);
+        if (literal != null && match(literal, path, end + 1, variables, inboundMsg, dataReturnAgent)) {
+            return true;
+        }
+        if (node.pathParam != null) {
+            int pathParamCount = variables.getPathParamCount();
+            variables.addPathParam(node.pathParam.pathParamNames, start, end);
+            if (match(node.pathParam, path, end + 1, variables, inboundMsg, dataReturnAgent)) {
+                return true;
+            }
+            variables.setPathParamCount(pathParamCount);
+        }
+        return matchWildcard(node, start, variables, inboundMsg, dataReturnAgent);
+    }
+
+    private boolean matchWildcard(TrieNode<DataType, InboundMsgType> node, int start, HttpResourceArguments variables,
+                                  InboundMsgType inboundMsg, DataReturnAgent<DataType> dataReturnAgent) {
+        if (node.wildcard == null || node.wildcard.dataElement == null) {
+            return false;
+        }
+        variables.setExtraPathInfoStart(start);
+        if (node.wildcard.dataElement.getData(inboundMsg, dataReturnAgent)) {
+            return true;
+        }
+        variables.setExtraPathInfoStart(-1);
+        return false;
+    }
+
+    private static boolean isSupported(List<String> segments) {
+        Set<String> pathParamNames = new HashSet<>();
+        for (int i = 0; i < segments.size(); i++) {
+            String segment = segments.get(i);
+            if (WILDCARD.equals(segment)) {
+                if (i != segments.size() - 1) {
+                    return false;
+                }
+                continue;
+            }
+            if (segment.charAt(0) == '{' && segment.charAt(segment.length() - 1) == '}') {
+                String name = segment.substring(1, segment.length() - 1);
+                if (name.isEmpty() || !isValidPathParamName(name) || !pathParamNames.add(name)) {
+                    return false;
+                }
+                continue;
+            }
+            // literals that contain expressions or wildcards, such as "{id}.json" or "foo*", are matched by the
+            // syntax tree
+            if (segment.indexOf('{') >= 0 || segment.indexOf('}') >= 0 || segment.indexOf('*') >= 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isValidPathParamName(String name) {
+        for (int i = 0; i < name.length(); i++) {
+            char ch = name.charAt(i);
+            if (!((ch >= 'a' && ch <= 'z') || (ch >= 'A' && ch <= 'Z') || (ch >= '0' && ch <= '9') ||
+                    ch == '.' || ch == '-' || ch == '_')) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Node of the trie, which represents a path segment.
+     */
+    private static class TrieNode<DataType, InboundMsgType> {
+
+        private static final String[] NO_NAMES = new String[0];
+
+        private DataElement<DataType, InboundMsgType> dataElement;
+        private TrieNode<DataType, InboundMsgType> pathParam;
+        private TrieNode<DataType, InboundMsgType> wildcard;
+        private String[] pathParamNames = NO_NAMES;
+
+        // open addressing table of the literal children, keyed by the segment
+        private String[] literals;
+        private TrieNode<DataType, InboundMsgType>[] literalNodes;
+        private int literalCount;
+
+        private void addPathParamName(String name) {
+            // templates that bind the same segment to different names set all of them, as in the syntax tree
+            for (String pathParamName : pathParamNames) {
+                if (pathParamName.equals(name)) {
+                    return;
+                }
+            }
+            pathParamNames = Arrays.copyOf(pathParamNames, pathParamNames.length + 1);
+            pathParamNames[pathParamNames.length - 1] = name;
+        }
+
+        private TrieNode<DataType, InboundMsgType> findLiteral(String path, int start, int end) {
+            if (literals == null) {
+                return null;
+            }
+            int length = end - start;
+            int hash = 0;
+            for (int i = start; i < end; i++) {
+                hash = 31 * hash + path.charAt(i);
+            }
+            int mask = literals.length - 1;
+            for (int i = spread(hash) & mask; ; i = (i + 1) & mask) {
+                String literal = literals[i];
+                if (literal == null) {
+                    return null;
+                }
+                if (literal.length() == length && literal.hashCode() == hash &&
+                        path.regionMatches(start, literal, 0, length)) {
+                    return literalNodes[i];
+                }
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private TrieNode<DataType, InboundMsgType> getOrAddLiteral(String segment) {
+            TrieNode<DataType, InboundMsgType> node = findLiteral(segment, 0, segment.length());
+            if (node != null) {
+                return node;
+            }
+            if (literals == null || (literalCount + 1) * 2 > literals.length) {
+                String[] oldLiterals = literals;
+                TrieNode<DataType, InboundMsgType>[] oldNodes = literalNodes;
+                int capacity = literals == null ? 4 : literals.length * 2;
+                literals = new String[capacity];
+                literalNodes = new TrieNode[capacity];
+                if (oldLiterals != null) {
+                    for (int i = 0; i < oldLiterals.length; i++) {
+                        if (oldLiterals[i] != null) {
+                            insert(oldLiterals[i], oldNodes[i]);
+                        }
+                    }
+                }
+            }
+            node = new TrieNode<>();
+            insert(segment, node);
+            literalCount++;
+            return node;
+        }
+
+        private void insert(String literal, TrieNode<DataType, InboundMsgType> node) {
+            int mask = literals.length - 1;
+            int i = spread(literal.hashCode()) & mask;
+            while (literals[i] != null) {
+                i = (i + 1) & mask;
+            }
+            literals[i] = literal;
+            literalNodes[i] = node;
+        }
+
+        private static int spread(int hash) {
+            return hash ^ (hash >>> 16);
+        }
+    }
+}
@@ -51,6 +51,7 @@ public class URITemplateParser<DataType, InboundMgsType> {
 
         if ("/".equals(template)) {
             this.syntaxTree.getDataElement().setData(resource);
+            this.currentNode = syntaxTree;
             return syntaxTree;
         }
         String[] segments = template.split("/");
@@ -116,6 +117,15 @@ public class URITemplateParser<DataType, InboundMgsType> {
         return syntaxTree;
     }
 
+    /**
+     * Returns the node that holds the data of the last parsed template.
+     *
+     * @return the leaf node of the template
+     */
+    public Node<DataType, InboundMgsType> getLeafNode() {
+        return currentNode;
+    }
+
     private void addNode(Node<DataType, InboundMgsType> node) throws URITemplateException {
         if (currentNode == null) {
             currentNode = syntaxTree;
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.services.dispatching;
+
+import org.ballerinalang.net.http.BasePathIndex;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+/**
+ * Test cases for resolving the most specific base path with {@link BasePathIndex}.
+ */
+public class BasePathIndexTest {
+
+    private final BasePathIndex index = BasePathIndex.build(
+            Arrays.asList("/", "/hello", "/hello/world", "/Greeting", "/hello/world/v1", "/helloWorld"));
+
+    @Test
+    public void testExactMatch() {
+        Assert.assertEquals(index.findMostSpecificBasePath("/hello"), "/hello");
+        Assert.assertEquals(index.findMostSpecificBasePath("/hello/world"), "/hello/world");
+        Assert.assertEquals(index.findMostSpecificBasePath("/"), "/");
+    }
+
+    @Test
+    public void testExactMatchIgnoresCase() {
+        Assert.assertEquals(index.findMostSpecificBasePath("/HELLO"), "/hello");
+        Assert.assertEquals(index.findMostSpecificBasePath("/greeting"), "/Greeting");
+    }
+
+    @Test
+    public void testMostSpecificPrefixMatch() {
+        Assert.assertEquals(index.findMostSpecificBasePath("/hello/world/v1/bar"), "/hello/world/v1");
+        Assert.assertEquals(index.findMostSpecificBasePath("/hello/world/v2"), "/hello/world");
+        Assert.assertEquals(index.findMostSpecificBasePath("/hello/foo"), "/hello");
+        Assert.assertEquals(index.findMostSpecificBasePath("/helloWorld/foo"), "/helloWorld");
+    }
+
+    @Test
+    public void testPrefixMatchIsCaseSensitive() {
+        Assert.assertEquals(index.findMostSpecificBasePath("/hello/WORLD/foo"), "/hello");
+        Assert.assertNull(index.findMostSpecificBasePath("/greeting/foo"));
+    }
+
+    @Test
+    public void testNoMatch() {
+        Assert.assertNull(index.findMostSpecificBasePath("/hellow"));
+        Assert.assertNull(index.findMostSpecificBasePath("/foo/hello"));
+        Assert.assertNull(index.findMostSpecificBasePath(""));
+        Assert.assertNull(BasePathIndex.build(Collections.emptyList()).findMostSpecificBasePath("/hello"));
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.services.dispatching;
+
+import org.ballerinalang.net.http.HttpConstants;
+import org.ballerinalang.net.http.HttpResourceArguments;
+import org.ballerinalang.net.uri.URITemplate;
+import org.ballerinalang.net.uri.parser.DataElement;
+import org.ballerinalang.net.uri.parser.DataReturnAgent;
+import org.ballerinalang.net.uri.parser.Literal;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Test cases for matching paths with the compiled {@link URITemplate}, compared with the syntax tree.
+ */
+public class URITemplateMatchingTest {
+
+    private static final List<String> TEMPLATES = Arrays.asList(
+            "/", "/*", "/echo", "/echo/{id}", "/echo/{id}/items", "/echo/{id}/items/{itemId}", "/echo/all/items",
+            "/users/{userId}/orders/{orderId}", "/users/{uid}/profile", "/static/*", "/a/b/c", "/{x}/b");
+
+    private static final List<String> PATHS = Arrays.asList(
+            "/", "/echo", "/echo/1", "/echo/1/items", "/echo/1/items/2", "/echo/all/items", "/echo/all/items/3",
+            "/users/u1/orders/o%201", "/users/u1/profile", "/static/css/site.css", "/a/b", "/a/b/c", "/x/y/z",
+            "/unknown");
+
+    @Test
+    public void testCompiledMatchesSyntaxTree() throws Exception {
+        URITemplate<String, Object> compiled = createTemplate(TEMPLATES, true);
+        URITemplate<String, Object> syntaxTree = createTemplate(TEMPLATES, false);
+        Assert.assertTrue(compiled.isCompiled());
+
+        for (String path : PATHS) {
+            HttpResourceArguments compiledArgs = new HttpResourceArguments();
+            HttpResourceArguments syntaxTreeArgs = new HttpResourceArguments();
+            Assert.assertEquals(compiled.matches(path, compiledArgs, null),
+                                syntaxTree.matches(path, syntaxTreeArgs, null), path);
+        }
+    }
+
+    @Test
+    public void testPathParams() throws Exception {
+        URITemplate<String, Object> template = createTemplate(TEMPLATES, true);
+        HttpResourceArguments args = new HttpResourceArguments();
+
+        Assert.assertEquals(template.matches("/users/u1/orders/o%201", args, null),
+                            "/users/{userId}/orders/{orderId}");
+        Assert.assertEquals(args.getValue("orderId"), "o 1");
+        Assert.assertEquals(args.getValue("userId"), "u1");
+        // both templates bind the segment, as in the syntax tree
+        Assert.assertEquals(args.getValue("uid"), "u1");
+        Assert.assertNull(args.getValue("id"));
+        Assert.assertEquals(args.getMap().get("orderId"), "o 1");
+    }
+
+    @Test
+    public void testBacktrackingDiscardsPathParams() throws Exception {
+        URITemplate<String, Object> template = createTemplate(TEMPLATES, true);
+        HttpResourceArguments args = new HttpResourceArguments();
+
+        Assert.assertEquals(template.matches("/a/b", args, null), "/{x}/b");
+        Assert.assertEquals(args.getValue("x"), "a");
+
+        args = new HttpResourceArguments();
+        Assert.assertEquals(template.matches("/echo/all/items/3", args, null), "/echo/{id}/items/{itemId}");
+        Assert.assertEquals(args.getMap().size(), 2);
+        Assert.assertEquals(args.getValue("id"), "all");
+    }
+
+    @Test
+    public void testWildcards() throws Exception {
+        URITemplate<String, Object> template = createTemplate(TEMPLATES, true);
+        HttpResourceArguments args = new HttpResourceArguments();
+        Assert.assertEquals(template.matches("/static/css/site.css", args, null), "/static/*");
+        Assert.assertEquals(args.getValue(HttpConstants.EXTRA_PATH_INFO), "/css/site.css");
+
+        args = new HttpResourceArguments();
+        Assert.assertEquals(template.matches("/x/y/z", args, null), "/*");
+        Assert.assertEquals(args.getValue(HttpConstants.EXTRA_PATH_INFO), "/x/y/z");
+        Assert.assertNull(args.getValue("x"));
+    }
+
+    @Test
+    public void testTemplatesThatCannotBeCompiled() throws Exception {
+        URITemplate<String, Object> template = createTemplate(Arrays.asList("/echo/{id}", "/files/{name}.json"),
+                                                              true);
+        Assert.assertFalse(template.isCompiled());
+        HttpResourceArguments args = new HttpResourceArguments();
+        Assert.assertEquals(template.matches("/files/a.json", args, null), "/files/{name}.json");
+        Assert.assertEquals(args.getValue("name"), "a");
+    }
+
+    private static URITemplate<String, Object> createTemplate(List<String> templates, boolean compile)
+            throws Exception {
+        URITemplate<String, Object> template = new URITemplate<>(new Literal<>(new TestDataElement(), "/"), compile);
+        for (String path : templates) {
+            template.parse(path, path, TestDataElement::new);
+        }
+        return template;
+    }
+
+    /**
+     * Data element that holds the template of a resource.
+     */
+    private static class TestDataElement implements DataElement<String, Object> {
+
+        private String data;
+
+        @Override
+        public void setData(String data) {
+            this.data = data;
+        }
+
+        @Override
+        public boolean hasData() {
+            return data != null;
+        }
+
+        @Override
+        public boolean getData(Object inboundMessage, DataReturnAgent<String> dataReturnAgent) {
+            if (data == null) {
+                return false;
+            }
+            dataReturnAgent.setData(data);
+            return true;
+        }
+    }
+}
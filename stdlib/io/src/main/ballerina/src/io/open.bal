@@ -22,8 +22,11 @@ import ballerina/java;
 #```
 #
 # + path - Relative/absolute path string to locate the file
+# + memoryMapped - Whether to map the file into memory to read it, which suits large files that are not modified
+#                  while they are read
 # + return - The `ByteChannel` representation of the file resource or else an `io:Error` if any error occurred
-public function openReadableFile(@untainted string path) returns @tainted ReadableByteChannel|Error = @java:Method {
+public function openReadableFile(@untainted string path, boolean memoryMapped = false)
+    returns @tainted ReadableByteChannel|Error = @java:Method {
     name: "openReadableFile",
     class: "org.ballerinalang.stdlib.io.nativeimpl.ByteChannelUtils"
 } external;
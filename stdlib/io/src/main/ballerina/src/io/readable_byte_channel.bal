@@ -55,6 +55,18 @@ public type ReadableByteChannel object {
         return base64DecodeExtern(self);
     }
 
+# Transfers the remaining content of the channel to a given `WritableByteChannel`. When either of the channels is a
+# file, the content is transferred by the operating system without being copied through the memory of the program.
+# ```ballerina
+# int|io:Error result = readableByteChannel.transferTo(writableByteChannel);
+# ```
+#
+# + destination - The `WritableByteChannel` to which the content is transferred
+# + return - The number of bytes transferred or else an `io:Error`
+    public function transferTo(WritableByteChannel destination) returns int|Error {
+        return transferToExtern(self, destination);
+    }
+
 # Closes a given `ReadableByteChannel`.
 # ```ballerina
 # io:Error? err = readableByteChannel.close();
@@ -81,6 +93,12 @@ function base64DecodeExtern(ReadableByteChannel byteChannel) returns ReadableByt
     class: "org.ballerinalang.stdlib.io.nativeimpl.ByteChannelUtils"
 } external;
 
+function transferToExtern(ReadableByteChannel byteChannel, WritableByteChannel destination)
+    returns int|Error = @java:Method {
+    name: "transferTo",
+    class: "org.ballerinalang.stdlib.io.nativeimpl.ByteChannelUtils"
+} external;
+
 function closeReadableByteChannelExtern(ReadableByteChannel byteChannel) returns Error? = @java:Method {
     name: "closeByteChannel",
     class: "org.ballerinalang.stdlib.io.nativeimpl.ByteChannelUtils"
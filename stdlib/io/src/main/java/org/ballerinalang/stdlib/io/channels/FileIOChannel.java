@@ -22,6 +22,7 @@ import org.ballerinalang.stdlib.io.utils.IOUtils;
 
 import java.io.IOException;
 import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
 import java.nio.channels.WritableByteChannel;
 
 /**
@@ -31,6 +32,11 @@ import java.nio.channels.WritableByteChannel;
  */
 public class FileIOChannel extends Channel {
 
+    /**
+     * Maximum number of bytes transferred from a channel to the file at once.
+     */
+    private static final long TRANSFER_SIZE = 8 * 1024 * 1024;
+
     /**
      * Maintains the file channel implementation.
      */
@@ -49,12 +55,60 @@ public class FileIOChannel extends Channel {
     @Override
     public void transfer(int position, int count, WritableByteChannel dstChannel) {
         try {
-            channel.transferTo(position, count, dstChannel);
+            transferFully(position, count, dstChannel);
         } catch (IOException e) {
             throw IOUtils.createError("error occurred while transferring file: " + e.getMessage());
         }
     }
 
+    /**
+     * Transfers the content of the file from its current position to the specified destination without copying it
+     * through the heap. The position of the file is moved to the end of the transferred content.
+     *
+     * @param dstChannel destination channel to transfer.
+     * @return the number of bytes transferred.
+     * @throws IOException during I/O error.
+     */
+    public long transferTo(WritableByteChannel dstChannel) throws IOException {
+        long position = channel.position();
+        long transferred = transferFully(position, channel.size() - position, dstChannel);
+        channel.position(position + transferred);
+        return transferred;
+    }
+
+    /**
+     * Transfers the content of the specified source into the file from its current position, until the source does
+     * not provide any more bytes. The position of the file is moved to the end of the transferred content.
+     *
+     * @param srcChannel source channel to transfer.
+     * @return the number of bytes transferred.
+     * @throws IOException during I/O error.
+     */
+    public long transferFrom(ReadableByteChannel srcChannel) throws IOException {
+        // the position of a file opened to append is its size
+        long position = channel.position();
+        long transferred = 0;
+        long transferredBytes;
+        while ((transferredBytes = channel.transferFrom(srcChannel, position + transferred, TRANSFER_SIZE)) > 0) {
+            transferred += transferredBytes;
+        }
+        channel.position(position + transferred);
+        return transferred;
+    }
+
+    private long transferFully(long position, long count, WritableByteChannel dstChannel) throws IOException {
+        long transferred = 0;
+        while (transferred < count) {
+            long transferredBytes = channel.transferTo(position + transferred, count - transferred, dstChannel);
+            if (transferredBytes <= 0) {
+                // the destination does not accept any more bytes, i.e. a non-blocking socket with a full buffer
+                break;
+            }
+            transferred += transferredBytes;
+        }
+        return transferred;
+    }
+
     @Override
     public Channel getChannel() {
         throw new UnsupportedOperationException();
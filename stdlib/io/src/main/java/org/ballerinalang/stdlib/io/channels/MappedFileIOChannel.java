@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.io.channels;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * <p>
+ * Represents the channel to read a file, which is mapped into memory.
+ * </p>
+ * <p>
+ * Bytes are copied from the mapped regions of the file into the buffers of the reads, instead of being read through
+ * system calls. The file is mapped a region at a time, so that files larger than the address space of a buffer can be
+ * read. The position of the file channel is kept at the end of the content read, so that the file could also be read
+ * as a stream or transferred from the same position.
+ * </p>
+ *
+ * @since 2.0.0
+ */
+public class MappedFileIOChannel extends FileIOChannel {
+
+    /**
+     * Maximum number of bytes of a region of the file, which is mapped at once.
+     */
+    private static final long MAX_REGION_SIZE = 256 * 1024 * 1024;
+
+    private final FileChannel channel;
+    private final long regionSize;
+    private MappedByteBuffer region;
+    private long regionPosition;
+    private boolean hasReachedToEnd = false;
+
+    public MappedFileIOChannel(FileChannel channel) {
+        this(channel, MAX_REGION_SIZE);
+    }
+
+    MappedFileIOChannel(FileChannel channel, long regionSize) {
+        super(channel);
+        this.channel = channel;
+        this.regionSize = regionSize;
+    }
+
+    /**
+     * Reads bytes from the mapped regions of the file.
+     * <p>
+     * {@inheritDoc}
+     */
+    @Override
+    public int read(ByteBuffer buffer) throws IOException {
+        long position = channel.position();
+        long size = channel.size();
+        if (position >= size) {
+            hasReachedToEnd = true;
+            return 0;
+        }
+        int readBytes = 0;
+        while (buffer.hasRemaining() && position < size) {
+            MappedByteBuffer mappedRegion = getRegion(position, size);
+            int offset = (int) (position - regionPosition);
+            int length = (int) Math.min(buffer.remaining(), mappedRegion.limit() - offset);
+            ByteBuffer content = mappedRegion.duplicate();
+            content.limit(offset + length);
+            content.position(offset);
+            buffer.put(content);
+            position += length;
+            readBytes += length;
+        }
+        channel.position(position);
+        return readBytes;
+    }
+
+    @Override
+    public boolean hasReachedEnd() {
+        return hasReachedToEnd;
+    }
+
+    @Override
+    public void close() throws IOException {
+        region = null;
+        super.close();
+    }
+
+    private MappedByteBuffer getRegion(long position, long size) throws IOException {
+        if (region == null || position < regionPosition || position >= regionPosition + region.limit()) {
+            // the previous region is unmapped once it is garbage collected
+            region = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(regionSize, size - position));
+            regionPosition = position;
+        }
+        return region;
+    }
+}
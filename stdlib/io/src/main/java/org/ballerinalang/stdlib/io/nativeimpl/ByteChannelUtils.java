@@ -28,6 +28,7 @@ import org.ballerinalang.stdlib.io.channels.AbstractNativeChannel;
 import org.ballerinalang.stdlib.io.channels.BlobChannel;
 import org.ballerinalang.stdlib.io.channels.BlobIOChannel;
 import org.ballerinalang.stdlib.io.channels.FileIOChannel;
+import org.ballerinalang.stdlib.io.channels.MappedFileIOChannel;
 import org.ballerinalang.stdlib.io.channels.base.Channel;
 import org.ballerinalang.stdlib.io.utils.BallerinaIOException;
 import org.ballerinalang.stdlib.io.utils.IOConstants;
@@ -125,10 +126,41 @@ public class ByteChannelUtils extends AbstractNativeChannel {
         }
     }
 
-    public static Object openReadableFile(BString pathUrl) {
+    public static Object transferTo(ObjectValue channel, ObjectValue destination) {
+        Channel srcChannel = (Channel) channel.getNativeData(BYTE_CHANNEL_NAME);
+        Channel dstChannel = (Channel) destination.getNativeData(BYTE_CHANNEL_NAME);
+        try {
+            if (srcChannel instanceof FileIOChannel) {
+                return ((FileIOChannel) srcChannel).transferTo(dstChannel.getByteChannel());
+            }
+            if (dstChannel instanceof FileIOChannel) {
+                return ((FileIOChannel) dstChannel).transferFrom(srcChannel.getByteChannel());
+            }
+            return copy(srcChannel, dstChannel);
+        } catch (IOException e) {
+            log.error("Error occurred while transferring to the channel.", e);
+            return IOUtils.createError(e);
+        }
+    }
+
+    private static long copy(Channel srcChannel, Channel dstChannel) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(IOConstants.CHANNEL_BUFFER_SIZE);
+        long copiedBytes = 0;
+        while (!srcChannel.hasReachedEnd()) {
+            srcChannel.read(buffer);
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                copiedBytes += dstChannel.write(buffer);
+            }
+            buffer.clear();
+        }
+        return copiedBytes;
+    }
+
+    public static Object openReadableFile(BString pathUrl, boolean memoryMapped) {
         Object channel;
         try {
-            channel = createChannel(inFlow(pathUrl.getValue()));
+            channel = createChannel(readableInFlow(pathUrl.getValue(), memoryMapped));
         } catch (BallerinaIOException e) {
             channel = IOUtils.createError(e);
         } catch (ErrorValue e) {
@@ -156,10 +188,10 @@ public class ByteChannelUtils extends AbstractNativeChannel {
         }
     }
 
-    private static Channel inFlow(String pathUrl) throws BallerinaIOException {
+    private static Channel readableInFlow(String pathUrl, boolean memoryMapped) throws BallerinaIOException {
         Path path = Paths.get(pathUrl);
         FileChannel fileChannel = IOUtils.openFileChannelExtended(path, READ_ACCESS_MODE);
-        Channel channel = new FileIOChannel(fileChannel);
+        Channel channel = memoryMapped ? new MappedFileIOChannel(fileChannel) : new FileIOChannel(fileChannel);
         channel.setReadable(true);
         return channel;
     }
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.io.channels;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Tests memory mapped reads and transfers of file channels.
+ */
+public class FileIOChannelTest {
+
+    private static final int FILE_SIZE = 10000;
+
+    private Path sourceFile;
+    private Path destinationFile;
+    private byte[] content;
+
+    @BeforeMethod
+    public void setup() throws IOException {
+        content = new byte[FILE_SIZE];
+        for (int i = 0; i < FILE_SIZE; i++) {
+            content[i] = (byte) (i % 127);
+        }
+        sourceFile = Files.createTempFile("source", ".txt");
+        destinationFile = Files.createTempFile("destination", ".txt");
+        Files.write(sourceFile, content);
+    }
+
+    @AfterMethod
+    public void cleanup() throws IOException {
+        Files.deleteIfExists(sourceFile);
+        Files.deleteIfExists(destinationFile);
+    }
+
+    @Test(description = "Read a file through regions mapped into memory")
+    public void readMappedFile() throws IOException {
+        FileChannel fileChannel = FileChannel.open(sourceFile, StandardOpenOption.READ);
+        MappedFileIOChannel channel = new MappedFileIOChannel(fileChannel, 4096);
+        ByteArrayOutputStream readContent = new ByteArrayOutputStream();
+        ByteBuffer buffer = ByteBuffer.allocate(3000);
+        int reads = 0;
+        while (!channel.hasReachedEnd()) {
+            int readBytes = channel.read(buffer);
+            readContent.write(buffer.array(), 0, readBytes);
+            buffer.clear();
+            reads++;
+        }
+        channel.close();
+
+        // four reads of the content, and a read which reaches the end
+        Assert.assertEquals(reads, 5);
+        Assert.assertEquals(readContent.toByteArray(), content);
+    }
+
+    @Test(description = "Transfer part of a file, which has been read, to another file")
+    public void transferToFile() throws IOException {
+        FileChannel fileChannel = FileChannel.open(sourceFile, StandardOpenOption.READ);
+        MappedFileIOChannel srcChannel = new MappedFileIOChannel(fileChannel, 4096);
+        srcChannel.read(ByteBuffer.allocate(1000));
+        FileChannel dstChannel = FileChannel.open(destinationFile, StandardOpenOption.WRITE);
+
+        long transferred = srcChannel.transferTo(dstChannel);
+        Assert.assertEquals(transferred, FILE_SIZE - 1000);
+        Assert.assertEquals(fileChannel.position(), FILE_SIZE);
+        srcChannel.close();
+        dstChannel.close();
+
+        byte[] expected = new byte[FILE_SIZE - 1000];
+        System.arraycopy(content, 1000, expected, 0, expected.length);
+        Assert.assertEquals(Files.readAllBytes(destinationFile), expected);
+    }
+
+    @Test(description = "Transfer content from a channel to the end of a file opened to append")
+    public void transferFromChannel() throws IOException {
+        Files.write(destinationFile, "header".getBytes());
+        FileChannel fileChannel = FileChannel.open(destinationFile, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND);
+        FileIOChannel dstChannel = new FileIOChannel(fileChannel);
+
+        long transferred = dstChannel.transferFrom(Channels.newChannel(new ByteArrayInputStream(content)));
+        Assert.assertEquals(transferred, FILE_SIZE);
+        dstChannel.close();
+
+        byte[] written = Files.readAllBytes(destinationFile);
+        Assert.assertEquals(written.length, FILE_SIZE + 6);
+        Assert.assertEquals(new String(written, 0, 6), "header");
+        Assert.assertEquals(written[FILE_SIZE + 5], content[FILE_SIZE - 1]);
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.test.bir;
+
+import org.ballerinalang.compiler.CompilerOptionName;
+import org.ballerinalang.model.values.BBoolean;
+import org.ballerinalang.model.values.BFloat;
+import org.ballerinalang.model.values.BInteger;
+import org.ballerinalang.model.values.BValue;
+import org.ballerinalang.test.util.BCompileUtil;
+import org.ballerinalang.test.util.BRunUtil;
+import org.ballerinalang.test.util.CompileResult;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator;
+import org.wso2.ballerinalang.compiler.bir.model.BIRTerminator;
+import org.wso2.ballerinalang.compiler.tree.BLangPackage;
+import org.wso2.ballerinalang.compiler.util.CompilerContext;
+import org.wso2.ballerinalang.compiler.util.CompilerOptions;
+
+import java.nio.file.Paths;
+
+/**
+ * Test cases for the constant folding, copy propagation, unreachable basic block removal and basic block merging
+ * passes of the BIR optimizer. The module is compiled with and without the passes, to compare the results and the
+ * generated code.
+ *
+ * @since 2.0.0
+ */
+public class BIROptimizerTest {
+
+    private static final String SOURCE_ROOT = Paths.get("src/test/resources/test-src/bir").toAbsolutePath()
+            .toString();
+    private static final String SOURCE_FILE = "bir_optimizer.bal";
+
+    private CompileResult optimizedResult;
+    private CompileResult unoptimizedResult;
+
+    @BeforeClass
+    public void setup() {
+        optimizedResult = BCompileUtil.compile("test-src/bir/" + SOURCE_FILE);
+        Assert.assertEquals(optimizedResult.getErrorCount(), 0);
+
+        CompilerContext context = new CompilerContext();
+        CompilerOptions options = CompilerOptions.getInstance(context);
+        options.put(CompilerOptionName.BIR_CONSTANT_FOLDING, "false");
+        options.put(CompilerOptionName.BIR_COPY_PROPAGATION, "false");
+        options.put(CompilerOptionName.BIR_UNREACHABLE_BLOCK_REMOVAL, "false");
+        options.put(CompilerOptionName.BIR_BASIC_BLOCK_MERGING, "false");
+        unoptimizedResult = BCompileUtil.compileOnJBallerina(context, SOURCE_ROOT, SOURCE_FILE, false, true);
+        Assert.assertEquals(unoptimizedResult.getErrorCount(), 0);
+    }
+
+    @Test
+    public void testResults() {
+        for (CompileResult result : new CompileResult[]{optimizedResult, unoptimizedResult}) {
+            Assert.assertEquals(((BInteger) BRunUtil.invoke(result, "foldInts")[0]).intValue(), 10);
+            Assert.assertEquals(((BFloat) BRunUtil.invoke(result, "foldFloats")[0]).floatValue(), -3.25);
+            Assert.assertEquals(BRunUtil.invoke(result, "foldStrings")[0].stringValue(), "Hello, World");
+            Assert.assertTrue(((BBoolean) BRunUtil.invoke(result, "foldComparisons")[0]).booleanValue());
+            Assert.assertEquals(BRunUtil.invoke(result, "foldBranch")[0].stringValue(), "small");
+            Assert.assertTrue(((BBoolean) BRunUtil.invoke(result, "keepDivisionByZero")[0]).booleanValue());
+            BValue[] args = {new BInteger(5)};
+            Assert.assertEquals(((BInteger) BRunUtil.invoke(result, "propagateCopies", args)[0]).intValue(), 30);
+            args = new BValue[]{new BInteger(10)};
+            Assert.assertEquals(((BInteger) BRunUtil.invoke(result, "sumTo", args)[0]).intValue(), 85);
+        }
+    }
+
+    @Test
+    public void testConstantFolding() {
+        Assert.assertEquals(countBinaryOps(getFunction(optimizedResult, "foldInts")), 0);
+        Assert.assertEquals(countBinaryOps(getFunction(optimizedResult, "foldFloats")), 0);
+        Assert.assertEquals(countBinaryOps(getFunction(optimizedResult, "foldStrings")), 0);
+        Assert.assertTrue(countBinaryOps(getFunction(unoptimizedResult, "foldInts")) > 0);
+
+        // The division by zero panics at runtime, hence it is not folded.
+        Assert.assertEquals(countBinaryOps(getFunction(optimizedResult, "keepDivisionByZero")), 1);
+    }
+
+    @Test
+    public void testBasicBlockRemoval() {
+        BIRNode.BIRFunction optimizedFunction = getFunction(optimizedResult, "foldBranch");
+        BIRNode.BIRFunction unoptimizedFunction = getFunction(unoptimizedResult, "foldBranch");
+        Assert.assertTrue(optimizedFunction.basicBlocks.size() < unoptimizedFunction.basicBlocks.size());
+        for (BIRNode.BIRBasicBlock basicBlock : optimizedFunction.basicBlocks) {
+            Assert.assertFalse(basicBlock.terminator instanceof BIRTerminator.Branch);
+        }
+
+        Assert.assertTrue(getFunction(optimizedResult, "sumTo").basicBlocks.size() <
+                getFunction(unoptimizedResult, "sumTo").basicBlocks.size());
+    }
+
+    @Test
+    public void testGeneratedCodeSize() {
+        long optimizedSize = getGeneratedCodeSize(optimizedResult);
+        long unoptimizedSize = getGeneratedCodeSize(unoptimizedResult);
+        Assert.assertTrue(optimizedSize < unoptimizedSize);
+    }
+
+    private static BIRNode.BIRFunction getFunction(CompileResult result, String name) {
+        for (BIRNode.BIRFunction function : ((BLangPackage) result.getAST()).symbol.bir.functions) {
+            if (function.name.value.equals(name)) {
+                return function;
+            }
+        }
+        throw new AssertionError("function not found: " + name);
+    }
+
+    private static int countBinaryOps(BIRNode.BIRFunction function) {
+        int count = 0;
+        for (BIRNode.BIRBasicBlock basicBlock : function.basicBlocks) {
+            for (BIRNonTerminator instruction : basicBlock.instructions) {
+                if (instruction instanceof BIRNonTerminator.BinaryOp) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    private static long getGeneratedCodeSize(CompileResult result) {
+        long size = 0;
+        for (byte[] entry : ((BLangPackage) result.getAST()).symbol.compiledJarFile.getJarEntries().values()) {
+            size += entry.length;
+        }
+        return size;
+    }
+}
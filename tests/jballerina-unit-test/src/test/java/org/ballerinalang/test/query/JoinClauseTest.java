@@ -17,6 +17,7 @@
  */
 package org.ballerinalang.test.query;
 import org.ballerinalang.model.values.BBoolean;
+import org.ballerinalang.model.values.BInteger;
 import org.ballerinalang.model.values.BMap;
 import org.ballerinalang.model.values.BValue;
 import org.ballerinalang.test.util.BCompileUtil;
@@ -139,6 +140,64 @@ public class JoinClauseTest {
         Assert.assertEquals(deptPerson2.get("dept").stringValue(), "Eng");
     }
 
+    @Test(description = "Test equi-join clause with the keys in the reverse order")
+    public void testJoinClauseWithSwappedKeys() {
+        BValue[] values = BRunUtil.invoke(result, "testJoinClauseWithSwappedKeys");
+        Assert.assertNotNull(values);
+
+        Assert.assertEquals(values.length, 2, "Expected events are not received");
+
+        BMap<String, BValue> deptPerson1 = (BMap<String, BValue>) values[0];
+        BMap<String, BValue> deptPerson2 = (BMap<String, BValue>) values[1];
+
+        Assert.assertEquals(deptPerson1.get("fname").stringValue(), "Alex");
+        Assert.assertEquals(deptPerson1.get("dept").stringValue(), "HR");
+        Assert.assertEquals(deptPerson2.get("fname").stringValue(), "Ranjan");
+        Assert.assertEquals(deptPerson2.get("dept").stringValue(), "Operations");
+    }
+
+    @Test(description = "Test equi-join clause with multiple matching values on both sides")
+    public void testJoinClauseWithDuplicateKeys() {
+        BValue[] values = BRunUtil.invoke(result, "testJoinClauseWithDuplicateKeys");
+        Assert.assertNotNull(values);
+
+        Assert.assertEquals(values.length, 5, "Expected events are not received");
+
+        String[][] expected = {{"Alex", "HR"}, {"Alex", "Finance"}, {"Ranjan", "Operations"}, {"John", "HR"},
+                {"John", "Finance"}};
+        for (int i = 0; i < expected.length; i++) {
+            BMap<String, BValue> deptPerson = (BMap<String, BValue>) values[i];
+            Assert.assertEquals(deptPerson.get("fname").stringValue(), expected[i][0]);
+            Assert.assertEquals(deptPerson.get("dept").stringValue(), expected[i][1]);
+        }
+    }
+
+    @Test(description = "Test equi-join clause with a string key on a stream")
+    public void testJoinClauseWithStringKeyAndStream() {
+        BValue[] values = BRunUtil.invoke(result, "testJoinClauseWithStringKeyAndStream");
+        Assert.assertNotNull(values);
+
+        Assert.assertEquals(values.length, 3, "Expected events are not received");
+
+        BMap<String, BValue> deptPerson1 = (BMap<String, BValue>) values[0];
+        BMap<String, BValue> deptPerson2 = (BMap<String, BValue>) values[1];
+        BMap<String, BValue> deptPerson3 = (BMap<String, BValue>) values[2];
+
+        Assert.assertEquals(deptPerson1.get("dept").stringValue(), "HR-1");
+        Assert.assertEquals(deptPerson2.get("dept").stringValue(), "Operations-2");
+        Assert.assertEquals(deptPerson3.get("fname").stringValue(), "John");
+        Assert.assertEquals(deptPerson3.get("dept").stringValue(), "HR-1");
+    }
+
+    @Test(description = "Test the hash join and the nested loop join of many values")
+    public void testJoinOfManyValues() {
+        BValue[] args = {new BInteger(1000)};
+        BValue[] returns = BRunUtil.invoke(result, "testHashJoinOfManyValues", args);
+        Assert.assertEquals(((BInteger) returns[0]).intValue(), 1000);
+        returns = BRunUtil.invoke(result, "testNestedLoopJoinOfManyValues", args);
+        Assert.assertEquals(((BInteger) returns[0]).intValue(), 1000);
+    }
+
     @Test(description = "Test negative scenarios for query expr with join clause")
     public void testNegativeScenarios() {
         Assert.assertEquals(negativeResult.getErrorCount(), 3);
@@ -0,0 +1,129 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.test.query;
+
+import org.ballerinalang.compiler.CompilerOptionName;
+import org.ballerinalang.model.values.BBoolean;
+import org.ballerinalang.model.values.BInteger;
+import org.ballerinalang.model.values.BMap;
+import org.ballerinalang.model.values.BValue;
+import org.ballerinalang.test.util.BCompileUtil;
+import org.ballerinalang.test.util.BRunUtil;
+import org.ballerinalang.test.util.CompileResult;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode;
+import org.wso2.ballerinalang.compiler.bir.model.BIRTerminator;
+import org.wso2.ballerinalang.compiler.bir.model.InstructionKind;
+import org.wso2.ballerinalang.compiler.tree.BLangPackage;
+import org.wso2.ballerinalang.compiler.util.CompilerContext;
+import org.wso2.ballerinalang.compiler.util.CompilerOptions;
+
+import java.nio.file.Paths;
+
+/**
+ * This contains methods to test the query pipelines evaluated natively by a fused stream function. The module is
+ * compiled with and without the fusion, to compare the results for list, table and stream sources. Only the
+ * pipelines over lists and tables are fused.
+ *
+ * @since 2.0.0
+ */
+public class QueryPipelineFusionTest {
+
+    private static final String SOURCE_ROOT = Paths.get("src/test/resources/test-src/query").toAbsolutePath()
+            .toString();
+    private static final String SOURCE_FILE = "query-pipeline-fusion.bal";
+    private static final String FUSE_STREAM_FUNCTIONS = "fuseStreamFunctions";
+
+    private CompileResult fusedResult;
+    private CompileResult result;
+
+    @BeforeClass
+    public void setup() {
+        fusedResult = BCompileUtil.compile("test-src/query/" + SOURCE_FILE);
+        Assert.assertEquals(fusedResult.getErrorCount(), 0);
+
+        CompilerContext context = new CompilerContext();
+        CompilerOptions options = CompilerOptions.getInstance(context);
+        options.put(CompilerOptionName.FUSE_QUERY_PIPELINES, "false");
+        result = BCompileUtil.compileOnJBallerina(context, SOURCE_ROOT, SOURCE_FILE, false, true);
+        Assert.assertEquals(result.getErrorCount(), 0);
+    }
+
+    @DataProvider(name = "sources")
+    public Object[][] getSources() {
+        return new Object[][]{{"testListSource"}, {"testTableSource"}, {"testStreamSource"}};
+    }
+
+    @Test(description = "Test that only the query pipelines over lists and tables are replaced by a _FusedFunction")
+    public void testFusedPipelines() {
+        Assert.assertTrue(fusesStreamFunctions(fusedResult, "testListSource"));
+        Assert.assertTrue(fusesStreamFunctions(fusedResult, "testTableSource"));
+        Assert.assertFalse(fusesStreamFunctions(fusedResult, "testStreamSource"));
+        Assert.assertFalse(fusesStreamFunctions(result, "testListSource"));
+        Assert.assertFalse(fusesStreamFunctions(result, "testTableSource"));
+    }
+
+    @Test(description = "Test query pipelines with list, table and stream sources", dataProvider = "sources")
+    public void testSources(String function) {
+        BValue[] args = {new BInteger(6000)};
+        Assert.assertEquals(((BInteger) BRunUtil.invoke(fusedResult, function, args)[0]).intValue(), 3000);
+        Assert.assertEquals(((BInteger) BRunUtil.invoke(result, function, args)[0]).intValue(), 3000);
+    }
+
+    @Test(description = "Test the values selected by a fused query pipeline with a limit clause")
+    public void testSelectedValues() {
+        for (CompileResult compileResult : new CompileResult[]{fusedResult, result}) {
+            BValue[] values = BRunUtil.invoke(compileResult, "testSelectedValues");
+            Assert.assertEquals(values.length, 2, "Expected events are not received");
+
+            BMap<String, BValue> employee1 = (BMap<String, BValue>) values[0];
+            BMap<String, BValue> employee2 = (BMap<String, BValue>) values[1];
+
+            Assert.assertEquals(employee1.get("name").stringValue(), "Ranjan");
+            Assert.assertEquals(employee1.get("level").stringValue(), "senior");
+            Assert.assertEquals(employee2.get("name").stringValue(), "John");
+            Assert.assertEquals(((BInteger) employee2.get("age")).intValue(), 45);
+            Assert.assertEquals(employee2.get("level").stringValue(), "junior");
+        }
+    }
+
+    @Test(description = "Test a fused query pipeline returning a stream")
+    public void testLazyStreamResult() {
+        BValue[] values = BRunUtil.invoke(fusedResult, "testLazyStreamResult");
+        Assert.assertTrue(((BBoolean) values[0]).booleanValue());
+    }
+
+    private static boolean fusesStreamFunctions(CompileResult compileResult, String function) {
+        // lang.query:fuseStreamFunctions() replaces the stream functions of the pipeline by a _FusedFunction.
+        for (BIRNode.BIRFunction birFunction : ((BLangPackage) compileResult.getAST()).symbol.bir.functions) {
+            if (!birFunction.name.value.equals(function)) {
+                continue;
+            }
+            for (BIRNode.BIRBasicBlock basicBlock : birFunction.basicBlocks) {
+                if (basicBlock.terminator.kind == InstructionKind.CALL &&
+                        ((BIRTerminator.Call) basicBlock.terminator).name.value.equals(FUSE_STREAM_FUNCTIONS)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
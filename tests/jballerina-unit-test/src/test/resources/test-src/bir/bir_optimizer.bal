@@ -0,0 +1,73 @@
+// Copyright (c) 2020 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+function foldInts() returns int {
+    int a = 10;
+    int b = a * 4 + 2;
+    int c = b - 7;
+    return c / 5 + c % 4;
+}
+
+function foldFloats() returns float {
+    float a = 1.5;
+    float b = a * 2.0 + 0.25;
+    return -b;
+}
+
+function foldStrings() returns string {
+    string greeting = "Hello";
+    return greeting + ", " + "World";
+}
+
+function foldComparisons() returns boolean {
+    int a = 3;
+    boolean b = a >= 3;
+    return !b == false;
+}
+
+function foldBranch() returns string {
+    int limit = 3;
+    if (limit > 5) {
+        return "large";
+    }
+    return "small";
+}
+
+function keepDivisionByZero() returns boolean {
+    int zero = 0;
+    int|error result = trap (10 / zero);
+    return result is error;
+}
+
+function propagateCopies(int x) returns int {
+    int y = x;
+    int z = y;
+    return z * y + x;
+}
+
+function sumTo(int n) returns int {
+    int sum = 0;
+    int i = 1;
+    while (i <= n) {
+        if (i % 2 == 0) {
+            sum = sum + i * 2;
+        } else {
+            sum = sum + i;
+        }
+        i = i + 1;
+    }
+    return sum;
+}
@@ -203,3 +203,133 @@ function testSimpleOuterJoinClause() returns DeptPerson[]{
 
     return deptPersonList;
 }
+
+function testJoinClauseWithSwappedKeys() returns DeptPerson[]{
+    Person p1 = {id: 1, fname: "Alex", lname: "George"};
+    Person p2 = {id: 2, fname: "Ranjan", lname: "Fonseka"};
+
+    Department d1 = {id: 1, name:"HR"};
+    Department d2 = {id: 2, name:"Operations"};
+
+    Person[] personList = [p1, p2];
+    Department[] deptList = [d2, d1];
+
+    DeptPerson[] deptPersonList =
+       from var person in personList
+       join Department dept in deptList
+       on dept.id equals person.id
+       select {
+           fname : person.fname,
+           lname : person.lname,
+           dept : dept.name
+       };
+
+    return deptPersonList;
+}
+
+function testJoinClauseWithDuplicateKeys() returns DeptPerson[]{
+    Person p1 = {id: 1, fname: "Alex", lname: "George"};
+    Person p2 = {id: 2, fname: "Ranjan", lname: "Fonseka"};
+    Person p3 = {id: 1, fname: "John", lname: "David"};
+    Person p4 = {id: 3, fname: "Mike", lname: "Rowan"};
+
+    Department d1 = {id: 1, name:"HR"};
+    Department d2 = {id: 2, name:"Operations"};
+    Department d3 = {id: 1, name:"Finance"};
+
+    Person[] personList = [p1, p2, p3, p4];
+    Department[] deptList = [d1, d2, d3];
+
+    DeptPerson[] deptPersonList =
+       from var person in personList
+       join Department dept in deptList
+       on person.id equals dept.id
+       select {
+           fname : person.fname,
+           lname : person.lname,
+           dept : dept.name
+       };
+
+    return deptPersonList;
+}
+
+function testJoinClauseWithStringKeyAndStream() returns DeptPerson[] {
+    DeptPerson e1 = {fname: "Alex", lname: "George", dept: "HR"};
+    DeptPerson e2 = {fname: "Ranjan", lname: "Fonseka", dept: "Operations"};
+    DeptPerson e3 = {fname: "John", lname: "David", dept: "HR"};
+
+    Department d1 = {id: 1, name:"HR"};
+    Department d2 = {id: 2, name:"Operations"};
+
+    DeptPerson[] employeeList = [e1, e2, e3];
+    Department[] deptList = [d1, d2];
+
+    stream<Department> deptStream = deptList.toStream();
+
+    stream<DeptPerson> deptPersonStream =
+       stream from var employee in employeeList
+       join var {id, name} in deptStream
+       on employee.dept == name
+       select {
+           fname : employee.fname,
+           lname : employee.lname,
+           dept : name + "-" + id.toString()
+       };
+
+    DeptPerson[] deptPersonList = [];
+    deptPersonStream.forEach(function (DeptPerson deptPerson) {
+        deptPersonList.push(deptPerson);
+    });
+    return deptPersonList;
+}
+
+function getPersonList(int count) returns Person[] {
+    Person[] personList = [];
+    foreach int i in 0 ..< count {
+        personList.push({id: i, fname: "fname" + i.toString(), lname: "lname" + i.toString()});
+    }
+    return personList;
+}
+
+function getDeptList(int count) returns Department[] {
+    Department[] deptList = [];
+    foreach int i in 0 ..< count {
+        deptList.push({id: i, name: "dept" + i.toString()});
+    }
+    return deptList;
+}
+
+function testHashJoinOfManyValues(int count) returns int {
+    Person[] personList = getPersonList(count);
+    Department[] deptList = getDeptList(count);
+
+    DeptPerson[] deptPersonList =
+       from var person in personList
+       join Department dept in deptList
+       on person.id equals dept.id
+       select {
+           fname : person.fname,
+           lname : person.lname,
+           dept : dept.name
+       };
+
+    return deptPersonList.length();
+}
+
+function testNestedLoopJoinOfManyValues(int count) returns int {
+    Person[] personList = getPersonList(count);
+    Department[] deptList = getDeptList(count);
+
+    // The on clause is not an equi-join, hence the join is evaluated as a nested loop.
+    DeptPerson[] deptPersonList =
+       from var person in personList
+       join Department dept in deptList
+       on person.id == dept.id && dept.name != ""
+       select {
+           fname : person.fname,
+           lname : person.lname,
+           dept : dept.name
+       };
+
+    return deptPersonList.length();
+}
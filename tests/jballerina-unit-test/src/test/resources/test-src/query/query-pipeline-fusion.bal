@@ -0,0 +1,100 @@
+type Person record {|
+    readonly int id;
+    string name;
+    int age;
+|};
+
+type Employee record {|
+    string name;
+    int age;
+    string level;
+|};
+
+function getPersonList(int count) returns Person[] {
+    Person[] personList = [];
+    foreach int i in 0 ..< count {
+        personList.push({id: i, name: "name" + i.toString(), age: i % 60});
+    }
+    return personList;
+}
+
+function getPersonTable(int count) returns table<Person> key(id) {
+    table<Person> key(id) personTable = table key(id) [];
+    foreach Person person in getPersonList(count) {
+        personTable.add(person);
+    }
+    return personTable;
+}
+
+function testListSource(int count) returns int {
+    Person[] personList = getPersonList(count);
+    Employee[] employeeList = from var person in personList
+        let int newAge = person.age + 1
+        where newAge > 30
+        select {
+            name: person.name,
+            age: newAge,
+            level: newAge > 50 ? "senior" : "junior"
+        };
+    return employeeList.length();
+}
+
+function testTableSource(int count) returns int {
+    table<Person> key(id) personTable = getPersonTable(count);
+    Employee[] employeeList = from var person in personTable
+        let int newAge = person.age + 1
+        where newAge > 30
+        select {
+            name: person.name,
+            age: newAge,
+            level: newAge > 50 ? "senior" : "junior"
+        };
+    return employeeList.length();
+}
+
+function testStreamSource(int count) returns int {
+    stream<Person> personStream = getPersonList(count).toStream();
+    Employee[] employeeList = from var person in personStream
+        let int newAge = person.age + 1
+        where newAge > 30
+        select {
+            name: person.name,
+            age: newAge,
+            level: newAge > 50 ? "senior" : "junior"
+        };
+    return employeeList.length();
+}
+
+function testSelectedValues() returns Employee[] {
+    Person[] personList = [{id: 1, name: "Alex", age: 23}, {id: 2, name: "Ranjan", age: 60},
+                           {id: 3, name: "John", age: 45}, {id: 4, name: "Mike", age: 51}];
+    return from var {name, age} in personList
+        let string level = age > 50 ? "senior" : "junior"
+        where age > 30
+        select {
+            name: name,
+            age: age,
+            level: level
+        }
+        limit 2;
+}
+
+function testLazyStreamResult() returns boolean {
+    Person[] personList = [{id: 1, name: "Alex", age: 23}, {id: 2, name: "Ranjan", age: 60},
+                           {id: 3, name: "John", age: 45}];
+    stream<Employee> employeeStream = stream from var person in personList
+        select {
+            name: person.name,
+            age: person.age,
+            level: "junior"
+        };
+    record {| Employee value; |}? first = employeeStream.next();
+    record {| Employee value; |}? second = employeeStream.next();
+    string[] names = [];
+    if (first is record {| Employee value; |} && second is record {| Employee value; |}) {
+        // The frame of a row is reused, but the selected values are not.
+        names.push(first.value.name);
+        names.push(second.value.name);
+    }
+    return names == ["Alex", "Ranjan"];
+}